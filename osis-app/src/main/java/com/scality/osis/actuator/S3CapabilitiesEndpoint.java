@@ -0,0 +1,41 @@
+/**
+ *Copyright 2021 Scality, Inc.
+ *SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.actuator;
+
+import com.scality.osis.resource.ScalityS3CapabilitiesManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Actuator endpoint to reload the S3 capabilities file without waiting for the next file check.
+ * <ul>
+ *     <li>GET /_/s3capabilities: the ETag of the served capabilities</li>
+ *     <li>POST /_/s3capabilities: reload the capabilities file</li>
+ * </ul>
+ */
+@Component
+@Endpoint(id = "s3capabilities")
+public class S3CapabilitiesEndpoint {
+
+    @Autowired
+    private ScalityS3CapabilitiesManager s3CapabilitiesManager;
+
+    @ReadOperation
+    public Map<String, String> eTag() {
+        return Collections.singletonMap("eTag", s3CapabilitiesManager.getSnapshot().getETag());
+    }
+
+    @WriteOperation
+    public Map<String, String> reload() {
+        return Collections.singletonMap("eTag", s3CapabilitiesManager.reload().getETag());
+    }
+}
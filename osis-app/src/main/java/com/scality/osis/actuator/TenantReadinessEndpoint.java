@@ -0,0 +1,47 @@
+/**
+ *Copyright 2021 Scality, Inc.
+ *SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.actuator;
+
+import com.scality.osis.utils.TenantReadinessJob;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint to follow the pre-provisioning of the tenants by the tenant readiness job.
+ * <ul>
+ *     <li>GET /_/tenantreadiness: the progress of the run in progress and of the last completed run</li>
+ *     <li>POST /_/tenantreadiness: start a run without waiting for the next periodic run</li>
+ * </ul>
+ */
+@Component
+@Endpoint(id = "tenantreadiness")
+public class TenantReadinessEndpoint {
+
+    @Autowired
+    private TenantReadinessJob tenantReadinessJob;
+
+    @ReadOperation
+    public Map<String, Object> progress() {
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("current", tenantReadinessJob.getCurrent());
+        progress.put("last", tenantReadinessJob.getLast());
+        return progress;
+    }
+
+    @WriteOperation
+    public Map<String, Object> run() {
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("started", tenantReadinessJob.runNow());
+        progress.putAll(progress());
+        return progress;
+    }
+}
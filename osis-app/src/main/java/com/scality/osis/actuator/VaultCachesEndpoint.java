@@ -0,0 +1,88 @@
+/**
+ *Copyright 2021 Scality, Inc.
+ *SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.actuator;
+
+import com.scality.osis.vaultadmin.impl.cache.Cache;
+import com.scality.osis.vaultadmin.impl.cache.CacheFactory;
+import com.scality.osis.vaultadmin.impl.cache.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint to inspect, flush and resize the Vault caches at runtime.
+ * <ul>
+ *     <li>GET /_/vaultcaches: the stats of all the caches</li>
+ *     <li>GET /_/vaultcaches/{name}: the stats of a cache</li>
+ *     <li>DELETE /_/vaultcaches/{name}: flush a cache</li>
+ *     <li>DELETE /_/vaultcaches/{name}/{key}: evict one entry, e.g. the bucket list snapshot of a tenant</li>
+ *     <li>POST /_/vaultcaches/{name} {"maxCapacity": n}: resize a cache</li>
+ * </ul>
+ */
+@Component
+@Endpoint(id = "vaultcaches")
+public class VaultCachesEndpoint {
+    private static final Logger logger = LoggerFactory.getLogger(VaultCachesEndpoint.class);
+
+    @Autowired
+    private CacheFactory cacheFactory;
+
+    @ReadOperation
+    public Map<String, CacheStats> caches() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        cacheFactory.getCaches().forEach((name, cache) -> stats.put(name, cache.stats()));
+        return stats;
+    }
+
+    @ReadOperation
+    public CacheStats cache(@Selector String name) {
+        Cache<?, ?> cache = cacheFactory.getCaches().get(name);
+        return cache == null ? null : cache.stats();
+    }
+
+    @DeleteOperation
+    public CacheStats flush(@Selector String name) {
+        Cache<?, ?> cache = cacheFactory.getCaches().get(name);
+        if (cache == null) {
+            return null;
+        }
+        cache.clear();
+        logger.info("Flushed the {} cache", name);
+        return cache.stats();
+    }
+
+    @DeleteOperation
+    @SuppressWarnings("unchecked")
+    public CacheStats evict(@Selector String name, @Selector String key) {
+        Cache<String, ?> cache = (Cache<String, ?>) cacheFactory.getCaches().get(name);
+        if (cache == null) {
+            return null;
+        }
+        cache.remove(key);
+        logger.info("Evicted {} from the {} cache", key, name);
+        return cache.stats();
+    }
+
+    @WriteOperation
+    public CacheStats resize(@Selector String name, int maxCapacity) {
+        Cache<?, ?> cache = cacheFactory.getCaches().get(name);
+        if (cache == null) {
+            return null;
+        }
+        cache.setMaxCapacity(maxCapacity);
+        logger.info("Resized the {} cache to {} entries", name, maxCapacity);
+        return cache.stats();
+    }
+}
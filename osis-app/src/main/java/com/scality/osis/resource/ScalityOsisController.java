@@ -22,8 +22,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
@@ -39,6 +42,9 @@ public class ScalityOsisController {
     @Autowired
     private ScalityOsisService osisService;
 
+    @Autowired
+    private ScalityS3CapabilitiesManager s3CapabilitiesManager;
+
     /**
      * POST /api/v1/tenants/{tenantId}/users/{userId}/s3credentials : Create S3
      * credential for the platform user
@@ -282,17 +288,30 @@ public class ScalityOsisController {
     /**
      * GET /api/v1/s3capabilities : Get S3 capabilities of the platform
      * Operation ID: getS3Capabilities&lt;br&gt; Get S3 capabilities of the platform
+     * The JSON is encoded once per load of the capabilities file and served with its ETag.
      *
+     * @param request the request, checked against the ETag
      * @return S3 capabilities of the platform (status code 200)
+     * or Not Modified if the `If-None-Match` header matches the ETag (status code 304)
      */
     @Operation(summary = "Get S3 capabilities of the platform", description = "Operation ID: getS3Capabilities<br> Get S3 capabilities of the platform",
             responses = {
-                    @ApiResponse(responseCode = "200", description = "S3 capabilities of the platform")
+                    @ApiResponse(responseCode = "200", description = "S3 capabilities of the platform",
+                            content = @Content(schema = @Schema(implementation = OsisS3Capabilities.class))),
+                    @ApiResponse(responseCode = "304", description = "Not Modified")
             },
             tags = {"usage", "required"})
     @GetMapping(value = "/api/v1/s3capabilities", produces = "application/json")
-    public OsisS3Capabilities getS3Capabilities() {
-        return osisService.getS3Capabilities();
+    public ResponseEntity<byte[]> getS3Capabilities(WebRequest request) {
+        ScalityS3CapabilitiesManager.Snapshot s3Capabilities = s3CapabilitiesManager.getSnapshot();
+        if (request.checkNotModified(s3Capabilities.getETag())) {
+            // the ETag header and the 304 status are set by the check
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(s3Capabilities.getETag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(s3Capabilities.getJson());
     }
 
     /*
@@ -6,6 +6,7 @@
 
 package com.scality.osis;
 
+import com.scality.osis.utils.OsisTaskExecutor;
 import com.scality.osis.vaultadmin.utils.VaultAdminUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -146,6 +147,174 @@ public class ScalityAppEnv {
         return Integer.parseInt(asyncExecutorQueueCapacity);
     }
 
+    public OsisTaskExecutor.Mode getAsyncExecutorMode() {
+        String asyncExecutorMode =  env.getProperty("osis.scality.async.mode");
+        if(StringUtils.isBlank(asyncExecutorMode)) {
+            asyncExecutorMode = DEFAULT_ASYNC_EXECUTOR_MODE;
+        }
+        return OsisTaskExecutor.Mode.valueOf(asyncExecutorMode.trim().toUpperCase());
+    }
+
+    public OsisTaskExecutor.RejectionPolicy getAsyncExecutorRejectionPolicy() {
+        String rejectionPolicy =  env.getProperty("osis.scality.async.rejectionPolicy");
+        if(StringUtils.isBlank(rejectionPolicy)) {
+            rejectionPolicy = DEFAULT_ASYNC_EXECUTOR_REJECTION_POLICY;
+        }
+        return OsisTaskExecutor.RejectionPolicy.valueOf(rejectionPolicy.trim().toUpperCase());
+    }
+
+    public int getAsyncExecutorSpillCapacity() {
+        String spillCapacity =  env.getProperty("osis.scality.async.spillCapacity");
+        if(StringUtils.isBlank(spillCapacity)) {
+            spillCapacity = DEFAULT_ASYNC_EXECUTOR_SPILL_CAPACITY;
+        }
+        return Integer.parseInt(spillCapacity);
+    }
+
+    public int getFanOutGlobalConcurrency() {
+        String globalConcurrency =  env.getProperty("osis.scality.fanout.globalConcurrency");
+        if(StringUtils.isBlank(globalConcurrency)) {
+            globalConcurrency = DEFAULT_FANOUT_GLOBAL_CONCURRENCY;
+        }
+        return Integer.parseInt(globalConcurrency);
+    }
+
+    public int getFanOutRequestConcurrency() {
+        String requestConcurrency =  env.getProperty("osis.scality.fanout.requestConcurrency");
+        if(StringUtils.isBlank(requestConcurrency)) {
+            requestConcurrency = DEFAULT_FANOUT_REQUEST_CONCURRENCY;
+        }
+        return Integer.parseInt(requestConcurrency);
+    }
+
+    public long getFanOutTimeout() {
+        String timeout =  env.getProperty("osis.scality.fanout.timeoutInMS");
+        if(StringUtils.isBlank(timeout)) {
+            timeout = DEFAULT_FANOUT_TIMEOUT_IN_MS;
+        }
+        return Long.parseLong(timeout);
+    }
+
+    public int getCryptoConcurrency() {
+        String concurrency =  env.getProperty("osis.scality.crypto.concurrency");
+        if(StringUtils.isBlank(concurrency)) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        return Integer.parseInt(concurrency);
+    }
+
+    public long getCryptoTimeout() {
+        String timeout =  env.getProperty("osis.scality.crypto.timeoutInMS");
+        if(StringUtils.isBlank(timeout)) {
+            timeout = DEFAULT_CRYPTO_TIMEOUT_IN_MS;
+        }
+        return Long.parseLong(timeout);
+    }
+
+    public boolean isTenantDirectoryEnabled() {
+        String enabled =  env.getProperty("osis.scality.tenantDirectory.enabled");
+        if(StringUtils.isBlank(enabled)) {
+            enabled = DEFAULT_TENANT_DIRECTORY_ENABLED;
+        }
+        return Boolean.parseBoolean(enabled);
+    }
+
+    public long getTenantDirectoryRefreshInterval() {
+        String refreshInterval =  env.getProperty("osis.scality.tenantDirectory.refreshIntervalInMS");
+        if(StringUtils.isBlank(refreshInterval)) {
+            refreshInterval = DEFAULT_TENANT_DIRECTORY_REFRESH_INTERVAL_IN_MS;
+        }
+        return Long.parseLong(refreshInterval);
+    }
+
+    public int getTenantDirectoryPageSize() {
+        String pageSize =  env.getProperty("osis.scality.tenantDirectory.pageSize");
+        if(StringUtils.isBlank(pageSize)) {
+            pageSize = DEFAULT_TENANT_DIRECTORY_PAGE_SIZE;
+        }
+        return Integer.parseInt(pageSize);
+    }
+
+    public boolean isTenantReadinessEnabled() {
+        String enabled =  env.getProperty("osis.scality.tenantReadiness.enabled");
+        if(StringUtils.isBlank(enabled)) {
+            enabled = DEFAULT_TENANT_READINESS_ENABLED;
+        }
+        return Boolean.parseBoolean(enabled);
+    }
+
+    public long getTenantReadinessInterval() {
+        String interval =  env.getProperty("osis.scality.tenantReadiness.intervalInMS");
+        if(StringUtils.isBlank(interval)) {
+            interval = DEFAULT_TENANT_READINESS_INTERVAL_IN_MS;
+        }
+        return Long.parseLong(interval);
+    }
+
+    public int getTenantReadinessConcurrency() {
+        String concurrency =  env.getProperty("osis.scality.tenantReadiness.concurrency");
+        if(StringUtils.isBlank(concurrency)) {
+            concurrency = DEFAULT_TENANT_READINESS_CONCURRENCY;
+        }
+        return Integer.parseInt(concurrency);
+    }
+
+    public int getTenantReadinessPageSize() {
+        String pageSize =  env.getProperty("osis.scality.tenantReadiness.pageSize");
+        if(StringUtils.isBlank(pageSize)) {
+            pageSize = DEFAULT_TENANT_READINESS_PAGE_SIZE;
+        }
+        return Integer.parseInt(pageSize);
+    }
+
+    public long getTenantReadinessPageTimeout() {
+        String timeout =  env.getProperty("osis.scality.tenantReadiness.pageTimeoutInMS");
+        if(StringUtils.isBlank(timeout)) {
+            timeout = DEFAULT_TENANT_READINESS_PAGE_TIMEOUT_IN_MS;
+        }
+        return Long.parseLong(timeout);
+    }
+
+    public long getAdminPolicyRepairBackoff() {
+        String backoff =  env.getProperty("osis.scality.adminPolicyRepair.backoffInMS");
+        if(StringUtils.isBlank(backoff)) {
+            backoff = DEFAULT_ADMIN_POLICY_REPAIR_BACKOFF_IN_MS;
+        }
+        return Long.parseLong(backoff);
+    }
+
+    public long getAdminPolicyRepairMaxBackoff() {
+        String maxBackoff =  env.getProperty("osis.scality.adminPolicyRepair.maxBackoffInMS");
+        if(StringUtils.isBlank(maxBackoff)) {
+            maxBackoff = DEFAULT_ADMIN_POLICY_REPAIR_MAX_BACKOFF_IN_MS;
+        }
+        return Long.parseLong(maxBackoff);
+    }
+
+    public int getAccessKeyUpdateRetries() {
+        String retries =  env.getProperty("osis.scality.updateUser.accessKeyRetries");
+        if(StringUtils.isBlank(retries)) {
+            retries = DEFAULT_ACCESS_KEY_UPDATE_RETRIES;
+        }
+        return Integer.parseInt(retries);
+    }
+
+    public int getUserStatusIndexMaxCapacity() {
+        String maxCapacity =  env.getProperty("osis.scality.userStatus.maxCapacity");
+        if(StringUtils.isBlank(maxCapacity)) {
+            maxCapacity = DEFAULT_USER_STATUS_INDEX_MAX_CAPACITY;
+        }
+        return Integer.parseInt(maxCapacity);
+    }
+
+    public long getUserStatusReconcileInterval() {
+        String reconcileInterval =  env.getProperty("osis.scality.userStatus.reconcileIntervalInMS");
+        if(StringUtils.isBlank(reconcileInterval)) {
+            reconcileInterval = DEFAULT_USER_STATUS_RECONCILE_INTERVAL_IN_MS;
+        }
+        return Long.parseLong(reconcileInterval);
+    }
+
     public String getSpringCacheType() {
         String cacheType = env.getProperty("spring.cache.type");
         if(StringUtils.isBlank(cacheType)) {
@@ -178,6 +347,14 @@ public class ScalityAppEnv {
         return env.getProperty("osis.scality.s3.capabilities-file-path");
     }
 
+    public long getS3CapabilitiesCheckInterval() {
+        String checkInterval =  env.getProperty("osis.scality.s3.capabilities-check-interval-in-ms");
+        if(StringUtils.isBlank(checkInterval)) {
+            checkInterval = DEFAULT_S3_CAPABILITIES_CHECK_INTERVAL_IN_MS;
+        }
+        return Long.parseLong(checkInterval);
+    }
+
     // function migrated from VMware Ceph implementation AppEnv
     public String getS3Endpoint() {
         return env.getProperty("osis.scality.s3.endpoint");
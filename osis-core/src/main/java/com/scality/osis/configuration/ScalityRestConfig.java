@@ -7,16 +7,22 @@
 package com.scality.osis.configuration;
 
 import com.scality.osis.ScalityAppEnv;
+import com.scality.osis.utils.AdminPolicyRepairCoordinator;
+import com.scality.osis.utils.FanOutExecutor;
+import com.scality.osis.utils.OsisTaskExecutor;
+import com.scality.osis.utils.TenantDirectory;
+import com.scality.osis.utils.TenantReadinessJob;
+import com.scality.osis.utils.UserStatusIndex;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-
-import java.util.concurrent.Executor;
 
 import static com.scality.osis.utils.ScalityConstants.ASYNC_THREADPOOL_NAME_PREFIX;
+import static com.scality.osis.utils.ScalityConstants.CRYPTO_THREADPOOL_NAME_PREFIX;
+import static com.scality.osis.utils.ScalityConstants.TENANT_READINESS_THREADPOOL_NAME_PREFIX;
 
 @Configuration
 public class ScalityRestConfig {
@@ -31,14 +37,56 @@ public class ScalityRestConfig {
         return factory;
     }
 
+    @Bean(destroyMethod = "shutdown")
+    public OsisTaskExecutor asyncTaskExecutor() {
+        return new OsisTaskExecutor(env.getAsyncExecutorMode(),
+                ASYNC_THREADPOOL_NAME_PREFIX,
+                env.getAsyncExecutorCorePoolSize(),
+                env.getAsyncExecutorMaxPoolSize(),
+                env.getAsyncExecutorQueueCapacity(),
+                env.getAsyncExecutorRejectionPolicy(),
+                env.getAsyncExecutorSpillCapacity());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @Primary
+    public FanOutExecutor fanOutExecutor() {
+        return new FanOutExecutor(env.getFanOutGlobalConcurrency(),
+                env.getFanOutRequestConcurrency(),
+                env.getFanOutTimeout());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public FanOutExecutor cryptoExecutor() {
+        return new FanOutExecutor(CRYPTO_THREADPOOL_NAME_PREFIX,
+                env.getCryptoConcurrency(),
+                env.getCryptoConcurrency(),
+                env.getCryptoTimeout());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public UserStatusIndex userStatusIndex() {
+        return new UserStatusIndex(env.getUserStatusIndexMaxCapacity(),
+                env.getUserStatusReconcileInterval());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public TenantDirectory tenantDirectory() {
+        return new TenantDirectory(env.getTenantDirectoryRefreshInterval());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public TenantReadinessJob tenantReadinessJob() {
+        return new TenantReadinessJob(new FanOutExecutor(TENANT_READINESS_THREADPOOL_NAME_PREFIX,
+                env.getTenantReadinessConcurrency(),
+                env.getTenantReadinessConcurrency(),
+                env.getTenantReadinessPageTimeout()),
+                env.getTenantReadinessInterval());
+    }
+
     @Bean
-    public Executor asyncTaskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(env.getAsyncExecutorCorePoolSize());
-        executor.setMaxPoolSize(env.getAsyncExecutorMaxPoolSize());
-        executor.setQueueCapacity(env.getAsyncExecutorQueueCapacity());
-        executor.setThreadNamePrefix(ASYNC_THREADPOOL_NAME_PREFIX);
-        executor.initialize();
-        return executor;
+    public AdminPolicyRepairCoordinator adminPolicyRepairCoordinator() {
+        return new AdminPolicyRepairCoordinator(env.getAdminPolicyRepairBackoff(),
+                env.getAdminPolicyRepairMaxBackoff());
     }
 }
@@ -5,11 +5,22 @@
 
 package com.scality.osis.redis.service;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface IRedisRepository<T> {
     void save(String key, T value);
 
     T get(String key);
 
+    /**
+     * Get the values of several keys in a single round trip.
+     *
+     * @param keys the keys
+     * @return the values in the order of the keys, null for a missing key
+     */
+    List<T> multiGet(Collection<String> keys);
+
     void delete(String key);
 
     Boolean hasKey(String key);
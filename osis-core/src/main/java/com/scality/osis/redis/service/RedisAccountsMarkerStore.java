@@ -0,0 +1,63 @@
+/**
+ *Copyright 2021 Scality, Inc.
+ *SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.redis.service;
+
+import com.scality.osis.utils.ScalityModelConverter;
+import com.scality.osis.vaultadmin.impl.cache.AccountsMarkerStore;
+import com.scality.osis.vaultadmin.impl.cache.CacheConstants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.annotation.PostConstruct;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.scality.osis.utils.ScalityConstants.REDIS_ACCOUNTS_MARKERS_HASH_KEY;
+
+/**
+ * Redis backing of the listAccounts marker index: one hash per filter key, with the offsets as fields.
+ * The hash expires after the markers ttl, counted from the last saved marker.
+ */
+@Repository
+@ConditionalOnProperty(value = CacheConstants.ENV_LIST_ACCOUNT_REDIS_ENABLED, havingValue = "true")
+public class RedisAccountsMarkerStore implements AccountsMarkerStore {
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    private HashOperations<String, String, String> hashOperations;
+
+    @PostConstruct
+    public void postInit() {
+        hashOperations = redisTemplate.opsForHash();
+    }
+
+    @Override
+    public Map<Integer, String> load(String filterKey) {
+        Map<Integer, String> markers = new HashMap<>();
+        for (Map.Entry<String, String> entry : hashOperations.entries(toHashName(filterKey)).entrySet()) {
+            markers.put(Integer.valueOf(entry.getKey()), entry.getValue());
+        }
+        return markers;
+    }
+
+    @Override
+    public void save(String filterKey, int offset, String marker, long ttlInMS) {
+        String hashName = toHashName(filterKey);
+        hashOperations.put(hashName, String.valueOf(offset), marker);
+        if (ttlInMS > 0) {
+            redisTemplate.expire(hashName, ttlInMS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static String toHashName(String filterKey) {
+        return ScalityModelConverter.toRedisHashName(REDIS_ACCOUNTS_MARKERS_HASH_KEY + filterKey);
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ *Copyright 2021 Scality, Inc.
+ *SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.redis.service;
+
+import com.scality.osis.utils.ScalityModelConverter;
+import com.scality.osis.vaultadmin.impl.cache.CacheConstants;
+import com.scality.osis.vaultadmin.impl.cache.SharedCacheStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Repository;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static com.scality.osis.utils.ScalityConstants.REDIS_SHARED_CACHE_INVALIDATION_CHANNEL;
+import static com.scality.osis.utils.ScalityConstants.REDIS_SHARED_CACHE_KEY_PREFIX;
+
+/**
+ * Redis second level of the Vault caches: one string key per entry, `osis:vaultCache:<cacheName>:<key>`,
+ * expiring with the entry. The invalidations are published on the `osis:vaultCacheInvalidation` channel
+ * as `<cacheName>` (clear) or `<cacheName>\n<key>` (remove), over the Lettuce connection factory of
+ * {@link com.scality.osis.configuration.SpringRedisConfig}.
+ */
+@Repository
+@ConditionalOnProperty(value = CacheConstants.ENV_CACHE_REDIS_ENABLED, havingValue = "true")
+public class RedisSharedCacheStore implements SharedCacheStore {
+    private static final Logger logger = LoggerFactory.getLogger(RedisSharedCacheStore.class);
+
+    private static final char MESSAGE_SEPARATOR = '\n';
+
+    private static final int SCAN_COUNT = 1000;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    private ValueOperations<String, String> valueOperations;
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void postInit() {
+        valueOperations = redisTemplate.opsForValue();
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(redisTemplate.getConnectionFactory());
+        listenerContainer.addMessageListener(this::onMessage, new ChannelTopic(getChannel()));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (listenerContainer != null) {
+            try {
+                listenerContainer.destroy();
+            } catch (Exception e) {
+                logger.warn("Failed to stop the Vault cache invalidation listener: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public String get(String cacheName, String key) {
+        return valueOperations.get(toRedisKey(cacheName, key));
+    }
+
+    @Override
+    public void put(String cacheName, String key, String value, long ttlInMS) {
+        if (ttlInMS > 0) {
+            valueOperations.set(toRedisKey(cacheName, key), value, ttlInMS, TimeUnit.MILLISECONDS);
+        } else {
+            valueOperations.set(toRedisKey(cacheName, key), value);
+        }
+    }
+
+    @Override
+    public void remove(String cacheName, String key) {
+        redisTemplate.delete(toRedisKey(cacheName, key));
+        redisTemplate.convertAndSend(getChannel(), cacheName + MESSAGE_SEPARATOR + key);
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        // SCAN rather than KEYS so that Redis is not blocked by a large cache
+        String pattern = toRedisKey(cacheName, "*");
+        List<String> keys = redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+            List<String> matchingKeys = new ArrayList<>();
+            try (Cursor<byte[]> cursor = connection.scan(ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build())) {
+                cursor.forEachRemaining(rawKey -> matchingKeys.add(new String(rawKey, StandardCharsets.UTF_8)));
+            }
+            return matchingKeys;
+        });
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+        redisTemplate.convertAndSend(getChannel(), cacheName);
+    }
+
+    @Override
+    public void subscribe(String cacheName, Consumer<String> listener) {
+        listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(MESSAGE_SEPARATOR);
+        String cacheName = separator < 0 ? body : body.substring(0, separator);
+        String key = separator < 0 ? null : body.substring(separator + 1);
+        List<Consumer<String>> cacheListeners = listeners.get(cacheName);
+        if (cacheListeners == null) {
+            return;
+        }
+        for (Consumer<String> listener : cacheListeners) {
+            try {
+                listener.accept(key);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to invalidate the {} cache: {}", cacheName, e.getMessage());
+            }
+        }
+    }
+
+    private static String getChannel() {
+        return ScalityModelConverter.toRedisHashName(REDIS_SHARED_CACHE_INVALIDATION_CHANNEL);
+    }
+
+    private static String toRedisKey(String cacheName, String key) {
+        return ScalityModelConverter.toRedisHashName(REDIS_SHARED_CACHE_KEY_PREFIX + cacheName + ":" + key);
+    }
+}
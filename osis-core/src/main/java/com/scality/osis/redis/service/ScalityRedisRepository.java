@@ -13,6 +13,9 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Repository;
 
 import javax.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 import static com.scality.osis.utils.ScalityConstants.DEFAULT_REDIS_HASH_KEY;
 
@@ -42,6 +45,15 @@ public class ScalityRedisRepository<T> implements IRedisRepository<T> {
         return hashOperations.get(ScalityModelConverter.toRedisHashName(osisRedisHashKey), key);
     }
 
+    @Override
+    public List<T> multiGet(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // a single HMGET
+        return hashOperations.multiGet(ScalityModelConverter.toRedisHashName(osisRedisHashKey), keys);
+    }
+
     @Override
     public void delete(String key) {
         hashOperations.delete(ScalityModelConverter.toRedisHashName(osisRedisHashKey), key);
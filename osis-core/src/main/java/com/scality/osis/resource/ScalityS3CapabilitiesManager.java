@@ -0,0 +1,200 @@
+/**
+ *Copyright 2021 Scality, Inc.
+ *SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.resource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scality.osis.ScalityAppEnv;
+import com.scality.osis.model.OsisS3Capabilities;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the S3 capabilities of the platform, loaded from `osis.scality.s3.capabilities-file-path` at startup and
+ * reloaded when the file changes or on demand.
+ * <p>
+ * The capabilities are served as a {@link Snapshot}: the JSON of the response is encoded once per load, with the
+ * object mapper of the REST API, and identified by a strong ETag so that the clients can revalidate them.
+ */
+@Component
+public class ScalityS3CapabilitiesManager {
+    private static final Logger logger = LoggerFactory.getLogger(ScalityS3CapabilitiesManager.class);
+
+    private static final String THREAD_NAME = "osis-s3-capabilities-watcher";
+
+    private final ScalityAppEnv appEnv;
+
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    private long lastModified;
+
+    private ScheduledExecutorService watcher;
+
+    /**
+     * Instantiates a new S3 capabilities manager.
+     *
+     * @param appEnv the app env
+     * @param objectMapper the object mapper writing the REST API responses
+     */
+    public ScalityS3CapabilitiesManager(ScalityAppEnv appEnv, ObjectMapper objectMapper) {
+        this.appEnv = appEnv;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Load the capabilities, then watch the file every `osis.scality.s3.capabilities-check-interval-in-ms`.
+     */
+    @PostConstruct
+    public synchronized void init() {
+        reload();
+        long checkInterval = appEnv.getS3CapabilitiesCheckInterval();
+        if (checkInterval > 0 && watcher == null) {
+            watcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+            watcher.scheduleWithFixedDelay(() -> {
+                try {
+                    reloadIfModified();
+                } catch (RuntimeException e) {
+                    // never let one check kill the watcher thread
+                    logger.error("S3 capabilities check failed. Error details: ", e);
+                }
+            }, checkInterval, checkInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stop watching the file.
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (watcher != null) {
+            watcher.shutdownNow();
+            watcher = null;
+        }
+    }
+
+    /**
+     * Load the capabilities file. If the file cannot be read, the previous capabilities are kept,
+     * or no capability is excluded if the file was never read.
+     *
+     * @return the loaded snapshot
+     */
+    public synchronized Snapshot reload() {
+        String s3CapabilitiesFilePath = appEnv.getS3CapabilitiesFilePath();
+        ClassPathResource resource = new ClassPathResource(s3CapabilitiesFilePath);
+        OsisS3Capabilities capabilities = null;
+        try (InputStream inputStream = resource.getInputStream()) {
+            lastModified = lastModified(resource);
+            capabilities = objectMapper.readValue(inputStream, OsisS3Capabilities.class);
+        } catch (IOException e) {
+            logger.info("Fail to load S3 capabilities from configuration file {}.", s3CapabilitiesFilePath);
+        }
+        if (capabilities == null) {
+            if (snapshot != null) {
+                return snapshot;
+            }
+            capabilities = new OsisS3Capabilities();
+        }
+
+        try {
+            snapshot = new Snapshot(capabilities, objectMapper.writeValueAsBytes(capabilities));
+        } catch (IOException e) {
+            throw new IllegalStateException("Fail to encode the S3 capabilities", e);
+        }
+        logger.info("S3 capabilities loaded from {}, ETag:{}", s3CapabilitiesFilePath, snapshot.getETag());
+        return snapshot;
+    }
+
+    /**
+     * Reload the capabilities file if it was modified since the last load.
+     *
+     * @return true if the file was reloaded
+     */
+    public synchronized boolean reloadIfModified() {
+        ClassPathResource resource = new ClassPathResource(appEnv.getS3CapabilitiesFilePath());
+        long modified = lastModified(resource);
+        if (modified == lastModified) {
+            return false;
+        }
+        reload();
+        return true;
+    }
+
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    private static long lastModified(ClassPathResource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * The capabilities of one load, with their encoded JSON. The capabilities and the JSON are shared by all the
+     * requests and must not be modified.
+     */
+    public static final class Snapshot {
+
+        private final OsisS3Capabilities capabilities;
+
+        private final byte[] json;
+
+        private final String eTag;
+
+        private Snapshot(OsisS3Capabilities capabilities, byte[] json) {
+            this.capabilities = capabilities;
+            this.json = json;
+            this.eTag = toETag(json);
+        }
+
+        public OsisS3Capabilities getCapabilities() {
+            return capabilities;
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        /**
+         * Returns the strong ETag of the JSON, quoted as in the `ETag` header
+         *
+         * @return the ETag
+         */
+        public String getETag() {
+            return eTag;
+        }
+
+        private static String toETag(byte[] json) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+                return '"' + HexFormat.of().formatHex(digest, 0, 16) + '"';
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
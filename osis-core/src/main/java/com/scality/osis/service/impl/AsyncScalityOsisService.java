@@ -8,7 +8,6 @@ package com.scality.osis.service.impl;
 import com.amazonaws.services.identitymanagement.AmazonIdentityManagement;
 import com.amazonaws.services.identitymanagement.model.*;
 import com.amazonaws.services.securitytoken.model.Credentials;
-import com.google.gson.Gson;
 import com.scality.osis.ScalityAppEnv;
 import com.scality.osis.model.OsisTenant;
 import com.scality.osis.utils.ScalityModelConverter;
@@ -22,6 +21,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import static com.scality.osis.utils.LogArgs.json;
+
 @Component
 public class AsyncScalityOsisService {
         private static final Logger logger = LoggerFactory.getLogger(AsyncScalityOsisService.class);
@@ -50,7 +51,7 @@ public class AsyncScalityOsisService {
                                                         tenantName,
                                                         appEnv.getAccountAKDurationSeconds());
                         logger.debug("[Vault] Generate Account AccessKey Request:{}",
-                                        new Gson().toJson(generateAccountAccessKeyRequest));
+                                        json(generateAccountAccessKeyRequest));
 
                         GenerateAccountAccessKeyResponse generateAccountAccessKeyResponse = vaultAdmin
                                         .getAccountAccessKey(generateAccountAccessKeyRequest);
@@ -59,7 +60,7 @@ public class AsyncScalityOsisService {
                                         generateAccountAccessKeyResponse.getData().getId(), tenantId,
                                         generateAccountAccessKeyResponse.getData().getNotAfter());
                         logger.trace("[Vault] Generate Account AccessKey full response:{}",
-                                        new Gson().toJson(generateAccountAccessKeyResponse));
+                                        json(generateAccountAccessKeyResponse));
 
                         Credentials credentials = ScalityModelConverter.toCredentials(generateAccountAccessKeyResponse);
 
@@ -70,11 +71,11 @@ public class AsyncScalityOsisService {
                         CreateRoleRequest createOSISRoleRequest = ScalityModelConverter
                                         .toCreateOSISRoleRequest(appEnv.getAssumeRoleName());
 
-                        logger.debug("[Vault] Create OSIS role Request:{}", new Gson().toJson(createOSISRoleRequest));
+                        logger.debug("[Vault] Create OSIS role Request:{}", json(createOSISRoleRequest));
 
                         CreateRoleResult createOSISRoleResponse = iamClient.createRole(createOSISRoleRequest);
 
-                        logger.debug("[Vault] Create OSIS role response:{}", new Gson().toJson(createOSISRoleResponse));
+                        logger.debug("[Vault] Create OSIS role response:{}", json(createOSISRoleResponse));
 
                         // Create and Attach Admin policy to the OSIS admin role
                         createAttachAdminPolicy(tenantId, createOSISRoleResponse.getRole().getRoleName(), iamClient);
@@ -82,10 +83,10 @@ public class AsyncScalityOsisService {
                         // Delete the newly created Access Key for the account
                         DeleteAccessKeyRequest deleteAccessKeyRequest = ScalityModelConverter
                                         .toDeleteAccessKeyRequest(credentials.getAccessKeyId(), null);
-                        logger.debug("[Vault] Delete Access key Request:{}", new Gson().toJson(deleteAccessKeyRequest));
+                        logger.debug("[Vault] Delete Access key Request:{}", json(deleteAccessKeyRequest));
 
                         DeleteAccessKeyResult deleteAccessKeyResult = iamClient.deleteAccessKey(deleteAccessKeyRequest);
-                        logger.debug("[Vault] Delete Access key response:{}", new Gson().toJson(deleteAccessKeyResult));
+                        logger.debug("[Vault] Delete Access key response:{}", json(deleteAccessKeyResult));
 
                         logger.info(" Finished [setupAssumeRole] for the Tenant:{}", tenantId);
 
@@ -106,7 +107,7 @@ public class AsyncScalityOsisService {
                                                 tenantName,
                                                 appEnv.getAccountAKDurationSeconds());
                 logger.debug("[Vault] Generate Account AccessKey Request:{}",
-                                new Gson().toJson(generateAccountAccessKeyRequest));
+                                json(generateAccountAccessKeyRequest));
 
                 GenerateAccountAccessKeyResponse generateAccountAccessKeyResponse = vaultAdmin
                                 .getAccountAccessKey(generateAccountAccessKeyRequest);
@@ -115,7 +116,7 @@ public class AsyncScalityOsisService {
                                 generateAccountAccessKeyResponse.getData().getId(), tenantId,
                                 generateAccountAccessKeyResponse.getData().getNotAfter());
                 logger.trace("[Vault] Generate Account AccessKey full response:{}",
-                                new Gson().toJson(generateAccountAccessKeyResponse));
+                                json(generateAccountAccessKeyResponse));
 
                 Credentials credentials = ScalityModelConverter.toCredentials(generateAccountAccessKeyResponse);
 
@@ -128,10 +129,10 @@ public class AsyncScalityOsisService {
                 // Delete the newly created Access Key for the account
                 DeleteAccessKeyRequest deleteAccessKeyRequest = ScalityModelConverter
                                 .toDeleteAccessKeyRequest(credentials.getAccessKeyId(), null);
-                logger.debug("[Vault] Delete Access key Request:{}", new Gson().toJson(deleteAccessKeyRequest));
+                logger.debug("[Vault] Delete Access key Request:{}", json(deleteAccessKeyRequest));
 
                 DeleteAccessKeyResult deleteAccessKeyResult = iamClient.deleteAccessKey(deleteAccessKeyRequest);
-                logger.debug("[Vault] Delete Access key response:{}", new Gson().toJson(deleteAccessKeyResult));
+                logger.debug("[Vault] Delete Access key response:{}", json(deleteAccessKeyResult));
 
                 logger.info(" Finished [setupAdminPolicy] for the Tenant:{}", tenantId);
 
@@ -142,12 +143,12 @@ public class AsyncScalityOsisService {
                 /* Create Admin policy for account `adminPolicy@[account-id]` */
                 CreatePolicyRequest createAdminPolicyRequest = ScalityModelConverter
                                 .toCreateAdminPolicyRequest(tenantId);
-                logger.debug("[Vault] Create Admin Policy Request:{}", new Gson().toJson(createAdminPolicyRequest));
+                logger.debug("[Vault] Create Admin Policy Request:{}", json(createAdminPolicyRequest));
 
                 CreatePolicyResult adminPolicyResult = null;
                 try {
                         adminPolicyResult = iamClient.createPolicy(createAdminPolicyRequest);
-                        logger.debug("[Vault] Create Admin Policy response:{}", new Gson().toJson(adminPolicyResult));
+                        logger.debug("[Vault] Create Admin Policy response:{}", json(adminPolicyResult));
 
                 } catch (Exception e) {
                         if (e instanceof AmazonIdentityManagementException &&
@@ -157,19 +158,19 @@ public class AsyncScalityOsisService {
                                 DetachRolePolicyRequest detachRolePolicyRequest = ScalityModelConverter.toDetachAdminPolicyRequest(
                                         ScalityModelConverter.toAdminPolicyArn(tenantId),
                                         assumeRoleName);
-                                logger.debug("[Vault] Detach Admin Policy Request:{}", new Gson().toJson(detachRolePolicyRequest));
+                                logger.debug("[Vault] Detach Admin Policy Request:{}", json(detachRolePolicyRequest));
 
                                 DetachRolePolicyResult detachRolePolicyResult = iamClient.detachRolePolicy(detachRolePolicyRequest);
-                                logger.debug("[Vault] Detach Admin Policy response:{}", new Gson().toJson(detachRolePolicyResult));
+                                logger.debug("[Vault] Detach Admin Policy response:{}", json(detachRolePolicyResult));
 
                                 DeletePolicyRequest deletePolicyRequest = ScalityModelConverter.toDeleteAdminPolicyRequest(tenantId);
-                                logger.debug("[Vault] Delete Admin Policy Request:{}", new Gson().toJson(detachRolePolicyRequest));
+                                logger.debug("[Vault] Delete Admin Policy Request:{}", json(detachRolePolicyRequest));
 
                                 DeletePolicyResult deletePolicyResult = iamClient.deletePolicy(deletePolicyRequest);
-                                logger.debug("[Vault] Delete Admin Policy Response:{}", new Gson().toJson(deletePolicyResult));
+                                logger.debug("[Vault] Delete Admin Policy Response:{}", json(deletePolicyResult));
 
                                 adminPolicyResult = iamClient.createPolicy(createAdminPolicyRequest);
-                                logger.debug("[Vault] Create Admin Policy response:{}", new Gson().toJson(adminPolicyResult));
+                                logger.debug("[Vault] Create Admin Policy response:{}", json(adminPolicyResult));
 
                         } else {
                                 logger.error("Cannot create admin policy for Tenant ID:{}. " +
@@ -183,9 +184,9 @@ public class AsyncScalityOsisService {
                                                 : ScalityModelConverter.toAdminPolicyArn(tenantId),
                                 assumeRoleName);
 
-                logger.debug("[Vault] Attach Admin Policy Request:{}", new Gson().toJson(attachAdminPolicyRequest));
+                logger.debug("[Vault] Attach Admin Policy Request:{}", json(attachAdminPolicyRequest));
 
                 AttachRolePolicyResult attachAdminPolicyResult = iamClient.attachRolePolicy(attachAdminPolicyRequest);
-                logger.debug("[Vault] Attach Admin Policy response:{}", new Gson().toJson(attachAdminPolicyResult));
+                logger.debug("[Vault] Attach Admin Policy response:{}", json(attachAdminPolicyResult));
         }
 }
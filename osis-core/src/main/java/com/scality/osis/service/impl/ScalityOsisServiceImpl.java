@@ -8,6 +8,7 @@ package com.scality.osis.service.impl;
 
 import com.amazonaws.Response;
 import com.amazonaws.services.identitymanagement.AmazonIdentityManagement;
+import com.amazonaws.services.identitymanagement.model.User;
 import com.amazonaws.services.identitymanagement.model.*;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
@@ -15,14 +16,14 @@ import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.securitytoken.model.AssumeRoleRequest;
 import com.amazonaws.services.securitytoken.model.Credentials;
 import com.amazonaws.util.StringUtils;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.gson.Gson;
 import com.scality.osis.ScalityAppEnv;
 import com.scality.osis.model.*;
 import com.scality.osis.model.exception.NotFoundException;
 import com.scality.osis.model.exception.NotImplementedException;
 import com.scality.osis.redis.service.IRedisRepository;
 import com.scality.osis.resource.ScalityOsisCapsManager;
+import com.scality.osis.resource.ScalityS3CapabilitiesManager;
+import com.scality.osis.s3.BucketListSnapshot;
 import com.scality.osis.s3.S3;
 import com.scality.osis.security.crypto.model.SecretKeyRepoData;
 import com.scality.osis.security.utils.CipherFactory;
@@ -32,25 +33,39 @@ import com.scality.osis.utapiclient.dto.ListMetricsRequestDTO;
 import com.scality.osis.utapiclient.dto.MetricsData;
 import com.scality.osis.utapiclient.services.UtapiServiceClient;
 import com.scality.osis.utapiclient.utils.UtapiClientException;
+import com.scality.osis.utils.AdminPolicyRepairCoordinator;
+import com.scality.osis.utils.FanOutExecutor;
 import com.scality.osis.utils.ScalityModelConverter;
 import com.scality.osis.utils.ScalityUtils;
+import com.scality.osis.utils.TenantDirectory;
+import com.scality.osis.utils.TenantReadinessJob;
+import com.scality.osis.utils.UserStatusIndex;
 import com.scality.osis.vaultadmin.VaultAdmin;
 import com.scality.osis.vaultadmin.impl.VaultServiceException;
+import com.scality.osis.vaultadmin.impl.cache.AccessKeyOwner;
+import com.scality.osis.vaultadmin.impl.cache.Cache;
+import com.scality.osis.vaultadmin.impl.cache.CacheFactory;
 import com.scality.vaultclient.dto.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Primary;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-
-import java.io.IOException;
+import javax.annotation.PostConstruct;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
+import static com.scality.osis.utils.LogArgs.json;
 import static com.scality.osis.utils.ScalityConstants.*;
 import static com.scality.osis.utils.ScalityUtils.getHourTime;
+import static com.scality.osis.vaultadmin.impl.cache.CacheConstants.NAME_ACCESS_KEY_OWNER_CACHE;
+import static com.scality.osis.vaultadmin.impl.cache.CacheConstants.NAME_BUCKET_LIST_CACHE;
+import static com.scality.osis.vaultadmin.impl.cache.CacheConstants.NAME_CANONICAL_USER_CACHE;
 
 /**
  * The type Scality osis service.
@@ -75,6 +90,31 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
     @Autowired
     private CipherFactory cipherFactory;
 
+    @Autowired
+    private FanOutExecutor fanOutExecutor;
+
+    @Autowired
+    @Qualifier("cryptoExecutor")
+    private FanOutExecutor cryptoExecutor;
+
+    @Autowired
+    private UserStatusIndex userStatusIndex;
+
+    @Autowired
+    private TenantDirectory tenantDirectory;
+
+    @Autowired
+    private AdminPolicyRepairCoordinator adminPolicyRepairCoordinator;
+
+    @Autowired
+    private TenantReadinessJob tenantReadinessJob;
+
+    @Autowired
+    private CacheFactory cacheFactory;
+
+    @Autowired
+    private ScalityS3CapabilitiesManager s3CapabilitiesManager;
+
     private final Map<String, SecretKeyRepoData> springLocalCache = new ConcurrentHashMap<>();
 
     /**
@@ -96,6 +136,35 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
         this.scalityOsisCapsManager = scalityOsisCapsManager;
     }
 
+    /**
+     * Start the periodic reconciliation of the user status index with IAM
+     */
+    @PostConstruct
+    public void startUserStatusReconciliation() {
+        userStatusIndex.startReconciliation(this::listActiveAccessKeyIds);
+    }
+
+    /**
+     * Start the scans of the accounts of the tenant directory
+     */
+    @PostConstruct
+    public void startTenantDirectoryRefresh() {
+        if (appEnv.isTenantDirectoryEnabled()) {
+            tenantDirectory.startRefresh(marker -> listAccountsPage(marker, appEnv.getTenantDirectoryPageSize()));
+        }
+    }
+
+    /**
+     * Start the runs of the tenant readiness job
+     */
+    @PostConstruct
+    public void startTenantReadinessJob() {
+        if (appEnv.isTenantReadinessEnabled()) {
+            tenantReadinessJob.start(marker -> listAccountsPage(marker, appEnv.getTenantReadinessPageSize()),
+                    this::ensureTenantReady);
+        }
+    }
+
     /**
      * Create a tenant in the platform
      *
@@ -105,21 +174,22 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
     @Override
     public OsisTenant createTenant(OsisTenant osisTenant) {
         try {
-            logger.info("Create Tenant request received:{}", new Gson().toJson(osisTenant));
+            logger.info("Create Tenant request received:{}", json(osisTenant));
             CreateAccountRequestDTO accountRequest = ScalityModelConverter.toScalityCreateAccountRequest(osisTenant);
 
-            logger.debug("[Vault]CreateAccount request:{}", new Gson().toJson(accountRequest));
+            logger.debug("[Vault]CreateAccount request:{}", json(accountRequest));
 
             CreateAccountResponseDTO accountResponse = vaultAdmin.createAccount(accountRequest);
 
-            logger.debug("[Vault]CreateAccount response:{}", new Gson().toJson(accountResponse));
+            logger.debug("[Vault]CreateAccount response:{}", json(accountResponse));
 
             OsisTenant resOsisTenant = ScalityModelConverter.toOsisTenant(accountResponse);
+            tenantDirectory.put(accountResponse.getAccount().getData());
 
             // call async service to setup the assume role for the new tenant
             asyncScalityOsisService.setupAssumeRole(resOsisTenant);
 
-            logger.info("Create Tenant response:{}", new Gson().toJson(resOsisTenant));
+            logger.info("Create Tenant response:{}", json(resOsisTenant));
 
             return resOsisTenant;
         } catch (VaultServiceException e) {
@@ -140,28 +210,29 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
 
                 PageOfTenants pageOfTenants = null;
                 if (ScalityUtils.isValidUUID(cdTenantId)) {
+                    List<AccountData> accounts = tenantDirectory.findByCdTenantId(cdTenantId);
+                    if (!accounts.isEmpty()) {
+                        logger.debug("[TenantDirectory] {} accounts found for cd_tenant_id {}",
+                                accounts.size(), cdTenantId);
+                        pageOfTenants = ScalityModelConverter.toPageOfTenants(accounts, offset, limit);
+                    } else {
+                        ListAccountsRequestDTO listAccountsRequest = ScalityModelConverter
+                                .toScalityListAccountsRequest(limit, filter);
 
-                    ListAccountsRequestDTO listAccountsRequest = ScalityModelConverter
-                            .toScalityListAccountsRequest(limit, filter);
-
-                    logger.debug("[Vault] List Accounts Request:{}", new Gson().toJson(listAccountsRequest));
-                    ListAccountsResponseDTO listAccountsResponseDTO = vaultAdmin.listAccounts(offset,
-                            listAccountsRequest);
+                        logger.debug("[Vault] List Accounts Request:{}", json(listAccountsRequest));
+                        ListAccountsResponseDTO listAccountsResponseDTO = vaultAdmin.listAccounts(offset,
+                                listAccountsRequest);
 
-                    logger.debug("[Vault] List Accounts response:{}", new Gson().toJson(listAccountsResponseDTO));
+                        logger.debug("[Vault] List Accounts response:{}", json(listAccountsResponseDTO));
+                        listAccountsResponseDTO.getAccounts().forEach(tenantDirectory::put);
 
-                    pageOfTenants = ScalityModelConverter.toPageOfTenants(listAccountsResponseDTO, offset, limit);
+                        pageOfTenants = ScalityModelConverter.toPageOfTenants(listAccountsResponseDTO, offset, limit);
+                    }
                 } else {
-                    GetAccountRequestDTO getAccountRequest = ScalityModelConverter
-                            .toGetAccountRequestWithID(cdTenantId);
-
-                    logger.debug("[Vault] Get Account Request:{}", new Gson().toJson(getAccountRequest));
-
-                    AccountData account = vaultAdmin.getAccount(getAccountRequest);
-                    pageOfTenants = ScalityModelConverter.toPageOfTenants(account, offset, limit);
+                    pageOfTenants = ScalityModelConverter.toPageOfTenants(getAccountWithID(cdTenantId), offset, limit);
                 }
 
-                logger.info("Query Tenants response:{}", new Gson().toJson(pageOfTenants));
+                logger.info("Query Tenants response:{}", json(pageOfTenants));
 
                 return pageOfTenants;
 
@@ -188,14 +259,14 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
             logger.info("List Tenants request received: offset={}, limit={}", offset, limit);
             ListAccountsRequestDTO listAccountsRequest = ScalityModelConverter.toScalityListAccountsRequest(limit);
 
-            logger.debug("[Vault] List Accounts Request:{}", new Gson().toJson(listAccountsRequest));
+            logger.debug("[Vault] List Accounts Request:{}", json(listAccountsRequest));
             ListAccountsResponseDTO listAccountsResponseDTO = vaultAdmin.listAccounts(offset, listAccountsRequest);
 
-            logger.debug("[Vault] List Accounts response:{}", new Gson().toJson(listAccountsResponseDTO));
+            logger.debug("[Vault] List Accounts response:{}", json(listAccountsResponseDTO));
 
             PageOfTenants pageOfTenants = ScalityModelConverter.toPageOfTenants(listAccountsResponseDTO, offset, limit);
 
-            logger.info("List Tenants response:{}", new Gson().toJson(pageOfTenants));
+            logger.info("List Tenants response:{}", json(pageOfTenants));
 
             return pageOfTenants;
 
@@ -214,7 +285,7 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
     @Override
     public OsisUser createUser(OsisUser osisUser) {
         try {
-            logger.info("Create User request received:{}", new Gson().toJson(osisUser));
+            logger.info("Create User request received:{}", json(osisUser));
 
             AccountData accountData = vaultAdmin
                     .getAccount(ScalityModelConverter.toGetAccountRequestWithID(osisUser.getTenantId()));
@@ -225,11 +296,11 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
                     appEnv.getRegionInfo().get(0));
 
             CreateUserRequest createUserRequest = ScalityModelConverter.toCreateUserRequest(osisUser);
-            logger.debug("[Vault] Create User Request:{}", new Gson().toJson(createUserRequest));
+            logger.debug("[Vault] Create User Request:{}", json(createUserRequest));
 
             CreateUserResult createUserResult = iam.createUser(createUserRequest);
 
-            logger.debug("[Vault] Create User response:{}", new Gson().toJson(createUserResult));
+            logger.debug("[Vault] Create User response:{}", json(createUserResult));
 
             OsisUser resOsisUser = null;
 
@@ -243,10 +314,10 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
                 /** Attach user policy to the user **/
                 AttachUserPolicyRequest attachUserPolicyRequest = ScalityModelConverter
                         .toAttachUserPolicyRequest(userPolicy.getArn(), resOsisUser.getUserId());
-                logger.debug("[Vault] Attach User Policy Request:{}", new Gson().toJson(attachUserPolicyRequest));
+                logger.debug("[Vault] Attach User Policy Request:{}", json(attachUserPolicyRequest));
 
                 AttachUserPolicyResult attachUserPolicyResult = iam.attachUserPolicy(attachUserPolicyRequest);
-                logger.debug("[Vault] Attach User Policy response:{}", new Gson().toJson(attachUserPolicyResult));
+                logger.debug("[Vault] Attach User Policy response:{}", json(attachUserPolicyResult));
 
                 /** Create User Access Key for the user **/
                 OsisS3Credential osisCredential = createOsisCredential(
@@ -258,8 +329,11 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
 
                 resOsisUser.setOsisS3Credentials(Arrays.asList(osisCredential));
 
+                userStatusIndex.put(resOsisUser.getTenantId(), resOsisUser.getUserId(),
+                        Collections.singleton(osisCredential.getAccessKey()));
+
                 logger.info("Create User response:{}",
-                        ScalityModelConverter.maskSecretKey(new Gson().toJson(resOsisUser)));
+                        json(resOsisUser));
 
             }
 
@@ -305,25 +379,26 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
                     // check the format of received cd_tenant_id
                     // 1. format UUID ex.0a0e9c1a-1c27-4908-8d1b-74f87325b47b, represent cd_tenant_id of a tenant
                     if (ScalityUtils.isValidUUID(cdTenantId)) {
-                        String cdTenantIdFilter = CD_TENANT_ID_PREFIX + cdTenantId;
-                        ListAccountsRequestDTO queryAccountsRequest = ScalityModelConverter
-                                .toScalityListAccountsRequest(limit, cdTenantIdFilter);
-
-                        tenantId = vaultAdmin.getAccountID(queryAccountsRequest);
+                        List<AccountData> accounts = tenantDirectory.findByCdTenantId(cdTenantId);
+                        if (!accounts.isEmpty()) {
+                            tenantId = accounts.get(0).getId();
+                        } else {
+                            String cdTenantIdFilter = CD_TENANT_ID_PREFIX + cdTenantId;
+                            ListAccountsRequestDTO queryAccountsRequest = ScalityModelConverter
+                                    .toScalityListAccountsRequest(limit, cdTenantIdFilter);
+
+                            tenantId = vaultAdmin.getAccountID(queryAccountsRequest);
+                        }
                     } else {
                         // 2. format string of 12 letters, ex. 971317116260, represent tenant_id of a tenant
                         tenantId = cdTenantId;
                     }
                 }
 
-                // get the account by TenantId from vault and convert it to OsisTenant
-                GetAccountRequestDTO getAccountRequestDTO = new GetAccountRequestDTO();
-                getAccountRequestDTO.setAccountId(tenantId);
-                logger.debug("[Vault]GetAccount request:{}", new Gson().toJson(getAccountRequestDTO));
-                AccountData accountData = vaultAdmin.getAccount(getAccountRequestDTO);
-                logger.debug("[Vault]GetAccount response:{}", new Gson().toJson(accountData));
+                // get the account by TenantId and convert it to OsisTenant
+                AccountData accountData = getAccountWithID(tenantId);
                 OsisTenant osisTenant = ScalityModelConverter.toOsisTenant(accountData);
-                logger.info("Query Users of tenant {}:", new Gson().toJson(osisTenant));
+                logger.info("Query Users of tenant {}:", json(osisTenant));
 
                 // check the format of received display_name
                 // 1. format UUID ex.9db66358-a7d2-4fd6-9688-f483e492bdbd, represents user_id of a tenant
@@ -359,14 +434,14 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
                         listUsersRequest.setPathPrefix("/" + username + "/");
                     }
 
-                    logger.debug("[Vault] List Users Request:{}", new Gson().toJson(listUsersRequest));
+                    logger.debug("[Vault] List Users Request:{}", json(listUsersRequest));
 
                     ListUsersResult listUsersResult = iam.listUsers(listUsersRequest);
 
-                    logger.debug("[Vault] List Users response:{}", new Gson().toJson(listUsersResult));
+                    logger.debug("[Vault] List Users response:{}", json(listUsersResult));
 
                     pageOfUsers = ScalityModelConverter.toPageOfUsers(listUsersResult, offset, limit, tenantId);
-                    logger.info("Query Users response:{}", new Gson().toJson(pageOfUsers));
+                    logger.info("Query Users response:{}", json(pageOfUsers));
                 }
                 return pageOfUsers;
 
@@ -419,7 +494,7 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
             credential.setCdTenantId(tenant.getCdTenantIds().get(0));
 
             logger.info("Create S3 Credential response:{}, ",
-                    ScalityModelConverter.maskSecretKey(new Gson().toJson(credential)));
+                    json(credential));
 
             return credential;
         } catch (Exception e) {
@@ -459,7 +534,7 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
                             offset,
                             limit);
                     logger.info("Query S3 Credentials response:{}",
-                            ScalityModelConverter.maskSecretKey(new Gson().toJson(pageOfS3Credentials)));
+                            json(pageOfS3Credentials));
                     return pageOfS3Credentials;
 
                 } catch (Exception e) {
@@ -491,17 +566,9 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
     @Override
     public OsisS3Capabilities getS3Capabilities() {
         logger.info("S3 capabilities request received");
-        OsisS3Capabilities osisS3Capabilities = new OsisS3Capabilities();
-        String s3CapabilitiesFilePath = appEnv.getS3CapabilitiesFilePath();
-        try {
-            osisS3Capabilities = new ObjectMapper()
-                    .readValue(new ClassPathResource(s3CapabilitiesFilePath).getInputStream(),
-                            OsisS3Capabilities.class);
-            logger.info("S3 capabilities response:{}", new Gson().toJson(osisS3Capabilities));
-        } catch (IOException e) {
-            logger.info("Fail to load S3 capabilities from configuration file {}.", s3CapabilitiesFilePath);
-        }
-        return osisS3Capabilities;
+        ScalityS3CapabilitiesManager.Snapshot s3Capabilities = s3CapabilitiesManager.getSnapshot();
+        logger.debug("S3 capabilities response ETag:{}", s3Capabilities.getETag());
+        return s3Capabilities.getCapabilities();
     }
 
     @Override
@@ -514,11 +581,11 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
             }
 
             if (tenantId == null || tenantId.isEmpty() || userId == null || userId.isEmpty()) {
-                logger.info("Delete S3 Credential: Missing tenantId/userId in request, call Vault superAdmin API GetUserByAccessKey");
-                Map<String, String> result = getTenantIdAndUserIdByAccessKeyFromVault(accessKey);
+                logger.info("Delete S3 Credential: Missing tenantId/userId in request, resolve the owner of the access key");
+                Map<String, String> result = getTenantIdAndUserIdByAccessKey(accessKey);
                 tenantId = result.get("tenantId");
                 userId = result.get("userId");
-                logger.info("Delete S3 Credential: GetUserByAccessKey response received, tenant id: {}, user id: {}", tenantId, userId);
+                logger.info("Delete S3 Credential: access key owner resolved, tenant id: {}, user id: {}", tenantId, userId);
             }
 
             Credentials tempCredentials = getCredentials(tenantId);
@@ -528,11 +595,19 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
             DeleteAccessKeyRequest deleteAccessKeyRequest = ScalityModelConverter
                     .toDeleteAccessKeyRequest(accessKey, userId);
 
-            logger.debug("[Vault] Delete Access Key Request:{}", new Gson().toJson(deleteAccessKeyRequest));
+            logger.debug("[Vault] Delete Access Key Request:{}", json(deleteAccessKeyRequest));
 
             DeleteAccessKeyResult deleteAccessKeyResult = iam.deleteAccessKey(deleteAccessKeyRequest);
 
-            logger.debug("[Vault] Delete Access Key response:{}", new Gson().toJson(deleteAccessKeyResult));
+            logger.debug("[Vault] Delete Access Key response:{}", json(deleteAccessKeyResult));
+
+            userStatusIndex.onAccessKeyDeleted(tenantId, userId, accessKey);
+
+            @SuppressWarnings("unchecked")
+            Cache<String, AccessKeyOwner> accessKeyOwnerCache = cacheFactory.getCache(NAME_ACCESS_KEY_OWNER_CACHE);
+            if (accessKeyOwnerCache != null) {
+                accessKeyOwnerCache.remove(accessKey);
+            }
 
             deleteSecretKey(ScalityModelConverter.toRepoKeyForCredentials(userId, accessKey));
 
@@ -562,7 +637,7 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
     public OsisTenant updateTenant(String tenantId, OsisTenant osisTenant) {
         try {
             logger.info("Update Tenant request received, tenantId:{}, osisTenant:{}",
-                    tenantId, new Gson().toJson(osisTenant));
+                    tenantId, json(osisTenant));
 
             // check tenantID and OSIS tenant Consistency
             // special check for ensuring consistency between tenant name and ID
@@ -582,16 +657,17 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
                     .toUpdateAccountAttributesRequestDTO(osisTenant);
 
             logger.debug("[Vault]Update Account Attributes request:{}",
-                    new Gson().toJson(updateAccountAttributesRequest));
+                    json(updateAccountAttributesRequest));
 
             CreateAccountResponseDTO accountResponse = vaultAdmin
                     .updateAccountAttributes(updateAccountAttributesRequest);
 
-            logger.debug("[Vault]Update Account Attributes response:{}", new Gson().toJson(accountResponse));
+            logger.debug("[Vault]Update Account Attributes response:{}", json(accountResponse));
 
             OsisTenant resOsisTenant = ScalityModelConverter.toOsisTenant(accountResponse);
+            tenantDirectory.put(accountResponse.getAccount().getData());
 
-            logger.info("Update Tenant response:{}", new Gson().toJson(resOsisTenant));
+            logger.info("Update Tenant response:{}", json(resOsisTenant));
 
             return resOsisTenant;
         } catch (VaultServiceException e) {
@@ -618,19 +694,21 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
                 /** Detach user policy from the user **/
                 DetachUserPolicyRequest detachUserPolicyRequest = ScalityModelConverter
                         .toDetachUserPolicyRequest(userPolicy.getArn(), userId);
-                logger.debug("[Vault] Detach User Policy Request:{}", new Gson().toJson(detachUserPolicyRequest));
+                logger.debug("[Vault] Detach User Policy Request:{}", json(detachUserPolicyRequest));
 
                 DetachUserPolicyResult detachUserPolicyResult = iamClient.detachUserPolicy(detachUserPolicyRequest);
-                logger.debug("[Vault] Detach User Policy response:{}", new Gson().toJson(detachUserPolicyResult));
+                logger.debug("[Vault] Detach User Policy response:{}", json(detachUserPolicyResult));
             }
 
             DeleteUserRequest deleteUserRequest = ScalityModelConverter.toIAMDeleteUserRequest(userId);
 
-            logger.debug("[Vault] Delete User Request:{}", new Gson().toJson(deleteUserRequest));
+            logger.debug("[Vault] Delete User Request:{}", json(deleteUserRequest));
 
             DeleteUserResult deleteUserResult = iamClient.deleteUser(deleteUserRequest);
 
-            logger.debug("[Vault] Delete User response:{}", new Gson().toJson(deleteUserResult));
+            logger.debug("[Vault] Delete User response:{}", json(deleteUserResult));
+
+            userStatusIndex.invalidate(tenantId, userId);
 
             logger.info("Delete User successful:: tenant ID:{}, userID:{}", tenantId, userId);
             return;
@@ -659,11 +737,11 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
             if (accessKey == null || accessKey.isEmpty()) {
                 throw new Exception("accessKey can't be empty for getS3Credential.");
             }
-            logger.info("Get S3 Credential: call Vault superAdmin API GetUserByAccessKey");
-            Map<String, String> result = getTenantIdAndUserIdByAccessKeyFromVault(accessKey);
+            logger.info("Get S3 Credential: resolve the owner of the access key");
+            Map<String, String> result = getTenantIdAndUserIdByAccessKey(accessKey);
             final String tenantId = result.get("tenantId");
             final String userId = result.get("userId");
-            logger.info("Get S3 Credential: GetUserByAccessKey response received, tenant id: {}, user id: {}", tenantId, userId);
+            logger.info("Get S3 Credential: access key owner resolved, tenant id: {}, user id: {}", tenantId, userId);
 
             return getS3Credential(tenantId, userId, accessKey);
 
@@ -688,11 +766,11 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
                 throw new Exception("accessKey can't be empty for getS3Credential.");
             }
             if (tenantId == null || tenantId.isEmpty() || userId == null || userId.isEmpty()) {
-                logger.info("Get S3 Credential: Missing tenantId/userId in request, call Vault superAdmin API GetUserByAccessKey");
-                Map<String, String> result = getTenantIdAndUserIdByAccessKeyFromVault(accessKey);
+                logger.info("Get S3 Credential: Missing tenantId/userId in request, resolve the owner of the access key");
+                Map<String, String> result = getTenantIdAndUserIdByAccessKey(accessKey);
                 tenantId = result.get("tenantId");
                 userId = result.get("userId");
-                logger.info("Get S3 Credential: GetUserByAccessKey response received, tenant id: {}, user id: {}", tenantId, userId);
+                logger.info("Get S3 Credential: access key owner resolved, tenant id: {}, user id: {}", tenantId, userId);
             }
 
             Credentials tempCredentials = getCredentials(tenantId);
@@ -702,11 +780,11 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
             ListAccessKeysRequest listAccessKeysRequest = ScalityModelConverter.toIAMListAccessKeysRequest(userId,
                     limit);
 
-            logger.debug("[Vault] List Access Keys Request:{}", new Gson().toJson(listAccessKeysRequest));
+            logger.debug("[Vault] List Access Keys Request:{}", json(listAccessKeysRequest));
 
             ListAccessKeysResult listAccessKeysResult = iam.listAccessKeys(listAccessKeysRequest);
 
-            logger.debug("[Vault] List Access Keys response:{}", new Gson().toJson(listAccessKeysResult));
+            logger.debug("[Vault] List Access Keys response:{}", json(listAccessKeysResult));
 
             Optional<AccessKeyMetadata> accessKeyResult = listAccessKeysResult.getAccessKeyMetadata()
                     .stream()
@@ -721,9 +799,9 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
 
                 // get Osis User by userId
                 GetUserRequest getUserRequest = ScalityModelConverter.toIAMGetUserRequest(userId);
-                logger.debug("[Vault] Get User Request:{}", new Gson().toJson(getUserRequest));
+                logger.debug("[Vault] Get User Request:{}", json(getUserRequest));
                 GetUserResult getUserResult = iam.getUser(getUserRequest);
-                logger.debug("[Vault] Get User response:{}", new Gson().toJson(getUserResult));
+                logger.debug("[Vault] Get User response:{}", json(getUserResult));
                 OsisUser osisUser = ScalityModelConverter.toOsisUser(getUserResult.getUser(), tenantId);
 
                 OsisS3Credential osisCredential = ScalityModelConverter.toOsisS3Credentials(tenantId,
@@ -731,7 +809,7 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
                         accessKeyMetadata,
                         secretKey);
                 logger.info("Get S3 credential  response:{}",
-                        ScalityModelConverter.maskSecretKey(new Gson().toJson(osisCredential)));
+                        json(osisCredential));
 
                 return osisCredential;
             } else {
@@ -761,15 +839,15 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
             logger.info("Get Tenant request received, tenantId:{}", tenantId);
             GetAccountRequestDTO getAccountRequest = ScalityModelConverter.toGetAccountRequestWithID(tenantId);
 
-            logger.debug("[Vault]GetAccount request:{}", new Gson().toJson(getAccountRequest));
+            logger.debug("[Vault]GetAccount request:{}", json(getAccountRequest));
 
             AccountData accountData = vaultAdmin.getAccount(getAccountRequest);
 
-            logger.debug("[Vault]GetAccount response:{}", new Gson().toJson(accountData));
+            logger.debug("[Vault]GetAccount response:{}", json(accountData));
 
             OsisTenant resOsisTenant;
             resOsisTenant = ScalityModelConverter.toOsisTenant(accountData);
-            logger.info("Get Tenant response:{}", new Gson().toJson(resOsisTenant));
+            logger.info("Get Tenant response:{}", json(resOsisTenant));
 
             return resOsisTenant;
         } catch (Exception e) {
@@ -780,53 +858,151 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
 
     @Override
     public OsisUser getUser(String canonicalUserId) {
+        AccountData account;
         try {
             logger.info("Get User w/ Canonical ID request received:: canonicalUserId ID:{}", canonicalUserId);
 
             GetAccountRequestDTO getAccountRequest = ScalityModelConverter
                     .toGetAccountRequestWithCanonicalID(canonicalUserId);
 
-            logger.debug("[Vault] Get Account Request:{}", new Gson().toJson(getAccountRequest));
-
-            AccountData account = vaultAdmin.getAccount(getAccountRequest);
+            logger.debug("[Vault] Get Account Request:{}", json(getAccountRequest));
 
-            logger.debug("[Vault] Get Account response:{}", new Gson().toJson(account));
+            account = vaultAdmin.getAccount(getAccountRequest);
 
-            List<OsisUser> users = listUsers(account.getId(), DEFAULT_MIN_OFFSET, DEFAULT_MAX_LIMIT).getItems();
+            logger.debug("[Vault] Get Account response:{}", json(account));
+        } catch (Exception e) {
+            logger.error("The tenant doesn't exist. Error details: ", e);
+            throw new VaultServiceException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        }
 
-            final OsisUser osisUser = ScalityModelConverter.toCanonicalOsisUser(account, users);
+        return getCanonicalUser(account);
+    }
 
-            // List all user access keys and if all are inactive, mark user as inactive
+    /**
+     * Get the user of the canonical ID of an account, i.e. its tenant admin user.
+     *
+     * @param account the account of the canonical ID
+     * @return the user, with no cd user if the account has no user
+     */
+    private OsisUser getCanonicalUser(AccountData account) {
+        try {
             Credentials tempCredentials = getCredentials(account.getId());
             final AmazonIdentityManagement iamClient = vaultAdmin.getIAMClient(tempCredentials,
                     appEnv.getRegionInfo().get(0));
 
-            ListAccessKeysRequest listAccessKeysRequest = ScalityModelConverter
-                    .toIAMListAccessKeysRequest(osisUser.getUserId(), DEFAULT_MAX_LIMIT);
+            User tenantAdminUser = getTenantAdminUser(iamClient, account);
 
-            logger.debug("[Vault] List Access Keys Request:{}", new Gson().toJson(listAccessKeysRequest));
+            final OsisUser osisUser = ScalityModelConverter.toCanonicalOsisUser(account, tenantAdminUser == null
+                    ? Collections.emptyList()
+                    : Collections.singletonList(ScalityModelConverter.toOsisUser(tenantAdminUser, account.getId())));
 
-            ListAccessKeysResult listAccessKeysResult = iamClient.listAccessKeys(listAccessKeysRequest);
+            // If all the user access keys are inactive, mark user as inactive
+            if (tenantAdminUser != null) {
+                osisUser.setActive(userStatusIndex.isActive(account.getId(), osisUser.getUserId(),
+                        () -> listActiveAccessKeyIds(iamClient, osisUser.getUserId())));
+            }
 
-            logger.debug("[Vault] List Access Keys response:{}", new Gson().toJson(listAccessKeysResult));
+            logger.info("Get User w/ Canonical ID response:{}", json(osisUser));
 
-            boolean isActive = false;
-            for (AccessKeyMetadata accessKey : listAccessKeysResult.getAccessKeyMetadata()) {
-                if (accessKey.getStatus().equals(StatusType.Active.toString())) {
-                    isActive = true;
-                    break;
+            return osisUser;
+        } catch (Exception e) {
+
+            if (isAdminPolicyError(e)) {
+                try {
+                    generateAdminPolicy(account.getId());
+                    return getCanonicalUser(account);
+                } catch (Exception ex) {
+                    e = ex;
+                }
+            }
+
+            logger.error("Get User w/ Canonical ID error. Error details: ", e);
+            throw new VaultServiceException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Get the tenant admin user of an account.
+     * <p>
+     * The user of a canonical ID is cached, so a lookup costs a single `get-user` call whatever the size of the
+     * tenant. On a miss, or if the cached user was deleted, it is selected from one `list-users` page.
+     *
+     * @param iamClient the IAM client of the tenant
+     * @param account the account
+     * @return the tenant admin user, null if the account has no user
+     */
+    private User getTenantAdminUser(AmazonIdentityManagement iamClient, AccountData account) {
+        @SuppressWarnings("unchecked")
+        Cache<String, String> canonicalUserCache = cacheFactory.getCache(NAME_CANONICAL_USER_CACHE);
+        String userId = canonicalUserCache != null ? canonicalUserCache.get(account.getCanonicalId()) : null;
+        if (userId != null) {
+            try {
+                GetUserRequest getUserRequest = ScalityModelConverter.toIAMGetUserRequest(userId);
+                logger.debug("[Vault] Get User Request:{}", json(getUserRequest));
+
+                GetUserResult getUserResult = iamClient.getUser(getUserRequest);
+                logger.debug("[Vault] Get User response:{}", json(getUserResult));
+                return getUserResult.getUser();
+            } catch (AmazonIdentityManagementException e) {
+                if (e.getStatusCode() != HttpStatus.NOT_FOUND.value()) {
+                    throw e;
                 }
+                canonicalUserCache.remove(account.getCanonicalId());
             }
+        }
 
-            osisUser.setActive(isActive);
+        ListUsersRequest listUsersRequest = ScalityModelConverter.toIAMListUsersRequest(DEFAULT_MIN_OFFSET,
+                DEFAULT_MAX_LIMIT);
+        logger.debug("[Vault] List Users Request:{}", json(listUsersRequest));
 
-            logger.info("Get User w/ Canonical ID response:{}", new Gson().toJson(osisUser));
+        ListUsersResult listUsersResult = iamClient.listUsers(listUsersRequest);
+        logger.debug("[Vault] List Users response:{}", json(listUsersResult));
 
-            return osisUser;
-        } catch (Exception e) {
-            logger.error("The tenant doesn't exist. Error details: ", e);
-            throw new VaultServiceException(HttpStatus.NOT_FOUND, e.getMessage(), e);
+        User tenantAdminUser = ScalityModelConverter.toTenantAdminUser(listUsersResult.getUsers());
+        if (tenantAdminUser != null && canonicalUserCache != null) {
+            canonicalUserCache.put(account.getCanonicalId(), tenantAdminUser.getUserName());
+        }
+        return tenantAdminUser;
+    }
+
+    /**
+     * List the ids of the active access keys of a user
+     *
+     * @param tenantId the tenant id
+     * @param userId the user id
+     * @return the ids of the active access keys
+     */
+    private Set<String> listActiveAccessKeyIds(String tenantId, String userId) {
+        Credentials tempCredentials = getCredentials(tenantId);
+        final AmazonIdentityManagement iamClient = vaultAdmin.getIAMClient(tempCredentials,
+                appEnv.getRegionInfo().get(0));
+        return listActiveAccessKeyIds(iamClient, userId);
+    }
+
+    /**
+     * List the ids of the active access keys of a user
+     *
+     * @param iamClient the IAM client of the tenant
+     * @param userId the user id
+     * @return the ids of the active access keys
+     */
+    private Set<String> listActiveAccessKeyIds(AmazonIdentityManagement iamClient, String userId) {
+        ListAccessKeysRequest listAccessKeysRequest = ScalityModelConverter.toIAMListAccessKeysRequest(userId,
+                DEFAULT_MAX_LIMIT);
+
+        logger.debug("[Vault] List Access Keys Request:{}", json(listAccessKeysRequest));
+
+        ListAccessKeysResult listAccessKeysResult = iamClient.listAccessKeys(listAccessKeysRequest);
+
+        logger.debug("[Vault] List Access Keys response:{}", json(listAccessKeysResult));
+
+        Set<String> activeAccessKeyIds = new HashSet<>();
+        for (AccessKeyMetadata accessKey : listAccessKeysResult.getAccessKeyMetadata()) {
+            if (accessKey.getStatus().equals(StatusType.Active.toString())) {
+                activeAccessKeyIds.add(accessKey.getAccessKeyId());
+            }
         }
+        return activeAccessKeyIds;
     }
 
     @Override
@@ -840,35 +1016,19 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
 
             GetUserRequest getUserRequest = ScalityModelConverter.toIAMGetUserRequest(userId);
 
-            logger.debug("[Vault] Get User Request:{}", new Gson().toJson(getUserRequest));
+            logger.debug("[Vault] Get User Request:{}", json(getUserRequest));
 
             GetUserResult getUserResult = iamClient.getUser(getUserRequest);
 
-            logger.debug("[Vault] Get User response:{}", new Gson().toJson(getUserResult));
+            logger.debug("[Vault] Get User response:{}", json(getUserResult));
 
             OsisUser osisUser = ScalityModelConverter.toOsisUser(getUserResult.getUser(), tenantId);
 
-            // List all user access keys and if all are inactive, mark user as inactive
-            ListAccessKeysRequest listAccessKeysRequest = ScalityModelConverter.toIAMListAccessKeysRequest(userId,
-                    DEFAULT_MAX_LIMIT);
-
-            logger.debug("[Vault] List Access Keys Request:{}", new Gson().toJson(listAccessKeysRequest));
-
-            ListAccessKeysResult listAccessKeysResult = iamClient.listAccessKeys(listAccessKeysRequest);
-
-            logger.debug("[Vault] List Access Keys response:{}", new Gson().toJson(listAccessKeysResult));
-
-            boolean isActive = false;
-            for (AccessKeyMetadata accessKey : listAccessKeysResult.getAccessKeyMetadata()) {
-                if (accessKey.getStatus().equals(StatusType.Active.toString())) {
-                    isActive = true;
-                    break;
-                }
-            }
-
-            osisUser.setActive(isActive);
+            // If all the user access keys are inactive, mark user as inactive
+            osisUser.setActive(userStatusIndex.isActive(tenantId, userId,
+                    () -> listActiveAccessKeyIds(iamClient, userId)));
 
-            logger.info("Get User response:{}", new Gson().toJson(osisUser));
+            logger.info("Get User response:{}", json(osisUser));
 
             return osisUser;
         } catch (Exception e) {
@@ -922,7 +1082,7 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
 
             GetUserRequest getUserRequest = ScalityModelConverter.toIAMGetUserRequest(userId);
 
-            logger.debug("[Vault] Get User Request:{}", new Gson().toJson(getUserRequest));
+            logger.debug("[Vault] Get User Request:{}", json(getUserRequest));
 
             GetUserResult getUserResult = iamClient.getUser(getUserRequest);
             logger.info("Head User response:: {}", getUserResult.getUser());
@@ -948,25 +1108,30 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
             ListAccessKeysRequest listAccessKeysRequest = ScalityModelConverter.toIAMListAccessKeysRequest(userId,
                     limit);
 
-            logger.debug("[Vault] List Access Keys Request:{}", new Gson().toJson(listAccessKeysRequest));
+            logger.debug("[Vault] List Access Keys Request:{}", json(listAccessKeysRequest));
 
             ListAccessKeysResult listAccessKeysResult = iam.listAccessKeys(listAccessKeysRequest);
 
-            logger.debug("[Vault] List Access Keys response:{}", new Gson().toJson(listAccessKeysResult));
+            logger.debug("[Vault] List Access Keys response:{}", json(listAccessKeysResult));
 
-            Map<String, String> secretKeyMap = new HashMap<>();
+            Map<String, String> repoKeys = new LinkedHashMap<>();
             for (AccessKeyMetadata accessKey : listAccessKeysResult.getAccessKeyMetadata()) {
-                String secretKey = retrieveSecretKey(
-                        ScalityModelConverter.toRepoKeyForCredentials(userId, accessKey.getAccessKeyId()));
+                repoKeys.put(ScalityModelConverter.toRepoKeyForCredentials(userId, accessKey.getAccessKeyId()),
+                        accessKey.getAccessKeyId());
+            }
+
+            // Retrieve the secret keys of the page at once
+            Map<String, String> secretKeyMap = new HashMap<>();
+            retrieveSecretKeys(repoKeys.keySet()).forEach((repoKey, secretKey) -> {
                 if (!StringUtils.isNullOrEmpty(secretKey)) {
-                    secretKeyMap.put(accessKey.getAccessKeyId(), secretKey);
+                    secretKeyMap.put(repoKeys.get(repoKey), secretKey);
                 }
-            }
+            });
 
-            // If no secret keys are present in Redis, create a new key and add it to
+            // If no secret key is stored in Redis, or none can be decrypted, create a new key and add it to
             // secretKeyMap
             if (secretKeyMap.isEmpty()) {
-                CreateAccessKeyResult createAccessKeyResult = createAccessKey(userId, iam);
+                CreateAccessKeyResult createAccessKeyResult = createAccessKey(tenantId, userId, iam);
 
                 AccessKeyMetadata newAccessKeyMetadata = ScalityModelConverter
                         .toAccessKeyMetadata(createAccessKeyResult.getAccessKey());
@@ -979,7 +1144,7 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
             PageOfS3Credentials pageOfS3Credentials = ScalityModelConverter
                     .toPageOfS3Credentials(listAccessKeysResult, offset, limit, tenant, secretKeyMap);
             logger.info("List S3 credentials  response:{}",
-                    ScalityModelConverter.maskSecretKey(new Gson().toJson(pageOfS3Credentials)));
+                    json(pageOfS3Credentials));
 
             pageOfS3Credentials.getItems()
                     .forEach(s3Credential -> s3Credential.setCdTenantId(tenant.getCdTenantIds().get(0)));
@@ -1012,11 +1177,11 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
         try {
             if (tenantIdOfCurrentUser == null || tenantIdOfCurrentUser.isEmpty()
                     || userIdOfCurrentUser == null || userIdOfCurrentUser.isEmpty()) {
-                logger.info("UpdatedCredentialStatus: Missing tenantId/userId in both parameter and request body, call Vault superAdmin API GetUserByAccessKey");
-                Map<String, String> result = getTenantIdAndUserIdByAccessKeyFromVault(accessKey);
+                logger.info("UpdatedCredentialStatus: Missing tenantId/userId in both parameter and request body, resolve the owner of the access key");
+                Map<String, String> result = getTenantIdAndUserIdByAccessKey(accessKey);
                 tenantIdOfCurrentUser = result.get("tenantId");
                 userIdOfCurrentUser = result.get("userId");
-                logger.info("UpdatedCredentialStatus: GetUserByAccessKey response received, tenant id: {}, user id: {}", tenantIdOfCurrentUser, userIdOfCurrentUser);
+                logger.info("UpdatedCredentialStatus: access key owner resolved, tenant id: {}, user id: {}", tenantIdOfCurrentUser, userIdOfCurrentUser);
             }
 
             Credentials tempCredentials = getCredentials(tenantIdOfCurrentUser);
@@ -1027,8 +1192,10 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
                     accessKey,
                     osisS3Credential.getActive());
             iam.updateAccessKey(updateAccessKeyRequest);
+            userStatusIndex.onAccessKeyStatusChanged(tenantIdOfCurrentUser, userIdOfCurrentUser, accessKey,
+                    Boolean.TRUE.equals(osisS3Credential.getActive()));
             OsisS3Credential newOsisS3Credential = this.getS3Credential(tenantIdOfCurrentUser, userIdOfCurrentUser, accessKey);
-            logger.info("UpdatedCredentialStatus response:{}", ScalityModelConverter.maskSecretKey(new Gson().toJson(newOsisS3Credential)));
+            logger.info("UpdatedCredentialStatus response:{}", json(newOsisS3Credential));
             return newOsisS3Credential;
         } catch (Exception e) {
             if (isAdminPolicyError(e)) {
@@ -1056,35 +1223,49 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
 
             ListUsersRequest listUsersRequest = ScalityModelConverter.toIAMListUsersRequest(offset, limit);
 
-            logger.debug("[Vault] List Users Request:{}", new Gson().toJson(listUsersRequest));
+            logger.debug("[Vault] List Users Request:{}", json(listUsersRequest));
 
             ListUsersResult listUsersResult = iam.listUsers(listUsersRequest);
 
-            logger.debug("[Vault] List Users response:{}", new Gson().toJson(listUsersResult));
+            logger.debug("[Vault] List Users response:{}", json(listUsersResult));
 
             PageOfUsers pageOfUsers = ScalityModelConverter.toPageOfUsers(listUsersResult, offset, limit, tenantId);
 
+            // A user is inactive if all its keys are inactive. The status of the users missing from the user
+            // status index is loaded by listing their access keys concurrently. The status of a user whose keys
+            // are not listed, in time or at all, is unknown (null) rather than failing the page, except when the
+            // admin policy must be repaired.
+            List<OsisUser> unindexedUsers = new ArrayList<>();
             for (OsisUser osisUser : pageOfUsers.getItems()) {
-                // List all user access keys and if all are inactive, mark user as inactive
-                ListAccessKeysRequest listAccessKeysRequest = ScalityModelConverter
-                        .toIAMListAccessKeysRequest(osisUser.getUserId(), DEFAULT_MAX_LIMIT);
-
-                logger.debug("[Vault] List Access Keys Request:{}", new Gson().toJson(listAccessKeysRequest));
-
-                ListAccessKeysResult listAccessKeysResult = iam.listAccessKeys(listAccessKeysRequest);
-
-                logger.debug("[Vault] List Access Keys response:{}", new Gson().toJson(listAccessKeysResult));
-
-                boolean isActive = false;
-                for (AccessKeyMetadata accessKey : listAccessKeysResult.getAccessKeyMetadata()) {
-                    if (accessKey.getStatus().equals(StatusType.Active.toString())) {
-                        isActive = true;
-                        break;
+                Boolean active = userStatusIndex.get(tenantId, osisUser.getUserId());
+                if (active == null) {
+                    unindexedUsers.add(osisUser);
+                } else {
+                    osisUser.setActive(active);
+                }
+            }
+            List<RuntimeException> adminPolicyErrors = new CopyOnWriteArrayList<>();
+            List<Boolean> userStatuses = fanOutExecutor.map(unindexedUsers, osisUser -> {
+                try {
+                    return userStatusIndex.isActive(tenantId, osisUser.getUserId(),
+                            () -> listActiveAccessKeyIds(iam, osisUser.getUserId()));
+                } catch (RuntimeException e) {
+                    if (isAdminPolicyError(e)) {
+                        adminPolicyErrors.add(e);
+                    } else {
+                        logger.warn("ListUsers error. Status of user {} unknown. Error details: ",
+                                osisUser.getUserId(), e);
                     }
+                    return null;
                 }
-                osisUser.setActive(isActive);
+            }, osisUser -> null);
+            if (!adminPolicyErrors.isEmpty()) {
+                throw adminPolicyErrors.get(0);
+            }
+            for (int index = 0; index < unindexedUsers.size(); index++) {
+                unindexedUsers.get(index).setActive(userStatuses.get(index));
             }
-            logger.info("List Users response:{}", new Gson().toJson(pageOfUsers));
+            logger.info("List Users response:{}", json(pageOfUsers));
 
             return pageOfUsers;
         } catch (Exception e) {
@@ -1125,21 +1306,34 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
             ListAccessKeysRequest listAccessKeysRequest = ScalityModelConverter.toIAMListAccessKeysRequest(userId,
                     DEFAULT_MAX_LIMIT);
 
-            logger.debug("[Vault] List Access Keys Request:{}", new Gson().toJson(listAccessKeysRequest));
+            logger.debug("[Vault] List Access Keys Request:{}", json(listAccessKeysRequest));
 
             ListAccessKeysResult listAccessKeysResult = iam.listAccessKeys(listAccessKeysRequest);
 
-            logger.debug("[Vault] List Access Keys response:{}", new Gson().toJson(listAccessKeysResult));
+            logger.debug("[Vault] List Access Keys response:{}", json(listAccessKeysResult));
 
+            List<String> accessKeyIds = new ArrayList<>();
             for (AccessKeyMetadata accessKey : listAccessKeysResult.getAccessKeyMetadata()) {
-                // Update each access key of the user to active/inactive
-                UpdateAccessKeyRequest updateAccessKeyRequest = ScalityModelConverter.toIAMUpdateAccessKeyRequest(
-                        userId,
-                        accessKey.getAccessKeyId(), osisUser.getActive());
-                iam.updateAccessKey(updateAccessKeyRequest);
+                accessKeyIds.add(accessKey.getAccessKeyId());
             }
 
-            logger.info("Updated user response:{}", ScalityModelConverter.maskSecretKey(new Gson().toJson(osisUser)));
+            // Update the access keys of the user to active/inactive concurrently, then retry the failed ones
+            Map<String, Exception> failedAccessKeys = updateAccessKeys(iam, userId, accessKeyIds, osisUser.getActive());
+            for (int retry = 0; !failedAccessKeys.isEmpty() && retry < appEnv.getAccessKeyUpdateRetries(); retry++) {
+                logger.warn("Retrying the update of {} of {} access keys of user {}",
+                        failedAccessKeys.size(), accessKeyIds.size(), userId);
+                failedAccessKeys = updateAccessKeys(iam, userId, new ArrayList<>(failedAccessKeys.keySet()),
+                        osisUser.getActive());
+            }
+            if (!failedAccessKeys.isEmpty()) {
+                throw new IllegalStateException(
+                        toAccessKeyUpdateFailureMessage(userId, accessKeyIds.size(), failedAccessKeys));
+            }
+
+            userStatusIndex.put(tenantId, userId, Boolean.TRUE.equals(osisUser.getActive())
+                    ? new HashSet<>(accessKeyIds) : Collections.emptySet());
+
+            logger.info("Updated user response:{}", json(osisUser));
             return osisUser;
         } catch (Exception e) {
 
@@ -1152,11 +1346,65 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
                 }
             }
 
+            // some access keys may have been updated
+            userStatusIndex.invalidate(tenantId, userId);
             logger.error("Update User error. Error details: ", e);
             throw new VaultServiceException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
         }
     }
 
+    /**
+     * Update the status of access keys of a user concurrently.
+     *
+     * @param iam the IAM client of the tenant
+     * @param userId the user id
+     * @param accessKeyIds the access key IDs
+     * @param active the new status
+     * @return the error of every access key which could not be updated, in the order of the access keys
+     * @throws Exception the error of an access key if it is an admin policy error, to regenerate the policy
+     */
+    private Map<String, Exception> updateAccessKeys(AmazonIdentityManagement iam, String userId,
+                                                    List<String> accessKeyIds, Boolean active) throws Exception {
+        List<Exception> errors = fanOutExecutor.map(accessKeyIds,
+                accessKeyId -> {
+                    try {
+                        iam.updateAccessKey(
+                                ScalityModelConverter.toIAMUpdateAccessKeyRequest(userId, accessKeyId, active));
+                        return null;
+                    } catch (Exception e) {
+                        return e;
+                    }
+                },
+                accessKeyId -> new TimeoutException("The access key update did not complete in time"));
+
+        Map<String, Exception> failedAccessKeys = new LinkedHashMap<>();
+        for (int index = 0; index < accessKeyIds.size(); index++) {
+            Exception error = errors.get(index);
+            if (error == null) {
+                continue;
+            }
+            if (isAdminPolicyError(error)) {
+                throw error;
+            }
+            logger.debug("[Vault] Update Access Key {} of user {} failed. Error details: {}",
+                    accessKeyIds.get(index), userId, error.getMessage());
+            failedAccessKeys.put(accessKeyIds.get(index), error);
+        }
+        return failedAccessKeys;
+    }
+
+    private static String toAccessKeyUpdateFailureMessage(String userId, int accessKeyCount,
+                                                          Map<String, Exception> failedAccessKeys) {
+        StringBuilder message = new StringBuilder("Failed to update ")
+                .append(failedAccessKeys.size()).append(" of ").append(accessKeyCount)
+                .append(" access keys of user ").append(userId).append(':');
+        for (Map.Entry<String, Exception> failedAccessKey : failedAccessKeys.entrySet()) {
+            message.append(' ').append(failedAccessKey.getKey())
+                    .append(" (").append(failedAccessKey.getValue().getMessage()).append(')');
+        }
+        return message.toString();
+    }
+
     @Override
     public Information getInformation(String domain) {
         logger.info("Get Information request received:: domain:{}", domain);
@@ -1172,7 +1420,7 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
                 .logoUri(ScalityUtils.getLogoUri(domain))
                 .services(new InformationServices().iam(domain + IAM_PREFIX).s3(appEnv.getS3Endpoint()))
                 .status(Information.StatusEnum.NORMAL);
-        logger.info("Get Information response: {}", new Gson().toJson(information));
+        logger.info("Get Information response: {}", json(information));
         return information;
     }
 
@@ -1185,24 +1433,23 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
     public PageOfOsisBucketMeta getBucketList(String tenantId, long offset, long limit) {
         try {
             logger.info("Get bucket list request received:: tenant ID:{}, offset:{}, limit:{}", tenantId, offset, limit);
-            Credentials tempCredentials = getCredentials(tenantId);
-            final AmazonS3 s3Client = this.s3.getS3Client(tempCredentials,
-                    appEnv.getRegionInfo().get(0));
-
-            // Get account info by tenant ID for canonical ID
-            GetAccountRequestDTO getAccountRequest = ScalityModelConverter.toGetAccountRequestWithID(tenantId);
-            logger.debug("[Vault]GetAccount request:{}", new Gson().toJson(getAccountRequest));
 
-            AccountData accountData = vaultAdmin.getAccount(getAccountRequest);
-            logger.debug("[Vault]GetAccount response:{}", new Gson().toJson(accountData));
-
-            //s3 listBucket has no pagination, so list all
-            List<Bucket> buckets = s3Client.listBuckets();
-            logger.debug("[S3] List all Buckets size:{}", buckets.size());
+            // The pages of a listing are sliced from one short-lived snapshot of the tenant buckets
+            @SuppressWarnings("unchecked")
+            Cache<String, BucketListSnapshot> bucketListCache = cacheFactory.getCache(NAME_BUCKET_LIST_CACHE);
+            BucketListSnapshot snapshot = bucketListCache != null ? bucketListCache.get(tenantId) : null;
+            if (snapshot == null) {
+                snapshot = listBuckets(tenantId);
+                if (bucketListCache != null) {
+                    bucketListCache.put(tenantId, snapshot);
+                }
+            } else {
+                logger.debug("[Cache] Bucket list snapshot of tenant {} found, size:{}", tenantId, snapshot.size());
+            }
 
             PageOfOsisBucketMeta pageOfOsisBucketMeta = ScalityModelConverter.toPageOfOsisBucketMeta(
-                    buckets, accountData.getCanonicalId(), offset, limit);
-            logger.info("List Buckets response:{}", new Gson().toJson(pageOfOsisBucketMeta));
+                    snapshot, offset, limit);
+            logger.info("List Buckets response:{}", json(pageOfOsisBucketMeta));
 
             return pageOfOsisBucketMeta;
         } catch (Exception e) {
@@ -1227,6 +1474,31 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
 
     }
 
+    /**
+     * List all the buckets of a tenant.
+     *
+     * @param tenantId the tenant id
+     * @return the bucket list snapshot
+     */
+    private BucketListSnapshot listBuckets(String tenantId) {
+        Credentials tempCredentials = getCredentials(tenantId);
+        final AmazonS3 s3Client = this.s3.getS3Client(tempCredentials,
+                appEnv.getRegionInfo().get(0));
+
+        // Get account info by tenant ID for canonical ID
+        GetAccountRequestDTO getAccountRequest = ScalityModelConverter.toGetAccountRequestWithID(tenantId);
+        logger.debug("[Vault]GetAccount request:{}", json(getAccountRequest));
+
+        AccountData accountData = vaultAdmin.getAccount(getAccountRequest);
+        logger.debug("[Vault]GetAccount response:{}", json(accountData));
+
+        //s3 listBucket has no pagination, so list all
+        List<Bucket> buckets = s3Client.listBuckets();
+        logger.debug("[S3] List all Buckets size:{}", buckets.size());
+
+        return BucketListSnapshot.of(accountData.getCanonicalId(), buckets);
+    }
+
     @Override
     public OsisUsage getOsisUsage(Optional<String> tenantId, Optional<String> userId) {
         throw new NotImplementedException();
@@ -1238,7 +1510,7 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
         AnonymousUser anonymousUser = new AnonymousUser()
                 .id(ANONYMOUS_USER_ID)
                 .name(ANONYMOUS_USER_NAME);
-        logger.trace("Get Anonymous User response, {}", new Gson().toJson(anonymousUser));
+        logger.trace("Get Anonymous User response, {}", json(anonymousUser));
         return anonymousUser;
     }
 
@@ -1273,6 +1545,47 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
         return credentials;
     }
 
+    /**
+     * Check that a tenant can serve the OSIS requests: the OSIS role can be assumed and its admin policy grants the
+     * IAM access. The role and the admin policy are set up if they are missing.
+     *
+     * @param account the account of the tenant
+     * @return PROVISIONED if the role or the admin policy was set up, READY otherwise
+     * @throws Exception if the tenant could not be made ready
+     */
+    public TenantReadinessJob.Outcome ensureTenantReady(AccountData account) throws Exception {
+        String tenantId = account.getId();
+        boolean provisioned = false;
+        AssumeRoleRequest assumeRoleRequest = ScalityModelConverter.getAssumeRoleRequestForAccount(tenantId,
+                appEnv.getAssumeRoleName());
+        Credentials credentials;
+        try {
+            credentials = vaultAdmin.getTempAccountCredentials(assumeRoleRequest);
+        } catch (VaultServiceException e) {
+            if (!ACCESS_DENIED.equals(e.getErrorCode())) {
+                throw e;
+            }
+            logger.info("[Readiness] OSIS role of tenant {} is missing: {}", tenantId, e.getReason());
+            asyncScalityOsisService.setupAssumeRole(tenantId, account.getName());
+            provisioned = true;
+            credentials = vaultAdmin.getTempAccountCredentials(assumeRoleRequest);
+        }
+
+        AmazonIdentityManagement iam = vaultAdmin.getIAMClient(credentials, appEnv.getRegionInfo().get(0));
+        try {
+            iam.getPolicy(ScalityModelConverter.toGetAdminPolicyRequest(tenantId));
+        } catch (Exception e) {
+            if (!isAdminPolicyError(e)
+                    && !(e instanceof com.amazonaws.services.identitymanagement.model.NoSuchEntityException)) {
+                throw e;
+            }
+            logger.info("[Readiness] Admin policy of tenant {} is missing: {}", tenantId, e.getMessage());
+            generateAdminPolicy(tenantId);
+            provisioned = true;
+        }
+        return provisioned ? TenantReadinessJob.Outcome.PROVISIONED : TenantReadinessJob.Outcome.READY;
+    }
+
     /**
      * Create osis credential osis s 3 credential.
      *
@@ -1286,7 +1599,7 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
     public OsisS3Credential createOsisCredential(String tenantId, String userId, String cdTenantId, String username,
             AmazonIdentityManagement iam) throws Exception {
 
-        CreateAccessKeyResult createAccessKeyResult = createAccessKey(userId, iam);
+        CreateAccessKeyResult createAccessKeyResult = createAccessKey(tenantId, userId, iam);
 
         return ScalityModelConverter.toOsisS3Credentials(cdTenantId,
                 tenantId,
@@ -1297,15 +1610,17 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
     /**
      * Create access key on iam.
      *
-     * @param userId the user id
-     * @param iam    the iam
+     * @param tenantId the tenant id
+     * @param userId   the user id
+     * @param iam      the iam
      * @return the iam access key
      */
-    private CreateAccessKeyResult createAccessKey(String userId, AmazonIdentityManagement iam) throws Exception {
+    private CreateAccessKeyResult createAccessKey(String tenantId, String userId, AmazonIdentityManagement iam)
+            throws Exception {
 
         CreateAccessKeyRequest createAccessKeyRequest = ScalityModelConverter.toCreateUserAccessKeyRequest(userId);
 
-        logger.debug("[Vault] Create User Access Key Request:{}", new Gson().toJson(createAccessKeyRequest));
+        logger.debug("[Vault] Create User Access Key Request:{}", json(createAccessKeyRequest));
 
         CreateAccessKeyResult createAccessKeyResult = iam.createAccessKey(createAccessKeyRequest);
 
@@ -1316,6 +1631,11 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
                         createAccessKeyResult.getAccessKey().getAccessKeyId()),
                 createAccessKeyResult.getAccessKey().getSecretAccessKey());
 
+        cacheAccessKeyOwner(createAccessKeyResult.getAccessKey().getAccessKeyId(),
+                new AccessKeyOwner(tenantId, userId));
+
+        userStatusIndex.onAccessKeyCreated(tenantId, userId, createAccessKeyResult.getAccessKey().getAccessKeyId());
+
         return createAccessKeyResult;
     }
 
@@ -1328,10 +1648,10 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
 
             /** Create a new policy with necessary permissions **/
             CreatePolicyRequest createPolicyRequest = ScalityModelConverter.toCreateUserPolicyRequest(tenantId);
-            logger.debug("[Vault] Create Policy Request:{}", new Gson().toJson(createPolicyRequest));
+            logger.debug("[Vault] Create Policy Request:{}", json(createPolicyRequest));
 
             CreatePolicyResult createPolicyResult = iam.createPolicy(createPolicyRequest);
-            logger.debug("[Vault] Create Policy response:{}", new Gson().toJson(createPolicyResult));
+            logger.debug("[Vault] Create Policy response:{}", json(createPolicyResult));
 
             userPolicy = createPolicyResult.getPolicy();
 
@@ -1343,11 +1663,11 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
         try {
             GetPolicyRequest getPolicyRequest = ScalityModelConverter.toGetPolicyRequest(tenantId);
 
-            logger.debug("[Vault] Get Policy Request:{}", new Gson().toJson(getPolicyRequest));
+            logger.debug("[Vault] Get Policy Request:{}", json(getPolicyRequest));
 
             GetPolicyResult getPolicyResult = iam.getPolicy(getPolicyRequest);
 
-            logger.debug("[Vault] Get Policy response:{}", new Gson().toJson(getPolicyResult));
+            logger.debug("[Vault] Get Policy response:{}", json(getPolicyResult));
 
             return getPolicyResult.getPolicy();
 
@@ -1357,8 +1677,10 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
     }
 
     private void generateAdminPolicy(String tenantId) throws Exception {
-        AccountData account = vaultAdmin.getAccount(ScalityModelConverter.toGetAccountRequestWithID(tenantId));
-        asyncScalityOsisService.setupAdminPolicy(tenantId, account.getName(), appEnv.getAssumeRoleName());
+        adminPolicyRepairCoordinator.repair(tenantId, () -> {
+            AccountData account = vaultAdmin.getAccount(ScalityModelConverter.toGetAccountRequestWithID(tenantId));
+            asyncScalityOsisService.setupAdminPolicy(tenantId, account.getName(), appEnv.getAssumeRoleName());
+        });
     }
 
     private boolean isAdminPolicyError(Exception e) {
@@ -1376,7 +1698,7 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
         // Using `repoKey` for Associated Data during encryption
         logger.debug("[Cache] Store Secret Key on cache. Key:{}", repoKey);
         SecretKeyRepoData encryptedRepoData = cipherFactory.getCipher().encrypt(secretAccessKey,
-                cipherFactory.getLatestSecretCipherKey(),
+                cipherFactory.getLatestSecretKey(),
                 repoKey);
 
         encryptedRepoData.setKeyID(cipherFactory.getLatestCipherID());
@@ -1402,22 +1724,90 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
             repoVal = springLocalCache.get(repoKey);
         }
 
-        String secretKey = null;
+        return repoVal != null ? decryptSecretKey(repoKey, repoVal) : null;
+    }
 
-        if (repoVal != null) {
-            try {
-                // Using `repoKey` for Associated Data during decryption
-                secretKey = cipherFactory.getCipherByID(repoVal.getKeyID())
-                        .decrypt(repoVal,
-                                cipherFactory.getSecretCipherKeyByID(repoVal.getKeyID()),
-                                repoKey);
+    /**
+     * Retrieve the secret keys of several repo keys, with a single Redis round trip.
+     *
+     * @param repoKeys the repo keys
+     * @return the secret keys by repo key in the order of the repo keys, a key which is not stored or cannot be
+     * decrypted is not listed
+     */
+    private Map<String, String> retrieveSecretKeys(Collection<String> repoKeys) throws Exception {
+        logger.debug("[Cache] Retrieve Secret Keys from cache. Keys:{}", repoKeys);
+        List<String> keys = new ArrayList<>(repoKeys);
+        List<SecretKeyRepoData> repoVals;
+        if (REDIS_SPRING_CACHE_TYPE.equalsIgnoreCase(appEnv.getSpringCacheType())) {
+            repoVals = scalityRedisRepository.multiGet(keys);
+        } else {
+            repoVals = new ArrayList<>(keys.size());
+            for (String repoKey : keys) {
+                repoVals.add(springLocalCache.get(repoKey));
+            }
+        }
 
-                logger.debug("[Cache] Retrieve Secret Key successful");
-            } catch (Exception e) {
-                logger.error("Error: Unable to decrypt secret key data for Redis key: {}. Error details: {}", repoKey, e.getMessage());
-                logger.debug("Full stack trace:", e);
-                deleteSecretKey(repoKey);
+        List<Integer> fetchedIndexes = new ArrayList<>(keys.size());
+        for (int index = 0; index < keys.size(); index++) {
+            if (repoVals.get(index) != null) {
+                fetchedIndexes.add(index);
+            }
+        }
+
+        List<String> decryptedKeys;
+        if (fetchedIndexes.size() > 1) {
+            Function<Integer, String> decrypt = index -> {
+                try {
+                    return decryptSecretKey(keys.get(index), repoVals.get(index));
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+            // Decrypt the page on the crypto pool, a value which is not decrypted in time is decrypted on the
+            // request thread: left out, it would be taken for a secret key which is not stored
+            decryptedKeys = cryptoExecutor.map(fetchedIndexes, decrypt, decrypt);
+        } else {
+            decryptedKeys = new ArrayList<>(fetchedIndexes.size());
+            for (Integer index : fetchedIndexes) {
+                decryptedKeys.add(decryptSecretKey(keys.get(index), repoVals.get(index)));
+            }
+        }
+
+        Map<String, String> secretKeys = new LinkedHashMap<>();
+        for (int position = 0; position < fetchedIndexes.size(); position++) {
+            String secretKey = decryptedKeys.get(position);
+            if (secretKey != null) {
+                secretKeys.put(keys.get(fetchedIndexes.get(position)), secretKey);
+            }
+        }
+        return secretKeys;
+    }
+
+    /**
+     * Decrypt a stored secret key, the stored value is deleted if it cannot be decrypted.
+     *
+     * @param repoKey the repo key
+     * @param repoVal the stored value
+     * @return the secret key, null if it cannot be decrypted
+     */
+    private String decryptSecretKey(String repoKey, SecretKeyRepoData repoVal) throws Exception {
+        String secretKey = null;
+        try {
+            // Using `repoKey` for Associated Data during decryption
+            secretKey = cipherFactory.getCipherByID(repoVal.getKeyID())
+                    .decrypt(repoVal,
+                            cipherFactory.getSecretKeyByID(repoVal.getKeyID()),
+                            repoKey);
+
+            logger.debug("[Cache] Retrieve Secret Key successful");
+        } catch (Exception e) {
+            if (e instanceof InterruptedException || Thread.currentThread().isInterrupted()) {
+                // the decryption timed out on the crypto pool, the stored value is not at fault
+                throw e;
             }
+            logger.error("Error: Unable to decrypt secret key data for Redis key: {}. Error details: {}", repoKey, e.getMessage());
+            logger.debug("Full stack trace:", e);
+            deleteSecretKey(repoKey);
         }
         return secretKey;
     }
@@ -1434,18 +1824,68 @@ public class ScalityOsisServiceImpl implements ScalityOsisService {
         logger.debug("[Cache] Delete Secret Key from cache successful");
     }
 
-    private Map<String, String> getTenantIdAndUserIdByAccessKeyFromVault(String accessKey) {
+    /**
+     * Get an account by ID from the tenant directory, or from Vault if the account is not in the directory.
+     *
+     * @param accountId the account id
+     * @return the account
+     */
+    private AccountData getAccountWithID(String accountId) {
+        AccountData accountData = tenantDirectory.getAccount(accountId);
+        if (accountData != null) {
+            logger.debug("[TenantDirectory] Account {} found", accountId);
+            return accountData;
+        }
+        GetAccountRequestDTO getAccountRequest = ScalityModelConverter.toGetAccountRequestWithID(accountId);
+        logger.debug("[Vault]GetAccount request:{}", json(getAccountRequest));
+        accountData = vaultAdmin.getAccount(getAccountRequest);
+        logger.debug("[Vault]GetAccount response:{}", json(accountData));
+        tenantDirectory.put(accountData);
+        return accountData;
+    }
+
+    /**
+     * List a page of all the accounts, for the scans of the tenant directory and the tenant readiness job.
+     *
+     * @param marker the marker of the page, null for the first page
+     * @param pageSize the max number of accounts of the page
+     * @return the page of accounts
+     */
+    private ListAccountsResponseDTO listAccountsPage(String marker, int pageSize) {
+        ListAccountsRequestDTO listAccountsRequest = ScalityModelConverter.toScalityListAccountsRequest(pageSize);
+        listAccountsRequest.setMarker(marker);
+        return vaultAdmin.listAccounts(listAccountsRequest);
+    }
+
+    private Map<String, String> getTenantIdAndUserIdByAccessKey(String accessKey) {
 
-        GetUserByAccessKeyRequestDTO getUserByAccessKeyRequest = ScalityModelConverter.toScalityGetUserByAccessKeyRequest(accessKey);
+        @SuppressWarnings("unchecked")
+        Cache<String, AccessKeyOwner> accessKeyOwnerCache = cacheFactory.getCache(NAME_ACCESS_KEY_OWNER_CACHE);
+        AccessKeyOwner accessKeyOwner = accessKeyOwnerCache != null ? accessKeyOwnerCache.get(accessKey) : null;
+        if (accessKeyOwner == null) {
+            // call Vault superAdmin API GetUserByAccessKey
+            GetUserByAccessKeyRequestDTO getUserByAccessKeyRequest = ScalityModelConverter.toScalityGetUserByAccessKeyRequest(accessKey);
 
-        GetUserByAccessKeyResponseDTO getUserByAccessKeyResponse = vaultAdmin.getUserByAccessKey(getUserByAccessKeyRequest);
+            GetUserByAccessKeyResponseDTO getUserByAccessKeyResponse = vaultAdmin.getUserByAccessKey(getUserByAccessKeyRequest);
 
-        String tenantId = getUserByAccessKeyResponse.getData().getParentId();
-        String userId = getUserByAccessKeyResponse.getData().getName();
+            accessKeyOwner = new AccessKeyOwner(getUserByAccessKeyResponse.getData().getParentId(),
+                    getUserByAccessKeyResponse.getData().getName());
+            cacheAccessKeyOwner(accessKey, accessKeyOwner);
+        } else {
+            logger.debug("[Cache] Owner of access key {} found", accessKey);
+        }
 
         Map<String, String> result = new HashMap<>();
-        result.put("tenantId", tenantId);
-        result.put("userId", userId);
+        result.put("tenantId", accessKeyOwner.getTenantId());
+        result.put("userId", accessKeyOwner.getUserId());
         return result;
     }
+
+    @SuppressWarnings("unchecked")
+    private void cacheAccessKeyOwner(String accessKey, AccessKeyOwner accessKeyOwner) {
+        Cache<String, AccessKeyOwner> accessKeyOwnerCache = cacheFactory.getCache(NAME_ACCESS_KEY_OWNER_CACHE);
+        if (accessKeyOwnerCache != null) {
+            accessKeyOwnerCache.put(accessKey, accessKeyOwner);
+        }
+    }
 }
@@ -0,0 +1,227 @@
+/**
+ *Copyright 2021 Scality, Inc.
+ *SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.utils;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the repairs of the admin policy of the tenants, at most one at a time per tenant.
+ * <p>
+ * The first request of a tenant needing a repair runs it, the requests of the same tenant arriving meanwhile wait
+ * for its outcome instead of repairing the policy concurrently. After a failed repair the repairs of the tenant are
+ * refused for an exponential backoff, from `initialBackoffInMS` doubled on each consecutive failure up to
+ * `maxBackoffInMS`, and a successful repair resets it.
+ */
+public class AdminPolicyRepairCoordinator implements MeterBinder {
+    private static final Logger logger = LoggerFactory.getLogger(AdminPolicyRepairCoordinator.class);
+
+    private final long initialBackoffInMS;
+
+    private final long maxBackoffInMS;
+
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    private final Map<String, Backoff> backoffs = new ConcurrentHashMap<>();
+
+    private final AtomicLong successes = new AtomicLong();
+
+    private final AtomicLong failures = new AtomicLong();
+
+    private final AtomicLong totalTimeInNanos = new AtomicLong();
+
+    private final AtomicLong joined = new AtomicLong();
+
+    private final AtomicLong backedOff = new AtomicLong();
+
+    /**
+     * Instantiates a new Admin policy repair coordinator.
+     *
+     * @param initialBackoffInMS the backoff after the first failed repair of a tenant
+     * @param maxBackoffInMS the max backoff after consecutive failed repairs of a tenant
+     */
+    public AdminPolicyRepairCoordinator(long initialBackoffInMS, long maxBackoffInMS) {
+        this.initialBackoffInMS = initialBackoffInMS;
+        this.maxBackoffInMS = maxBackoffInMS;
+    }
+
+    /**
+     * Repair the admin policy of a tenant, or wait for the repair of the tenant already running.
+     *
+     * @param tenantId the tenant id
+     * @param repair the repair of the admin policy
+     * @throws Exception the failure of the repair, or an IllegalStateException if the tenant is backing off
+     */
+    public void repair(String tenantId, Repair repair) throws Exception {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        CompletableFuture<Void> running = inFlight.putIfAbsent(tenantId, future);
+        if (running != null) {
+            joined.incrementAndGet();
+            logger.debug("Waiting for the admin policy repair of tenant {}", tenantId);
+            await(running);
+            return;
+        }
+
+        try {
+            Backoff backoff = backoffs.get(tenantId);
+            if (backoff != null && System.nanoTime() < backoff.notBefore) {
+                backedOff.incrementAndGet();
+                IllegalStateException e = new IllegalStateException("Admin policy repair of tenant " + tenantId
+                        + " is backing off after " + backoff.failures + " failures: "
+                        + backoff.lastFailure.getMessage(), backoff.lastFailure);
+                future.completeExceptionally(e);
+                throw e;
+            }
+
+            long start = System.nanoTime();
+            try {
+                repair.run();
+            } catch (Exception e) {
+                recordFailure(tenantId, e, System.nanoTime() - start);
+                future.completeExceptionally(e);
+                throw e;
+            }
+            recordSuccess(tenantId, System.nanoTime() - start);
+            future.complete(null);
+        } finally {
+            inFlight.remove(tenantId, future);
+        }
+    }
+
+    private static void await(CompletableFuture<Void> running) throws Exception {
+        try {
+            running.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        }
+    }
+
+    private void recordSuccess(String tenantId, long durationInNanos) {
+        successes.incrementAndGet();
+        totalTimeInNanos.addAndGet(durationInNanos);
+        backoffs.remove(tenantId);
+        logger.info("Admin policy of tenant {} repaired in {}ms", tenantId,
+                TimeUnit.NANOSECONDS.toMillis(durationInNanos));
+    }
+
+    private void recordFailure(String tenantId, Exception e, long durationInNanos) {
+        failures.incrementAndGet();
+        totalTimeInNanos.addAndGet(durationInNanos);
+        Backoff previous = backoffs.get(tenantId);
+        int failureCount = previous == null ? 1 : previous.failures + 1;
+        long backoffInMS = getBackoff(failureCount);
+        Backoff backoff = new Backoff(failureCount, e,
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffInMS));
+        backoffs.put(tenantId, backoff);
+        logger.warn("Admin policy repair of tenant {} failed {} times, next repair in {}ms: {}",
+                tenantId, backoff.failures, backoffInMS, e.getMessage());
+    }
+
+    /**
+     * Returns the backoff after consecutive failed repairs
+     *
+     * @param failureCount the number of consecutive failed repairs
+     * @return the backoff in ms
+     */
+    long getBackoff(int failureCount) {
+        int shift = Math.min(failureCount - 1, 30);
+        return Math.min(initialBackoffInMS << shift, maxBackoffInMS);
+    }
+
+    /**
+     * Returns the number of tenants backing off
+     *
+     * @return the number of tenants
+     */
+    public int getBackingOffTenants() {
+        long now = System.nanoTime();
+        return (int) backoffs.values().stream().filter(backoff -> now < backoff.notBefore).count();
+    }
+
+    public long getSuccesses() {
+        return successes.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    public long getJoined() {
+        return joined.get();
+    }
+
+    public long getBackedOff() {
+        return backedOff.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionTimer.builder("osis.admin.policy.repair", this,
+                        c -> c.successes.get() + c.failures.get(),
+                        c -> c.totalTimeInNanos.get(), TimeUnit.NANOSECONDS)
+                .description("Repairs of the admin policy of a tenant")
+                .register(registry);
+        FunctionCounter.builder("osis.admin.policy.repair.requests", successes, AtomicLong::get)
+                .tag("result", "success")
+                .description("Repairs which succeeded")
+                .register(registry);
+        FunctionCounter.builder("osis.admin.policy.repair.requests", failures, AtomicLong::get)
+                .tag("result", "failure")
+                .description("Repairs which failed")
+                .register(registry);
+        FunctionCounter.builder("osis.admin.policy.repair.requests", joined, AtomicLong::get)
+                .tag("result", "joined")
+                .description("Requests which waited for the repair of their tenant already running")
+                .register(registry);
+        FunctionCounter.builder("osis.admin.policy.repair.requests", backedOff, AtomicLong::get)
+                .tag("result", "backoff")
+                .description("Repairs refused while their tenant was backing off")
+                .register(registry);
+        Gauge.builder("osis.admin.policy.repair.backoff.tenants", this,
+                        AdminPolicyRepairCoordinator::getBackingOffTenants)
+                .description("Tenants whose repairs are backing off")
+                .register(registry);
+    }
+
+    /**
+     * The repair of the admin policy of a tenant.
+     */
+    @FunctionalInterface
+    public interface Repair {
+        void run() throws Exception;
+    }
+
+    /**
+     * The consecutive failed repairs of a tenant. Only written by the repair of the tenant in flight.
+     */
+    private static final class Backoff {
+        private final int failures;
+        private final Exception lastFailure;
+        private final long notBefore;
+
+        Backoff(int failures, Exception lastFailure, long notBefore) {
+            this.failures = failures;
+            this.lastFailure = lastFailure;
+            this.notBefore = notBefore;
+        }
+    }
+}
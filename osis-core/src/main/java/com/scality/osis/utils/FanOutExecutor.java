@@ -0,0 +1,202 @@
+/**
+ *Copyright 2021 Scality, Inc.
+ *SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Runs the per-item platform calls of a request (e.g. one `listAccessKeys` per user of a page) concurrently.
+ * <p>
+ * The concurrency is bounded twice: by a global limit shared by all the requests, which is also the pool size,
+ * and by a per-request limit so that one large page cannot take all the threads. The results are returned in the
+ * order of the items. An item whose call fails, or which does not complete before the request timeout, gets the
+ * fallback value instead of failing the whole request.
+ */
+public class FanOutExecutor {
+    private static final Logger logger = LoggerFactory.getLogger(FanOutExecutor.class);
+
+    private static final String DEFAULT_THREAD_NAME_PREFIX = "osis-fanout-";
+
+    private final int requestConcurrency;
+
+    private final long timeoutInMS;
+
+    private final Semaphore globalPermits;
+
+    private final ExecutorService executor;
+
+    /**
+     * Instantiates a new Fan out executor.
+     *
+     * @param globalConcurrency the max number of calls in flight for all the requests
+     * @param requestConcurrency the max number of calls in flight for one request
+     * @param timeoutInMS the time budget of one request
+     */
+    public FanOutExecutor(int globalConcurrency, int requestConcurrency, long timeoutInMS) {
+        this(DEFAULT_THREAD_NAME_PREFIX, globalConcurrency, requestConcurrency, timeoutInMS);
+    }
+
+    /**
+     * Instantiates a new Fan out executor with its own thread names, e.g. for a dedicated pool.
+     *
+     * @param threadNamePrefix the prefix of the thread names
+     * @param globalConcurrency the max number of calls in flight for all the requests
+     * @param requestConcurrency the max number of calls in flight for one request
+     * @param timeoutInMS the time budget of one request
+     */
+    public FanOutExecutor(String threadNamePrefix, int globalConcurrency, int requestConcurrency, long timeoutInMS) {
+        if (globalConcurrency <= 0 || requestConcurrency <= 0 || timeoutInMS <= 0) {
+            throw new IllegalArgumentException("Illegal fan-out limits: " + globalConcurrency + ", "
+                    + requestConcurrency + ", " + timeoutInMS);
+        }
+        this.requestConcurrency = requestConcurrency;
+        this.timeoutInMS = timeoutInMS;
+        this.globalPermits = new Semaphore(globalConcurrency);
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(globalConcurrency, globalConcurrency,
+                60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new FanOutThreadFactory(threadNamePrefix));
+        pool.allowCoreThreadTimeOut(true);
+        this.executor = pool;
+    }
+
+    /**
+     * Apply the task to every item, concurrently.
+     *
+     * @param items the items
+     * @param task the call of one item
+     * @param fallback the value of an item whose call failed or timed out
+     * @return the results, in the order of the items
+     */
+    public <T, R> List<R> map(List<T> items, Function<? super T, ? extends R> task,
+                              Function<? super T, ? extends R> fallback) {
+        int size = items.size();
+        AtomicReferenceArray<R> results = new AtomicReferenceArray<>(size);
+        boolean[] fallbacks = new boolean[size];
+        List<Future<?>> futures = new ArrayList<>(size);
+        Semaphore requestPermits = new Semaphore(requestConcurrency);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMS);
+
+        for (int index = 0; index < size; index++) {
+            final int itemIndex = index;
+            final T item = items.get(index);
+            if (!acquire(requestPermits, deadline)) {
+                fallbacks[itemIndex] = true;
+                futures.add(null);
+                continue;
+            }
+            if (!acquire(globalPermits, deadline)) {
+                requestPermits.release();
+                fallbacks[itemIndex] = true;
+                futures.add(null);
+                continue;
+            }
+            FutureTask<Void> future = new FutureTask<Void>(() -> {
+                results.set(itemIndex, task.apply(item));
+                return null;
+            }) {
+                @Override
+                protected void done() {
+                    // also called when the call is cancelled before it started
+                    globalPermits.release();
+                    requestPermits.release();
+                }
+            };
+            try {
+                executor.execute(future);
+                futures.add(future);
+            } catch (RejectedExecutionException e) {
+                globalPermits.release();
+                requestPermits.release();
+                fallbacks[itemIndex] = true;
+                futures.add(null);
+            }
+        }
+
+        for (int index = 0; index < size; index++) {
+            Future<?> future = futures.get(index);
+            if (future == null) {
+                continue;
+            }
+            try {
+                future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                fallbacks[index] = true;
+            } catch (ExecutionException e) {
+                logger.debug("Fan-out call failed, using the fallback. Error details: {}", e.getCause().getMessage());
+                fallbacks[index] = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                fallbacks[index] = true;
+            }
+        }
+
+        List<R> orderedResults = new ArrayList<>(size);
+        int fallbackCount = 0;
+        for (int index = 0; index < size; index++) {
+            if (fallbacks[index]) {
+                fallbackCount++;
+                orderedResults.add(fallback.apply(items.get(index)));
+            } else {
+                orderedResults.add(results.get(index));
+            }
+        }
+        if (fallbackCount > 0) {
+            logger.warn("{} of {} fan-out calls failed or timed out", fallbackCount, size);
+        }
+        return orderedResults;
+    }
+
+    /**
+     * Stop the fan-out threads.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static boolean acquire(Semaphore permits, long deadline) {
+        try {
+            return permits.tryAcquire(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static final class FanOutThreadFactory implements ThreadFactory {
+        private final String threadNamePrefix;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        private FanOutThreadFactory(String threadNamePrefix) {
+            this.threadNamePrefix = threadNamePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
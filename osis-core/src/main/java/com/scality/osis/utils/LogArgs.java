@@ -0,0 +1,105 @@
+/**
+ *Copyright 2021 Scality, Inc.
+ *SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Set;
+
+import static com.scality.osis.utils.ScalityConstants.MASKED_SENSITIVE_DATA_STR;
+
+/**
+ * Log arguments rendering the request and response objects as JSON.
+ * <p>
+ * The arguments are rendered by the logger only if the level of the statement is enabled, with one shared
+ * serializer. The secrets are masked while the JSON is written, by the name of their field, so that they never
+ * reach the rendered string.
+ */
+public final class LogArgs {
+
+    // the fields holding a secret, in the OSIS model and in the AWS and Vault DTOs
+    private static final Set<String> SENSITIVE_FIELDS = Set.of("secretKey", "secretAccessKey", "sessionToken");
+
+    private static final Gson GSON = new GsonBuilder()
+            .disableHtmlEscaping()
+            .create();
+
+    private LogArgs() {
+
+    }
+
+    /**
+     * Returns a log argument rendering the value as JSON, with the secrets masked.
+     *
+     * @param value the value
+     * @return the log argument
+     */
+    public static Object json(Object value) {
+        return new JsonArg(value);
+    }
+
+    /**
+     * Renders a value as JSON, with the secrets masked.
+     *
+     * @param value the value
+     * @return the JSON
+     */
+    public static String toJson(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        StringWriter out = new StringWriter();
+        try {
+            GSON.toJson(value, value.getClass(), new MaskingJsonWriter(out));
+        } catch (RuntimeException e) {
+            // a log statement never fails the request
+            return value.getClass().getSimpleName() + "(not serializable: " + e.getMessage() + ")";
+        }
+        return out.toString();
+    }
+
+    private static final class JsonArg {
+        private final Object value;
+
+        private JsonArg(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return toJson(value);
+        }
+    }
+
+    /**
+     * Writes the string value of a sensitive field as {@link ScalityConstants#MASKED_SENSITIVE_DATA_STR}.
+     */
+    private static final class MaskingJsonWriter extends JsonWriter {
+        private boolean maskNextValue;
+
+        private MaskingJsonWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public JsonWriter name(String name) throws IOException {
+            maskNextValue = SENSITIVE_FIELDS.contains(name);
+            return super.name(name);
+        }
+
+        @Override
+        public JsonWriter value(String value) throws IOException {
+            boolean mask = maskNextValue && value != null;
+            maskNextValue = false;
+            return super.value(mask ? MASKED_SENSITIVE_DATA_STR : value);
+        }
+    }
+}
@@ -0,0 +1,336 @@
+/**
+ *Copyright 2021 Scality, Inc.
+ *SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.utils;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the `@Async` tasks, e.g. the `SetupAssumeRole` subroutine of the created tenants.
+ * <p>
+ * The tasks run on a bounded pool of platform threads, on a work-stealing pool, or on one virtual thread per task
+ * when the JDK supports them (21+). In every mode at most `maxPoolSize` tasks run at a time and at most
+ * `queueCapacity` more wait. A task submitted beyond is never dropped: it runs on the calling thread, which slows
+ * down the caller, or it is spilled to an overflow queue of `spillCapacity` tasks, drained as the tasks complete.
+ * The spilled tasks are kept in memory only: those still spilled at shutdown are lost, and the tenants whose setup
+ * they were are set up by the tenant readiness job.
+ */
+public class OsisTaskExecutor implements TaskExecutor, MeterBinder {
+    private static final Logger logger = LoggerFactory.getLogger(OsisTaskExecutor.class);
+
+    private final Mode mode;
+
+    private final RejectionPolicy rejectionPolicy;
+
+    private final int spillCapacity;
+
+    private final ExecutorService executor;
+
+    // the tasks accepted by the executor and not completed
+    private final Semaphore permits;
+
+    // the virtual threads running a task, null in the other modes
+    private final Semaphore virtualConcurrency;
+
+    private final Queue<SpilledTask> spill = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger spilled = new AtomicInteger();
+
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final AtomicInteger active = new AtomicInteger();
+
+    private final AtomicLong completed = new AtomicLong();
+
+    private final AtomicLong totalTimeInNanos = new AtomicLong();
+
+    private final AtomicLong totalWaitInNanos = new AtomicLong();
+
+    private final AtomicLong callerRuns = new AtomicLong();
+
+    private final AtomicLong spills = new AtomicLong();
+
+    private volatile boolean shutdown;
+
+    /**
+     * Instantiates a new Osis task executor.
+     *
+     * @param mode the threads running the tasks
+     * @param threadNamePrefix the prefix of the thread names
+     * @param corePoolSize the platform threads are kept alive when idle if it is maxPoolSize
+     * @param maxPoolSize the max number of tasks running at a time
+     * @param queueCapacity the max number of tasks waiting for a thread
+     * @param rejectionPolicy what to do with a task submitted beyond the queue capacity
+     * @param spillCapacity the max number of spilled tasks, beyond which the tasks run on the calling thread
+     */
+    public OsisTaskExecutor(Mode mode, String threadNamePrefix, int corePoolSize, int maxPoolSize,
+                            int queueCapacity, RejectionPolicy rejectionPolicy, int spillCapacity) {
+        if (corePoolSize < 0 || maxPoolSize <= 0 || corePoolSize > maxPoolSize || queueCapacity < 0
+                || spillCapacity < 0) {
+            throw new IllegalArgumentException("Illegal async executor limits: " + corePoolSize + ", "
+                    + maxPoolSize + ", " + queueCapacity + ", " + spillCapacity);
+        }
+        this.rejectionPolicy = rejectionPolicy;
+        this.spillCapacity = spillCapacity;
+        this.permits = new Semaphore(maxPoolSize + queueCapacity);
+
+        ExecutorService virtualExecutor = mode == Mode.VIRTUAL ? newVirtualThreadPerTaskExecutor() : null;
+        if (virtualExecutor != null) {
+            this.mode = Mode.VIRTUAL;
+            this.executor = virtualExecutor;
+            this.virtualConcurrency = new Semaphore(maxPoolSize);
+        } else if (mode == Mode.WORK_STEALING) {
+            this.mode = Mode.WORK_STEALING;
+            this.executor = new ForkJoinPool(maxPoolSize, pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName(threadNamePrefix + thread.getPoolIndex());
+                return thread;
+            }, null, true);
+            this.virtualConcurrency = null;
+        } else {
+            this.mode = Mode.PLATFORM;
+            AtomicInteger threadCount = new AtomicInteger();
+            // the permits bound the queue, which must not reject a task dispatched by a thread which is about to
+            // poll it; the pool starts up to maxPoolSize threads, which time out when idle unless corePoolSize is
+            // maxPoolSize
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(maxPoolSize, maxPoolSize, 60L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(),
+                    runnable -> new Thread(runnable, threadNamePrefix + threadCount.incrementAndGet()));
+            pool.allowCoreThreadTimeOut(corePoolSize < maxPoolSize);
+            this.executor = pool;
+            this.virtualConcurrency = null;
+        }
+        logger.info("Async executor running the tasks on {} threads, {} when saturated", this.mode,
+                rejectionPolicy);
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            logger.warn("Virtual threads are not supported by Java {}, using platform threads",
+                    System.getProperty("java.version"));
+            return null;
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (shutdown) {
+            throw new TaskRejectedException("Async executor is shut down");
+        }
+        // the spilled tasks go first
+        if (spill.isEmpty() && permits.tryAcquire()) {
+            dispatch(task, System.nanoTime());
+            return;
+        }
+
+        if (rejectionPolicy == RejectionPolicy.SPILL && spilled.incrementAndGet() <= spillCapacity) {
+            spills.incrementAndGet();
+            spill.add(new SpilledTask(task, System.nanoTime()));
+            drainSpill();
+            return;
+        }
+        if (rejectionPolicy == RejectionPolicy.SPILL) {
+            spilled.decrementAndGet();
+        }
+        callerRuns.incrementAndGet();
+        logger.warn("Async executor is saturated, running the task on the calling thread");
+        run(task, System.nanoTime());
+    }
+
+    private void dispatch(Runnable task, long submittedAt) {
+        queued.incrementAndGet();
+        try {
+            executor.execute(() -> {
+                try {
+                    if (virtualConcurrency != null) {
+                        virtualConcurrency.acquireUninterruptibly();
+                    }
+                    try {
+                        queued.decrementAndGet();
+                        run(task, submittedAt);
+                    } finally {
+                        if (virtualConcurrency != null) {
+                            virtualConcurrency.release();
+                        }
+                    }
+                } finally {
+                    permits.release();
+                    drainSpill();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            permits.release();
+            throw new TaskRejectedException("Async executor is shut down", e);
+        }
+    }
+
+    private void run(Runnable task, long submittedAt) {
+        long start = System.nanoTime();
+        totalWaitInNanos.addAndGet(start - submittedAt);
+        active.incrementAndGet();
+        try {
+            task.run();
+        } finally {
+            active.decrementAndGet();
+            completed.incrementAndGet();
+            totalTimeInNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    // called after a task is spilled and after a task completes, so that a spilled task never waits for nothing
+    private void drainSpill() {
+        while (!shutdown && !spill.isEmpty() && permits.tryAcquire()) {
+            SpilledTask next = spill.poll();
+            if (next == null) {
+                permits.release();
+                return;
+            }
+            spilled.decrementAndGet();
+            try {
+                dispatch(next.task, next.submittedAt);
+            } catch (TaskRejectedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stop the threads. The spilled tasks are dropped.
+     */
+    public void shutdown() {
+        shutdown = true;
+        executor.shutdownNow();
+        if (!spill.isEmpty()) {
+            logger.warn("Async executor shut down, {} spilled tasks dropped", spill.size());
+            spill.clear();
+        }
+    }
+
+    /**
+     * Returns the threads running the tasks, PLATFORM if VIRTUAL was asked on a JDK without virtual threads
+     *
+     * @return the mode
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+
+    public int getActive() {
+        return active.get();
+    }
+
+    public int getSpilled() {
+        return spill.size();
+    }
+
+    public long getCompleted() {
+        return completed.get();
+    }
+
+    public long getCallerRuns() {
+        return callerRuns.get();
+    }
+
+    public long getSpills() {
+        return spills.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("osis.async.executor.queued", queued, AtomicInteger::get)
+                .tag("mode", mode.name())
+                .description("Tasks waiting for a thread")
+                .register(registry);
+        Gauge.builder("osis.async.executor.active", active, AtomicInteger::get)
+                .tag("mode", mode.name())
+                .description("Tasks running")
+                .register(registry);
+        Gauge.builder("osis.async.executor.spilled", this, OsisTaskExecutor::getSpilled)
+                .tag("mode", mode.name())
+                .description("Tasks spilled to the overflow queue")
+                .register(registry);
+        FunctionTimer.builder("osis.async.executor.tasks", this,
+                        e -> e.completed.get(), e -> e.totalTimeInNanos.get(), TimeUnit.NANOSECONDS)
+                .tag("mode", mode.name())
+                .description("Run time of the tasks")
+                .register(registry);
+        FunctionTimer.builder("osis.async.executor.wait", this,
+                        e -> e.completed.get(), e -> e.totalWaitInNanos.get(), TimeUnit.NANOSECONDS)
+                .tag("mode", mode.name())
+                .description("Time from the submission of the tasks to their start")
+                .register(registry);
+        FunctionCounter.builder("osis.async.executor.rejections", callerRuns, AtomicLong::get)
+                .tag("mode", mode.name())
+                .tag("action", "caller_runs")
+                .description("Tasks submitted to the saturated executor, run on the calling thread")
+                .register(registry);
+        FunctionCounter.builder("osis.async.executor.rejections", spills, AtomicLong::get)
+                .tag("mode", mode.name())
+                .tag("action", "spill")
+                .description("Tasks submitted to the saturated executor, spilled to the overflow queue")
+                .register(registry);
+    }
+
+    /**
+     * The threads running the tasks.
+     */
+    public enum Mode {
+        /** a bounded pool of platform threads */
+        PLATFORM,
+        /** a work-stealing pool of platform threads */
+        WORK_STEALING,
+        /** one virtual thread per task, on Java 21+ */
+        VIRTUAL
+    }
+
+    /**
+     * What to do with a task submitted to the saturated executor.
+     */
+    public enum RejectionPolicy {
+        /** run the task on the calling thread */
+        CALLER_RUNS,
+        /** spill the task to the overflow queue, or run it on the calling thread if the queue is full */
+        SPILL
+    }
+
+    private static final class SpilledTask {
+        private final Runnable task;
+        private final long submittedAt;
+
+        SpilledTask(Runnable task, long submittedAt) {
+            this.task = task;
+            this.submittedAt = submittedAt;
+        }
+    }
+}
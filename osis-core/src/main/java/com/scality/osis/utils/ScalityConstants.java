@@ -99,9 +99,46 @@ public final class ScalityConstants {
     public static final String DEFAULT_ASYNC_EXECUTOR_CORE_POOL_SIZE = "10";
     public static final String DEFAULT_ASYNC_EXECUTOR_MAX_POOL_SIZE = "10";
     public static final String DEFAULT_ASYNC_EXECUTOR_QUEUE_CAPACITY = "500";
+    public static final String DEFAULT_ASYNC_EXECUTOR_MODE = "PLATFORM";
+    public static final String DEFAULT_ASYNC_EXECUTOR_REJECTION_POLICY = "CALLER_RUNS";
+    public static final String DEFAULT_ASYNC_EXECUTOR_SPILL_CAPACITY = "10000";
+
+    // Fan-out executor parameters
+    public static final String DEFAULT_FANOUT_GLOBAL_CONCURRENCY = "64";
+    public static final String DEFAULT_FANOUT_REQUEST_CONCURRENCY = "16";
+    public static final String DEFAULT_FANOUT_TIMEOUT_IN_MS = "20000";
+
+    // Crypto executor parameters, the concurrency defaults to the number of available processors
+    public static final String CRYPTO_THREADPOOL_NAME_PREFIX = "osis-crypto-";
+    public static final String DEFAULT_CRYPTO_TIMEOUT_IN_MS = "10000";
+
+    // Tenant directory parameters
+    public static final String DEFAULT_TENANT_DIRECTORY_ENABLED = "true";
+    public static final String DEFAULT_TENANT_DIRECTORY_REFRESH_INTERVAL_IN_MS = "300000";
+    public static final String DEFAULT_TENANT_DIRECTORY_PAGE_SIZE = "1000";
+
+    // Tenant readiness parameters: the accounts of a page are checked on a dedicated pool of concurrency threads
+    public static final String TENANT_READINESS_THREADPOOL_NAME_PREFIX = "osis-readiness-";
+    public static final String DEFAULT_TENANT_READINESS_ENABLED = "true";
+    public static final String DEFAULT_TENANT_READINESS_INTERVAL_IN_MS = "3600000";
+    public static final String DEFAULT_TENANT_READINESS_CONCURRENCY = "4";
+    public static final String DEFAULT_TENANT_READINESS_PAGE_SIZE = "100";
+    public static final String DEFAULT_TENANT_READINESS_PAGE_TIMEOUT_IN_MS = "600000";
+
+    // Update User parameters: the number of retries of the access keys which could not be updated
+    public static final String DEFAULT_ACCESS_KEY_UPDATE_RETRIES = "1";
+
+    // Admin policy repair parameters: the backoff after a failed repair, doubled on each consecutive failure
+    public static final String DEFAULT_ADMIN_POLICY_REPAIR_BACKOFF_IN_MS = "1000";
+    public static final String DEFAULT_ADMIN_POLICY_REPAIR_MAX_BACKOFF_IN_MS = "60000";
+
+    // User status index parameters
+    public static final String DEFAULT_USER_STATUS_INDEX_MAX_CAPACITY = "100000";
+    public static final String DEFAULT_USER_STATUS_RECONCILE_INTERVAL_IN_MS = "300000";
 
     public static final String DEFAULT_VAULT_HEALTHCHECK_TIMEOUT = "3000";
     public static final String DEFAULT_S3_HEALTHCHECK_TIMEOUT = "3000";
+    public static final String DEFAULT_S3_CAPABILITIES_CHECK_INTERVAL_IN_MS = "30000";
     public static final String DEFAULT_UTAPI_HEALTHCHECK_TIMEOUT = "3000";
 
     public static final String HEALTH_CHECK_ENDPOINT = "/_/healthcheck";
@@ -123,6 +160,9 @@ public final class ScalityConstants {
 
     public static final String DEFAULT_REDIS_HASH_KEY = "s3credentials";
     public static final String DEFAULT_REDIS_PREFIX = "osis:";
+    public static final String REDIS_ACCOUNTS_MARKERS_HASH_KEY = "listAccountsMarkers:";
+    public static final String REDIS_SHARED_CACHE_KEY_PREFIX = "vaultCache:";
+    public static final String REDIS_SHARED_CACHE_INVALIDATION_CHANNEL = "vaultCacheInvalidation";
     public static final String DEFAULT_SPRING_CACHE_TYPE = "local";
     public static final String REDIS_SPRING_CACHE_TYPE = "redis";
     public static final String MASKED_SENSITIVE_DATA_STR = "***Sensitive Data Redacted***";
@@ -12,6 +12,7 @@ import com.amazonaws.services.securitytoken.model.AssumeRoleRequest;
 import com.amazonaws.services.securitytoken.model.Credentials;
 import com.scality.osis.model.*;
 import com.scality.osis.model.exception.BadRequestException;
+import com.scality.osis.s3.BucketListSnapshot;
 import com.scality.osis.utapiclient.dto.ListMetricsRequestDTO;
 import com.scality.vaultclient.dto.*;
 import org.apache.commons.lang3.StringUtils;
@@ -518,6 +519,26 @@ public final class ScalityModelConverter {
                 .email(emailFromUserPath(user.getPath()));
     }
 
+    /**
+     * Selects the tenant admin user of an account among its IAM users: the last user whose path has the
+     * `TENANT_ADMIN` role, or the last user if none has it.
+     *
+     * @param users the IAM users of the account
+     * @return the tenant admin user, null if the account has no user
+     */
+    public static User toTenantAdminUser(List<User> users) {
+        if (users == null || users.isEmpty()) {
+            return null;
+        }
+        for (int index = users.size() - 1; index >= 0; index--) {
+            String[] path = users.get(index).getPath().split(USER_PATH_SEPARATOR);
+            if (path.length > 2 && OsisUser.RoleEnum.TENANT_ADMIN.getValue().equals(path[2])) {
+                return users.get(index);
+            }
+        }
+        return users.get(users.size() - 1);
+    }
+
     /**
      * Converts IAM User object to OSIS User object for get user with canonical id
      *
@@ -589,6 +610,30 @@ public final class ScalityModelConverter {
         return pageOfTenants;
     }
 
+    /**
+     * Converts a list of accounts to the OSIS page of tenants starting at offset
+     *
+     * @param accounts the accounts
+     * @param offset the offset of the page in the accounts
+     * @param limit the maximum number of tenants of the page
+     * @return the page of tenants
+     */
+    public static PageOfTenants toPageOfTenants(List<AccountData> accounts, long offset, long limit) {
+        List<OsisTenant> tenantItems = new ArrayList<>();
+
+        long end = Math.min(accounts.size(), offset + limit);
+        for (long i = Math.max(offset, 0L); i < end; i++) {
+            tenantItems.add(toOsisTenant(accounts.get((int) i)));
+        }
+
+        PageInfo pageInfo = new PageInfo(limit, offset, (long) tenantItems.size());
+
+        PageOfTenants pageOfTenants = new PageOfTenants();
+        pageOfTenants.items(tenantItems);
+        pageOfTenants.setPageInfo(pageInfo);
+        return pageOfTenants;
+    }
+
     /**
      * Converts Vault List Accounts response to OSIS page of tenants
      *
@@ -869,6 +914,34 @@ public final class ScalityModelConverter {
         return pageOfOsisBucketMeta;
     }
 
+    /**
+     * Converts a page of a bucket list snapshot to OSIS page of bucket meta
+     *
+     * @param snapshot the bucket list snapshot
+     * @param offset offset
+     * @param limit limit
+     * @return the OSIS page of bucket meta
+     */
+    public static PageOfOsisBucketMeta toPageOfOsisBucketMeta(BucketListSnapshot snapshot, long offset, long limit) {
+        int start = (int) Math.min(offset, snapshot.size());
+        int end = (int) Math.min(snapshot.size(), start + limit);
+        List<OsisBucketMeta> bucketItems = new ArrayList<>(end - start);
+
+        for (int index = start; index < end; index++) {
+            bucketItems.add(new OsisBucketMeta()
+                    .name(snapshot.getName(index))
+                    .creationDate(Instant.ofEpochMilli(snapshot.getCreationDate(index)).toString())
+                    .userId(snapshot.getCanonicalId()));
+        }
+
+        PageInfo pageInfo = new PageInfo(limit, offset, (long) snapshot.size());
+
+        PageOfOsisBucketMeta pageOfOsisBucketMeta = new PageOfOsisBucketMeta();
+        pageOfOsisBucketMeta.setItems(bucketItems);
+        pageOfOsisBucketMeta.setPageInfo(pageInfo);
+        return pageOfOsisBucketMeta;
+    }
+
     public static ListMetricsRequestDTO toScalityListMetricsRequest(String metricType, List<String> resources, List<Long> timeRange) {
         ListMetricsRequestDTO listMetricsRequestDTO = new ListMetricsRequestDTO();
         if (com.amazonaws.util.StringUtils.isNullOrEmpty(metricType) || metricType.equals("buckets")) {
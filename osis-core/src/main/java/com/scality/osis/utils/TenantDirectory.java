@@ -0,0 +1,232 @@
+/**
+ *Copyright 2021 Scality, Inc.
+ *SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.utils;
+
+import com.scality.vaultclient.dto.AccountData;
+import com.scality.vaultclient.dto.ListAccountsResponseDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * In-memory directory of the Vault accounts, indexed by account ID and by `cd_tenant_id`.
+ * <p>
+ * The directory is built by a scan of all the accounts, one `listAccounts` page at a time, and rebuilt by a
+ * periodic scan which catches up the changes made outside of this instance. The accounts created, updated or
+ * looked up by OSIS in between are put in the directory as they go. Until the first scan completes the directory
+ * is not ready and answers nothing, so that the callers ask Vault.
+ * <p>
+ * An account written while a scan is running is also put in the indexes being built, and the scan does not
+ * overwrite it with the possibly older version of its pages.
+ */
+public class TenantDirectory {
+    private static final Logger logger = LoggerFactory.getLogger(TenantDirectory.class);
+
+    private static final String THREAD_NAME = "osis-tenant-directory";
+
+    private final long refreshIntervalInMS;
+
+    // the indexes of the last completed scan, null until the first scan completes
+    private volatile Indexes indexes;
+
+    // the indexes of the running scan
+    private Indexes building;
+
+    private ScheduledExecutorService refresher;
+
+    /**
+     * Instantiates a new Tenant directory.
+     *
+     * @param refreshIntervalInMS the interval between two scans of the accounts
+     */
+    public TenantDirectory(long refreshIntervalInMS) {
+        this.refreshIntervalInMS = refreshIntervalInMS;
+    }
+
+    /**
+     * Returns true once the accounts have been scanned
+     *
+     * @return true if the directory answers the lookups
+     */
+    public boolean isReady() {
+        return indexes != null;
+    }
+
+    /**
+     * Returns an account by ID
+     *
+     * @param accountId the account ID
+     * @return the account, null if the directory is not ready or the account is unknown
+     */
+    public AccountData getAccount(String accountId) {
+        Indexes current = indexes;
+        return current != null && accountId != null ? current.accountsById.get(accountId) : null;
+    }
+
+    /**
+     * Returns the accounts of a `cd_tenant_id`, ordered by account ID
+     *
+     * @param cdTenantId the cd tenant id
+     * @return the accounts, empty if the directory is not ready or the cd tenant id is unknown
+     */
+    public List<AccountData> findByCdTenantId(String cdTenantId) {
+        Indexes current = indexes;
+        Set<String> accountIds = current != null && cdTenantId != null
+                ? current.accountIdsByCdTenantId.get(cdTenantId) : null;
+        if (accountIds == null) {
+            return Collections.emptyList();
+        }
+        List<AccountData> accounts = new ArrayList<>(accountIds.size());
+        for (String accountId : new TreeSet<>(accountIds)) {
+            AccountData account = current.accountsById.get(accountId);
+            if (account != null) {
+                accounts.add(account);
+            }
+        }
+        return accounts;
+    }
+
+    /**
+     * Put an account created, updated or loaded from Vault by OSIS.
+     *
+     * @param account the account
+     */
+    public synchronized void put(AccountData account) {
+        if (account == null || account.getId() == null) {
+            return;
+        }
+        if (indexes != null) {
+            indexes.put(account);
+        }
+        if (building != null) {
+            building.put(account);
+            building.written.add(account.getId());
+        }
+    }
+
+    /**
+     * Scan all the accounts and replace the indexes.
+     *
+     * @param pageLoader lists a page of accounts from a marker, null for the first page
+     * @return the number of scanned accounts
+     */
+    public int refresh(Function<String, ListAccountsResponseDTO> pageLoader) {
+        Indexes scanned = new Indexes();
+        synchronized (this) {
+            building = scanned;
+        }
+        try {
+            int count = 0;
+            String marker = null;
+            do {
+                ListAccountsResponseDTO page = pageLoader.apply(marker);
+                synchronized (this) {
+                    for (AccountData account : page.getAccounts()) {
+                        // an account written during the scan is more recent than the page
+                        if (!scanned.written.contains(account.getId())) {
+                            scanned.put(account);
+                        }
+                    }
+                }
+                count += page.getAccounts().size();
+                marker = page.isTruncated() && !page.getAccounts().isEmpty() ? page.getMarker() : null;
+            } while (marker != null);
+
+            synchronized (this) {
+                indexes = scanned;
+            }
+            return count;
+        } finally {
+            synchronized (this) {
+                if (building == scanned) {
+                    building = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Scan the accounts now, then periodically, on a dedicated thread.
+     *
+     * @param pageLoader lists a page of accounts from a marker, null for the first page
+     */
+    public synchronized void startRefresh(Function<String, ListAccountsResponseDTO> pageLoader) {
+        if (refresher != null) {
+            return;
+        }
+        refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher.scheduleWithFixedDelay(() -> {
+            try {
+                long start = System.nanoTime();
+                int count = refresh(pageLoader);
+                logger.info("Tenant directory scanned {} accounts in {}ms", count,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            } catch (RuntimeException e) {
+                // never let one scan kill the refresher thread, the previous indexes are kept
+                logger.error("Tenant directory scan failed. Error details: ", e);
+            }
+        }, 0L, refreshIntervalInMS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the number of accounts in the directory
+     *
+     * @return the size
+     */
+    public int size() {
+        Indexes current = indexes;
+        return current != null ? current.accountsById.size() : 0;
+    }
+
+    /**
+     * Stop the periodic scans.
+     */
+    public synchronized void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+            refresher = null;
+        }
+    }
+
+    private static final class Indexes {
+        private final Map<String, AccountData> accountsById = new ConcurrentHashMap<>();
+        private final Map<String, Set<String>> accountIdsByCdTenantId = new ConcurrentHashMap<>();
+        // the accounts written during the scan building these indexes
+        private final Set<String> written = ConcurrentHashMap.newKeySet();
+
+        // called with the lock of the directory held
+        private void put(AccountData account) {
+            AccountData previous = accountsById.put(account.getId(), account);
+            if (previous != null) {
+                for (String cdTenantId : ScalityModelConverter.toOsisCDTenantIds(previous.getCustomAttributes())) {
+                    accountIdsByCdTenantId.computeIfPresent(cdTenantId, (key, accountIds) -> {
+                        accountIds.remove(account.getId());
+                        return accountIds.isEmpty() ? null : accountIds;
+                    });
+                }
+            }
+            for (String cdTenantId : ScalityModelConverter.toOsisCDTenantIds(account.getCustomAttributes())) {
+                accountIdsByCdTenantId.computeIfAbsent(cdTenantId, key -> ConcurrentHashMap.newKeySet())
+                        .add(account.getId());
+            }
+        }
+    }
+}
@@ -0,0 +1,281 @@
+/**
+ *Copyright 2021 Scality, Inc.
+ *SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.utils;
+
+import com.scality.vaultclient.dto.AccountData;
+import com.scality.vaultclient.dto.ListAccountsResponseDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Checks that all the tenants are ready to serve the OSIS requests, and provisions ahead of time what is missing.
+ * <p>
+ * A run walks all the Vault accounts, one `listAccounts` page at a time, and checks the accounts of a page
+ * concurrently on a dedicated {@link FanOutExecutor}, so that the first request of a tenant whose OSIS role or admin
+ * policy is missing, e.g. after a migration or a restore of Vault, does not pay for their setup. The job runs at
+ * startup then periodically, on a dedicated thread, and reports the progress of the current and last runs.
+ */
+public class TenantReadinessJob {
+    private static final Logger logger = LoggerFactory.getLogger(TenantReadinessJob.class);
+
+    private static final String THREAD_NAME = "osis-tenant-readiness";
+
+    private final FanOutExecutor checkExecutor;
+
+    private final long intervalInMS;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile Progress current;
+
+    private volatile Progress last;
+
+    private ScheduledExecutorService scheduler;
+
+    private Runnable scheduledRun;
+
+    /**
+     * Instantiates a new Tenant readiness job.
+     *
+     * @param checkExecutor the executor checking the accounts of a page concurrently
+     * @param intervalInMS the interval between two runs
+     */
+    public TenantReadinessJob(FanOutExecutor checkExecutor, long intervalInMS) {
+        this.checkExecutor = checkExecutor;
+        this.intervalInMS = intervalInMS;
+    }
+
+    /**
+     * Check all the accounts. Does nothing if a run is in progress.
+     *
+     * @param pageLoader lists a page of accounts from a marker, null for the first page
+     * @param check checks an account and provisions what is missing
+     * @return the progress of this run, or of the run in progress
+     */
+    public Progress run(Function<String, ListAccountsResponseDTO> pageLoader, Check check) {
+        if (!running.compareAndSet(false, true)) {
+            return current;
+        }
+        Progress progress = new Progress();
+        current = progress;
+        try {
+            String marker = null;
+            do {
+                ListAccountsResponseDTO page = pageLoader.apply(marker);
+                List<AccountData> accounts = page.getAccounts();
+                List<Outcome> outcomes = checkExecutor.map(accounts,
+                        account -> check(check, account),
+                        account -> Outcome.FAILED);
+                for (int index = 0; index < accounts.size(); index++) {
+                    progress.record(accounts.get(index).getId(), outcomes.get(index));
+                }
+                marker = page.isTruncated() && !accounts.isEmpty() ? page.getMarker() : null;
+            } while (marker != null);
+            progress.complete(null);
+            logger.info("Tenant readiness checked {} accounts in {}ms: {} provisioned, {} failed",
+                    progress.getScanned(), progress.getCompletedAt() - progress.getStartedAt(),
+                    progress.getProvisioned(), progress.getFailed());
+        } catch (RuntimeException e) {
+            // the accounts could not be listed, the next run starts over
+            progress.complete(e.getMessage());
+            logger.error("Tenant readiness run failed. Error details: ", e);
+        } finally {
+            last = progress;
+            current = null;
+            running.set(false);
+        }
+        return progress;
+    }
+
+    private static Outcome check(Check check, AccountData account) {
+        try {
+            return check.check(account);
+        } catch (Exception e) {
+            logger.warn("Tenant {} is not ready: {}", account.getId(), e.getMessage());
+            return Outcome.FAILED;
+        }
+    }
+
+    /**
+     * Run the job now, then periodically, on a dedicated thread.
+     *
+     * @param pageLoader lists a page of accounts from a marker, null for the first page
+     * @param check checks an account and provisions what is missing
+     */
+    public synchronized void start(Function<String, ListAccountsResponseDTO> pageLoader, Check check) {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduledRun = () -> run(pageLoader, check);
+        scheduler.scheduleWithFixedDelay(scheduledRun, 0L, intervalInMS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Run the job now on its thread, without waiting for the next periodic run.
+     *
+     * @return false if the job is not started or a run is in progress
+     */
+    public synchronized boolean runNow() {
+        if (scheduler == null || running.get()) {
+            return false;
+        }
+        scheduler.execute(scheduledRun);
+        return true;
+    }
+
+    /**
+     * Returns the progress of the run in progress
+     *
+     * @return the progress, null if no run is in progress
+     */
+    public Progress getCurrent() {
+        return current;
+    }
+
+    /**
+     * Returns the progress of the last completed run
+     *
+     * @return the progress, null if no run completed yet
+     */
+    public Progress getLast() {
+        return last;
+    }
+
+    /**
+     * Stop the periodic runs and the checks.
+     */
+    public synchronized void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        checkExecutor.shutdown();
+    }
+
+    /**
+     * The outcome of the check of an account.
+     */
+    public enum Outcome {
+        /** the account was ready */
+        READY,
+        /** the account was made ready */
+        PROVISIONED,
+        /** the account could not be made ready, or its check timed out */
+        FAILED
+    }
+
+    /**
+     * The check of an account, which provisions what is missing.
+     */
+    @FunctionalInterface
+    public interface Check {
+        Outcome check(AccountData account) throws Exception;
+    }
+
+    /**
+     * The progress of a run.
+     */
+    public static final class Progress {
+
+        // at most this number of failed tenants are reported
+        private static final int MAX_FAILED_TENANT_IDS = 100;
+
+        private final long startedAt = System.currentTimeMillis();
+
+        private volatile long completedAt;
+
+        private volatile String error;
+
+        private final AtomicLong scanned = new AtomicLong();
+
+        private final AtomicLong ready = new AtomicLong();
+
+        private final AtomicLong provisioned = new AtomicLong();
+
+        private final AtomicLong failed = new AtomicLong();
+
+        private final Queue<String> failedTenantIds = new ConcurrentLinkedQueue<>();
+
+        private void record(String tenantId, Outcome outcome) {
+            scanned.incrementAndGet();
+            switch (outcome) {
+                case READY:
+                    ready.incrementAndGet();
+                    break;
+                case PROVISIONED:
+                    provisioned.incrementAndGet();
+                    break;
+                default:
+                    if (failed.incrementAndGet() <= MAX_FAILED_TENANT_IDS) {
+                        failedTenantIds.add(tenantId);
+                    }
+            }
+        }
+
+        private void complete(String error) {
+            this.error = error;
+            this.completedAt = System.currentTimeMillis();
+        }
+
+        public long getStartedAt() {
+            return startedAt;
+        }
+
+        /**
+         * Returns the end time of the run
+         *
+         * @return the end time in ms, 0 while the run is in progress
+         */
+        public long getCompletedAt() {
+            return completedAt;
+        }
+
+        /**
+         * Returns the error which stopped the run
+         *
+         * @return the error, null if the run walked all the accounts
+         */
+        public String getError() {
+            return error;
+        }
+
+        public long getScanned() {
+            return scanned.get();
+        }
+
+        public long getReady() {
+            return ready.get();
+        }
+
+        public long getProvisioned() {
+            return provisioned.get();
+        }
+
+        public long getFailed() {
+            return failed.get();
+        }
+
+        public List<String> getFailedTenantIds() {
+            return new ArrayList<>(failedTenantIds);
+        }
+    }
+}
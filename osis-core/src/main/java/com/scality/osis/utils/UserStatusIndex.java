@@ -0,0 +1,295 @@
+/**
+ *Copyright 2021 Scality, Inc.
+ *SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Index of the active access keys of the users, keyed by tenant and user.
+ * <p>
+ * A user is active if at least one of its access keys is active. The index is updated by the OSIS write paths
+ * which change the access keys (create, update, delete), so reading the status of an indexed user costs no
+ * `listAccessKeys` call. A user which is not indexed yet is backfilled from IAM on its first read. The changes
+ * made outside of OSIS are caught up by a periodic reconciliation, which reloads the entries read since the
+ * previous run and drops the others.
+ * <p>
+ * A backfill is only indexed if no write happened while it was loading, otherwise the loaded keys may already
+ * be stale and the next read loads them again.
+ */
+public class UserStatusIndex {
+    private static final Logger logger = LoggerFactory.getLogger(UserStatusIndex.class);
+
+    private static final char KEY_SEPARATOR = '/';
+
+    private static final String THREAD_NAME = "osis-user-status-reconciler";
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // bumped by every write, see isActive
+    private final AtomicLong generation = new AtomicLong();
+
+    private final int maxCapacity;
+
+    private final long reconcileIntervalInMS;
+
+    private ScheduledExecutorService reconciler;
+
+    /**
+     * Instantiates a new User status index.
+     *
+     * @param maxCapacity the max number of indexed users
+     * @param reconcileIntervalInMS the interval between two reconciliations with IAM
+     */
+    public UserStatusIndex(int maxCapacity, long reconcileIntervalInMS) {
+        if (maxCapacity <= 0 || reconcileIntervalInMS <= 0) {
+            throw new IllegalArgumentException("Illegal user status index settings: " + maxCapacity + ", "
+                    + reconcileIntervalInMS);
+        }
+        this.maxCapacity = maxCapacity;
+        this.reconcileIntervalInMS = reconcileIntervalInMS;
+    }
+
+    /**
+     * Returns the status of an indexed user
+     *
+     * @param tenantId the tenant id
+     * @param userId the user id
+     * @return true if the user has an active access key, null if the user is not indexed
+     */
+    public Boolean get(String tenantId, String userId) {
+        Entry entry = entries.get(toKey(tenantId, userId));
+        if (entry == null) {
+            return null;
+        }
+        entry.read = true;
+        return !entry.activeAccessKeyIds.isEmpty();
+    }
+
+    /**
+     * Returns the status of a user, loading its active access keys if the user is not indexed.
+     *
+     * @param tenantId the tenant id
+     * @param userId the user id
+     * @param loader lists the ids of the active access keys of the user
+     * @return true if the user has an active access key
+     */
+    public boolean isActive(String tenantId, String userId, Supplier<? extends Collection<String>> loader) {
+        Boolean active = get(tenantId, userId);
+        if (active != null) {
+            return active;
+        }
+        long loadGeneration = generation.get();
+        Set<String> activeAccessKeyIds = immutableCopy(loader.get());
+        entries.compute(toKey(tenantId, userId), (key, entry) -> {
+            if (entry != null || generation.get() != loadGeneration || entries.size() >= maxCapacity) {
+                return entry;
+            }
+            Entry loaded = new Entry(tenantId, userId, activeAccessKeyIds);
+            loaded.read = true;
+            return loaded;
+        });
+        return !activeAccessKeyIds.isEmpty();
+    }
+
+    /**
+     * Index the complete set of the active access keys of a user, e.g. after a user creation.
+     *
+     * @param tenantId the tenant id
+     * @param userId the user id
+     * @param activeAccessKeyIds the ids of all the active access keys of the user
+     */
+    public void put(String tenantId, String userId, Collection<String> activeAccessKeyIds) {
+        generation.incrementAndGet();
+        Set<String> keyIds = immutableCopy(activeAccessKeyIds);
+        entries.compute(toKey(tenantId, userId), (key, entry) -> {
+            if (entry == null && entries.size() >= maxCapacity) {
+                return null;
+            }
+            Entry updated = new Entry(tenantId, userId, keyIds);
+            updated.read = entry != null && entry.read;
+            return updated;
+        });
+    }
+
+    /**
+     * Record a new access key, new access keys are active.
+     *
+     * @param tenantId the tenant id
+     * @param userId the user id
+     * @param accessKeyId the access key id
+     */
+    public void onAccessKeyCreated(String tenantId, String userId, String accessKeyId) {
+        onAccessKeyStatusChanged(tenantId, userId, accessKeyId, true);
+    }
+
+    /**
+     * Record the new status of an access key.
+     *
+     * @param tenantId the tenant id
+     * @param userId the user id
+     * @param accessKeyId the access key id
+     * @param active the new status of the access key
+     */
+    public void onAccessKeyStatusChanged(String tenantId, String userId, String accessKeyId, boolean active) {
+        generation.incrementAndGet();
+        // the other keys of a user which is not indexed are unknown, it is backfilled on its next read
+        entries.computeIfPresent(toKey(tenantId, userId), (key, entry) -> entry.withAccessKey(accessKeyId, active));
+    }
+
+    /**
+     * Record the deletion of an access key.
+     *
+     * @param tenantId the tenant id
+     * @param userId the user id
+     * @param accessKeyId the access key id
+     */
+    public void onAccessKeyDeleted(String tenantId, String userId, String accessKeyId) {
+        onAccessKeyStatusChanged(tenantId, userId, accessKeyId, false);
+    }
+
+    /**
+     * Drop a user from the index, e.g. after its deletion or a failed write.
+     *
+     * @param tenantId the tenant id
+     * @param userId the user id
+     */
+    public void invalidate(String tenantId, String userId) {
+        generation.incrementAndGet();
+        entries.remove(toKey(tenantId, userId));
+    }
+
+    /**
+     * Reload the active access keys of the users read since the previous reconciliation and drop the others.
+     * A user whose access keys cannot be listed is dropped and backfilled on its next read.
+     *
+     * @param loader lists the ids of the active access keys of a user, by tenant id and user id
+     * @return the number of reloaded users
+     */
+    public int reconcile(BiFunction<String, String, ? extends Collection<String>> loader) {
+        int reloaded = 0;
+        for (Map.Entry<String, Entry> indexed : entries.entrySet()) {
+            String key = indexed.getKey();
+            Entry entry = indexed.getValue();
+            if (!entry.read) {
+                entries.remove(key, entry);
+                continue;
+            }
+            long loadGeneration = generation.get();
+            Set<String> activeAccessKeyIds;
+            try {
+                activeAccessKeyIds = immutableCopy(loader.apply(entry.tenantId, entry.userId));
+            } catch (RuntimeException e) {
+                logger.debug("Failed to reconcile the status of user {}: {}", entry.userId, e.getMessage());
+                entries.remove(key, entry);
+                continue;
+            }
+            // a write during the load wins, the entry is reconciled again by the next run
+            entries.computeIfPresent(key, (k, current) -> generation.get() == loadGeneration
+                    ? new Entry(current.tenantId, current.userId, activeAccessKeyIds)
+                    : current);
+            reloaded++;
+        }
+        return reloaded;
+    }
+
+    /**
+     * Run the reconciliation periodically on a dedicated thread.
+     *
+     * @param loader lists the ids of the active access keys of a user, by tenant id and user id
+     */
+    public synchronized void startReconciliation(BiFunction<String, String, ? extends Collection<String>> loader) {
+        if (reconciler != null) {
+            return;
+        }
+        reconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        reconciler.scheduleWithFixedDelay(() -> {
+            try {
+                int reloaded = reconcile(loader);
+                logger.debug("User status reconciliation reloaded {} users", reloaded);
+            } catch (RuntimeException e) {
+                // never let one run kill the reconciler thread
+                logger.error("User status reconciliation failed. Error details: ", e);
+            }
+        }, reconcileIntervalInMS, reconcileIntervalInMS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the number of indexed users
+     *
+     * @return the size
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Stop the reconciliation.
+     */
+    public synchronized void shutdown() {
+        if (reconciler != null) {
+            reconciler.shutdownNow();
+            reconciler = null;
+        }
+    }
+
+    private static Set<String> immutableCopy(Collection<String> accessKeyIds) {
+        return accessKeyIds == null || accessKeyIds.isEmpty()
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(new HashSet<>(accessKeyIds));
+    }
+
+    private static String toKey(String tenantId, String userId) {
+        return tenantId + KEY_SEPARATOR + userId;
+    }
+
+    private static final class Entry {
+        private final String tenantId;
+        private final String userId;
+        private final Set<String> activeAccessKeyIds;
+        // read since the previous reconciliation
+        private volatile boolean read;
+
+        private Entry(String tenantId, String userId, Set<String> activeAccessKeyIds) {
+            this.tenantId = tenantId;
+            this.userId = userId;
+            this.activeAccessKeyIds = activeAccessKeyIds;
+        }
+
+        private Entry withAccessKey(String accessKeyId, boolean active) {
+            if (activeAccessKeyIds.contains(accessKeyId) == active) {
+                return this;
+            }
+            Set<String> keyIds = new HashSet<>(activeAccessKeyIds);
+            if (active) {
+                keyIds.add(accessKeyId);
+            } else {
+                keyIds.remove(accessKeyId);
+            }
+            Entry entry = new Entry(tenantId, userId, Collections.unmodifiableSet(keyIds));
+            entry.read = read;
+            return entry;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.scality.osis;
 
+import com.scality.osis.utils.OsisTaskExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -420,6 +421,170 @@ class ScalityAppEnvTest {
         assertThat(result).isEqualTo(120L);
     }
 
+    @Test
+    void testGetFanOutConcurrency() {
+        // Setup
+        when(mockEnv.getProperty("osis.scality.fanout.globalConcurrency")).thenReturn("32");
+        when(mockEnv.getProperty("osis.scality.fanout.requestConcurrency")).thenReturn("8");
+
+        // Run the test
+        final int globalConcurrency = appEnvUnderTest.getFanOutGlobalConcurrency();
+        final int requestConcurrency = appEnvUnderTest.getFanOutRequestConcurrency();
+
+        // Verify the results
+        assertThat(globalConcurrency).isEqualTo(32);
+        assertThat(requestConcurrency).isEqualTo(8);
+    }
+
+    @Test
+    void testGetFanOutEnvironmentReturnsNull() {
+        // Setup
+
+        // Run the test
+        final int globalConcurrency = appEnvUnderTest.getFanOutGlobalConcurrency();
+        final int requestConcurrency = appEnvUnderTest.getFanOutRequestConcurrency();
+        final long timeout = appEnvUnderTest.getFanOutTimeout();
+
+        // Verify the results
+        assertThat(globalConcurrency).isEqualTo(64);
+        assertThat(requestConcurrency).isEqualTo(16);
+        assertThat(timeout).isEqualTo(20000L);
+    }
+
+    @Test
+    void testGetCryptoSettings() {
+        // Setup
+        when(mockEnv.getProperty("osis.scality.crypto.concurrency")).thenReturn("6");
+
+        // Run the test
+        final int concurrency = appEnvUnderTest.getCryptoConcurrency();
+        final long timeout = appEnvUnderTest.getCryptoTimeout();
+
+        // Verify the results
+        assertThat(concurrency).isEqualTo(6);
+        assertThat(timeout).isEqualTo(10000L);
+    }
+
+    @Test
+    void testGetCryptoConcurrencyDefaultsToProcessors() {
+        // Run the test
+        final int concurrency = appEnvUnderTest.getCryptoConcurrency();
+
+        // Verify the results
+        assertThat(concurrency).isEqualTo(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Test
+    void testGetS3CapabilitiesCheckInterval() {
+        // Run the test
+        final long checkInterval = appEnvUnderTest.getS3CapabilitiesCheckInterval();
+
+        // Verify the results
+        assertThat(checkInterval).isEqualTo(30000L);
+    }
+
+    @Test
+    void testGetAccessKeyUpdateRetries() {
+        // Setup
+        when(mockEnv.getProperty("osis.scality.updateUser.accessKeyRetries")).thenReturn("3");
+
+        // Run the test
+        final int retries = appEnvUnderTest.getAccessKeyUpdateRetries();
+
+        // Verify the results
+        assertThat(retries).isEqualTo(3);
+    }
+
+    @Test
+    void testGetTenantDirectorySettings() {
+        // Setup
+        when(mockEnv.getProperty("osis.scality.tenantDirectory.enabled")).thenReturn("false");
+        when(mockEnv.getProperty("osis.scality.tenantDirectory.pageSize")).thenReturn("500");
+
+        // Run the test
+        final boolean enabled = appEnvUnderTest.isTenantDirectoryEnabled();
+        final long refreshInterval = appEnvUnderTest.getTenantDirectoryRefreshInterval();
+        final int pageSize = appEnvUnderTest.getTenantDirectoryPageSize();
+
+        // Verify the results
+        assertThat(enabled).isFalse();
+        assertThat(refreshInterval).isEqualTo(300000L);
+        assertThat(pageSize).isEqualTo(500);
+    }
+
+    @Test
+    void testGetTenantReadinessSettings() {
+        // Setup
+        when(mockEnv.getProperty("osis.scality.tenantReadiness.concurrency")).thenReturn("8");
+
+        // Run the test
+        final boolean enabled = appEnvUnderTest.isTenantReadinessEnabled();
+        final long interval = appEnvUnderTest.getTenantReadinessInterval();
+        final int concurrency = appEnvUnderTest.getTenantReadinessConcurrency();
+        final int pageSize = appEnvUnderTest.getTenantReadinessPageSize();
+        final long pageTimeout = appEnvUnderTest.getTenantReadinessPageTimeout();
+
+        // Verify the results
+        assertThat(enabled).isTrue();
+        assertThat(interval).isEqualTo(3600000L);
+        assertThat(concurrency).isEqualTo(8);
+        assertThat(pageSize).isEqualTo(100);
+        assertThat(pageTimeout).isEqualTo(600000L);
+    }
+
+    @Test
+    void testGetAsyncExecutorSettings() {
+        // Setup
+        when(mockEnv.getProperty("osis.scality.async.mode")).thenReturn("virtual");
+        when(mockEnv.getProperty("osis.scality.async.rejectionPolicy")).thenReturn("SPILL");
+
+        // Run the test
+        final OsisTaskExecutor.Mode mode = appEnvUnderTest.getAsyncExecutorMode();
+        final OsisTaskExecutor.RejectionPolicy rejectionPolicy = appEnvUnderTest.getAsyncExecutorRejectionPolicy();
+        final int spillCapacity = appEnvUnderTest.getAsyncExecutorSpillCapacity();
+
+        // Verify the results
+        assertThat(mode).isEqualTo(OsisTaskExecutor.Mode.VIRTUAL);
+        assertThat(rejectionPolicy).isEqualTo(OsisTaskExecutor.RejectionPolicy.SPILL);
+        assertThat(spillCapacity).isEqualTo(10000);
+    }
+
+    @Test
+    void testGetAsyncExecutorSettingsEnvironmentReturnsNull() {
+        // Verify the results
+        assertThat(appEnvUnderTest.getAsyncExecutorMode()).isEqualTo(OsisTaskExecutor.Mode.PLATFORM);
+        assertThat(appEnvUnderTest.getAsyncExecutorRejectionPolicy())
+                .isEqualTo(OsisTaskExecutor.RejectionPolicy.CALLER_RUNS);
+    }
+
+    @Test
+    void testGetAdminPolicyRepairBackoff() {
+        // Setup
+        when(mockEnv.getProperty("osis.scality.adminPolicyRepair.backoffInMS")).thenReturn("500");
+
+        // Run the test
+        final long backoff = appEnvUnderTest.getAdminPolicyRepairBackoff();
+        final long maxBackoff = appEnvUnderTest.getAdminPolicyRepairMaxBackoff();
+
+        // Verify the results
+        assertThat(backoff).isEqualTo(500L);
+        assertThat(maxBackoff).isEqualTo(60000L);
+    }
+
+    @Test
+    void testGetUserStatusIndexSettings() {
+        // Setup
+        when(mockEnv.getProperty("osis.scality.userStatus.maxCapacity")).thenReturn("500");
+
+        // Run the test
+        final int maxCapacity = appEnvUnderTest.getUserStatusIndexMaxCapacity();
+        final long reconcileInterval = appEnvUnderTest.getUserStatusReconcileInterval();
+
+        // Verify the results
+        assertThat(maxCapacity).isEqualTo(500);
+        assertThat(reconcileInterval).isEqualTo(300000L);
+    }
+
     @Test
     void testGetAsyncExecutorCorePoolSize() {
         // Setup
@@ -0,0 +1,75 @@
+package com.scality.osis.redis.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class RedisAccountsMarkerStoreTest {
+
+    private static final String FILTER_KEY = "filterKeyStartsWith=cd_tenant_id==";
+
+    @Mock
+    private RedisTemplate<String, String> mockRedisTemplate;
+
+    @Mock
+    private HashOperations<String, String, String> mockHashOperations;
+
+    @InjectMocks
+    private RedisAccountsMarkerStore storeUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(storeUnderTest, "hashOperations", mockHashOperations);
+    }
+
+    @Test
+    void testSave() {
+        // Run the test
+        storeUnderTest.save(FILTER_KEY, 1000, "M1000", 60000L);
+
+        // Verify the results
+        verify(mockHashOperations).put("osis:listAccountsMarkers:" + FILTER_KEY, "1000", "M1000");
+        verify(mockRedisTemplate).expire("osis:listAccountsMarkers:" + FILTER_KEY, 60000L, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void testSaveWithoutTtl() {
+        // Run the test
+        storeUnderTest.save(FILTER_KEY, 1000, "M1000", 0L);
+
+        // Verify the results
+        verify(mockHashOperations).put(any(), any(), any());
+        verify(mockRedisTemplate, never()).expire(any(), anyLong(), any());
+    }
+
+    @Test
+    void testLoad() {
+        // Setup
+        final Map<String, String> entries = new HashMap<>();
+        entries.put("1000", "M1000");
+        entries.put("2000", "M2000");
+        when(mockHashOperations.entries("osis:listAccountsMarkers:" + FILTER_KEY)).thenReturn(entries);
+
+        // Run the test
+        final Map<Integer, String> result = storeUnderTest.load(FILTER_KEY);
+
+        // Verify the results
+        assertEquals(2, result.size());
+        assertEquals("M2000", result.get(2000));
+    }
+}
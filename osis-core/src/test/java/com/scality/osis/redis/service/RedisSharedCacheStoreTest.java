@@ -0,0 +1,92 @@
+package com.scality.osis.redis.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.*;
+
+class RedisSharedCacheStoreTest {
+
+    private static final String CACHE_NAME = "accountIDs";
+
+    private static final String CHANNEL = "osis:vaultCacheInvalidation";
+
+    @Mock
+    private RedisTemplate<String, String> mockRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> mockValueOperations;
+
+    @InjectMocks
+    private RedisSharedCacheStore storeUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(storeUnderTest, "valueOperations", mockValueOperations);
+    }
+
+    @Test
+    void testPut() {
+        // Run the test
+        storeUnderTest.put(CACHE_NAME, "tenant", "value", 30000L);
+
+        // Verify the results
+        verify(mockValueOperations).set("osis:vaultCache:accountIDs:tenant", "value", 30000L, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void testGet() {
+        // Setup
+        when(mockValueOperations.get("osis:vaultCache:accountIDs:tenant")).thenReturn("value");
+
+        // Run the test
+        final String result = storeUnderTest.get(CACHE_NAME, "tenant");
+
+        // Verify the results
+        assertEquals("value", result);
+    }
+
+    @Test
+    void testRemovePublishesInvalidation() {
+        // Run the test
+        storeUnderTest.remove(CACHE_NAME, "tenant");
+
+        // Verify the results
+        verify(mockRedisTemplate).delete("osis:vaultCache:accountIDs:tenant");
+        verify(mockRedisTemplate).convertAndSend(CHANNEL, CACHE_NAME + "\ntenant");
+    }
+
+    @Test
+    void testOnMessage() {
+        // Setup
+        final List<String> invalidatedKeys = new ArrayList<>();
+        storeUnderTest.subscribe(CACHE_NAME, invalidatedKeys::add);
+        storeUnderTest.subscribe("listAccounts", key -> invalidatedKeys.add("unexpected"));
+
+        // Run the test
+        storeUnderTest.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                (CACHE_NAME + "\ntenant").getBytes(StandardCharsets.UTF_8)), null);
+        storeUnderTest.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                CACHE_NAME.getBytes(StandardCharsets.UTF_8)), null);
+
+        // Verify the results: a message without key clears the cache
+        assertEquals(2, invalidatedKeys.size());
+        assertEquals("tenant", invalidatedKeys.get(0));
+        assertNull(invalidatedKeys.get(1));
+    }
+}
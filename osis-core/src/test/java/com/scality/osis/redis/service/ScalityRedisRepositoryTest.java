@@ -6,6 +6,10 @@ import org.mockito.*;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
@@ -46,6 +50,30 @@ class ScalityRedisRepositoryTest {
         assertEquals("value", result);
     }
 
+    @Test
+    void testMultiGet() {
+        // Setup
+        when(mockHashOperations.multiGet(any(), any())).thenReturn(Arrays.asList("value1", null));
+
+        // Run the test
+        final List<?> result = scalityRedisRepositoryUnderTest.multiGet(Arrays.asList("key1", "key2"));
+
+        // Verify the results
+        assertEquals(Arrays.asList("value1", null), result);
+        verify(mockHashOperations, times(1)).multiGet(any(), eq(Arrays.asList("key1", "key2")));
+        verify(mockHashOperations, never()).hasKey(any(), any());
+    }
+
+    @Test
+    void testMultiGetNoKeys() {
+        // Run the test
+        final List<?> result = scalityRedisRepositoryUnderTest.multiGet(Collections.emptyList());
+
+        // Verify the results
+        assertEquals(0, result.size());
+        verify(mockHashOperations, never()).multiGet(any(), any());
+    }
+
     @Test
     void testDelete() {
         // Setup
@@ -0,0 +1,89 @@
+package com.scality.osis.redis.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Opt-in comparison of the per key and batch secret key retrievals, run with `./gradlew benchmark`.
+ * The repository runs against an in-memory Redis stand-in which adds a fixed round trip latency to every command.
+ */
+@Tag("benchmark")
+class SecretKeysRetrievalBenchmarkTest {
+
+    private static final long ROUND_TRIP_IN_MICROS = 200L;
+
+    private final Map<String, String> hash = new ConcurrentHashMap<>();
+
+    private final AtomicInteger roundTrips = new AtomicInteger();
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1000})
+    void compareRetrievals(final int keys) {
+        final ScalityRedisRepository<String> repository = new ScalityRedisRepository<>();
+        ReflectionTestUtils.setField(repository, "hashOperations", remoteHashOperations());
+        final List<String> repoKeys = new ArrayList<>();
+        for (int index = 0; index < keys; index++) {
+            repoKeys.add("user__AK" + index);
+            hash.put("user__AK" + index, "secret" + index);
+        }
+
+        // the loop of listS3Credentials before the batch API: hasKey then get for every key
+        roundTrips.set(0);
+        long start = System.nanoTime();
+        final List<String> perKeyValues = new ArrayList<>();
+        for (String repoKey : repoKeys) {
+            perKeyValues.add(repository.hasKey(repoKey) ? repository.get(repoKey) : null);
+        }
+        final long perKeyInMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        final int perKeyRoundTrips = roundTrips.get();
+
+        roundTrips.set(0);
+        start = System.nanoTime();
+        final List<String> batchValues = repository.multiGet(repoKeys);
+        final long batchInMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        final int batchRoundTrips = roundTrips.get();
+
+        System.out.printf("keys=%d perKey=%dus (%d round trips) batch=%dus (%d round trips)%n",
+                keys, perKeyInMicros, perKeyRoundTrips, batchInMicros, batchRoundTrips);
+        assertEquals(perKeyValues, batchValues);
+        assertEquals(1, batchRoundTrips);
+    }
+
+    @SuppressWarnings("unchecked")
+    private HashOperations<String, String, String> remoteHashOperations() {
+        return (HashOperations<String, String, String>) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{HashOperations.class}, (proxy, method, args) -> {
+                    roundTrips.incrementAndGet();
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(ROUND_TRIP_IN_MICROS));
+                    switch (method.getName()) {
+                        case "hasKey":
+                            return hash.containsKey((String) args[1]);
+                        case "get":
+                            return hash.get((String) args[1]);
+                        case "multiGet":
+                            final List<String> values = new ArrayList<>();
+                            for (Object key : (Collection<?>) args[1]) {
+                                values.add(hash.get((String) key));
+                            }
+                            return values;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
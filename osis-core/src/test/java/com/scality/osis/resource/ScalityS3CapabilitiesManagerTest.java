@@ -0,0 +1,82 @@
+package com.scality.osis.resource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scality.osis.ScalityAppEnv;
+import com.scality.osis.model.OsisS3Capabilities;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.scality.osis.utils.ScalityTestUtils.TEST_S3_CAPABILITIES_FILE_PATH;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ScalityS3CapabilitiesManagerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ScalityAppEnv appEnvMock;
+
+    private ScalityS3CapabilitiesManager managerUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        appEnvMock = mock(ScalityAppEnv.class);
+        when(appEnvMock.getS3CapabilitiesFilePath()).thenReturn(TEST_S3_CAPABILITIES_FILE_PATH);
+        managerUnderTest = new ScalityS3CapabilitiesManager(appEnvMock, objectMapper);
+        managerUnderTest.init();
+    }
+
+    @Test
+    void testSnapshotJsonMatchesCapabilities() throws Exception {
+        // Run the test
+        final ScalityS3CapabilitiesManager.Snapshot snapshot = managerUnderTest.getSnapshot();
+
+        // Verify the results
+        assertFalse(snapshot.getCapabilities().getExclusions().isEmpty());
+        assertEquals(snapshot.getCapabilities(),
+                objectMapper.readValue(snapshot.getJson(), OsisS3Capabilities.class));
+        assertTrue(snapshot.getETag().matches("\"[0-9a-f]{32}\""));
+    }
+
+    @Test
+    void testReloadKeepsETagOfSameFile() {
+        // Setup
+        final ScalityS3CapabilitiesManager.Snapshot snapshot = managerUnderTest.getSnapshot();
+
+        // Run the test
+        final ScalityS3CapabilitiesManager.Snapshot reloaded = managerUnderTest.reload();
+
+        // Verify the results
+        assertNotSame(snapshot, reloaded);
+        assertEquals(snapshot.getETag(), reloaded.getETag());
+        assertFalse(managerUnderTest.reloadIfModified());
+    }
+
+    @Test
+    void testReloadMissingFileKeepsCapabilities() {
+        // Setup
+        final ScalityS3CapabilitiesManager.Snapshot snapshot = managerUnderTest.getSnapshot();
+        when(appEnvMock.getS3CapabilitiesFilePath()).thenReturn("missing.json");
+
+        // Run the test
+        final ScalityS3CapabilitiesManager.Snapshot reloaded = managerUnderTest.reload();
+
+        // Verify the results
+        assertSame(snapshot, reloaded);
+    }
+
+    @Test
+    void testMissingFileAtStartup() {
+        // Setup
+        when(appEnvMock.getS3CapabilitiesFilePath()).thenReturn("missing.json");
+
+        // Run the test
+        final ScalityS3CapabilitiesManager.Snapshot snapshot =
+                new ScalityS3CapabilitiesManager(appEnvMock, objectMapper).getSnapshot();
+
+        // Verify the results: no capability is excluded
+        assertTrue(snapshot.getCapabilities().getExclusions().isEmpty());
+        assertNotNull(snapshot.getETag());
+    }
+}
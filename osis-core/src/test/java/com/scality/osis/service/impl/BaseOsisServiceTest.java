@@ -9,21 +9,28 @@ import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.s3.model.Owner;
 import com.amazonaws.services.securitytoken.model.AssumeRoleRequest;
 import com.amazonaws.services.securitytoken.model.Credentials;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.scality.osis.ScalityAppEnv;
 import com.scality.osis.model.OsisUser;
 import com.scality.osis.redis.service.ScalityRedisRepository;
 import com.scality.osis.resource.ScalityOsisCapsManager;
+import com.scality.osis.resource.ScalityS3CapabilitiesManager;
 import com.scality.osis.s3.impl.S3Impl;
 import com.scality.osis.security.crypto.BaseCipher;
 import com.scality.osis.security.crypto.model.CipherInformation;
 import com.scality.osis.security.crypto.model.SecretKeyRepoData;
 import com.scality.osis.security.utils.CipherFactory;
 import com.scality.osis.utapi.impl.UtapiImpl;
+import com.scality.osis.utils.AdminPolicyRepairCoordinator;
+import com.scality.osis.utils.FanOutExecutor;
+import com.scality.osis.utils.TenantDirectory;
+import com.scality.osis.utils.UserStatusIndex;
 import com.scality.osis.utapiclient.dto.MetricsData;
 import com.scality.osis.utapiclient.services.UtapiServiceClient;
 import com.scality.osis.vaultadmin.impl.VaultAdminImpl;
 import com.scality.osis.vaultadmin.impl.cache.CacheFactory;
 import com.scality.osis.vaultadmin.impl.cache.CacheImpl;
+import com.scality.osis.vaultadmin.impl.cache.StripedCacheImpl;
 import com.scality.vaultclient.dto.*;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +40,9 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 import java.util.*;
 
@@ -42,6 +52,8 @@ import static com.scality.osis.utils.ScalityConstants.CD_TENANT_ID_PREFIX;
 import static com.scality.osis.utils.ScalityConstants.REDIS_SPRING_CACHE_TYPE;
 import static com.scality.osis.utils.ScalityTestUtils.*;
 import static com.scality.osis.vaultadmin.impl.cache.CacheConstants.DEFAULT_CACHE_MAX_CAPACITY;
+import static com.scality.osis.vaultadmin.impl.cache.CacheConstants.NAME_ACCESS_KEY_OWNER_CACHE;
+import static com.scality.osis.vaultadmin.impl.cache.CacheConstants.NAME_CANONICAL_USER_CACHE;
 import static com.scality.osis.vaultadmin.impl.cache.CacheConstants.NAME_LIST_ACCOUNTS_CACHE;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -105,6 +117,25 @@ class BaseOsisServiceTest {
                 asyncScalityOsisServiceUnderTest);
         ReflectionTestUtils.setField(scalityOsisServiceUnderTest, "scalityRedisRepository", redisRepositoryMock);
         ReflectionTestUtils.setField(scalityOsisServiceUnderTest, "cipherFactory", cipherFactoryMock);
+        ReflectionTestUtils.setField(scalityOsisServiceUnderTest, "fanOutExecutor",
+                new FanOutExecutor(64, 16, 30000L));
+        ReflectionTestUtils.setField(scalityOsisServiceUnderTest, "cryptoExecutor",
+                new FanOutExecutor("osis-crypto-", 4, 4, 30000L));
+        ReflectionTestUtils.setField(scalityOsisServiceUnderTest, "userStatusIndex",
+                new UserStatusIndex(1000, 300000L));
+        ReflectionTestUtils.setField(scalityOsisServiceUnderTest, "tenantDirectory",
+                new TenantDirectory(300000L));
+        ReflectionTestUtils.setField(scalityOsisServiceUnderTest, "adminPolicyRepairCoordinator",
+                new AdminPolicyRepairCoordinator(1000L, 60000L));
+        ReflectionTestUtils.setField(scalityOsisServiceUnderTest, "s3CapabilitiesManager",
+                new ScalityS3CapabilitiesManager(appEnvMock, new ObjectMapper()));
+
+        final CacheFactory serviceCacheFactoryMock = mock(CacheFactory.class);
+        when(serviceCacheFactoryMock.getCache(NAME_CANONICAL_USER_CACHE))
+                .thenReturn(new StripedCacheImpl<>(DEFAULT_CACHE_MAX_CAPACITY, 30000L));
+        when(serviceCacheFactoryMock.getCache(NAME_ACCESS_KEY_OWNER_CACHE))
+                .thenReturn(new StripedCacheImpl<>(DEFAULT_CACHE_MAX_CAPACITY, 30000L));
+        ReflectionTestUtils.setField(scalityOsisServiceUnderTest, "cacheFactory", serviceCacheFactoryMock);
     }
 
     protected void initMocks() {
@@ -155,8 +186,8 @@ class BaseOsisServiceTest {
 
     private void initBaseCipherMocks() {
         try {
-            when(baseCipherMock.encrypt(any(), any(), any())).thenReturn(mockSecretKeyRepoData());
-            when(baseCipherMock.decrypt(any(), any(), any())).thenReturn(TEST_SECRET_KEY);
+            when(baseCipherMock.encrypt(any(), any(SecretKey.class), any())).thenReturn(mockSecretKeyRepoData());
+            when(baseCipherMock.decrypt(any(), any(SecretKey.class), any())).thenReturn(TEST_SECRET_KEY);
         } catch (Exception e) {
             init();
         }
@@ -169,12 +200,24 @@ class BaseOsisServiceTest {
         when(cipherFactoryMock.getLatestCipherID()).thenReturn("1");
         when(cipherFactoryMock.getSecretCipherKeyByID(any())).thenReturn(TEST_CIPHER_SECRET_KEY);
         when(cipherFactoryMock.getLatestSecretCipherKey()).thenReturn(TEST_CIPHER_SECRET_KEY);
+        final SecretKey secretKey = new SecretKeySpec(TEST_CIPHER_SECRET_KEY.getBytes(StandardCharsets.UTF_8), "AES");
+        when(cipherFactoryMock.getSecretKeyByID(any())).thenReturn(secretKey);
+        when(cipherFactoryMock.getLatestSecretKey()).thenReturn(secretKey);
         when(cipherFactoryMock.getLatestCipherName()).thenReturn(NAME_AES_256_GCM_CIPHER);
     }
 
     private void initRedisMocks() {
         when(redisRepositoryMock.get(any())).thenReturn(mockSecretKeyRepoData());
         when(redisRepositoryMock.hasKey(any())).thenReturn(Boolean.TRUE);
+        // the batch get answers like the single key calls, so the tests can stub `hasKey` and `get` only
+        when(redisRepositoryMock.multiGet(any())).thenAnswer((Answer<List<SecretKeyRepoData>>) invocation -> {
+            final Collection<String> keys = invocation.getArgument(0);
+            final List<SecretKeyRepoData> values = new ArrayList<>();
+            for (String key : keys) {
+                values.add(Boolean.TRUE.equals(redisRepositoryMock.hasKey(key)) ? redisRepositoryMock.get(key) : null);
+            }
+            return values;
+        });
     }
 
     private SecretKeyRepoData mockSecretKeyRepoData() {
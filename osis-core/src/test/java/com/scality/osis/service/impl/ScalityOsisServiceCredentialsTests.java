@@ -3,6 +3,9 @@ package com.scality.osis.service.impl;
 import com.amazonaws.services.identitymanagement.model.*;
 import com.scality.osis.model.OsisS3Credential;
 import com.scality.osis.model.PageOfS3Credentials;
+import com.scality.osis.utils.FanOutExecutor;
+import com.scality.osis.utils.ScalityModelConverter;
+import com.scality.osis.utils.UserStatusIndex;
 import com.scality.osis.vaultadmin.impl.VaultServiceException;
 import com.scality.vaultclient.dto.GetUserByAccessKeyRequestDTO;
 import com.scality.vaultclient.dto.GetUserByAccessKeyResponseDTO;
@@ -10,8 +13,11 @@ import com.scality.vaultclient.dto.UserData;
 import org.junit.jupiter.api.Test;
 import org.mockito.stubbing.Answer;
 import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.crypto.AEADBadTagException;
+import javax.crypto.SecretKey;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
@@ -293,6 +299,60 @@ class ScalityOsisServiceCredentialsTests extends BaseOsisServiceTest {
         assertTrue(result.getActive());
     }
 
+    @Test
+    void testGetS3CredentialWithOnlyAccessKeyCachesOwner() {
+        // Setup
+        when(vaultAdminMock.getUserByAccessKey(any(GetUserByAccessKeyRequestDTO.class)))
+                .thenAnswer((Answer<GetUserByAccessKeyResponseDTO>) innovation -> {
+                    final GetUserByAccessKeyResponseDTO response = new GetUserByAccessKeyResponseDTO();
+                    final UserData user = new UserData();
+                    user.setName(TEST_USER_ID);
+                    user.setParentId(SAMPLE_TENANT_ID);
+                    response.setData(user);
+                    return response;
+                });
+        scalityOsisServiceUnderTest.getS3Credential(TEST_ACCESS_KEY);
+
+        // Run the test
+        final OsisS3Credential result = scalityOsisServiceUnderTest.getS3Credential(TEST_ACCESS_KEY);
+
+        // Verify the results
+        assertEquals(TEST_USER_ID, result.getUserId());
+        assertEquals(SAMPLE_TENANT_ID, result.getTenantId());
+        verify(vaultAdminMock, times(1)).getUserByAccessKey(any(GetUserByAccessKeyRequestDTO.class));
+    }
+
+    @Test
+    void testGetS3CredentialWithOnlyAccessKeyOfCreatedCredential() {
+        // Setup
+        scalityOsisServiceUnderTest.createS3Credential(SAMPLE_TENANT_ID, TEST_USER_ID);
+
+        // Run the test
+        final OsisS3Credential result = scalityOsisServiceUnderTest.getS3Credential(TEST_ACCESS_KEY);
+
+        // Verify the results: the owner is known since the access key creation
+        assertEquals(TEST_USER_ID, result.getUserId());
+        assertEquals(SAMPLE_TENANT_ID, result.getTenantId());
+        verify(vaultAdminMock, never()).getUserByAccessKey(any(GetUserByAccessKeyRequestDTO.class));
+    }
+
+    @Test
+    void testDeleteS3CredentialEvictsOwner() {
+        // Setup
+        scalityOsisServiceUnderTest.createS3Credential(SAMPLE_TENANT_ID, TEST_USER_ID);
+        scalityOsisServiceUnderTest.deleteS3Credential(null, null, TEST_ACCESS_KEY);
+        when(vaultAdminMock.getUserByAccessKey(any(GetUserByAccessKeyRequestDTO.class)))
+                .thenThrow(new VaultServiceException(HttpStatus.NOT_FOUND, "The access key doesn't exist"));
+
+        // Run the test
+        assertThrows(VaultServiceException.class,
+                () -> scalityOsisServiceUnderTest.getS3Credential(TEST_ACCESS_KEY));
+
+        // Verify the results
+        verify(iamMock).deleteAccessKey(any(DeleteAccessKeyRequest.class));
+        verify(vaultAdminMock, times(1)).getUserByAccessKey(any(GetUserByAccessKeyRequestDTO.class));
+    }
+
     @Test
     void testGetS3CredentialWithOnlyAccessKeyInactive() {
         // Setup
@@ -455,7 +515,7 @@ class ScalityOsisServiceCredentialsTests extends BaseOsisServiceTest {
 
     @Test
     void testGetS3CredentialsKeyPresentInRedisUnableToDecrypt() throws Exception {
-        when(baseCipherMock.decrypt(any(), any(), any())).thenThrow(new AEADBadTagException("Decryption failed"));
+        when(baseCipherMock.decrypt(any(), any(SecretKey.class), any())).thenThrow(new AEADBadTagException("Decryption failed"));
         final OsisS3Credential result = scalityOsisServiceUnderTest.getS3Credential(SAMPLE_TENANT_ID, TEST_USER_ID, TEST_ACCESS_KEY);
         // When decryption fails, the API call should succeed, and we should return the result with secret key listed as
         // "Not Available"
@@ -537,15 +597,125 @@ class ScalityOsisServiceCredentialsTests extends BaseOsisServiceTest {
 
     }
 
+    @Test
+    void testListS3CredentialsCreatedKeyActivatesIndexedUser() {
+        // Setup: the user is indexed without an active access key, and has no secret key on Redis
+        final UserStatusIndex userStatusIndex = (UserStatusIndex) ReflectionTestUtils
+                .getField(scalityOsisServiceUnderTest, "userStatusIndex");
+        userStatusIndex.put(TEST_TENANT_ID, TEST_USER_ID, Collections.emptyList());
+        when(redisRepositoryMock.hasKey(any())).thenReturn(Boolean.FALSE);
+
+        // Run the test
+        scalityOsisServiceUnderTest.listS3Credentials(TEST_TENANT_ID, TEST_USER_ID, 0L, 1000L);
+
+        // Verify the results: the created access key is active
+        verify(iamMock).createAccessKey(any());
+        assertEquals(Boolean.TRUE, userStatusIndex.get(TEST_TENANT_ID, TEST_USER_ID));
+    }
+
     @Test
     void testListS3CredentialsKeyPresentInRedisUnableToDecrypt() throws Exception {
-        when(baseCipherMock.decrypt(any(), any(), any())).thenThrow(new AEADBadTagException("Decryption failed"));
+        when(baseCipherMock.decrypt(any(), any(SecretKey.class), any())).thenThrow(new AEADBadTagException("Decryption failed"));
         final List<OsisS3Credential> result = scalityOsisServiceUnderTest.listS3Credentials(TEST_TENANT_ID,
                 TEST_USER_ID, 0L, 1000L).getItems();
         // When decryption fails, the API call should succeed, and we should get a new access key in the result
         assertEquals(2, result.size());
     }
 
+    @Test
+    void testListS3CredentialsSingleRedisRoundTrip() {
+        // Setup
+        when(iamMock.listAccessKeys(any(ListAccessKeysRequest.class)))
+                .thenAnswer((Answer<ListAccessKeysResult>) invocation -> new ListAccessKeysResult()
+                        .withAccessKeyMetadata(Arrays.asList(
+                                new AccessKeyMetadata().withAccessKeyId(TEST_ACCESS_KEY)
+                                        .withCreateDate(new Date()).withStatus(StatusType.Active),
+                                new AccessKeyMetadata().withAccessKeyId(TEST_ACCESS_KEY_2)
+                                        .withCreateDate(new Date()).withStatus(StatusType.Active))));
+
+        // Run the test
+        final List<OsisS3Credential> result = scalityOsisServiceUnderTest.listS3Credentials(TEST_TENANT_ID,
+                TEST_USER_ID, 0L, 1000L).getItems();
+
+        // Verify the results: the secret keys of the page are read with one batch get
+        assertEquals(2, result.size());
+        assertEquals(TEST_SECRET_KEY, result.get(0).getSecretKey());
+        assertEquals(TEST_SECRET_KEY, result.get(1).getSecretKey());
+        verify(redisRepositoryMock, times(1)).multiGet(any());
+        verify(iamMock, never()).createAccessKey(any());
+    }
+
+    @Test
+    void testListS3CredentialsParallelDecryptDeletesFailingKeyOnly() throws Exception {
+        // Setup: the secret key of TEST_ACCESS_KEY_2 cannot be decrypted
+        final String thirdAccessKey = TEST_ACCESS_KEY + "3";
+        when(iamMock.listAccessKeys(any(ListAccessKeysRequest.class)))
+                .thenAnswer((Answer<ListAccessKeysResult>) invocation -> new ListAccessKeysResult()
+                        .withAccessKeyMetadata(Arrays.asList(
+                                new AccessKeyMetadata().withAccessKeyId(TEST_ACCESS_KEY)
+                                        .withCreateDate(new Date()).withStatus(StatusType.Active),
+                                new AccessKeyMetadata().withAccessKeyId(TEST_ACCESS_KEY_2)
+                                        .withCreateDate(new Date()).withStatus(StatusType.Active),
+                                new AccessKeyMetadata().withAccessKeyId(thirdAccessKey)
+                                        .withCreateDate(new Date()).withStatus(StatusType.Active))));
+        final String failingRepoKey = ScalityModelConverter.toRepoKeyForCredentials(TEST_USER_ID, TEST_ACCESS_KEY_2);
+        when(baseCipherMock.decrypt(any(), any(SecretKey.class), any())).thenAnswer(invocation -> {
+            final String repoKey = invocation.getArgument(2);
+            if (failingRepoKey.equals(repoKey)) {
+                throw new AEADBadTagException("Decryption failed");
+            }
+            return "secret-" + repoKey;
+        });
+
+        // Run the test
+        final List<OsisS3Credential> result = scalityOsisServiceUnderTest.listS3Credentials(TEST_TENANT_ID,
+                TEST_USER_ID, 0L, 1000L).getItems();
+
+        // Verify the results: each secret key is merged back to its access key
+        assertEquals(3, result.size());
+        assertEquals(TEST_ACCESS_KEY, result.get(0).getAccessKey());
+        assertEquals("secret-" + ScalityModelConverter.toRepoKeyForCredentials(TEST_USER_ID, TEST_ACCESS_KEY),
+                result.get(0).getSecretKey());
+        assertEquals(thirdAccessKey, result.get(1).getAccessKey());
+        assertEquals("secret-" + ScalityModelConverter.toRepoKeyForCredentials(TEST_USER_ID, thirdAccessKey),
+                result.get(1).getSecretKey());
+        assertEquals(TEST_ACCESS_KEY_2, result.get(2).getAccessKey());
+        assertEquals(NOT_AVAILABLE, result.get(2).getSecretKey());
+        verify(redisRepositoryMock, times(1)).delete(failingRepoKey);
+        verify(redisRepositoryMock, times(1)).delete(any());
+    }
+
+    @Test
+    void testListS3CredentialsCryptoTimeoutDoesNotCreateKey() throws Exception {
+        // Setup: the crypto pool misses its time budget for every secret key of the page
+        ReflectionTestUtils.setField(scalityOsisServiceUnderTest, "cryptoExecutor",
+                new FanOutExecutor("osis-crypto-", 2, 2, 50L));
+        when(iamMock.listAccessKeys(any(ListAccessKeysRequest.class)))
+                .thenAnswer((Answer<ListAccessKeysResult>) invocation -> new ListAccessKeysResult()
+                        .withAccessKeyMetadata(Arrays.asList(
+                                new AccessKeyMetadata().withAccessKeyId(TEST_ACCESS_KEY)
+                                        .withCreateDate(new Date()).withStatus(StatusType.Active),
+                                new AccessKeyMetadata().withAccessKeyId(TEST_ACCESS_KEY_2)
+                                        .withCreateDate(new Date()).withStatus(StatusType.Active))));
+        when(baseCipherMock.decrypt(any(), any(SecretKey.class), any())).thenAnswer(invocation -> {
+            if (Thread.currentThread().getName().startsWith("osis-crypto-")) {
+                Thread.sleep(1000L);
+            }
+            return TEST_SECRET_KEY;
+        });
+
+        // Run the test
+        final List<OsisS3Credential> result = scalityOsisServiceUnderTest.listS3Credentials(TEST_TENANT_ID,
+                TEST_USER_ID, 0L, 1000L).getItems();
+
+        // Verify the results: the secret keys are decrypted on the request thread, no key is created
+        assertEquals(2, result.size());
+        assertEquals(TEST_SECRET_KEY, result.get(0).getSecretKey());
+        assertEquals(TEST_SECRET_KEY, result.get(1).getSecretKey());
+        verify(iamMock, never()).createAccessKey(any());
+        verify(redisRepositoryMock, never()).delete(any());
+    }
+
     @Test
     void testListS3CredentialsErr() {
         // Setup
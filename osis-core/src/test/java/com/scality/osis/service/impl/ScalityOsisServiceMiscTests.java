@@ -9,10 +9,13 @@ import com.amazonaws.services.securitytoken.model.Credentials;
 import com.scality.osis.model.*;
 import com.scality.osis.model.exception.NotImplementedException;
 import com.scality.osis.s3.impl.S3ServiceException;
+import com.scality.osis.utils.TenantReadinessJob;
 import com.scality.osis.utapi.impl.UtapiServiceException;
 import com.scality.osis.utapiclient.dto.ListMetricsRequestDTO;
 import com.scality.osis.utapiclient.dto.MetricsData;
 import com.scality.osis.vaultadmin.impl.VaultServiceException;
+import com.scality.osis.vaultadmin.impl.cache.CacheFactory;
+import com.scality.osis.vaultadmin.impl.cache.StripedCacheImpl;
 import com.scality.vaultclient.dto.*;
 
 import org.junit.jupiter.api.Disabled;
@@ -20,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
 import java.util.Date;
@@ -28,6 +32,8 @@ import java.util.Optional;
 
 import static com.scality.osis.utils.ScalityConstants.IAM_PREFIX;
 import static com.scality.osis.utils.ScalityTestUtils.*;
+import static com.scality.osis.vaultadmin.impl.cache.CacheConstants.DEFAULT_CACHE_MAX_CAPACITY;
+import static com.scality.osis.vaultadmin.impl.cache.CacheConstants.NAME_BUCKET_LIST_CACHE;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -66,6 +72,20 @@ class ScalityOsisServiceMiscTests extends BaseOsisServiceTest {
         // Verify the results
     }
 
+    @Test
+    void testGetS3CapabilitiesLoadedOnce() {
+        // Setup
+        final OsisS3Capabilities first = scalityOsisServiceUnderTest.getS3Capabilities();
+
+        // Run the test
+        final OsisS3Capabilities second = scalityOsisServiceUnderTest.getS3Capabilities();
+
+        // Verify the results
+        assertSame(first, second);
+        assertFalse(second.getExclusions().isEmpty());
+        verify(appEnvMock, times(1)).getS3CapabilitiesFilePath();
+    }
+
     @Test
     void testGetInformationWithBasicAuth() {
         // Setup
@@ -157,6 +177,28 @@ class ScalityOsisServiceMiscTests extends BaseOsisServiceTest {
         assertEquals((int) limit, response.getItems().size());
     }
 
+    @Test
+    void testGetBucketListPagesShareOneSnapshot() {
+        // Setup
+        final CacheFactory cacheFactory = (CacheFactory) ReflectionTestUtils.getField(scalityOsisServiceUnderTest,
+                "cacheFactory");
+        when(cacheFactory.getCache(NAME_BUCKET_LIST_CACHE))
+                .thenReturn(new StripedCacheImpl<>(DEFAULT_CACHE_MAX_CAPACITY, 30000L));
+
+        // Run the test: page through the buckets
+        final PageOfOsisBucketMeta firstPage = scalityOsisServiceUnderTest.getBucketList(SAMPLE_TENANT_ID, 0L, 1000L);
+        final PageOfOsisBucketMeta secondPage = scalityOsisServiceUnderTest.getBucketList(SAMPLE_TENANT_ID, 1000L, 1000L);
+
+        // Verify the results: the buckets are listed once for all the pages
+        assertEquals(TEST_BUCKET_TOTAL_NUMBER, firstPage.getPageInfo().getTotal());
+        assertEquals(TEST_BUCKET_TOTAL_NUMBER, secondPage.getPageInfo().getTotal());
+        assertEquals(1000, secondPage.getItems().size());
+        assertEquals(TEST_CANONICAL_ID, secondPage.getItems().get(0).getUserId());
+        assertNotEquals(firstPage.getItems().get(0).getName(), secondPage.getItems().get(0).getName());
+        verify(s3ClientMock, times(1)).listBuckets();
+        verify(vaultAdminMock, times(1)).getAccount(any(GetAccountRequestDTO.class));
+    }
+
     @Test
     void testGetBucketListErr() {
         // Setup
@@ -369,6 +411,66 @@ class ScalityOsisServiceMiscTests extends BaseOsisServiceTest {
         // Verify the results
     }
 
+    @Test
+    void testEnsureTenantReady() throws Exception {
+        // Setup
+        final AccountData account = new AccountData();
+        account.setId(TEST_TENANT_ID);
+        account.setName(TEST_NAME);
+
+        // Run the test
+        final TenantReadinessJob.Outcome outcome = scalityOsisServiceUnderTest.ensureTenantReady(account);
+
+        // Verify the results
+        assertEquals(TenantReadinessJob.Outcome.READY, outcome);
+        verify(vaultAdminMock, never()).getAccountAccessKey(any(GenerateAccountAccessKeyRequest.class));
+    }
+
+    @Test
+    void testEnsureTenantReadyWithNoRole() throws Exception {
+        // Setup
+        final AccountData account = new AccountData();
+        account.setId(TEST_TENANT_ID);
+        account.setName(TEST_NAME);
+        when(vaultAdminMock.getTempAccountCredentials(any(AssumeRoleRequest.class)))
+                .thenThrow(new VaultServiceException(HttpStatus.FORBIDDEN, "AccessDenied",
+                        "User: backbeat is not allowed to assume role"))
+                .thenAnswer((Answer<Credentials>) invocation -> new Credentials()
+                        .withAccessKeyId(TEST_ACCESS_KEY)
+                        .withSecretAccessKey(TEST_SECRET_KEY)
+                        .withSessionToken(TEST_SESSION_TOKEN)
+                        .withExpiration(new Date()));
+
+        // Run the test
+        final TenantReadinessJob.Outcome outcome = scalityOsisServiceUnderTest.ensureTenantReady(account);
+
+        // Verify the results
+        assertEquals(TenantReadinessJob.Outcome.PROVISIONED, outcome);
+        verify(iamMock).createRole(any(CreateRoleRequest.class));
+    }
+
+    @Test
+    void testEnsureTenantReadyWithNoAdminPolicy() throws Exception {
+        // Setup
+        final AccountData account = new AccountData();
+        account.setId(TEST_TENANT_ID);
+        account.setName(TEST_NAME);
+        when(iamMock.getPolicy(any(GetPolicyRequest.class)))
+                .thenAnswer((Answer<GetPolicyResult>) invocation -> {
+                    final AmazonIdentityManagementException iamException = new AmazonIdentityManagementException(
+                            "Forbidden");
+                    iamException.setStatusCode(HttpStatus.FORBIDDEN.value());
+                    throw iamException;
+                });
+
+        // Run the test
+        final TenantReadinessJob.Outcome outcome = scalityOsisServiceUnderTest.ensureTenantReady(account);
+
+        // Verify the results
+        assertEquals(TenantReadinessJob.Outcome.PROVISIONED, outcome);
+        verify(iamMock).attachRolePolicy(any(AttachRolePolicyRequest.class));
+    }
+
     @Test
     void testSetupAssumeRoleAsync() {
 
@@ -3,15 +3,18 @@ package com.scality.osis.service.impl;
 import com.scality.osis.model.OsisTenant;
 import com.scality.osis.model.PageOfTenants;
 import com.scality.osis.model.exception.BadRequestException;
+import com.scality.osis.utils.TenantDirectory;
 import com.scality.osis.model.exception.NotImplementedException;
 import com.scality.osis.vaultadmin.impl.VaultServiceException;
 import com.scality.vaultclient.dto.*;
 import org.junit.jupiter.api.Test;
 import org.mockito.stubbing.Answer;
 import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
 import com.scality.osis.model.exception.NotFoundException;
 
 import java.util.ArrayList;
+import java.util.Collections;
 
 import static com.scality.osis.utils.ScalityConstants.CD_TENANT_ID_PREFIX;
 import static com.scality.osis.utils.ScalityTestUtils.*;
@@ -147,6 +150,32 @@ class ScalityOsisServiceTenantTests extends BaseOsisServiceTest {
         assertEquals(SAMPLE_CD_TENANT_ID, response.getItems().get(0).getCdTenantIds().get(0));
     }
 
+    @Test
+    void testQueryTenantsFromTenantDirectory() {
+        // Setup
+        final long offset = 0L;
+        final long limit = 1000L;
+        final String filter = CD_TENANT_ID_PREFIX + SAMPLE_CD_TENANT_ID;
+        final AccountData account = new AccountData();
+        account.setId(SAMPLE_TENANT_ID);
+        account.setName(TEST_NAME);
+        account.setCustomAttributes(Collections.singletonMap(CD_TENANT_ID_PREFIX + SAMPLE_CD_TENANT_ID, ""));
+        final ListAccountsResponseDTO page = new ListAccountsResponseDTO();
+        page.setAccounts(Collections.singletonList(account));
+        final TenantDirectory tenantDirectory = new TenantDirectory(300000L);
+        tenantDirectory.refresh(marker -> page);
+        ReflectionTestUtils.setField(scalityOsisServiceUnderTest, "tenantDirectory", tenantDirectory);
+
+        // Run the test
+        final PageOfTenants response = scalityOsisServiceUnderTest.queryTenants(offset, limit, filter);
+
+        // Verify the results
+        assertEquals(1, response.getItems().size());
+        assertEquals(SAMPLE_TENANT_ID, response.getItems().get(0).getTenantId());
+        assertEquals(SAMPLE_CD_TENANT_ID, response.getItems().get(0).getCdTenantIds().get(0));
+        verify(vaultAdminMock, never()).listAccounts(anyLong(), any(ListAccountsRequestDTO.class));
+    }
+
     @Test
     void testQueryTenantsWithNonUUID() {
         // Setup
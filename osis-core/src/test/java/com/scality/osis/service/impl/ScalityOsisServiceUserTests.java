@@ -1,14 +1,21 @@
 package com.scality.osis.service.impl;
 
+import com.amazonaws.services.identitymanagement.model.User;
 import com.amazonaws.services.identitymanagement.model.*;
 import com.scality.osis.model.*;
+import com.scality.osis.utils.FanOutExecutor;
+import com.scality.osis.utils.UserStatusIndex;
 import com.scality.vaultclient.dto.*;
 import org.junit.jupiter.api.Test;
 import org.mockito.stubbing.Answer;
 import com.scality.osis.vaultadmin.impl.*;
 import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.scality.osis.utils.ScalityConstants.*;
 import static com.scality.osis.utils.ScalityTestUtils.*;
@@ -422,6 +429,39 @@ class ScalityOsisServiceUserTests extends BaseOsisServiceTest {
         assertThrows(VaultServiceException.class, () -> scalityOsisServiceUnderTest.getUser(TEST_CANONICAL_ID));
     }
 
+    @Test
+    void testGetUserWithCanonicalIDNoAdminPolicy() throws Exception {
+        // Setup: the first listUsers call is denied until the admin policy is repaired
+        final AmazonIdentityManagementException iamException = new AmazonIdentityManagementException("Forbidden");
+        iamException.setStatusCode(HttpStatus.FORBIDDEN.value());
+        when(iamMock.listUsers(any(ListUsersRequest.class)))
+                .thenThrow(iamException)
+                .thenAnswer((Answer<ListUsersResult>) invocation -> listUsersMockResponse(invocation));
+
+        // Run the test
+        final OsisUser osisUser = scalityOsisServiceUnderTest.getUser(TEST_CANONICAL_ID);
+
+        // Verify the results: the admin policy is repaired and the user is resolved again
+        assertEquals(SAMPLE_TENANT_ID, osisUser.getTenantId());
+        assertNotNull(osisUser.getUserId());
+        assertTrue(osisUser.getActive());
+        verify(iamMock, times(2)).listUsers(any(ListUsersRequest.class));
+    }
+
+    @Test
+    void testGetUserWithCanonicalIDIamErr() {
+        // Setup
+        when(iamMock.listUsers(any(ListUsersRequest.class)))
+                .thenThrow(new AmazonIdentityManagementException("Service Unavailable"));
+
+        // Run the test
+        final VaultServiceException exception = assertThrows(VaultServiceException.class,
+                () -> scalityOsisServiceUnderTest.getUser(TEST_CANONICAL_ID));
+
+        // Verify the results: the tenant exists, the failure is not reported as a 404
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exception.getStatus());
+    }
+
     @Test
     void testGetUserWithCanonicalIDInactive() {
         // Setup
@@ -446,6 +486,59 @@ class ScalityOsisServiceUserTests extends BaseOsisServiceTest {
         assertFalse(resUser.getActive());
     }
 
+    @Test
+    void testGetUserWithCanonicalIDCachesTenantAdminUser() {
+        // Setup
+        final OsisUser firstUser = scalityOsisServiceUnderTest.getUser(TEST_CANONICAL_ID);
+
+        // Run the test
+        final OsisUser osisUser = scalityOsisServiceUnderTest.getUser(TEST_CANONICAL_ID);
+
+        // Verify the results: one list-users for the whole tenant, then a single get-user per lookup
+        assertEquals(firstUser.getUserId(), osisUser.getUserId());
+        assertTrue(osisUser.getActive());
+        verify(iamMock, times(1)).listUsers(any(ListUsersRequest.class));
+        verify(iamMock, times(1)).getUser(any(GetUserRequest.class));
+        verify(iamMock, times(1)).listAccessKeys(any(ListAccessKeysRequest.class));
+    }
+
+    @Test
+    void testGetUserWithCanonicalIDPrefersTenantAdmin() {
+        // Setup
+        final List<User> users = new ArrayList<>();
+        for (String role : Arrays.asList(OsisUser.RoleEnum.TENANT_USER.getValue(),
+                OsisUser.RoleEnum.TENANT_ADMIN.getValue(), OsisUser.RoleEnum.TENANT_USER.getValue())) {
+            users.add(new User()
+                    .withUserName(TEST_NAME + users.size())
+                    .withPath("/" + TEST_NAME + users.size() + "/" + role + "/" + SAMPLE_SCALITY_USER_EMAIL + "/"
+                            + TEST_TENANT_ID + "/")
+                    .withCreateDate(new Date()));
+        }
+        when(iamMock.listUsers(any(ListUsersRequest.class))).thenReturn(new ListUsersResult().withUsers(users));
+
+        // Run the test
+        final OsisUser osisUser = scalityOsisServiceUnderTest.getUser(TEST_CANONICAL_ID);
+
+        // Verify the results
+        assertEquals(TEST_NAME + 1, osisUser.getUserId());
+    }
+
+    @Test
+    void testGetUserWithCanonicalIDDeletedTenantAdmin() {
+        // Setup: the cached tenant admin user was deleted
+        scalityOsisServiceUnderTest.getUser(TEST_CANONICAL_ID);
+        final NoSuchEntityException noSuchEntityException = new NoSuchEntityException("User not found");
+        noSuchEntityException.setStatusCode(HttpStatus.NOT_FOUND.value());
+        when(iamMock.getUser(any(GetUserRequest.class))).thenThrow(noSuchEntityException);
+
+        // Run the test
+        final OsisUser osisUser = scalityOsisServiceUnderTest.getUser(TEST_CANONICAL_ID);
+
+        // Verify the results: the tenant admin user is resolved again
+        assertNotNull(osisUser.getUserId());
+        verify(iamMock, times(2)).listUsers(any(ListUsersRequest.class));
+    }
+
     @Test
     void testGetUserWithUserID() {
         // Setup
@@ -663,6 +756,176 @@ class ScalityOsisServiceUserTests extends BaseOsisServiceTest {
         assertFalse(response.getItems().get(0).getActive());
     }
 
+    @Test
+    void testListUsersAccessKeysFanOut() {
+        // Setup: every listAccessKeys call takes 50ms
+        final long offset = 0L;
+        final long limit = 200L;
+        final long iamLatencyInMS = 50L;
+        final int requestConcurrency = 20;
+        ReflectionTestUtils.setField(scalityOsisServiceUnderTest, "fanOutExecutor",
+                new FanOutExecutor(64, requestConcurrency, 30000L));
+        when(iamMock.listAccessKeys(any(ListAccessKeysRequest.class)))
+                .thenAnswer((Answer<ListAccessKeysResult>) invocation -> {
+                    Thread.sleep(iamLatencyInMS);
+                    return listAccessKeysMockResponse(invocation);
+                });
+
+        // Run the test
+        final long start = System.nanoTime();
+        final PageOfUsers response = scalityOsisServiceUnderTest.listUsers(SAMPLE_TENANT_ID, offset, limit);
+        final long elapsedInMS = (System.nanoTime() - start) / 1_000_000L;
+
+        // Verify the results: the page takes about limit / concurrency round trips, not limit round trips
+        assertEquals((int) limit, response.getItems().size());
+        assertTrue(elapsedInMS < limit * iamLatencyInMS / 4,
+                "listUsers took " + elapsedInMS + "ms");
+        for (int index = 0; index < limit; index++) {
+            assertEquals(TEST_NAME + index, response.getItems().get(index).getUserId());
+            assertTrue(response.getItems().get(index).getActive());
+        }
+    }
+
+    @Test
+    void testListUsersUnknownStatusOnAccessKeysTimeout() {
+        // Setup: the access keys of one user are not listed within the fan-out time budget
+        final long offset = 0L;
+        final long limit = 10L;
+        ReflectionTestUtils.setField(scalityOsisServiceUnderTest, "fanOutExecutor",
+                new FanOutExecutor(64, 16, 200L));
+        when(iamMock.listAccessKeys(any(ListAccessKeysRequest.class)))
+                .thenAnswer((Answer<ListAccessKeysResult>) invocation -> {
+                    final ListAccessKeysRequest request = invocation.getArgument(0);
+                    if ((TEST_NAME + 3).equals(request.getUserName())) {
+                        Thread.sleep(5000L);
+                    }
+                    return listAccessKeysMockResponse(invocation);
+                });
+
+        // Run the test
+        final PageOfUsers response = scalityOsisServiceUnderTest.listUsers(SAMPLE_TENANT_ID, offset, limit);
+
+        // Verify the results: the page is returned, the status of the late user is unknown
+        assertEquals((int) limit, response.getItems().size());
+        assertNull(response.getItems().get(3).getActive());
+        assertTrue(response.getItems().get(2).getActive());
+        assertTrue(response.getItems().get(4).getActive());
+    }
+
+    @Test
+    void testListUsersUnknownStatusOnAccessKeysError() {
+        // Setup
+        final long offset = 0L;
+        final long limit = 10L;
+        when(iamMock.listAccessKeys(any(ListAccessKeysRequest.class)))
+                .thenAnswer((Answer<ListAccessKeysResult>) invocation -> {
+                    final ListAccessKeysRequest request = invocation.getArgument(0);
+                    if ((TEST_NAME + 3).equals(request.getUserName())) {
+                        throw new AmazonIdentityManagementException("Service Unavailable");
+                    }
+                    return listAccessKeysMockResponse(invocation);
+                });
+
+        // Run the test
+        final PageOfUsers response = scalityOsisServiceUnderTest.listUsers(SAMPLE_TENANT_ID, offset, limit);
+
+        // Verify the results: the page is returned, the status of the failed user is unknown
+        assertEquals((int) limit, response.getItems().size());
+        assertNull(response.getItems().get(3).getActive());
+        assertTrue(response.getItems().get(2).getActive());
+        assertTrue(response.getItems().get(4).getActive());
+    }
+
+    @Test
+    void testListUsersNoAdminPolicyOnAccessKeys() throws Exception {
+        // Setup: the first listAccessKeys call is denied until the admin policy is repaired
+        final long offset = 0L;
+        final long limit = 10L;
+        final AmazonIdentityManagementException iamException = new AmazonIdentityManagementException("Forbidden");
+        iamException.setStatusCode(HttpStatus.FORBIDDEN.value());
+        when(iamMock.listAccessKeys(any(ListAccessKeysRequest.class)))
+                .thenThrow(iamException)
+                .thenAnswer((Answer<ListAccessKeysResult>) invocation -> listAccessKeysMockResponse(invocation));
+
+        // Run the test
+        final PageOfUsers response = scalityOsisServiceUnderTest.listUsers(SAMPLE_TENANT_ID, offset, limit);
+
+        // Verify the results: the admin policy is repaired and the page is listed again
+        verify(iamMock, times(2)).listUsers(any(ListUsersRequest.class));
+        assertEquals((int) limit, response.getItems().size());
+        response.getItems().forEach(osisUser -> assertTrue(osisUser.getActive()));
+    }
+
+    @Test
+    void testGetUserUsesStatusIndex() {
+        // Setup: the first read backfills the user status index
+        scalityOsisServiceUnderTest.getUser(TEST_TENANT_ID, TEST_USER_ID);
+
+        // Run the test
+        final OsisUser osisUser = scalityOsisServiceUnderTest.getUser(TEST_TENANT_ID, TEST_USER_ID);
+
+        // Verify the results
+        assertTrue(osisUser.getActive());
+        verify(iamMock, times(1)).listAccessKeys(any(ListAccessKeysRequest.class));
+    }
+
+    @Test
+    void testListUsersUsesStatusIndex() {
+        // Setup
+        final long offset = 0L;
+        final long limit = 10L;
+        scalityOsisServiceUnderTest.listUsers(SAMPLE_TENANT_ID, offset, limit);
+
+        // Run the test
+        final PageOfUsers response = scalityOsisServiceUnderTest.listUsers(SAMPLE_TENANT_ID, offset, limit);
+
+        // Verify the results
+        assertEquals((int) limit, response.getItems().size());
+        for (OsisUser osisUser : response.getItems()) {
+            assertTrue(osisUser.getActive());
+        }
+        verify(iamMock, times((int) limit)).listAccessKeys(any(ListAccessKeysRequest.class));
+    }
+
+    @Test
+    void testUpdateCredentialStatusUpdatesStatusIndex() {
+        // Setup
+        scalityOsisServiceUnderTest.getUser(TEST_TENANT_ID, TEST_USER_ID);
+        final OsisS3Credential osisS3Credential = new OsisS3Credential();
+        osisS3Credential.setUserId(TEST_USER_ID);
+        osisS3Credential.setTenantId(TEST_TENANT_ID);
+        osisS3Credential.setActive(false);
+        osisS3Credential.setAccessKey(TEST_ACCESS_KEY);
+        scalityOsisServiceUnderTest.updateCredentialStatus(TEST_TENANT_ID, TEST_USER_ID, TEST_ACCESS_KEY,
+                osisS3Credential);
+
+        // Run the test
+        final OsisUser osisUser = scalityOsisServiceUnderTest.getUser(TEST_TENANT_ID, TEST_USER_ID);
+
+        // Verify the results: the only access key is inactive, the second listAccessKeys is the one of the
+        // credential returned by the update
+        assertFalse(osisUser.getActive());
+        verify(iamMock, times(2)).listAccessKeys(any(ListAccessKeysRequest.class));
+    }
+
+    @Test
+    void testUpdateUserUpdatesStatusIndex() {
+        // Setup
+        scalityOsisServiceUnderTest.getUser(TEST_TENANT_ID, TEST_USER_ID);
+        final OsisUser osisUser = new OsisUser();
+        osisUser.setUserId(TEST_USER_ID);
+        osisUser.setTenantId(TEST_TENANT_ID);
+        osisUser.setActive(false);
+        scalityOsisServiceUnderTest.updateUser(TEST_TENANT_ID, TEST_USER_ID, osisUser);
+
+        // Run the test
+        final OsisUser resUser = scalityOsisServiceUnderTest.getUser(TEST_TENANT_ID, TEST_USER_ID);
+
+        // Verify the results: one listAccessKeys for the first read and one for the update
+        assertFalse(resUser.getActive());
+        verify(iamMock, times(2)).listAccessKeys(any(ListAccessKeysRequest.class));
+    }
+
     @Test
     void testUpdateUserInactive() {
         // Setup
@@ -703,6 +966,108 @@ class ScalityOsisServiceUserTests extends BaseOsisServiceTest {
         assertTrue(resUser.getActive());
     }
 
+    @Test
+    void testUpdateUserUpdatesAccessKeysConcurrently() {
+        // Setup: every update waits until all the updates of the user are in flight
+        final int accessKeys = 8;
+        when(iamMock.listAccessKeys(any(ListAccessKeysRequest.class)))
+                .thenReturn(listAccessKeysResult(accessKeys));
+        final CountDownLatch inFlight = new CountDownLatch(accessKeys);
+        when(iamMock.updateAccessKey(any(UpdateAccessKeyRequest.class)))
+                .thenAnswer((Answer<UpdateAccessKeyResult>) invocation -> {
+                    inFlight.countDown();
+                    if (!inFlight.await(10, TimeUnit.SECONDS)) {
+                        throw new IllegalStateException("Access keys updated serially");
+                    }
+                    return new UpdateAccessKeyResult();
+                });
+        final OsisUser osisUser = new OsisUser();
+        osisUser.setUserId(TEST_USER_ID);
+        osisUser.setTenantId(TEST_TENANT_ID);
+        osisUser.setActive(false);
+
+        // Run the test
+        final OsisUser resUser = scalityOsisServiceUnderTest.updateUser(TEST_TENANT_ID, TEST_USER_ID, osisUser);
+
+        // Verify the results
+        assertFalse(resUser.getActive());
+        verify(iamMock, times(accessKeys)).updateAccessKey(any(UpdateAccessKeyRequest.class));
+    }
+
+    @Test
+    void testUpdateUserRetriesFailedAccessKeys() {
+        // Setup: the first update of AK1 fails
+        when(appEnvMock.getAccessKeyUpdateRetries()).thenReturn(1);
+        when(iamMock.listAccessKeys(any(ListAccessKeysRequest.class)))
+                .thenReturn(listAccessKeysResult(3));
+        final AtomicInteger ak1Updates = new AtomicInteger();
+        when(iamMock.updateAccessKey(any(UpdateAccessKeyRequest.class)))
+                .thenAnswer((Answer<UpdateAccessKeyResult>) invocation -> {
+                    final UpdateAccessKeyRequest request = invocation.getArgument(0);
+                    if ("AK1".equals(request.getAccessKeyId()) && ak1Updates.incrementAndGet() == 1) {
+                        throw new ServiceFailureException("Internal error");
+                    }
+                    return new UpdateAccessKeyResult();
+                });
+        final OsisUser osisUser = new OsisUser();
+        osisUser.setUserId(TEST_USER_ID);
+        osisUser.setTenantId(TEST_TENANT_ID);
+        osisUser.setActive(true);
+
+        // Run the test
+        final OsisUser resUser = scalityOsisServiceUnderTest.updateUser(TEST_TENANT_ID, TEST_USER_ID, osisUser);
+
+        // Verify the results: only AK1 is updated twice
+        assertTrue(resUser.getActive());
+        assertEquals(2, ak1Updates.get());
+        verify(iamMock, times(4)).updateAccessKey(any(UpdateAccessKeyRequest.class));
+    }
+
+    @Test
+    void testUpdateUserReportsFailedAccessKeys() {
+        // Setup: AK2 cannot be updated
+        when(appEnvMock.getAccessKeyUpdateRetries()).thenReturn(1);
+        when(iamMock.listAccessKeys(any(ListAccessKeysRequest.class)))
+                .thenReturn(listAccessKeysResult(3));
+        when(iamMock.updateAccessKey(any(UpdateAccessKeyRequest.class)))
+                .thenAnswer((Answer<UpdateAccessKeyResult>) invocation -> {
+                    final UpdateAccessKeyRequest request = invocation.getArgument(0);
+                    if ("AK2".equals(request.getAccessKeyId())) {
+                        throw new ServiceFailureException("Internal error");
+                    }
+                    return new UpdateAccessKeyResult();
+                });
+        final OsisUser osisUser = new OsisUser();
+        osisUser.setUserId(TEST_USER_ID);
+        osisUser.setTenantId(TEST_TENANT_ID);
+        osisUser.setActive(false);
+
+        // Run the test
+        final VaultServiceException exception = assertThrows(VaultServiceException.class,
+                () -> scalityOsisServiceUnderTest.updateUser(TEST_TENANT_ID, TEST_USER_ID, osisUser));
+
+        // Verify the results: the other keys are updated once, AK2 is retried once then reported
+        assertTrue(exception.getReason().contains("Failed to update 1 of 3 access keys"));
+        assertTrue(exception.getReason().contains("AK2"));
+        assertFalse(exception.getReason().contains("AK1"));
+        verify(iamMock, times(4)).updateAccessKey(any(UpdateAccessKeyRequest.class));
+        final UserStatusIndex userStatusIndex = (UserStatusIndex) ReflectionTestUtils
+                .getField(scalityOsisServiceUnderTest, "userStatusIndex");
+        assertNull(userStatusIndex.get(TEST_TENANT_ID, TEST_USER_ID));
+    }
+
+    private static ListAccessKeysResult listAccessKeysResult(final int accessKeys) {
+        final List<AccessKeyMetadata> accessKeyMetadata = new ArrayList<>();
+        for (int index = 0; index < accessKeys; index++) {
+            accessKeyMetadata.add(new AccessKeyMetadata()
+                    .withAccessKeyId("AK" + index)
+                    .withCreateDate(new Date())
+                    .withStatus(StatusType.Active)
+                    .withUserName(TEST_USER_ID));
+        }
+        return new ListAccessKeysResult().withAccessKeyMetadata(accessKeyMetadata);
+    }
+
     @Test
     void testGetAnonymousUser() {
         // Setup
@@ -0,0 +1,143 @@
+package com.scality.osis.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdminPolicyRepairCoordinatorTest {
+
+    private static final String TENANT_ID = "tenant";
+
+    private AdminPolicyRepairCoordinator coordinatorUnderTest;
+
+    private final AtomicInteger repairs = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        coordinatorUnderTest = new AdminPolicyRepairCoordinator(60000L, 600000L);
+    }
+
+    @Test
+    void testConcurrentRepairsOfTenantRunOnce() throws Exception {
+        // Setup
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<Void> leader = CompletableFuture.runAsync(() -> {
+            try {
+                coordinatorUnderTest.repair(TENANT_ID, () -> {
+                    repairs.incrementAndGet();
+                    started.countDown();
+                    assertTrue(release.await(10, TimeUnit.SECONDS));
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        // Run the test: the second request waits for the running repair
+        final CompletableFuture<Void> follower = CompletableFuture.runAsync(() -> {
+            try {
+                coordinatorUnderTest.repair(TENANT_ID, repairs::incrementAndGet);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (coordinatorUnderTest.getJoined() == 0) {
+            Thread.sleep(5L);
+        }
+        release.countDown();
+        leader.get(10, TimeUnit.SECONDS);
+        follower.get(10, TimeUnit.SECONDS);
+
+        // Verify the results
+        assertEquals(1, repairs.get());
+        assertEquals(1, coordinatorUnderTest.getSuccesses());
+        assertEquals(1, coordinatorUnderTest.getJoined());
+    }
+
+    @Test
+    void testRepairsOfOtherTenantsAreIndependent() throws Exception {
+        // Run the test
+        coordinatorUnderTest.repair(TENANT_ID, repairs::incrementAndGet);
+        coordinatorUnderTest.repair("other", repairs::incrementAndGet);
+        coordinatorUnderTest.repair(TENANT_ID, repairs::incrementAndGet);
+
+        // Verify the results
+        assertEquals(3, repairs.get());
+        assertEquals(0, coordinatorUnderTest.getJoined());
+    }
+
+    @Test
+    void testFailedRepairBacksOff() throws Exception {
+        // Setup
+        final IllegalArgumentException failure = new IllegalArgumentException("IAM down");
+        final Exception first = assertThrows(Exception.class, () -> coordinatorUnderTest.repair(TENANT_ID, () -> {
+            repairs.incrementAndGet();
+            throw failure;
+        }));
+
+        // Run the test
+        final Exception second = assertThrows(IllegalStateException.class,
+                () -> coordinatorUnderTest.repair(TENANT_ID, repairs::incrementAndGet));
+
+        // Verify the results: the second repair is not run
+        assertSame(failure, first);
+        assertSame(failure, second.getCause());
+        assertEquals(1, repairs.get());
+        assertEquals(1, coordinatorUnderTest.getFailures());
+        assertEquals(1, coordinatorUnderTest.getBackedOff());
+        assertEquals(1, coordinatorUnderTest.getBackingOffTenants());
+    }
+
+    @Test
+    void testSuccessfulRepairResetsBackoff() throws Exception {
+        // Setup
+        final AdminPolicyRepairCoordinator noBackoff = new AdminPolicyRepairCoordinator(0L, 0L);
+        assertThrows(IllegalArgumentException.class, () -> noBackoff.repair(TENANT_ID, () -> {
+            throw new IllegalArgumentException("IAM down");
+        }));
+
+        // Run the test
+        noBackoff.repair(TENANT_ID, repairs::incrementAndGet);
+
+        // Verify the results
+        assertEquals(1, repairs.get());
+        assertEquals(0, noBackoff.getBackingOffTenants());
+    }
+
+    @Test
+    void testGetBackoff() {
+        // Verify the results
+        assertEquals(60000L, coordinatorUnderTest.getBackoff(1));
+        assertEquals(120000L, coordinatorUnderTest.getBackoff(2));
+        assertEquals(480000L, coordinatorUnderTest.getBackoff(4));
+        assertEquals(600000L, coordinatorUnderTest.getBackoff(5));
+        assertEquals(600000L, coordinatorUnderTest.getBackoff(100));
+    }
+
+    @Test
+    void testBindTo() throws Exception {
+        // Setup
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        coordinatorUnderTest.bindTo(registry);
+
+        // Run the test
+        coordinatorUnderTest.repair(TENANT_ID, repairs::incrementAndGet);
+
+        // Verify the results
+        assertEquals(1.0, registry.get("osis.admin.policy.repair.requests").tag("result", "success")
+                .functionCounter().count());
+        assertEquals(1.0, registry.get("osis.admin.policy.repair").functionTimer().count());
+    }
+}
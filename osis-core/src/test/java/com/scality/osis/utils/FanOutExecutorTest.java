@@ -0,0 +1,157 @@
+package com.scality.osis.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FanOutExecutorTest {
+
+    private FanOutExecutor executorUnderTest;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        executorUnderTest = new FanOutExecutor(8, 4, 10000L);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executorUnderTest.shutdown();
+    }
+
+    private Integer slowSquare(Integer value, long latencyInMS) {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            Thread.sleep(latencyInMS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        return value * value;
+    }
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    void testMapPreservesOrder() {
+        // Setup: the first items are the slowest
+        final List<Integer> items = range(20);
+
+        // Run the test
+        final List<Integer> result = executorUnderTest.map(items, value -> slowSquare(value, 40L - 2L * value),
+                value -> -1);
+
+        // Verify the results
+        for (int index = 0; index < items.size(); index++) {
+            assertEquals(index * index, result.get(index));
+        }
+    }
+
+    @Test
+    void testMapRespectsRequestConcurrency() {
+        // Run the test
+        executorUnderTest.map(range(40), value -> slowSquare(value, 10L), value -> -1);
+
+        // Verify the results
+        assertTrue(maxInFlight.get() <= 4, "max in flight: " + maxInFlight.get());
+    }
+
+    @Test
+    void testMapRespectsGlobalConcurrency() {
+        // Run the test: 4 concurrent requests of 4 calls each share 8 threads
+        final List<CompletableFuture<List<Integer>>> requests = new ArrayList<>();
+        for (int request = 0; request < 4; request++) {
+            requests.add(CompletableFuture.supplyAsync(() ->
+                    executorUnderTest.map(range(20), value -> slowSquare(value, 10L), value -> -1)));
+        }
+        requests.forEach(CompletableFuture::join);
+
+        // Verify the results
+        assertTrue(maxInFlight.get() <= 8, "max in flight: " + maxInFlight.get());
+    }
+
+    @Test
+    void testMapFallbackOnError() {
+        // Run the test
+        final List<Integer> result = executorUnderTest.map(range(5), value -> {
+            if (value == 2) {
+                throw new IllegalStateException("IAM unavailable");
+            }
+            return value;
+        }, value -> null);
+
+        // Verify the results
+        assertEquals(0, result.get(0));
+        assertNull(result.get(2));
+        assertEquals(4, result.get(4));
+    }
+
+    @Test
+    void testMapFallbackOnTimeout() {
+        // Setup
+        final FanOutExecutor shortExecutor = new FanOutExecutor(8, 4, 200L);
+
+        // Run the test: the third call never completes in time
+        final List<Integer> result = shortExecutor.map(range(4),
+                value -> slowSquare(value, value == 2 ? 5000L : 1L), value -> -1);
+
+        // Verify the results
+        assertEquals(1, result.get(1));
+        assertEquals(-1, result.get(2));
+        assertEquals(9, result.get(3));
+        shortExecutor.shutdown();
+    }
+
+    @Test
+    void testMapScalesWithConcurrency() {
+        // Setup
+        final long latencyInMS = 20L;
+        final int size = 40;
+
+        // Run the test
+        final long start = System.nanoTime();
+        executorUnderTest.map(range(size), value -> slowSquare(value, latencyInMS), value -> -1);
+        final long elapsedInMS = (System.nanoTime() - start) / 1_000_000L;
+
+        // Verify the results: about size / 4 round trips instead of size
+        assertTrue(elapsedInMS < size * latencyInMS / 2, "elapsed: " + elapsedInMS + "ms");
+    }
+
+    @Test
+    void testIllegalLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new FanOutExecutor(0, 4, 1000L));
+    }
+
+    @Test
+    void testThreadNamePrefix() {
+        // Setup
+        final FanOutExecutor cryptoExecutor = new FanOutExecutor("osis-crypto-", 2, 2, 10000L);
+
+        // Run the test
+        final List<String> threadNames = cryptoExecutor.map(range(2), value -> Thread.currentThread().getName(),
+                value -> null);
+        cryptoExecutor.shutdown();
+
+        // Verify the results
+        assertTrue(threadNames.stream().allMatch(name -> name.startsWith("osis-crypto-")));
+    }
+}
@@ -0,0 +1,84 @@
+package com.scality.osis.utils;
+
+import com.google.gson.Gson;
+import com.scality.osis.model.OsisS3Credential;
+import com.scality.osis.model.PageInfo;
+import com.scality.osis.model.PageOfS3Credentials;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.helpers.NOPLogger;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Opt-in comparison of the bytes allocated per log statement of a List S3 Credentials response, run with
+ * `./gradlew benchmark`: eager `new Gson()` rendering with the regex masking, against the lazy {@link LogArgs}.
+ * The statements are logged at a disabled level, as the DEBUG statements of the request path in production, and
+ * rendered, as the INFO ones.
+ */
+@Tag("benchmark")
+class LogArgsAllocationBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 2000;
+
+    private static final int ITERATIONS = 2000;
+
+    private final Logger disabledLogger = NOPLogger.NOP_LOGGER;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1000})
+    void compareAllocations(final int credentials) {
+        final PageOfS3Credentials page = page(credentials);
+
+        final long eagerDisabled = allocatedBytesPerOp(p -> disabledLogger.debug("List S3 credentials response:{}",
+                ScalityModelConverter.maskSecretKey(new Gson().toJson(p))), page);
+        final long lazyDisabled = allocatedBytesPerOp(p -> disabledLogger.debug("List S3 credentials response:{}",
+                LogArgs.json(p)), page);
+        final long eagerRendered = allocatedBytesPerOp(p ->
+                ScalityModelConverter.maskSecretKey(new Gson().toJson(p)).length(), page);
+        final long lazyRendered = allocatedBytesPerOp(p -> LogArgs.json(p).toString().length(), page);
+
+        System.out.printf("credentials=%d disabled: eager=%dB/op lazy=%dB/op, rendered: eager=%dB/op lazy=%dB/op%n",
+                credentials, eagerDisabled, lazyDisabled, eagerRendered, lazyRendered);
+        assertTrue(lazyDisabled < eagerDisabled);
+        assertTrue(lazyRendered < eagerRendered);
+    }
+
+    private static PageOfS3Credentials page(int credentials) {
+        final List<OsisS3Credential> items = new ArrayList<>();
+        for (int index = 0; index < credentials; index++) {
+            items.add(new OsisS3Credential()
+                    .accessKey("AK" + index)
+                    .secretKey("zjwsRPUA3SUP9aRcVc/+NUO/PPz+F77sVICwCKi=" + index)
+                    .active(true)
+                    .creationDate("2021-06-10T05:14:24Z")
+                    .tenantId("475396941524")
+                    .userId("99da7ffe-dd82-48a2-b07b-ce200da33005")
+                    .cdTenantId("9b7e3259-aace-414c-bfd8-94daa0efefaf")
+                    .cdUserId("99da7ffe-dd82-48a2-b07b-ce200da33005")
+                    .username("user" + index));
+        }
+        return new PageOfS3Credentials().items(items).pageInfo(new PageInfo(1000L, 0L, (long) credentials));
+    }
+
+    private static long allocatedBytesPerOp(Consumer<PageOfS3Credentials> statement, PageOfS3Credentials page) {
+        final com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        for (int index = 0; index < WARMUP_ITERATIONS; index++) {
+            statement.accept(page);
+        }
+        final long start = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int index = 0; index < ITERATIONS; index++) {
+            statement.accept(page);
+        }
+        return (threadMXBean.getThreadAllocatedBytes(threadId) - start) / ITERATIONS;
+    }
+}
@@ -0,0 +1,66 @@
+package com.scality.osis.utils;
+
+import com.amazonaws.services.securitytoken.model.Credentials;
+import com.scality.osis.model.OsisS3Credential;
+import com.scality.osis.model.PageInfo;
+import com.scality.osis.model.PageOfS3Credentials;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static com.scality.osis.utils.ScalityConstants.MASKED_SENSITIVE_DATA_STR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LogArgsTest {
+
+    @Test
+    void testToJsonMasksSecretKeys() {
+        // Setup
+        final PageOfS3Credentials page = new PageOfS3Credentials()
+                .items(Arrays.asList(
+                        new OsisS3Credential().accessKey("AK1").secretKey("4t3peduUGjO4HYIKJZ54=Gms").active(true),
+                        new OsisS3Credential().accessKey("AK2").secretKey("zjwsRPUA3SUP9aRcVc/+NUO").active(false)))
+                .pageInfo(new PageInfo(1000L, 0L, 2L));
+
+        // Run the test
+        final String result = LogArgs.toJson(page);
+
+        // Verify the results
+        assertEquals("{\"items\":["
+                + "{\"accessKey\":\"AK1\",\"secretKey\":\"" + MASKED_SENSITIVE_DATA_STR + "\",\"active\":true},"
+                + "{\"accessKey\":\"AK2\",\"secretKey\":\"" + MASKED_SENSITIVE_DATA_STR + "\",\"active\":false}],"
+                + "\"pageInfo\":{\"limit\":1000,\"offset\":0,\"total\":2}}", result);
+    }
+
+    @Test
+    void testToJsonMasksTemporaryCredentials() {
+        // Setup
+        final Credentials credentials = new Credentials()
+                .withAccessKeyId("AK1")
+                .withSecretAccessKey("secret")
+                .withSessionToken("token");
+
+        // Run the test
+        final String result = LogArgs.toJson(credentials);
+
+        // Verify the results
+        assertTrue(result.contains("\"accessKeyId\":\"AK1\""));
+        assertFalse(result.contains("secret\""));
+        assertFalse(result.contains("token\""));
+    }
+
+    @Test
+    void testJsonRendersOnToString() {
+        // Setup
+        final OsisS3Credential credential = new OsisS3Credential().accessKey("AK1");
+
+        // Run the test
+        final Object arg = LogArgs.json(credential);
+
+        // Verify the results
+        assertEquals("{\"accessKey\":\"AK1\"}", arg.toString());
+        assertEquals("null", LogArgs.json(null).toString());
+    }
+}
@@ -0,0 +1,159 @@
+package com.scality.osis.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OsisTaskExecutorTest {
+
+    private OsisTaskExecutor executorUnderTest;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        if (executorUnderTest != null) {
+            executorUnderTest.shutdown();
+        }
+    }
+
+    private OsisTaskExecutor newExecutor(OsisTaskExecutor.Mode mode, OsisTaskExecutor.RejectionPolicy rejectionPolicy) {
+        return new OsisTaskExecutor(mode, "test-async-", 1, 1, 1, rejectionPolicy, 2);
+    }
+
+    // occupies the thread and the queue of the executor
+    private void saturate() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        executorUnderTest.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        executorUnderTest.execute(() -> await(release));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void testExecute() throws Exception {
+        for (OsisTaskExecutor.Mode mode : OsisTaskExecutor.Mode.values()) {
+            // Setup
+            final OsisTaskExecutor executor = new OsisTaskExecutor(mode, "test-async-", 2, 2, 10,
+                    OsisTaskExecutor.RejectionPolicy.CALLER_RUNS, 0);
+            final CountDownLatch done = new CountDownLatch(10);
+
+            // Run the test
+            for (int index = 0; index < 10; index++) {
+                executor.execute(done::countDown);
+            }
+
+            // Verify the results
+            assertTrue(done.await(10, TimeUnit.SECONDS), mode.name());
+            assertEquals(0L, executor.getCallerRuns());
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testVirtualModeFallsBackToPlatformThreads() {
+        // Run the test
+        executorUnderTest = newExecutor(OsisTaskExecutor.Mode.VIRTUAL, OsisTaskExecutor.RejectionPolicy.CALLER_RUNS);
+
+        // Verify the results
+        assertEquals(Runtime.version().feature() >= 21 ? OsisTaskExecutor.Mode.VIRTUAL : OsisTaskExecutor.Mode.PLATFORM,
+                executorUnderTest.getMode());
+    }
+
+    @Test
+    void testSaturatedExecutorRunsOnCallerThread() throws Exception {
+        // Setup
+        executorUnderTest = newExecutor(OsisTaskExecutor.Mode.PLATFORM, OsisTaskExecutor.RejectionPolicy.CALLER_RUNS);
+        saturate();
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        // Run the test
+        executorUnderTest.execute(() -> threads.add(Thread.currentThread()));
+
+        // Verify the results
+        assertSame(Thread.currentThread(), threads.get(0));
+        assertEquals(1L, executorUnderTest.getCallerRuns());
+        assertEquals(1, executorUnderTest.getActive());
+        assertEquals(1, executorUnderTest.getQueued());
+    }
+
+    @Test
+    void testSaturatedExecutorSpillsInOrder() throws Exception {
+        // Setup
+        executorUnderTest = newExecutor(OsisTaskExecutor.Mode.PLATFORM, OsisTaskExecutor.RejectionPolicy.SPILL);
+        saturate();
+        final List<Integer> order = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(2);
+
+        // Run the test: the third task exceeds the spill capacity
+        executorUnderTest.execute(() -> {
+            order.add(1);
+            done.countDown();
+        });
+        executorUnderTest.execute(() -> {
+            order.add(2);
+            done.countDown();
+        });
+        executorUnderTest.execute(() -> order.add(0));
+        assertEquals(2, executorUnderTest.getSpilled());
+        release.countDown();
+
+        // Verify the results
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of(0, 1, 2), order);
+        assertEquals(2L, executorUnderTest.getSpills());
+        assertEquals(1L, executorUnderTest.getCallerRuns());
+        assertEquals(0, executorUnderTest.getSpilled());
+    }
+
+    @Test
+    void testExecuteAfterShutdown() {
+        // Setup
+        executorUnderTest = newExecutor(OsisTaskExecutor.Mode.PLATFORM, OsisTaskExecutor.RejectionPolicy.CALLER_RUNS);
+        executorUnderTest.shutdown();
+
+        // Verify the results
+        assertThrows(TaskRejectedException.class, () -> executorUnderTest.execute(() -> { }));
+    }
+
+    @Test
+    void testBindTo() throws Exception {
+        // Setup
+        executorUnderTest = newExecutor(OsisTaskExecutor.Mode.PLATFORM, OsisTaskExecutor.RejectionPolicy.CALLER_RUNS);
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        executorUnderTest.bindTo(registry);
+        saturate();
+
+        // Run the test
+        executorUnderTest.execute(() -> { });
+
+        // Verify the results
+        assertEquals(1.0, registry.get("osis.async.executor.active").gauge().value());
+        assertEquals(1.0, registry.get("osis.async.executor.queued").gauge().value());
+        assertEquals(1.0, registry.get("osis.async.executor.rejections").tag("action", "caller_runs")
+                .functionCounter().count());
+        assertEquals(1.0, registry.get("osis.async.executor.tasks").functionTimer().count());
+    }
+}
@@ -2,10 +2,12 @@ package com.scality.osis.utils;
 
 import com.amazonaws.services.identitymanagement.model.*;
 import com.amazonaws.services.identitymanagement.model.User;
+import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.securitytoken.model.AssumeRoleRequest;
 import com.amazonaws.services.securitytoken.model.Credentials;
 import com.scality.osis.model.*;
 import com.scality.osis.model.exception.BadRequestException;
+import com.scality.osis.s3.BucketListSnapshot;
 import com.scality.vaultclient.dto.*;
 import org.junit.jupiter.api.Test;
 
@@ -731,6 +733,52 @@ class ScalityModelConverterTest {
         assertEquals(TEST_SECRET_KEY, result.getSecretKey());
     }
 
+    @Test
+    void testToTenantAdminUser() {
+        // Setup
+        final User admin = new User().withUserName("admin").withPath("/admin/TENANT_ADMIN/admin@osis/cd/canonical/");
+        final User user = new User().withUserName("user").withPath("/user/TENANT_USER/user@osis/cd/canonical/");
+        final User nonOsisUser = new User().withUserName("nonOsis").withPath("/");
+
+        // Run the test
+        final User result = ScalityModelConverter.toTenantAdminUser(List.of(user, admin, nonOsisUser));
+        final User fallback = ScalityModelConverter.toTenantAdminUser(List.of(user, nonOsisUser));
+
+        // Verify the results
+        assertEquals("admin", result.getUserName());
+        assertEquals("nonOsis", fallback.getUserName());
+        assertNull(ScalityModelConverter.toTenantAdminUser(Collections.emptyList()));
+    }
+
+    @Test
+    void testToPageOfOsisBucketMetaFromSnapshot() {
+        // Setup: S3 buckets in no particular order
+        final List<Bucket> buckets = new ArrayList<>();
+        for (String name : new String[]{"bucket-c", "bucket-a", "bucket-d", "bucket-b"}) {
+            final Bucket bucket = new Bucket(name);
+            bucket.setCreationDate(new Date(1623302064000L));
+            buckets.add(bucket);
+        }
+        final BucketListSnapshot snapshot = BucketListSnapshot.of(TEST_CANONICAL_ID, buckets);
+
+        // Run the test
+        final PageOfOsisBucketMeta page = ScalityModelConverter.toPageOfOsisBucketMeta(snapshot, 1L, 2L);
+        final PageOfOsisBucketMeta lastPage = ScalityModelConverter.toPageOfOsisBucketMeta(snapshot, 3L, 2L);
+        final PageOfOsisBucketMeta outOfRangePage = ScalityModelConverter.toPageOfOsisBucketMeta(snapshot, 10L, 2L);
+
+        // Verify the results: the pages are slices of the buckets sorted by name
+        assertEquals(2, page.getItems().size());
+        assertEquals("bucket-b", page.getItems().get(0).getName());
+        assertEquals("bucket-c", page.getItems().get(1).getName());
+        assertEquals(TEST_CANONICAL_ID, page.getItems().get(0).getUserId());
+        assertEquals("2021-06-10T05:14:24Z", page.getItems().get(0).getCreationDate());
+        assertEquals(4L, page.getPageInfo().getTotal());
+        assertEquals(1, lastPage.getItems().size());
+        assertEquals("bucket-d", lastPage.getItems().get(0).getName());
+        assertEquals(0, outOfRangePage.getItems().size());
+        assertEquals(4L, outOfRangePage.getPageInfo().getTotal());
+    }
+
     @Test
     void testMaskSecretKey() {
         // Setup
@@ -0,0 +1,132 @@
+package com.scality.osis.utils;
+
+import com.scality.vaultclient.dto.AccountData;
+import com.scality.vaultclient.dto.ListAccountsResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.scality.osis.utils.ScalityConstants.CD_TENANT_ID_PREFIX;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TenantDirectoryTest {
+
+    private static final String CD_TENANT_ID = "bfc0d4a5-1a2b-4c3d-8e4f-5a6b7c8d9e0f";
+
+    private static final String OTHER_CD_TENANT_ID = "0f1e2d3c-4b5a-4968-8776-a5b4c3d2e1f0";
+
+    private TenantDirectory directoryUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        directoryUnderTest = new TenantDirectory(300000L);
+    }
+
+    private static AccountData account(String accountId, String... cdTenantIds) {
+        final AccountData account = new AccountData();
+        account.setId(accountId);
+        account.setName(accountId);
+        final Map<String, String> customAttributes = new HashMap<>();
+        for (String cdTenantId : cdTenantIds) {
+            customAttributes.put(CD_TENANT_ID_PREFIX + cdTenantId, "");
+        }
+        account.setCustomAttributes(customAttributes);
+        return account;
+    }
+
+    private static ListAccountsResponseDTO page(String nextMarker, AccountData... accounts) {
+        final ListAccountsResponseDTO page = new ListAccountsResponseDTO();
+        page.setAccounts(Arrays.asList(accounts));
+        page.setMarker(nextMarker);
+        page.setTruncated(nextMarker != null);
+        return page;
+    }
+
+    @Test
+    void testNotReady() {
+        // Run the test
+        directoryUnderTest.put(account("a1", CD_TENANT_ID));
+
+        // Verify the results: the lookups go to Vault until the first scan
+        assertFalse(directoryUnderTest.isReady());
+        assertNull(directoryUnderTest.getAccount("a1"));
+        assertTrue(directoryUnderTest.findByCdTenantId(CD_TENANT_ID).isEmpty());
+    }
+
+    @Test
+    void testRefreshScansAllPages() {
+        // Setup
+        final Map<String, ListAccountsResponseDTO> pages = new HashMap<>();
+        pages.put(null, page("m1", account("a2", CD_TENANT_ID), account("a3", OTHER_CD_TENANT_ID)));
+        pages.put("m1", page(null, account("a1", CD_TENANT_ID)));
+
+        // Run the test
+        final int count = directoryUnderTest.refresh(pages::get);
+
+        // Verify the results
+        assertEquals(3, count);
+        assertTrue(directoryUnderTest.isReady());
+        assertEquals(3, directoryUnderTest.size());
+        final List<AccountData> accounts = directoryUnderTest.findByCdTenantId(CD_TENANT_ID);
+        assertEquals(2, accounts.size());
+        assertEquals("a1", accounts.get(0).getId());
+        assertEquals("a2", accounts.get(1).getId());
+        assertEquals("a3", directoryUnderTest.getAccount("a3").getId());
+    }
+
+    @Test
+    void testPutDuringRefreshWins() {
+        // Setup
+        final AccountData updated = account("a1", OTHER_CD_TENANT_ID);
+
+        // Run the test: a1 is updated while its older version is scanned
+        directoryUnderTest.refresh(marker -> {
+            directoryUnderTest.put(updated);
+            return page(null, account("a1", CD_TENANT_ID));
+        });
+
+        // Verify the results
+        assertSame(updated, directoryUnderTest.getAccount("a1"));
+        assertTrue(directoryUnderTest.findByCdTenantId(CD_TENANT_ID).isEmpty());
+        assertEquals(1, directoryUnderTest.findByCdTenantId(OTHER_CD_TENANT_ID).size());
+    }
+
+    @Test
+    void testPutUpdatesCdTenantIdIndex() {
+        // Setup
+        directoryUnderTest.refresh(marker -> page(null, account("a1", CD_TENANT_ID)));
+
+        // Run the test
+        directoryUnderTest.put(account("a1", OTHER_CD_TENANT_ID));
+        directoryUnderTest.put(account("a2", CD_TENANT_ID));
+
+        // Verify the results
+        assertEquals(1, directoryUnderTest.findByCdTenantId(CD_TENANT_ID).size());
+        assertEquals("a2", directoryUnderTest.findByCdTenantId(CD_TENANT_ID).get(0).getId());
+        assertEquals("a1", directoryUnderTest.findByCdTenantId(OTHER_CD_TENANT_ID).get(0).getId());
+        assertEquals(2, directoryUnderTest.size());
+    }
+
+    @Test
+    void testFailedRefreshKeepsIndexes() {
+        // Setup
+        directoryUnderTest.refresh(marker -> page(null, account("a1", CD_TENANT_ID)));
+
+        // Run the test
+        assertThrows(IllegalStateException.class, () -> directoryUnderTest.refresh(marker -> {
+            throw new IllegalStateException("Vault down");
+        }));
+
+        // Verify the results
+        assertEquals("a1", directoryUnderTest.getAccount("a1").getId());
+    }
+}
@@ -0,0 +1,118 @@
+package com.scality.osis.utils;
+
+import com.scality.vaultclient.dto.AccountData;
+import com.scality.vaultclient.dto.ListAccountsResponseDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TenantReadinessJobTest {
+
+    private TenantReadinessJob jobUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        jobUnderTest = new TenantReadinessJob(new FanOutExecutor("osis-readiness-test-", 4, 4, 30000L), 3600000L);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jobUnderTest.shutdown();
+    }
+
+    private static AccountData account(String accountId) {
+        final AccountData account = new AccountData();
+        account.setId(accountId);
+        account.setName(accountId);
+        return account;
+    }
+
+    private static ListAccountsResponseDTO page(String nextMarker, AccountData... accounts) {
+        final ListAccountsResponseDTO page = new ListAccountsResponseDTO();
+        page.setAccounts(Arrays.asList(accounts));
+        page.setMarker(nextMarker);
+        page.setTruncated(nextMarker != null);
+        return page;
+    }
+
+    @Test
+    void testRunChecksAllPages() {
+        // Setup
+        final Map<String, ListAccountsResponseDTO> pages = new HashMap<>();
+        pages.put(null, page("m1", account("ready"), account("missing")));
+        pages.put("m1", page(null, account("broken")));
+
+        // Run the test
+        final TenantReadinessJob.Progress progress = jobUnderTest.run(pages::get, account -> {
+            switch (account.getId()) {
+                case "ready":
+                    return TenantReadinessJob.Outcome.READY;
+                case "missing":
+                    return TenantReadinessJob.Outcome.PROVISIONED;
+                default:
+                    throw new IllegalStateException("IAM down");
+            }
+        });
+
+        // Verify the results
+        assertEquals(3, progress.getScanned());
+        assertEquals(1, progress.getReady());
+        assertEquals(1, progress.getProvisioned());
+        assertEquals(1, progress.getFailed());
+        assertEquals(Collections.singletonList("broken"), progress.getFailedTenantIds());
+        assertNull(progress.getError());
+        assertTrue(progress.getCompletedAt() >= progress.getStartedAt());
+        assertSame(progress, jobUnderTest.getLast());
+        assertNull(jobUnderTest.getCurrent());
+    }
+
+    @Test
+    void testRunInProgressIsNotRestarted() {
+        // Setup
+        final AtomicReference<TenantReadinessJob.Progress> nested = new AtomicReference<>();
+
+        // Run the test: a second run is requested while the accounts are checked
+        final TenantReadinessJob.Progress progress = jobUnderTest.run(marker -> page(null, account("a1")),
+                account -> {
+                    nested.set(jobUnderTest.run(marker -> page(null, account("a2")),
+                            other -> TenantReadinessJob.Outcome.READY));
+                    return TenantReadinessJob.Outcome.READY;
+                });
+
+        // Verify the results
+        assertSame(progress, nested.get());
+        assertEquals(1, progress.getScanned());
+    }
+
+    @Test
+    void testRunStopsWhenAccountsCannotBeListed() {
+        // Run the test
+        final TenantReadinessJob.Progress progress = jobUnderTest.run(marker -> {
+            throw new IllegalStateException("Vault down");
+        }, account -> TenantReadinessJob.Outcome.READY);
+
+        // Verify the results
+        assertEquals("Vault down", progress.getError());
+        assertEquals(0, progress.getScanned());
+        assertNotNull(jobUnderTest.getLast());
+    }
+
+    @Test
+    void testRunNowBeforeStart() {
+        // Verify the results
+        assertFalse(jobUnderTest.runNow());
+    }
+}
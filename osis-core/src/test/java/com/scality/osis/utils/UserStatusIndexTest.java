@@ -0,0 +1,141 @@
+package com.scality.osis.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserStatusIndexTest {
+
+    private static final String TENANT_ID = "tenant";
+
+    private static final String USER_ID = "user";
+
+    private UserStatusIndex indexUnderTest;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        indexUnderTest = new UserStatusIndex(10, 300000L);
+    }
+
+    private Set<String> load(String... activeAccessKeyIds) {
+        loads.incrementAndGet();
+        return Set.of(activeAccessKeyIds);
+    }
+
+    @Test
+    void testBackfillOnMiss() {
+        // Setup
+        assertNull(indexUnderTest.get(TENANT_ID, USER_ID));
+
+        // Run the test
+        final boolean first = indexUnderTest.isActive(TENANT_ID, USER_ID, () -> load("AK1"));
+        final boolean second = indexUnderTest.isActive(TENANT_ID, USER_ID, () -> load("AK1"));
+
+        // Verify the results
+        assertTrue(first);
+        assertTrue(second);
+        assertEquals(1, loads.get());
+        assertTrue(indexUnderTest.get(TENANT_ID, USER_ID));
+    }
+
+    @Test
+    void testAccessKeyWrites() {
+        // Setup
+        indexUnderTest.isActive(TENANT_ID, USER_ID, () -> load("AK1"));
+
+        // Run the test
+        indexUnderTest.onAccessKeyCreated(TENANT_ID, USER_ID, "AK2");
+        indexUnderTest.onAccessKeyStatusChanged(TENANT_ID, USER_ID, "AK1", false);
+        final Boolean afterDeactivate = indexUnderTest.get(TENANT_ID, USER_ID);
+        indexUnderTest.onAccessKeyDeleted(TENANT_ID, USER_ID, "AK2");
+        final Boolean afterDelete = indexUnderTest.get(TENANT_ID, USER_ID);
+
+        // Verify the results
+        assertTrue(afterDeactivate);
+        assertFalse(afterDelete);
+    }
+
+    @Test
+    void testWriteOnUnindexedUserIsIgnored() {
+        // Run the test
+        indexUnderTest.onAccessKeyCreated(TENANT_ID, USER_ID, "AK1");
+
+        // Verify the results: the other keys of the user are unknown
+        assertNull(indexUnderTest.get(TENANT_ID, USER_ID));
+    }
+
+    @Test
+    void testBackfillRacingWithWriteIsNotIndexed() {
+        // Run the test: the key is deactivated while its stale active status is loaded
+        final boolean active = indexUnderTest.isActive(TENANT_ID, USER_ID, () -> {
+            indexUnderTest.onAccessKeyStatusChanged(TENANT_ID, USER_ID, "AK1", false);
+            return load("AK1");
+        });
+
+        // Verify the results
+        assertTrue(active);
+        assertNull(indexUnderTest.get(TENANT_ID, USER_ID));
+    }
+
+    @Test
+    void testPutAndInvalidate() {
+        // Setup
+        indexUnderTest.put(TENANT_ID, USER_ID, Collections.emptySet());
+        final Boolean afterPut = indexUnderTest.get(TENANT_ID, USER_ID);
+
+        // Run the test
+        indexUnderTest.invalidate(TENANT_ID, USER_ID);
+
+        // Verify the results
+        assertFalse(afterPut);
+        assertNull(indexUnderTest.get(TENANT_ID, USER_ID));
+    }
+
+    @Test
+    void testMaxCapacity() {
+        // Setup
+        final UserStatusIndex smallIndex = new UserStatusIndex(2, 300000L);
+
+        // Run the test
+        for (String userId : Arrays.asList("u1", "u2", "u3")) {
+            smallIndex.isActive(TENANT_ID, userId, () -> load("AK1"));
+        }
+
+        // Verify the results
+        assertEquals(2, smallIndex.size());
+        assertNull(smallIndex.get(TENANT_ID, "u3"));
+    }
+
+    @Test
+    void testReconcile() {
+        // Setup: u1 is read, u2 is not read since it was indexed, u3 cannot be listed
+        indexUnderTest.isActive(TENANT_ID, "u1", () -> load("AK1"));
+        indexUnderTest.put(TENANT_ID, "u2", Collections.singleton("AK2"));
+        indexUnderTest.isActive(TENANT_ID, "u3", () -> load("AK3"));
+
+        // Run the test: the key of u1 was deactivated outside of OSIS
+        final int reloaded = indexUnderTest.reconcile((tenantId, userId) -> {
+            if ("u3".equals(userId)) {
+                throw new IllegalStateException("IAM down");
+            }
+            return Collections.emptySet();
+        });
+
+        // Verify the results
+        assertEquals(1, reloaded);
+        assertFalse(indexUnderTest.get(TENANT_ID, "u1"));
+        assertNull(indexUnderTest.get(TENANT_ID, "u2"));
+        assertNull(indexUnderTest.get(TENANT_ID, "u3"));
+    }
+}
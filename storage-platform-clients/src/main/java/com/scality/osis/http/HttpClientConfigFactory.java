@@ -0,0 +1,75 @@
+/**
+ * Copyright 2021 Scality, Inc.
+ * SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.http;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.retry.PredefinedRetryPolicies;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.scality.osis.http.HttpClientConstants.*;
+
+/**
+ * The factory of the SDK {@link ClientConfiguration} used for the Vault, IAM, S3 and Utapi HTTP traffic.
+ * <p>
+ * Every setting is read from `osis.scality.http.&lt;backend&gt;.&lt;name&gt;`, then from `osis.scality.http.&lt;name&gt;`,
+ * then falls back to the defaults of {@link HttpClientConstants}.
+ */
+@Component
+public class HttpClientConfigFactory {
+
+    private final Environment env;
+
+    private final Map<String, ClientConfiguration> configs = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new Http client config factory.
+     *
+     * @param env the env
+     */
+    @Autowired
+    public HttpClientConfigFactory(Environment env) {
+        this.env = env;
+    }
+
+    /**
+     * Get the client configuration of a backend.
+     *
+     * @param backend the backend, e.g. {@link HttpClientConstants#BACKEND_S3}
+     * @return a new copy of the client configuration
+     */
+    public ClientConfiguration getConfig(String backend) {
+        // ClientConfiguration is mutable, every client gets its own copy
+        return new ClientConfiguration(configs.computeIfAbsent(backend, this::buildConfig));
+    }
+
+    private ClientConfiguration buildConfig(String backend) {
+        int maxErrorRetry = getProperty(backend, MAX_ERROR_RETRY, Integer.class, DEFAULT_MAX_ERROR_RETRY);
+        return new ClientConfiguration()
+                .withMaxConnections(getProperty(backend, MAX_CONNECTIONS, Integer.class, DEFAULT_MAX_CONNECTIONS))
+                .withConnectionTTL(getProperty(backend, CONNECTION_TTL, Long.class, DEFAULT_CONNECTION_TTL_IN_MS))
+                .withConnectionMaxIdleMillis(getProperty(backend, CONNECTION_MAX_IDLE, Long.class,
+                        DEFAULT_CONNECTION_MAX_IDLE_IN_MS))
+                .withTcpKeepAlive(getProperty(backend, TCP_KEEP_ALIVE, Boolean.class, DEFAULT_TCP_KEEP_ALIVE))
+                .withValidateAfterInactivityMillis(getProperty(backend, VALIDATE_AFTER_INACTIVITY, Integer.class,
+                        DEFAULT_VALIDATE_AFTER_INACTIVITY_IN_MS))
+                .withConnectionTimeout(getProperty(backend, CONNECTION_TIMEOUT, Integer.class,
+                        DEFAULT_CONNECTION_TIMEOUT_IN_MS))
+                .withSocketTimeout(getProperty(backend, SOCKET_TIMEOUT, Integer.class, DEFAULT_SOCKET_TIMEOUT_IN_MS))
+                .withRequestTimeout(getProperty(backend, REQUEST_TIMEOUT, Integer.class, DEFAULT_REQUEST_TIMEOUT_IN_MS))
+                .withMaxErrorRetry(maxErrorRetry)
+                .withRetryPolicy(PredefinedRetryPolicies.getDefaultRetryPolicyWithCustomMaxRetries(maxErrorRetry));
+    }
+
+    private <T> T getProperty(String backend, String name, Class<T> type, T defaultValue) {
+        return env.getProperty(ENV_HTTP_PREFIX + backend + "." + name, type,
+                env.getProperty(ENV_HTTP_PREFIX + name, type, defaultValue));
+    }
+}
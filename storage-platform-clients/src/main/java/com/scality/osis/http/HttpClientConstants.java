@@ -0,0 +1,39 @@
+/**
+ * Copyright 2021 Scality, Inc.
+ * SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.http;
+
+public final class HttpClientConstants {
+    //Env variables, `osis.scality.http.<backend>.<name>` overrides `osis.scality.http.<name>`
+    public static final String ENV_HTTP_PREFIX = "osis.scality.http.";
+    public static final String MAX_CONNECTIONS = "maxConnections";
+    public static final String CONNECTION_TTL = "connectionTTLInMS";
+    public static final String CONNECTION_MAX_IDLE = "connectionMaxIdleInMS";
+    public static final String TCP_KEEP_ALIVE = "tcpKeepAlive";
+    public static final String VALIDATE_AFTER_INACTIVITY = "validateAfterInactivityInMS";
+    public static final String CONNECTION_TIMEOUT = "connectionTimeoutInMS";
+    public static final String SOCKET_TIMEOUT = "socketTimeoutInMS";
+    public static final String REQUEST_TIMEOUT = "requestTimeoutInMS";
+    public static final String MAX_ERROR_RETRY = "maxErrorRetry";
+
+    // Defaults
+    public static final int DEFAULT_MAX_CONNECTIONS = 100;
+    public static final long DEFAULT_CONNECTION_TTL_IN_MS = 300000;
+    public static final long DEFAULT_CONNECTION_MAX_IDLE_IN_MS = 60000;
+    public static final boolean DEFAULT_TCP_KEEP_ALIVE = true;
+    public static final int DEFAULT_VALIDATE_AFTER_INACTIVITY_IN_MS = 2000;
+    public static final int DEFAULT_CONNECTION_TIMEOUT_IN_MS = 5000;
+    public static final int DEFAULT_SOCKET_TIMEOUT_IN_MS = 30000;
+    public static final int DEFAULT_REQUEST_TIMEOUT_IN_MS = 0;
+    public static final int DEFAULT_MAX_ERROR_RETRY = 3;
+
+    // Backends
+    public static final String BACKEND_VAULT = "vault";
+    public static final String BACKEND_IAM = "iam";
+    public static final String BACKEND_S3 = "s3";
+    public static final String BACKEND_UTAPI = "utapi";
+
+    private HttpClientConstants(){}
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright 2021 Scality, Inc.
+ * SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.s3;
+
+import com.amazonaws.services.s3.model.Bucket;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable snapshot of the buckets of a tenant, as listed by one S3 `ListBuckets` call.
+ * <p>
+ * S3 does not paginate the bucket list, so the snapshot is kept for a short time and every page of a listing is
+ * sliced from it. The buckets are stored sorted by name in two parallel arrays, so a page costs O(limit).
+ */
+public final class BucketListSnapshot {
+
+    private final String canonicalId;
+
+    private final String[] names;
+
+    private final long[] creationDates;
+
+    private BucketListSnapshot(String canonicalId, String[] names, long[] creationDates) {
+        this.canonicalId = canonicalId;
+        this.names = names;
+        this.creationDates = creationDates;
+    }
+
+    /**
+     * Build the snapshot of a bucket list.
+     *
+     * @param canonicalId the canonical ID of the tenant owning the buckets
+     * @param buckets the buckets
+     * @return the snapshot
+     */
+    public static BucketListSnapshot of(String canonicalId, List<Bucket> buckets) {
+        List<Bucket> sortedBuckets = new ArrayList<>(buckets);
+        sortedBuckets.sort(Comparator.comparing(Bucket::getName));
+        String[] names = new String[sortedBuckets.size()];
+        long[] creationDates = new long[sortedBuckets.size()];
+        for (int index = 0; index < names.length; index++) {
+            names[index] = sortedBuckets.get(index).getName();
+            creationDates[index] = sortedBuckets.get(index).getCreationDate().getTime();
+        }
+        return new BucketListSnapshot(canonicalId, names, creationDates);
+    }
+
+    public String getCanonicalId() {
+        return canonicalId;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public String getName(int index) {
+        return names[index];
+    }
+
+    /**
+     * Returns the creation date of a bucket
+     *
+     * @param index the bucket index
+     * @return the creation date in ms since the epoch
+     */
+    public long getCreationDate(int index) {
+        return creationDates[index];
+    }
+}
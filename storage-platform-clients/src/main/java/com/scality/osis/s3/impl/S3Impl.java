@@ -1,5 +1,6 @@
 package com.scality.osis.s3.impl;
 
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.auth.BasicSessionCredentials;
@@ -8,7 +9,10 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import com.amazonaws.services.securitytoken.model.Credentials;
 import com.amazonaws.util.StringUtils;
+import com.scality.osis.http.HttpClientConfigFactory;
+import com.scality.osis.http.HttpClientConstants;
 import com.scality.osis.s3.S3;
+import com.scality.osis.vaultadmin.impl.cache.SdkClientRegistry;
 import okhttp3.HttpUrl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,6 +24,12 @@ public class S3Impl implements S3 {
 
     private final String s3Endpoint;
 
+    @Autowired(required = false)
+    private SdkClientRegistry clientRegistry;
+
+    @Autowired(required = false)
+    private HttpClientConfigFactory httpClientConfigFactory;
+
     /**
      * Create a s3 client implementation
      *
@@ -44,9 +54,21 @@ public class S3Impl implements S3 {
 
     @Override
     public AmazonS3 getS3Client(Credentials credentials, String region) {
+        if (clientRegistry != null) {
+            // reuse the client (and its connection pool) while the credentials are valid
+            return clientRegistry.getClient(AmazonS3.class, credentials, region, s3Endpoint,
+                    () -> buildS3Client(credentials, region), AmazonS3::shutdown);
+        }
+        return buildS3Client(credentials, region);
+    }
+
+    private AmazonS3 buildS3Client(Credentials credentials, String region) {
+        ClientConfiguration clientConfig = httpClientConfigFactory != null
+                ? httpClientConfigFactory.getConfig(HttpClientConstants.BACKEND_S3) : new ClientConfiguration();
         if (StringUtils.isNullOrEmpty(credentials.getSessionToken())) {
             return AmazonS3ClientBuilder
                     .standard()
+                    .withClientConfiguration(clientConfig)
                     .withCredentials(
                             new AWSStaticCredentialsProvider(
                                     new BasicAWSCredentials(
@@ -58,6 +80,7 @@ public class S3Impl implements S3 {
         } else {
             return AmazonS3ClientBuilder
                     .standard()
+                    .withClientConfiguration(clientConfig)
                     .withCredentials(
                             new AWSStaticCredentialsProvider(
                                     new BasicSessionCredentials(
@@ -15,6 +15,7 @@ import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
 import java.security.spec.AlgorithmParameterSpec;
 import java.util.Arrays;
@@ -28,27 +29,36 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static javax.crypto.Cipher.DECRYPT_MODE;
 
 public final class AES256GCM implements BaseCipher {
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+
+    // Cipher instances are not thread-safe and costly to look up, so each thread reuses its own
+    private static final ThreadLocal<Cipher> THREAD_CIPHERS = ThreadLocal.withInitial(AES256GCM::newCipher);
+
     private final SecureRandom secureRandom = new SecureRandom();
 
+    @Override
+    public SecretKey toSecretKey(String secretKeyStr) {
+        return new SecretKeySpec(secretKeyStr.getBytes(StandardCharsets.UTF_8), "AES");
+    }
+
     /**
      * Encrypt a plaintext with given key.
      *
      * @param plaintext      to encrypt (utf-8 encoding will be used)
-     * @param secretKeyStr      to encrypt
+     * @param secretKey      to encrypt
      * @param associatedData optional, additional (public) data to verify on decryption with GCM auth tag
      * @return encrypted message
      * @throws Exception if anything goes wrong
      */
     @Override
-    public SecretKeyRepoData encrypt(String plaintext, String secretKeyStr, String associatedData) throws Exception {
+    public SecretKeyRepoData encrypt(String plaintext, SecretKey secretKey, String associatedData) throws Exception {
 
         byte[] nonce = new byte[DEFAULT_AES_GCM_NONCE_LENGTH]; //NEVER REUSE THIS NONCE WITH SAME KEY
         secureRandom.nextBytes(nonce);
 
-        final Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        final Cipher cipher = THREAD_CIPHERS.get();
         GCMParameterSpec parameterSpec = new GCMParameterSpec(DEFAULT_AES_GCM_TAG_LENGTH, nonce);
 
-        SecretKey secretKey = new SecretKeySpec(secretKeyStr.getBytes(StandardCharsets.UTF_8), "AES");
         cipher.init(Cipher.ENCRYPT_MODE, secretKey, parameterSpec);
 
         if (StringUtils.hasLength(associatedData)) {
@@ -67,24 +77,23 @@ public final class AES256GCM implements BaseCipher {
     }
 
     /**
-     * Decrypts encrypted message (see {@link #encrypt(String, String, String)}).
+     * Decrypts encrypted message (see {@link #encrypt(String, SecretKey, String)}).
      *
      * @param encryptedKeyRepoData  a cipher object along with nonce
-     * @param secretKeyStr      used to decrypt
+     * @param secretKey      used to decrypt
      * @param associatedData optional, additional (public) data to verify on decryption with GCM auth tag
      * @return original plaintext
      * @throws Exception if anything goes wrong
      */
     @Override
-    public String decrypt(SecretKeyRepoData encryptedKeyRepoData, String secretKeyStr, String associatedData) throws Exception {
-        final Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+    public String decrypt(SecretKeyRepoData encryptedKeyRepoData, SecretKey secretKey, String associatedData) throws Exception {
+        final Cipher cipher = THREAD_CIPHERS.get();
 
         byte[] cipherMessageBytes = encryptedKeyRepoData.getEncryptedBytes();
         byte[] nonce = ((AES256GCMInformation) encryptedKeyRepoData.getCipherInfo()).getNonce();
 
         AlgorithmParameterSpec gcmNonce = new GCMParameterSpec(DEFAULT_AES_GCM_TAG_LENGTH, nonce);
 
-        SecretKey secretKey = new SecretKeySpec(secretKeyStr.getBytes(StandardCharsets.UTF_8), "AES");
         cipher.init(Cipher.DECRYPT_MODE, secretKey, gcmNonce);
 
         if (StringUtils.hasLength(associatedData)) {
@@ -119,7 +128,7 @@ public final class AES256GCM implements BaseCipher {
         SecretKey derivedKey = new SecretKeySpec(keyBytes, "AES");
 
         // decryption part
-        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        Cipher cipher = Cipher.getInstance(TRANSFORMATION);
         GCMParameterSpec gcmParameters = new GCMParameterSpec(DEFAULT_AES_GCM_TAG_LENGTH, ivBytes);
 
         cipher.init(DECRYPT_MODE, derivedKey, gcmParameters);
@@ -149,7 +158,7 @@ public final class AES256GCM implements BaseCipher {
         SecretKey derivedKey = new SecretKeySpec(keyBytes, "AES");
 
         // decryption part
-        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        Cipher cipher = Cipher.getInstance(TRANSFORMATION);
         GCMParameterSpec gcmParameters = new GCMParameterSpec(DEFAULT_AES_GCM_TAG_LENGTH, ivBytes);
 
         cipher.init(Cipher.ENCRYPT_MODE, derivedKey, gcmParameters);
@@ -185,4 +194,12 @@ public final class AES256GCM implements BaseCipher {
         return hkdf.expand(secretKey, info, (DEFAULT_AES_GCM_256_KEY_LENGTH + DEFAULT_AES_GCM_NONCE_LENGTH));
 
     }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to create the " + TRANSFORMATION + " cipher", e);
+        }
+    }
 }
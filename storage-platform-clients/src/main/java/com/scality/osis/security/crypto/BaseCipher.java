@@ -10,6 +10,36 @@ import com.scality.osis.security.crypto.model.SecretKeyRepoData;
 import javax.crypto.SecretKey;
 
 public interface BaseCipher {
+    /**
+     * Build the secret key of the cipher from its configured string.
+     *
+     * @param secretKeyStr the configured secret key
+     * @return the secret key
+     */
+    SecretKey toSecretKey(String secretKeyStr);
+
+    /**
+     * Encrypt a plaintext with given key.
+     *
+     * @param plaintext      to encrypt (utf-8 encoding will be used)
+     * @param secretKey      to encrypt
+     * @param associatedData optional, additional (public) data to verify on decryption with GCM auth tag
+     * @return encrypted message
+     * @throws Exception if anything goes wrong
+     */
+    SecretKeyRepoData encrypt(String plaintext, SecretKey secretKey, String associatedData) throws Exception;
+
+    /**
+     * Decrypts encrypted message (see {@link #encrypt(String, SecretKey, String)}).
+     *
+     * @param encryptedKeyRepoData  a cipher object along with associated information
+     * @param secretKey      used to decrypt
+     * @param associatedData optional, additional (public) data to verify on decryption with GCM auth tag
+     * @return original plaintext
+     * @throws Exception if anything goes wrong
+     */
+    String decrypt(SecretKeyRepoData encryptedKeyRepoData, SecretKey secretKey, String associatedData) throws Exception;
+
     /**
      * Encrypt a plaintext with given key.
      *
@@ -19,7 +49,9 @@ public interface BaseCipher {
      * @return encrypted message
      * @throws Exception if anything goes wrong
      */
-    SecretKeyRepoData encrypt(String plaintext, String secretKeyStr, String associatedData) throws Exception;
+    default SecretKeyRepoData encrypt(String plaintext, String secretKeyStr, String associatedData) throws Exception {
+        return encrypt(plaintext, toSecretKey(secretKeyStr), associatedData);
+    }
 
     /**
      * Decrypts encrypted message (see {@link #encrypt(String, String, String)}).
@@ -30,5 +62,7 @@ public interface BaseCipher {
      * @return original plaintext
      * @throws Exception if anything goes wrong
      */
-    String decrypt(SecretKeyRepoData encryptedKeyRepoData, String secretKeyStr, String associatedData) throws Exception;
+    default String decrypt(SecretKeyRepoData encryptedKeyRepoData, String secretKeyStr, String associatedData) throws Exception {
+        return decrypt(encryptedKeyRepoData, toSecretKey(secretKeyStr), associatedData);
+    }
 }
@@ -0,0 +1,101 @@
+/**
+ * Copyright 2021 Scality, Inc.
+ * SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.security.crypto;
+
+import javax.crypto.SecretKey;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Immutable view of the cipher keys of {@link CryptoEnv}, built once so that the hot encryption and decryption
+ * paths neither scan the key list nor parse the key IDs nor rebuild the {@link SecretKey} of a key.
+ * The latest key is the one with the highest numeric ID.
+ */
+public final class CipherKeyRing {
+
+    private final Map<String, CryptoEnv.CipherKey> keysById;
+
+    private final Map<String, SecretKey> secretKeysById;
+
+    private final CryptoEnv.CipherKey latestKey;
+
+    private final SecretKey latestSecretKey;
+
+    /**
+     * Instantiates a new Cipher key ring.
+     *
+     * @param keys the configured cipher keys
+     * @param cipherByName returns the cipher of a cipher name, null if the cipher is unknown
+     */
+    public CipherKeyRing(List<CryptoEnv.CipherKey> keys, Function<String, BaseCipher> cipherByName) {
+        if (keys == null || keys.isEmpty()) {
+            throw new IllegalStateException("No cipher key configured");
+        }
+        Map<String, CryptoEnv.CipherKey> keyMap = new HashMap<>();
+        Map<String, SecretKey> secretKeyMap = new HashMap<>();
+        CryptoEnv.CipherKey latest = null;
+        int latestId = Integer.MIN_VALUE;
+        for (CryptoEnv.CipherKey key : keys) {
+            int id = Integer.parseInt(key.getId());
+            if (latest == null || id > latestId) {
+                latest = key;
+                latestId = id;
+            }
+            keyMap.put(key.getId(), key);
+            BaseCipher cipher = cipherByName.apply(key.getCipher());
+            // a key of an unknown cipher is rejected when its cipher is requested
+            if (cipher != null) {
+                secretKeyMap.put(key.getId(), cipher.toSecretKey(key.getSecretKey()));
+            }
+        }
+        this.keysById = Collections.unmodifiableMap(keyMap);
+        this.secretKeysById = Collections.unmodifiableMap(secretKeyMap);
+        this.latestKey = latest;
+        this.latestSecretKey = secretKeyMap.get(latest.getId());
+    }
+
+    public CryptoEnv.CipherKey getLatestKey() {
+        return latestKey;
+    }
+
+    public SecretKey getLatestSecretKey() {
+        return latestSecretKey;
+    }
+
+    /**
+     * Returns a cipher key by ID
+     *
+     * @param cipherID the cipher key ID
+     * @return the cipher key
+     * @throws NoSuchElementException if the ID is unknown
+     */
+    public CryptoEnv.CipherKey getKey(String cipherID) {
+        CryptoEnv.CipherKey key = keysById.get(cipherID);
+        if (key == null) {
+            throw new NoSuchElementException("Unknown cipher key ID: " + cipherID);
+        }
+        return key;
+    }
+
+    /**
+     * Returns the secret key of a cipher key ID
+     *
+     * @param cipherID the cipher key ID
+     * @return the secret key, null if the cipher of the key is unknown
+     * @throws NoSuchElementException if the ID is unknown
+     */
+    public SecretKey getSecretKey(String cipherID) {
+        SecretKey secretKey = secretKeysById.get(cipherID);
+        if (secretKey == null) {
+            getKey(cipherID);
+        }
+        return secretKey;
+    }
+}
@@ -7,19 +7,23 @@ package com.scality.osis.security.utils;
 
 import com.scality.osis.security.crypto.AES256GCM;
 import com.scality.osis.security.crypto.BaseCipher;
+import com.scality.osis.security.crypto.CipherKeyRing;
 import com.scality.osis.security.crypto.CryptoEnv;
 import com.scality.osis.vaultadmin.impl.VaultServiceException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
-import java.util.Comparator;
+import javax.crypto.SecretKey;
 
 import static com.scality.osis.security.utils.SecurityConstants.NAME_AES_256_GCM_CIPHER;
 
 
 /**
  * The factory class for all Ciphers.
+ * <p>
+ * The keys of {@link CryptoEnv} are indexed once in a {@link CipherKeyRing} on first use, and each cipher is a
+ * thread-safe singleton, so the lookups done for every secret key are constant time.
  */
 @Component
 public class CipherFactory {
@@ -27,55 +31,53 @@ public class CipherFactory {
     @Autowired
     private CryptoEnv cryptoEnv;
 
-    private BaseCipher baseCipher;
+    private final AES256GCM aes256GCM = new AES256GCM();
 
-    public CipherFactory(){}
+    private volatile CipherKeyRing keyRing;
 
-    private CryptoEnv.CipherKey getLatestCipherKey() {
-        return cryptoEnv.getKeys()
-                .stream()
-                .max(Comparator.comparing(cipherKey -> Integer.parseInt(cipherKey.getId())))
-                .get();
-    }
+    public CipherFactory(){}
 
-    private CryptoEnv.CipherKey getCipherKeyByCipherID(String cipherID) {
-        return cryptoEnv.getKeys()
-                .stream()
-                .filter(key -> cipherID.equals(key.getId()))
-                .findAny()
-                .get();
+    /**
+     * Returns the key ring, built from the environment on first use.
+     *
+     * @return the key ring
+     */
+    public CipherKeyRing getKeyRing() {
+        CipherKeyRing ring = keyRing;
+        if (ring == null) {
+            synchronized (this) {
+                ring = keyRing;
+                if (ring == null) {
+                    ring = new CipherKeyRing(cryptoEnv.getKeys(), this::findCipherByName);
+                    keyRing = ring;
+                }
+            }
+        }
+        return ring;
     }
 
     public String getLatestSecretCipherKey(){
-        CryptoEnv.CipherKey maxCipherKey = getLatestCipherKey();
-        if(maxCipherKey != null){
-            return maxCipherKey.getSecretKey();
-        }
-        return null;
+        return getKeyRing().getLatestKey().getSecretKey();
     }
 
     public String getSecretCipherKeyByID(String cipherID){
-        CryptoEnv.CipherKey cipherKey = getCipherKeyByCipherID(cipherID);
-        if(cipherKey != null){
-            return cipherKey.getSecretKey();
-        }
-        return null;
+        return getKeyRing().getKey(cipherID).getSecretKey();
+    }
+
+    public SecretKey getLatestSecretKey(){
+        return getKeyRing().getLatestSecretKey();
+    }
+
+    public SecretKey getSecretKeyByID(String cipherID){
+        return getKeyRing().getSecretKey(cipherID);
     }
 
     public String getLatestCipherID(){
-        CryptoEnv.CipherKey maxCipherKey = getLatestCipherKey();
-        if(maxCipherKey != null){
-            return maxCipherKey.getId();
-        }
-        return null;
+        return getKeyRing().getLatestKey().getId();
     }
 
     public String getLatestCipherName(){
-        CryptoEnv.CipherKey maxCipherKey = getLatestCipherKey();
-        if(maxCipherKey != null){
-            return maxCipherKey.getCipher();
-        }
-        return null;
+        return getKeyRing().getLatestKey().getCipher();
     }
 
     /**
@@ -93,14 +95,7 @@ public class CipherFactory {
      * @return the cache object
      */
     public BaseCipher getCipherByID(String cipherID){
-
-        CryptoEnv.CipherKey cipherKey = getCipherKeyByCipherID(cipherID);
-
-        String cipherName = (cipherKey != null) ?
-                cipherKey.getCipher()
-                : null;
-
-        return getCipherByName(cipherName);
+        return getCipherByName(getKeyRing().getKey(cipherID).getCipher());
     }
 
     /**
@@ -110,15 +105,18 @@ public class CipherFactory {
      * @return the cache object
      */
     public BaseCipher getCipherByName(String cipherName){
-        switch(cipherName){
-            case NAME_AES_256_GCM_CIPHER :
-                if((baseCipher == null) || !(baseCipher instanceof AES256GCM)) {
-                    baseCipher = new AES256GCM();
-                }
+        BaseCipher cipher = findCipherByName(cipherName);
+        if (cipher == null) {
+            throw new VaultServiceException(HttpStatus.NOT_FOUND, "Unknown Cipher name");
+        }
+        return cipher;
+    }
 
-                return baseCipher;
-            default : throw new VaultServiceException(HttpStatus.NOT_FOUND, "Unknown Cipher name");
+    private BaseCipher findCipherByName(String cipherName){
+        if (NAME_AES_256_GCM_CIPHER.equals(cipherName)) {
+            return aes256GCM;
         }
+        return null;
     }
 
 }
@@ -1,9 +1,12 @@
 package com.scality.osis.utapi.impl;
 
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.auth.BasicSessionCredentials;
 import com.amazonaws.services.securitytoken.model.Credentials;
 import com.amazonaws.util.StringUtils;
+import com.scality.osis.http.HttpClientConfigFactory;
+import com.scality.osis.http.HttpClientConstants;
 import com.scality.osis.utapi.Utapi;
 import com.scality.osis.utapiclient.services.UtapiServiceClient;
 import okhttp3.HttpUrl;
@@ -17,6 +20,9 @@ public class UtapiImpl implements Utapi {
     private UtapiServiceClient utapiService;
     private final String utapiEndpoint;
 
+    @Autowired(required = false)
+    private HttpClientConfigFactory httpClientConfigFactory;
+
     @Autowired
     public UtapiImpl(@Value("${osis.scality.utapi.endpoint}") String utapiEndpoint) {
         validEndpoint(utapiEndpoint);
@@ -44,13 +50,17 @@ public class UtapiImpl implements Utapi {
 
     @Override
     public UtapiServiceClient getUtapiServiceClient(Credentials credentials, String region) {
+        ClientConfiguration clientConfig = httpClientConfigFactory != null
+                ? httpClientConfigFactory.getConfig(HttpClientConstants.BACKEND_UTAPI) : new ClientConfiguration();
         if (StringUtils.isNullOrEmpty(credentials.getSessionToken())) {
             utapiService = new UtapiServiceClient(
-                    new BasicAWSCredentials(credentials.getAccessKeyId(), credentials.getSecretAccessKey()));
+                    new BasicAWSCredentials(credentials.getAccessKeyId(), credentials.getSecretAccessKey()),
+                    clientConfig);
         } else {
             utapiService = new UtapiServiceClient(
                     new BasicSessionCredentials(credentials.getAccessKeyId(), credentials.getSecretAccessKey(),
-                            credentials.getSessionToken()));
+                            credentials.getSessionToken()),
+                    clientConfig);
         }
         utapiService.setEndpoint(utapiEndpoint);
         return utapiService;
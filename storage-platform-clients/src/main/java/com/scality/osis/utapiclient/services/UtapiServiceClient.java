@@ -1,5 +1,6 @@
 package com.scality.osis.utapiclient.services;
 
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.Response;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.http.AmazonHttpClient;
@@ -14,6 +15,16 @@ public class UtapiServiceClient extends BaseServicesClient implements UtapiServi
         super(awsCredentials);
     }
 
+    /**
+     * Constructs a new client to invoke service methods on Utapi using the specified client configuration.
+     *
+     * @param awsCredentials      the aws credentials
+     * @param clientConfiguration the client configuration options (ex: max connections, timeouts, retry policy)
+     */
+    public UtapiServiceClient(AWSCredentials awsCredentials, ClientConfiguration clientConfiguration) {
+        super(awsCredentials, clientConfiguration);
+    }
+
     /**
      * Constructs a new client to invoke service methods on IAM. A credentials provider chain will be used that searches
      * for credentials in this order:
@@ -0,0 +1,189 @@
+/**
+ * Copyright 2021 Scality, Inc.
+ * SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.vaultadmin.impl;
+
+import com.amazonaws.util.StringUtils;
+import com.scality.osis.vaultadmin.impl.cache.Cache;
+import com.scality.vaultclient.dto.AccountData;
+import com.scality.vaultclient.dto.GetAccountRequestDTO;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of the Vault accounts, keyed by account ID and by canonical ID.
+ * <p>
+ * Only the lookups by account ID or by canonical ID are served from the cache, lookups by name, arn or
+ * email always go to Vault. Writes invalidate the account and bump a generation, so that a getAccount
+ * which started before the write does not store the previous version of the account.
+ */
+public class AccountDataCache implements MeterBinder {
+
+    private static final String ID_KEY_PREFIX = "id:";
+
+    private static final String CANONICAL_ID_KEY_PREFIX = "canonicalId:";
+
+    private final Cache<String, AccountData> cache;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Instantiates a new Account data cache.
+     *
+     * @param cache the accountData cache
+     */
+    public AccountDataCache(Cache<String, AccountData> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Returns the cached account for the request, null if the request is not a lookup by account ID or
+     * canonical ID or if the account is not cached.
+     *
+     * @param getAccountRequestDTO the get account request dto
+     * @return the cached account or null
+     */
+    public AccountData get(GetAccountRequestDTO getAccountRequestDTO) {
+        String key = toKey(getAccountRequestDTO);
+        if (key == null) {
+            return null;
+        }
+        AccountData accountData = cache.get(key);
+        if (accountData != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return accountData;
+    }
+
+    /**
+     * Load the account of a request missing from the cache and cache it, unless it was invalidated meanwhile.
+     * The lookups by account ID or canonical ID are recorded as loads in the cache stats.
+     *
+     * @param getAccountRequestDTO the get account request dto
+     * @param loader gets the account from Vault
+     * @return the loaded account
+     */
+    public AccountData load(GetAccountRequestDTO getAccountRequestDTO, Supplier<AccountData> loader) {
+        // an update during the call leaves the account out of the cache
+        long loadGeneration = generation.get();
+        boolean cacheable = toKey(getAccountRequestDTO) != null;
+        long start = System.nanoTime();
+        AccountData accountData = null;
+        try {
+            accountData = loader.get();
+        } finally {
+            if (cacheable) {
+                cache.recordLoad(System.nanoTime() - start, accountData != null);
+            }
+        }
+        put(accountData, loadGeneration);
+        return accountData;
+    }
+
+    /**
+     * Returns the current generation, to be passed to {@link #put(AccountData, long)} by a loader.
+     *
+     * @return the generation
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Cache the account under its account ID and canonical ID, unless it was invalidated since the
+     * loader read the generation.
+     *
+     * @param accountData the account loaded from Vault
+     * @param loadGeneration the generation read before loading the account
+     */
+    public void put(AccountData accountData, long loadGeneration) {
+        if (accountData == null || generation.get() != loadGeneration) {
+            return;
+        }
+        if (!StringUtils.isNullOrEmpty(accountData.getId())) {
+            cache.put(ID_KEY_PREFIX + accountData.getId(), accountData);
+        }
+        if (!StringUtils.isNullOrEmpty(accountData.getCanonicalId())) {
+            cache.put(CANONICAL_ID_KEY_PREFIX + accountData.getCanonicalId(), accountData);
+        }
+    }
+
+    /**
+     * Invalidate the account. The whole cache is cleared when the account is unknown.
+     *
+     * @param accountData the created or updated account, may be null
+     */
+    public void invalidate(AccountData accountData) {
+        generation.incrementAndGet();
+        if (accountData == null) {
+            cache.clear();
+            return;
+        }
+        if (!StringUtils.isNullOrEmpty(accountData.getId())) {
+            cache.remove(ID_KEY_PREFIX + accountData.getId());
+        }
+        if (!StringUtils.isNullOrEmpty(accountData.getCanonicalId())) {
+            cache.remove(CANONICAL_ID_KEY_PREFIX + accountData.getCanonicalId());
+        }
+    }
+
+    private static String toKey(GetAccountRequestDTO getAccountRequestDTO) {
+        if (!StringUtils.isNullOrEmpty(getAccountRequestDTO.getAccountName())
+                || !StringUtils.isNullOrEmpty(getAccountRequestDTO.getAccountArn())
+                || !StringUtils.isNullOrEmpty(getAccountRequestDTO.getEmailAddress())) {
+            return null;
+        }
+        boolean hasId = !StringUtils.isNullOrEmpty(getAccountRequestDTO.getAccountId());
+        boolean hasCanonicalId = !StringUtils.isNullOrEmpty(getAccountRequestDTO.getCanonicalId());
+        if (hasId && !hasCanonicalId) {
+            return ID_KEY_PREFIX + getAccountRequestDTO.getAccountId();
+        }
+        if (hasCanonicalId && !hasId) {
+            return CANONICAL_ID_KEY_PREFIX + getAccountRequestDTO.getCanonicalId();
+        }
+        return null;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the ratio of the cacheable lookups served from the cache
+     *
+     * @return the hit ratio, 0 when there was no lookup
+     */
+    public double getHitRatio() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("osis.vault.account.cache", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .description("getAccount lookups served from the cache")
+                .register(registry);
+        FunctionCounter.builder("osis.vault.account.cache", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .description("getAccount lookups sent to Vault")
+                .register(registry);
+    }
+}
@@ -0,0 +1,291 @@
+/**
+ * Copyright 2021 Scality, Inc.
+ * SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.vaultadmin.impl;
+
+import com.amazonaws.services.securitytoken.model.AssumeRoleRequest;
+import com.amazonaws.services.securitytoken.model.Credentials;
+import com.scality.osis.vaultadmin.impl.cache.Cache;
+import com.scality.osis.vaultadmin.impl.cache.CacheExpiryService;
+import com.scality.osis.vaultadmin.utils.VaultAdminEnv;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static com.scality.osis.vaultadmin.impl.cache.CacheConstants.*;
+
+/**
+ * Expiration-aware cache of the assumeRole credentials with refresh-ahead.
+ * <p>
+ * Credentials are cached until their own expiration minus a safety skew. The roles used recently are
+ * re-assumed in the background shortly before their credentials expire, so that foreground requests
+ * are served from the cache instead of waiting on STS. The cache maintenance thread only picks the due
+ * roles, they are re-assumed on a dedicated pool so that a slow STS does not delay the sweeps of the caches.
+ */
+public class CredentialsRefresher implements MeterBinder {
+    private static final Logger logger = LoggerFactory.getLogger(CredentialsRefresher.class);
+
+    private static final String REFRESH_THREAD_NAME_PREFIX = "osis-assumerole-refresh-";
+
+    private final Function<AssumeRoleRequest, Credentials> assumeRole;
+
+    private final Cache<String, Credentials> cache;
+
+    private final long defaultTtl;
+
+    private final long expirySkew;
+
+    private final long refreshAhead;
+
+    private final long refreshInterval;
+
+    private final long idleTimeInNanos;
+
+    private final Executor refreshExecutor;
+
+    private final Map<String, TrackedRole> trackedRoles = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong refreshes = new AtomicLong();
+
+    private final AtomicLong refreshFailures = new AtomicLong();
+
+    /**
+     * Instantiates a new Credentials refresher.
+     *
+     * @param assumeRole the function calling STS assumeRole
+     * @param cache the assumeRole cache
+     * @param env the env, defaults are used when null
+     */
+    public CredentialsRefresher(Function<AssumeRoleRequest, Credentials> assumeRole,
+                                Cache<String, Credentials> cache, VaultAdminEnv env) {
+        this(assumeRole, cache, env, newRefreshExecutor(
+                env == null || env.getAssumeRoleRefreshConcurrency() == null
+                        ? DEFAULT_ASSUME_ROLE_REFRESH_CONCURRENCY : env.getAssumeRoleRefreshConcurrency()));
+    }
+
+    /**
+     * Instantiates a new Credentials refresher re-assuming the roles on the given executor.
+     *
+     * @param assumeRole the function calling STS assumeRole
+     * @param cache the assumeRole cache
+     * @param env the env, defaults are used when null
+     * @param refreshExecutor the executor re-assuming the roles, shut down with the refresher if it is an
+     *                        ExecutorService
+     */
+    CredentialsRefresher(Function<AssumeRoleRequest, Credentials> assumeRole,
+                         Cache<String, Credentials> cache, VaultAdminEnv env, Executor refreshExecutor) {
+        this.refreshExecutor = refreshExecutor;
+        this.assumeRole = assumeRole;
+        this.cache = cache;
+        this.defaultTtl = valueOrDefault(env == null ? null : env.getAssumeRoleCacheExpiration(),
+                DEFAULT_CACHE_TTL_IN_MS);
+        this.expirySkew = valueOrDefault(env == null ? null : env.getAssumeRoleExpirySkew(),
+                DEFAULT_ASSUME_ROLE_EXPIRY_SKEW_IN_MS);
+        this.refreshAhead = valueOrDefault(env == null ? null : env.getAssumeRoleRefreshAhead(),
+                DEFAULT_ASSUME_ROLE_REFRESH_AHEAD_IN_MS);
+        this.refreshInterval = valueOrDefault(env == null ? null : env.getAssumeRoleRefreshInterval(),
+                DEFAULT_ASSUME_ROLE_REFRESH_INTERVAL_IN_MS);
+        this.idleTimeInNanos = TimeUnit.MILLISECONDS.toNanos(valueOrDefault(
+                env == null ? null : env.getAssumeRoleRefreshIdleTime(), DEFAULT_ASSUME_ROLE_REFRESH_IDLE_IN_MS));
+    }
+
+    private static long valueOrDefault(Long value, long defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
+    private static ExecutorService newRefreshExecutor(int concurrency) {
+        AtomicInteger threadCount = new AtomicInteger();
+        // the queue holds at most one refresh per tracked role
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(concurrency, concurrency, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, REFRESH_THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Schedule the background refresh on the cache maintenance thread. Does nothing if the refresh interval is 0.
+     *
+     * @param expiryService the cache expiry service
+     */
+    public void start(CacheExpiryService expiryService) {
+        if (expiryService != null && refreshInterval > 0) {
+            expiryService.scheduleMaintenance(this::refresh, refreshInterval);
+        }
+    }
+
+    /**
+     * Returns the cached credentials for the role or assumes the role.
+     *
+     * @param assumeRoleRequest the assume role request
+     * @return the credentials
+     */
+    public Credentials getCredentials(AssumeRoleRequest assumeRoleRequest) {
+        String roleArn = assumeRoleRequest.getRoleArn();
+        Credentials credentials = cache.get(roleArn);
+        if (credentials != null) {
+            hits.incrementAndGet();
+            TrackedRole trackedRole = trackedRoles.get(roleArn);
+            if (trackedRole != null) {
+                trackedRole.lastAccess = System.nanoTime();
+            }
+            return credentials;
+        }
+
+        misses.incrementAndGet();
+        credentials = assumeRole.apply(assumeRoleRequest);
+        store(assumeRoleRequest.clone(), credentials);
+        return credentials;
+    }
+
+    /**
+     * Re-assume the recently used roles whose credentials expire within the refresh-ahead window, on the
+     * refresh executor. A role whose refresh is in progress is skipped.
+     */
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        long nowInNanos = System.nanoTime();
+        Iterator<TrackedRole> iterator = trackedRoles.values().iterator();
+        while (iterator.hasNext()) {
+            TrackedRole trackedRole = iterator.next();
+            if (nowInNanos - trackedRole.lastAccess > idleTimeInNanos) {
+                // not used recently, let the entry expire
+                iterator.remove();
+                continue;
+            }
+            if (trackedRole.expiration == 0L || trackedRole.expiration - now > refreshAhead) {
+                continue;
+            }
+            if (!trackedRole.refreshing.compareAndSet(false, true)) {
+                continue;
+            }
+            try {
+                refreshExecutor.execute(() -> refresh(trackedRole));
+            } catch (RejectedExecutionException e) {
+                // shut down, the credentials are assumed again by the next foreground request
+                trackedRole.refreshing.set(false);
+            }
+        }
+    }
+
+    private void refresh(TrackedRole trackedRole) {
+        try {
+            store(trackedRole.request, assumeRole.apply(trackedRole.request));
+            refreshes.incrementAndGet();
+        } catch (RuntimeException e) {
+            refreshFailures.incrementAndGet();
+            logger.warn("Refresh of the credentials for role {} failed: {}",
+                    trackedRole.request.getRoleArn(), e.getMessage());
+        } finally {
+            trackedRole.refreshing.set(false);
+        }
+    }
+
+    /**
+     * Stop the refresh threads.
+     */
+    public void shutdown() {
+        if (refreshExecutor instanceof ExecutorService) {
+            ((ExecutorService) refreshExecutor).shutdownNow();
+        }
+    }
+
+    private void store(AssumeRoleRequest assumeRoleRequest, Credentials credentials) {
+        if (credentials == null) {
+            return;
+        }
+        String roleArn = assumeRoleRequest.getRoleArn();
+        long expiration = credentials.getExpiration() != null ? credentials.getExpiration().getTime() : 0L;
+        long ttl = expiration != 0L ? expiration - System.currentTimeMillis() - expirySkew : defaultTtl;
+        if (ttl <= 0) {
+            // already within the skew, do not serve these credentials from the cache
+            trackedRoles.remove(roleArn);
+            return;
+        }
+        cache.put(roleArn, credentials, ttl);
+
+        TrackedRole trackedRole = trackedRoles.get(roleArn);
+        if (trackedRole == null) {
+            trackedRoles.put(roleArn, new TrackedRole(assumeRoleRequest, expiration));
+        } else {
+            trackedRole.expiration = expiration;
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getRefreshes() {
+        return refreshes.get();
+    }
+
+    public long getRefreshFailures() {
+        return refreshFailures.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("osis.vault.assumerole.cache", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .description("assumeRole credentials served from the cache")
+                .register(registry);
+        FunctionCounter.builder("osis.vault.assumerole.cache", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .description("assumeRole credentials fetched from STS by a foreground request")
+                .register(registry);
+        FunctionCounter.builder("osis.vault.assumerole.refresh", refreshes, AtomicLong::get)
+                .tag("result", "success")
+                .description("assumeRole credentials refreshed ahead of their expiration")
+                .register(registry);
+        FunctionCounter.builder("osis.vault.assumerole.refresh", refreshFailures, AtomicLong::get)
+                .tag("result", "failure")
+                .description("failed refresh-ahead of assumeRole credentials")
+                .register(registry);
+    }
+
+    /**
+     * A role recently used by a foreground request.
+     */
+    private static final class TrackedRole {
+        private final AssumeRoleRequest request;
+        private volatile long expiration;
+        private volatile long lastAccess;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        TrackedRole(AssumeRoleRequest request, long expiration) {
+            this.request = request;
+            this.expiration = expiration;
+            this.lastAccess = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright 2021 Scality, Inc.
+ * SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.vaultadmin.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Per-key request coalescing.
+ * <p>
+ * The first caller for a key runs the loader, concurrent callers for the same key wait for its
+ * {@link CompletableFuture} instead of sending an identical request. The in-flight call is forgotten as soon
+ * as it completes, so results and failures are never cached: a failure is rethrown to all the waiters and the
+ * next caller retries.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlightCalls = new ConcurrentHashMap<>();
+
+    private final AtomicLong coalescedCalls = new AtomicLong();
+
+    /**
+     * Run the loader for the key or wait for the call already in flight for this key.
+     *
+     * @param key the key
+     * @param loader the loader
+     * @return the value returned by the loader
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> inFlightCall = inFlightCalls.putIfAbsent(key, call);
+        if (inFlightCall != null) {
+            coalescedCalls.incrementAndGet();
+            return await(inFlightCall);
+        }
+
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            // forget the call before completing it so that new callers retry
+            inFlightCalls.remove(key, call);
+            call.completeExceptionally(e);
+            throw e;
+        }
+        inFlightCalls.remove(key, call);
+        call.complete(value);
+        return value;
+    }
+
+    private V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            // rethrow the loader exception as is, e.g. VaultServiceException
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of calls which waited for an in-flight call instead of running the loader
+     *
+     * @return the coalesced calls count
+     */
+    public long getCoalescedCalls() {
+        return coalescedCalls.get();
+    }
+
+    /**
+     * Returns the number of keys with a call in flight
+     *
+     * @return the in-flight calls count
+     */
+    public int inFlight() {
+        return inFlightCalls.size();
+    }
+}
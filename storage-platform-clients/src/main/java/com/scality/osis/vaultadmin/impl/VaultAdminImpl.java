@@ -5,22 +5,32 @@
 
 package com.scality.osis.vaultadmin.impl;
 
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.auth.BasicSessionCredentials;
 import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.http.AmazonHttpClient;
 import com.amazonaws.services.identitymanagement.AmazonIdentityManagement;
 import com.amazonaws.services.identitymanagement.AmazonIdentityManagementClientBuilder;
 import com.amazonaws.services.securitytoken.model.AssumeRoleRequest;
 import com.amazonaws.util.StringUtils;
+import com.scality.osis.http.HttpClientConfigFactory;
+import com.scality.osis.http.HttpClientConstants;
+import com.scality.osis.vaultadmin.impl.cache.AccountsMarkerIndex;
+import com.scality.osis.vaultadmin.impl.cache.AccountsMarkerStore;
 import com.scality.osis.vaultadmin.impl.cache.Cache;
 import com.scality.osis.vaultadmin.impl.cache.CacheConstants;
+import com.scality.osis.vaultadmin.impl.cache.CacheExpiryService;
 import com.scality.osis.vaultadmin.impl.cache.CacheFactory;
+import com.scality.osis.vaultadmin.impl.cache.SdkClientRegistry;
+import com.scality.osis.vaultadmin.utils.VaultAdminEnv;
 import com.scality.osis.vaultadmin.utils.VaultAdminUtils;
 import com.scality.vaultclient.dto.*;
 import com.scality.vaultclient.services.AccountServicesClient;
 import com.scality.vaultclient.services.SecurityTokenServicesClient;
 import com.scality.osis.vaultadmin.VaultAdmin;
+import io.micrometer.core.instrument.MeterRegistry;
 import okhttp3.HttpUrl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +41,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Vault administrator implementation
@@ -44,6 +64,10 @@ public class VaultAdminImpl implements VaultAdmin{
 
   public static final String CD_TENANT_ID_PREFIX = "cd_tenant_id==";
 
+  private static final int LIST_ACCOUNTS_MAX_ITEMS = 1000;
+
+  private static final int MARKER_PREFETCH_QUEUE_SIZE = 16;
+
   private final AccountServicesClient vaultAccountClient;
 
   private final SecurityTokenServicesClient vaultSTSClient;
@@ -51,21 +75,48 @@ public class VaultAdminImpl implements VaultAdmin{
 
   private String vaultAdminEndpoint;
 
+  private HttpClientConfigFactory httpClientConfigFactory;
+
   @Autowired
   private CacheFactory cacheFactory;
 
-  private Cache<Integer, String> listAccountsMarkerCache;
+  private AccountsMarkerIndex accountsMarkerIndex;
+
+  @Autowired(required = false)
+  private AccountsMarkerStore accountsMarkerStore;
+
+  private ExecutorService markerPrefetchExecutor;
+
+  private final Set<String> markerPrefetches = ConcurrentHashMap.newKeySet();
 
   private Cache<String, Credentials> assumeRoleCache;
 
   private Cache<String, String> accountIdCache;
 
+  @Autowired(required = false)
+  private MeterRegistry meterRegistry;
+
+  @Autowired(required = false)
+  private SdkClientRegistry clientRegistry;
+
+  private CredentialsRefresher credentialsRefresher;
+
+  private AccountDataCache accountDataCache;
+
+  // Concurrent cache misses for the same key share one Vault/STS call
+  private final SingleFlight<String, Credentials> assumeRoleCalls = new SingleFlight<>();
+
+  private final SingleFlight<String, AccountData> getAccountCalls = new SingleFlight<>();
+
+  private final SingleFlight<String, String> accountIdCalls = new SingleFlight<>();
+
   /**
    * Create a Vault administrator implementation
    *  @param accessKey Access key of the admin who have proper administrative capabilities.
    * @param secretKey Secret key of the admin who have proper administrative capabilities.
    * @param vaultAdminEndpoint Vault admin API endpoint, e.g., http://127.0.0.1:8600
    * @param s3InterfaceEndpoint Vault S3 Interface endpoint, e.g., http://127.0.0.1:8500
+   * @param httpClientConfigFactory the factory of the HTTP client configurations
    */
   @Autowired
   public VaultAdminImpl(@Value("${osis.scality.vault.access-key}") String accessKey,
@@ -74,9 +125,11 @@ public class VaultAdminImpl implements VaultAdmin{
                         @Value("${osis.scality.vaultS3Interface.endpoint}") String s3InterfaceEndpoint,
                         @Value("${osis.scality.vault.decrypt-admin-credentials:false}") boolean isDecryptAdminCredentials,
                         @Value("${osis.scality.vault.admin-file-path:}") String adminFilePath,
-                        @Value("${osis.scality.vault.master-keyfile-path:}") String masterKeyFilePath) {
+                        @Value("${osis.scality.vault.master-keyfile-path:}") String masterKeyFilePath,
+                        HttpClientConfigFactory httpClientConfigFactory) {
     validEndpoint(vaultAdminEndpoint);
     this.vaultAdminEndpoint = vaultAdminEndpoint;
+    this.httpClientConfigFactory = httpClientConfigFactory;
 
     if(isDecryptAdminCredentials){
 
@@ -88,12 +141,15 @@ public class VaultAdminImpl implements VaultAdmin{
       }
     }
 
-    this.vaultAccountClient = new AccountServicesClient(
+    // vaultclient services clients only accept a tuned configuration through their http client
+    ClientConfiguration vaultClientConfig = getClientConfig(HttpClientConstants.BACKEND_VAULT);
+
+    this.vaultAccountClient = new AccountServicesClient(new AmazonHttpClient(vaultClientConfig),
             new BasicAWSCredentials(accessKey, secretKey));
     vaultAccountClient.setEndpoint(vaultAdminEndpoint);
 
 
-    this.vaultSTSClient = new SecurityTokenServicesClient(
+    this.vaultSTSClient = new SecurityTokenServicesClient(new AmazonHttpClient(vaultClientConfig),
             new BasicAWSCredentials(accessKey, secretKey));
     vaultSTSClient.setEndpoint(s3InterfaceEndpoint);
 
@@ -120,9 +176,76 @@ public class VaultAdminImpl implements VaultAdmin{
   @PostConstruct
   public void initCaches() {
     if(cacheFactory !=null) {
-      listAccountsMarkerCache = cacheFactory.getCache(CacheConstants.NAME_LIST_ACCOUNTS_CACHE);
+      initAccountsMarkerIndex();
       assumeRoleCache = cacheFactory.getCache(CacheConstants.NAME_ASSUME_ROLE_CACHE);
       accountIdCache = cacheFactory.getCache(CacheConstants.NAME_ACCOUNT_ID_CACHE);
+      initCredentialsRefresher();
+      initAccountDataCache();
+    }
+  }
+
+  private void initAccountDataCache() {
+    accountDataCache = null;
+    Cache<String, AccountData> cache = cacheFactory.getCache(CacheConstants.NAME_ACCOUNT_DATA_CACHE);
+    if(cache != null) {
+      accountDataCache = new AccountDataCache(cache);
+      if(meterRegistry != null) {
+        accountDataCache.bindTo(meterRegistry);
+      }
+    }
+  }
+
+  private void initAccountsMarkerIndex() {
+    accountsMarkerIndex = null;
+    Cache<String, String> markerCache = cacheFactory.getCache(CacheConstants.NAME_LIST_ACCOUNTS_CACHE);
+    if(markerCache == null) {
+      return;
+    }
+    VaultAdminEnv env = cacheFactory.getEnvironmentVariables();
+    long ttl = env != null && env.getListAccountsCacheExpiration() != null
+            ? env.getListAccountsCacheExpiration() : CacheConstants.DEFAULT_CACHE_TTL_IN_MS;
+    accountsMarkerIndex = new AccountsMarkerIndex(markerCache, accountsMarkerStore, ttl);
+
+    CacheExpiryService expiryService = cacheFactory.getExpiryService();
+    if(expiryService != null) {
+      long sweepInterval = env != null && env.getCacheSweepInterval() != null
+              ? env.getCacheSweepInterval() : CacheConstants.DEFAULT_CACHE_SWEEP_INTERVAL_IN_MS;
+      expiryService.scheduleMaintenance(accountsMarkerIndex::prune, sweepInterval);
+    }
+
+    if(env != null && env.isListAccountsPrefetchEnabled() && markerPrefetchExecutor == null) {
+      // a single background thread, prefetches are dropped when it is busy
+      markerPrefetchExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+              new ArrayBlockingQueue<>(MARKER_PREFETCH_QUEUE_SIZE), runnable -> {
+                Thread thread = new Thread(runnable, "vault-marker-prefetch");
+                thread.setDaemon(true);
+                return thread;
+              }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if(markerPrefetchExecutor != null) {
+      markerPrefetchExecutor.shutdownNow();
+    }
+    if(credentialsRefresher != null) {
+      credentialsRefresher.shutdown();
+    }
+  }
+
+  private void initCredentialsRefresher() {
+    if(credentialsRefresher != null) {
+      credentialsRefresher.shutdown();
+    }
+    credentialsRefresher = null;
+    if(assumeRoleCache != null) {
+      credentialsRefresher = new CredentialsRefresher(this::assumeRole, assumeRoleCache,
+              cacheFactory.getEnvironmentVariables());
+      credentialsRefresher.start(cacheFactory.getExpiryService());
+      if(meterRegistry != null) {
+        credentialsRefresher.bindTo(meterRegistry);
+      }
     }
   }
 
@@ -147,7 +270,10 @@ public class VaultAdminImpl implements VaultAdmin{
    */
   @Override
   public CreateAccountResponseDTO createAccount(CreateAccountRequestDTO createAccountRequest) throws VaultServiceException{
-    return ExternalServiceFactory.executeVaultService(vaultAccountClient::createAccount, createAccountRequest);
+    CreateAccountResponseDTO createAccountResponse =
+            ExternalServiceFactory.executeVaultService(vaultAccountClient::createAccount, createAccountRequest);
+    invalidateAccountData(createAccountResponse);
+    return createAccountResponse;
   }
 
   /**
@@ -193,14 +319,17 @@ public class VaultAdminImpl implements VaultAdmin{
   @Override
   public ListAccountsResponseDTO listAccounts(long offset, ListAccountsRequestDTO listAccountsRequest) throws VaultServiceException {
     if(offset > 0) {
-      String marker = getAccountsMarker((int)offset, CD_TENANT_ID_PREFIX);
+      String marker = getAccountsMarker((int)offset, listAccountsRequest);
       logger.debug("List Accounts called with marker:{}", marker);
       listAccountsRequest.setMarker(marker);
     }
     ListAccountsResponseDTO listAccountsResponse = listAccounts(listAccountsRequest);
     if(listAccountsResponse.isTruncated()) {
       // Store (offset + listAccountsResponse.getAccounts().size()) as key for the received marker
-      cacheListAccountsMarker((int) (offset + listAccountsResponse.getAccounts().size()), listAccountsResponse.getMarker());
+      int nextOffset = (int) (offset + listAccountsResponse.getAccounts().size());
+      cacheListAccountsMarker(listAccountsRequest, nextOffset, listAccountsResponse.getMarker());
+      prefetchListAccountsMarker(listAccountsRequest, nextOffset, listAccountsResponse.getMarker(),
+              listAccountsResponse.getAccounts().size());
     }
     return listAccountsResponse;
   }
@@ -215,23 +344,25 @@ public class VaultAdminImpl implements VaultAdmin{
   public String getAccountID(ListAccountsRequestDTO queryAccountsRequest) throws VaultServiceException{
     String cdTenantIDFilter = queryAccountsRequest.getFilterKey();
 
-    if(accountIdCache.get(cdTenantIDFilter) != null){
-      return accountIdCache.get(queryAccountsRequest.getFilterKey());
-    } else{
-      // Call listAccounts with queryAccountsRequest
-      ListAccountsResponseDTO queryAccountsResponse = listAccounts(0, queryAccountsRequest);
+    String accountID = (accountIdCache != null) ? accountIdCache.get(cdTenantIDFilter) : null;
+    if(accountID != null){
+      return accountID;
+    }
+
+    return accountIdCalls.execute(cdTenantIDFilter, () -> load(accountIdCache, () -> {
+      // Call listAccounts with queryAccountsRequest, the first page needs no marker
+      ListAccountsResponseDTO queryAccountsResponse = listAccounts(queryAccountsRequest);
 
       if(queryAccountsResponse.getAccounts().isEmpty()){
         throw new VaultServiceException(HttpStatus.BAD_REQUEST, "Provided cd_tenant_id does not exist");
       }
 
-      String accountID = queryAccountsResponse.getAccounts().get(0).getId();
+      String queriedAccountID = queryAccountsResponse.getAccounts().get(0).getId();
       // Cache accountID w.r.t cdTenantID filter
-      cacheAccountID(cdTenantIDFilter, accountID);
-
-      return accountID;
-    }
+      cacheAccountID(cdTenantIDFilter, queriedAccountID);
 
+      return queriedAccountID;
+    }));
   }
 
   /**
@@ -243,63 +374,115 @@ public class VaultAdminImpl implements VaultAdmin{
    * @return the marker string
    */
   public String getAccountsMarker(int offset, String filterKey) throws VaultServiceException {
+    return getAccountsMarker(offset, ListAccountsRequestDTO.builder()
+            .filterKeyStartsWith(filterKey)
+            .build());
+  }
 
-    String marker = null;
-    if(listAccountsMarkerCache != null){
-      marker = listAccountsMarkerCache.get(offset);
-    }
-
-    // If marker available in cache
-    if(marker  == null){
+  /**
+   * Returns the marker of the offset in the listing filtered like the given request.
+   * <p>The listing starts from the nearest indexed offset below the requested one, so an offset less than
+   * 1000 items after an indexed marker costs a single Vault call. The intermediate markers are indexed.
+   */
+  private String getAccountsMarker(int offset, ListAccountsRequestDTO filterRequest) throws VaultServiceException {
+    String indexKey = toMarkerIndexKey(filterRequest);
+    Map.Entry<Integer, String> floorEntry = (accountsMarkerIndex != null)
+            ? accountsMarkerIndex.floorEntry(indexKey, offset) : null;
+
+    int index = (floorEntry != null) ? floorEntry.getKey() : 0;
+    String marker = (floorEntry != null) ? floorEntry.getValue() : null;
+
+    // Move from the nearest indexed offset to offset and capture all missing markers
+    while(index < offset) {
+      int maxItems = Math.min(offset - index, LIST_ACCOUNTS_MAX_ITEMS);
+
+      ListAccountsRequestDTO listAccountsRequest = ListAccountsRequestDTO.builder()
+              .maxItems(maxItems)
+              .filterKey(filterRequest.getFilterKey())
+              .filterKeyStartsWith(filterRequest.getFilterKeyStartsWith())
+              .build();
 
-        // Move index 0 to offset and capture all missing markers
-        int index = 0;
-        for(;index < offset; index += 1000){
+      if(marker != null) {
+        listAccountsRequest.setMarker(marker);
+      }
 
-          int maxItems = (offset < 1000) ? offset : 1000;
-          int nextOffset = index + maxItems;
+      ListAccountsResponseDTO listAccountsResponse = listAccounts(listAccountsRequest);
 
-          if(listAccountsMarkerCache != null && listAccountsMarkerCache.get(nextOffset) !=null){
-            marker = listAccountsMarkerCache.get(nextOffset);
-            continue;
-          }
+      if(!listAccountsResponse.isTruncated() || listAccountsResponse.getAccounts().isEmpty()) {
+        throw new VaultServiceException(HttpStatus.BAD_REQUEST, "Requested offset is outside the total available items");
+      }
 
-          ListAccountsRequestDTO listAccountsRequest = ListAccountsRequestDTO.builder()
-                  .maxItems(maxItems)
-                  .filterKeyStartsWith(filterKey)
-                  .build();
+      // markers are indexed by cumulative offset
+      index += listAccountsResponse.getAccounts().size();
+      marker = listAccountsResponse.getMarker();
+      cacheListAccountsMarker(filterRequest, index, marker);
+    }
+    return marker;
+  }
 
-          if(marker != null) {
-            listAccountsRequest.setMarker(marker);
-          }
+  private static String toMarkerIndexKey(ListAccountsRequestDTO listAccountsRequest) {
+    if(!StringUtils.isNullOrEmpty(listAccountsRequest.getFilterKey())) {
+      return "filterKey=" + listAccountsRequest.getFilterKey();
+    }
+    if(!StringUtils.isNullOrEmpty(listAccountsRequest.getFilterKeyStartsWith())) {
+      return "filterKeyStartsWith=" + listAccountsRequest.getFilterKeyStartsWith();
+    }
+    return "";
+  }
 
-          ListAccountsResponseDTO listAccountsResponse = listAccounts(listAccountsRequest);
+  private void cacheListAccountsMarker(ListAccountsRequestDTO filterRequest, int offset, String marker) {
+    if(accountsMarkerIndex != null) {
+      accountsMarkerIndex.put(toMarkerIndexKey(filterRequest), offset, marker);
+    }
+  }
 
+  /**
+   * Index in the background the marker of the page following the next one, so that a client paging
+   * forward finds both markers indexed.
+   */
+  private void prefetchListAccountsMarker(ListAccountsRequestDTO filterRequest, int nextOffset, String nextMarker,
+                                          int pageSize) {
+    if(markerPrefetchExecutor == null || accountsMarkerIndex == null || pageSize <= 0) {
+      return;
+    }
+    String indexKey = toMarkerIndexKey(filterRequest);
+    int prefetchOffset = nextOffset + pageSize;
+    if(accountsMarkerIndex.get(indexKey, prefetchOffset) != null
+            || !markerPrefetches.add(indexKey + '|' + prefetchOffset)) {
+      return;
+    }
+    ListAccountsRequestDTO prefetchRequest = ListAccountsRequestDTO.builder()
+            .maxItems(Math.min(pageSize, LIST_ACCOUNTS_MAX_ITEMS))
+            .filterKey(filterRequest.getFilterKey())
+            .filterKeyStartsWith(filterRequest.getFilterKeyStartsWith())
+            .build();
+    prefetchRequest.setMarker(nextMarker);
+    try {
+      markerPrefetchExecutor.execute(() -> {
+        try {
+          ListAccountsResponseDTO listAccountsResponse = listAccounts(prefetchRequest);
           if(listAccountsResponse.isTruncated()) {
-
-            marker = listAccountsResponse.getMarker();
-            cacheListAccountsMarker(listAccountsResponse.getAccounts().size(), marker);
-
-          } else{
-            throw new VaultServiceException(HttpStatus.BAD_REQUEST, "Requested offset is outside the total available items");
+            cacheListAccountsMarker(filterRequest, nextOffset + listAccountsResponse.getAccounts().size(),
+                    listAccountsResponse.getMarker());
           }
-
+        } catch (RuntimeException e) {
+          logger.debug("List Accounts marker prefetch failed: {}", e.getMessage());
+        } finally {
+          markerPrefetches.remove(indexKey + '|' + prefetchOffset);
         }
-
-    }
-    return marker;
-  }
-
-  private void cacheListAccountsMarker(int key, String marker) {
-    if(listAccountsMarkerCache != null) {
-        listAccountsMarkerCache.put(key, marker);
+      });
+    } catch (RejectedExecutionException e) {
+      markerPrefetches.remove(indexKey + '|' + prefetchOffset);
     }
   }
 
-  private void cacheAssumeRoleCredentials(String roleArn, Credentials credentials) {
-    if(assumeRoleCache != null) {
-      assumeRoleCache.put(roleArn, credentials);
-    }
+  /**
+   * Returns the listAccounts marker index, null if the listAccounts cache is disabled
+   *
+   * @return the accounts marker index
+   */
+  public AccountsMarkerIndex getAccountsMarkerIndex() {
+    return accountsMarkerIndex;
   }
 
   private void cacheAccountID(String key, String accountID) {
@@ -310,23 +493,68 @@ public class VaultAdminImpl implements VaultAdmin{
 
   @Override
   public Credentials getTempAccountCredentials(AssumeRoleRequest assumeRoleRequest) {
-    Credentials credentials = (assumeRoleCache != null) ? assumeRoleCache.get(assumeRoleRequest.getRoleArn()) : null;
+    if(credentialsRefresher != null) {
+      // cached until the credentials expiration and refreshed ahead of it
+      return credentialsRefresher.getCredentials(assumeRoleRequest);
+    }
+    return assumeRole(assumeRoleRequest);
+  }
 
-    if(credentials == null) {
+  private Credentials assumeRole(AssumeRoleRequest assumeRoleRequest) {
+    // the credentials refresher caches the credentials with their own ttl, the call is recorded as a load
+    return assumeRoleCalls.execute(assumeRoleRequest.getRoleArn(), () -> load(assumeRoleCache, () -> {
       AssumeRoleResult assumeRoleResult = ExternalServiceFactory.executeVaultService(vaultSTSClient::assumeRoleBackbeat, assumeRoleRequest);
+      return assumeRoleResult.getCredentials();
+    }));
+  }
 
-      credentials = assumeRoleResult.getCredentials();
-
-      cacheAssumeRoleCredentials(assumeRoleRequest.getRoleArn(), credentials);
+  /**
+   * Run the loader of a cache miss and record the load in the cache stats, the loaded value being cached by the
+   * caller rather than by the loading {@link Cache#get(Object, java.util.function.Function)}.
+   *
+   * @param cache the cache, null if it is disabled
+   * @param loader the loader
+   * @return the loaded value
+   */
+  private static <V> V load(Cache<?, ?> cache, Supplier<V> loader) {
+    if(cache == null) {
+      return loader.get();
     }
+    long start = System.nanoTime();
+    boolean success = false;
+    try {
+      V value = loader.get();
+      success = value != null;
+      return value;
+    } finally {
+      cache.recordLoad(System.nanoTime() - start, success);
+    }
+  }
 
-    return credentials;
+  /**
+   * Returns the assumeRole credentials refresher, null if the assumeRole cache is not available
+   *
+   * @return the credentials refresher
+   */
+  public CredentialsRefresher getCredentialsRefresher() {
+    return credentialsRefresher;
   }
 
   @Override
   public AmazonIdentityManagement getIAMClient(Credentials credentials, String region) {
+    if(clientRegistry != null) {
+      // reuse the client (and its connection pool) while the credentials are valid
+      return clientRegistry.getClient(AmazonIdentityManagement.class, credentials, region, vaultAdminEndpoint,
+              () -> buildIAMClient(credentials, region), AmazonIdentityManagement::shutdown);
+    }
+    return buildIAMClient(credentials, region);
+  }
+
+  private AmazonIdentityManagement buildIAMClient(Credentials credentials, String region) {
+    ClientConfiguration clientConfig = getClientConfig(HttpClientConstants.BACKEND_IAM);
     if(StringUtils.isNullOrEmpty(credentials.getSessionToken())) {
       return AmazonIdentityManagementClientBuilder.standard()
+              .withClientConfiguration(clientConfig)
               .withCredentials(new AWSStaticCredentialsProvider(
                       new BasicAWSCredentials(
                               credentials.getAccessKeyId(),
@@ -335,6 +563,7 @@ public class VaultAdminImpl implements VaultAdmin{
               .build();
     } else{
       return AmazonIdentityManagementClientBuilder.standard()
+              .withClientConfiguration(clientConfig)
               .withCredentials(new AWSStaticCredentialsProvider(
                       new BasicSessionCredentials(
                               credentials.getAccessKeyId(),
@@ -345,6 +574,17 @@ public class VaultAdminImpl implements VaultAdmin{
     }
   }
 
+  /**
+   * Returns the HTTP client configuration of a backend, the SDK defaults if there is no configuration factory,
+   * e.g. when the Vault clients are given to the constructor.
+   *
+   * @param backend the backend, e.g. {@link HttpClientConstants#BACKEND_IAM}
+   * @return the client configuration
+   */
+  private ClientConfiguration getClientConfig(String backend) {
+    return httpClientConfigFactory != null ? httpClientConfigFactory.getConfig(backend) : new ClientConfiguration();
+  }
+
   /**
    * Returns the temporary account credentials
    *
@@ -365,7 +605,24 @@ public class VaultAdminImpl implements VaultAdmin{
    */
   @Override
   public AccountData getAccount(GetAccountRequestDTO getAccountRequestDTO) {
-    return ExternalServiceFactory.executeVaultService(vaultAccountClient::getAccount, getAccountRequestDTO);
+    AccountData accountData = (accountDataCache != null) ? accountDataCache.get(getAccountRequestDTO) : null;
+    if(accountData != null) {
+      return accountData;
+    }
+
+    return getAccountCalls.execute(getAccountKey(getAccountRequestDTO), () -> {
+      if(accountDataCache == null) {
+        return ExternalServiceFactory.executeVaultService(vaultAccountClient::getAccount, getAccountRequestDTO);
+      }
+      return accountDataCache.load(getAccountRequestDTO,
+              () -> ExternalServiceFactory.executeVaultService(vaultAccountClient::getAccount, getAccountRequestDTO));
+    });
+  }
+
+  private static String getAccountKey(GetAccountRequestDTO getAccountRequestDTO) {
+    return getAccountRequestDTO.getAccountId() + '|' + getAccountRequestDTO.getAccountName() + '|'
+            + getAccountRequestDTO.getAccountArn() + '|' + getAccountRequestDTO.getEmailAddress() + '|'
+            + getAccountRequestDTO.getCanonicalId();
   }
 
   /**
@@ -377,7 +634,32 @@ public class VaultAdminImpl implements VaultAdmin{
    */
   @Override
   public CreateAccountResponseDTO updateAccountAttributes(UpdateAccountAttributesRequestDTO updateAccountAttributesRequestDTO) {
-    return ExternalServiceFactory.executeVaultService(vaultAccountClient::updateAccountAttributes, updateAccountAttributesRequestDTO);
+    try {
+      CreateAccountResponseDTO updateAccountResponse = ExternalServiceFactory
+              .executeVaultService(vaultAccountClient::updateAccountAttributes, updateAccountAttributesRequestDTO);
+      invalidateAccountData(updateAccountResponse);
+      return updateAccountResponse;
+    } catch (VaultServiceException e) {
+      // the update may have been applied, the account is identified by name so drop all the accounts
+      invalidateAccountData(null);
+      throw e;
+    }
+  }
+
+  private void invalidateAccountData(CreateAccountResponseDTO accountResponse) {
+    if(accountDataCache != null) {
+      accountDataCache.invalidate(accountResponse != null && accountResponse.getAccount() != null
+              ? accountResponse.getAccount().getData() : null);
+    }
+  }
+
+  /**
+   * Returns the accountData cache, null if the cache is disabled
+   *
+   * @return the account data cache
+   */
+  public AccountDataCache getAccountDataCache() {
+    return accountDataCache;
   }
 
   @Override
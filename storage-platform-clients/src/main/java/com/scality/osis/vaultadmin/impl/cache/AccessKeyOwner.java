@@ -0,0 +1,30 @@
+/**
+ * Copyright 2021 Scality, Inc.
+ * SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.vaultadmin.impl.cache;
+
+/**
+ * The tenant and the user owning an access key, as returned by the Vault `GetUserByAccessKey` API.
+ * The owner of an access key never changes, so it can be cached as long as the access key exists.
+ */
+public final class AccessKeyOwner {
+
+    private final String tenantId;
+
+    private final String userId;
+
+    public AccessKeyOwner(String tenantId, String userId) {
+        this.tenantId = tenantId;
+        this.userId = userId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+}
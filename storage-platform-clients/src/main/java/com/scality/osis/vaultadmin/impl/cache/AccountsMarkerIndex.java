@@ -0,0 +1,164 @@
+/**
+ * Copyright 2021 Scality, Inc.
+ * SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.vaultadmin.impl.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Sorted offset to marker index of the listAccounts pagination, one index per filter key.
+ * <p>
+ * The markers are stored in the listAccounts cache under `filterKey|offset`, so they are bounded, LRU
+ * evicted and expire like the other Vault caches. A sorted set of the known offsets per filter key
+ * resolves the nearest lower marker of any offset. Offsets whose marker was evicted are dropped lazily.
+ */
+public class AccountsMarkerIndex {
+    private static final Logger logger = LoggerFactory.getLogger(AccountsMarkerIndex.class);
+
+    private static final char KEY_SEPARATOR = '|';
+
+    private final Cache<String, String> markerCache;
+
+    private final AccountsMarkerStore store;
+
+    private final long ttl;
+
+    private final ConcurrentMap<String, NavigableSet<Integer>> offsets = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new Accounts marker index.
+     *
+     * @param markerCache the listAccounts cache
+     * @param store the persistent store, may be null
+     * @param ttl the ttl in ms of the persisted markers
+     */
+    public AccountsMarkerIndex(Cache<String, String> markerCache, AccountsMarkerStore store, long ttl) {
+        this.markerCache = markerCache;
+        this.store = store;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Returns the marker of the greatest offset less than or equal to the given offset.
+     *
+     * @param filterKey the listAccounts filter key
+     * @param offset the offset
+     * @return the offset and its marker, null if there is none
+     */
+    public Map.Entry<Integer, String> floorEntry(String filterKey, int offset) {
+        NavigableSet<Integer> filterOffsets = offsetsOf(filterKey);
+        Iterator<Integer> iterator = filterOffsets.headSet(offset, true).descendingIterator();
+        while (iterator.hasNext()) {
+            Integer indexedOffset = iterator.next();
+            String marker = markerCache.get(toKey(filterKey, indexedOffset));
+            if (marker != null) {
+                return new AbstractMap.SimpleImmutableEntry<>(indexedOffset, marker);
+            }
+            // expired or evicted
+            iterator.remove();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the marker of the offset.
+     *
+     * @param filterKey the listAccounts filter key
+     * @param offset the offset
+     * @return the marker or null
+     */
+    public String get(String filterKey, int offset) {
+        Map.Entry<Integer, String> entry = floorEntry(filterKey, offset);
+        return entry != null && entry.getKey() == offset ? entry.getValue() : null;
+    }
+
+    /**
+     * Index the marker of the offset and save it to the store.
+     *
+     * @param filterKey the listAccounts filter key
+     * @param offset the offset
+     * @param marker the marker
+     */
+    public void put(String filterKey, int offset, String marker) {
+        if (offset <= 0 || marker == null) {
+            return;
+        }
+        markerCache.put(toKey(filterKey, offset), marker);
+        offsetsOf(filterKey).add(offset);
+        if (store != null) {
+            try {
+                store.save(filterKey, offset, marker, ttl);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to persist the listAccounts marker of offset {}: {}", offset, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Drop the offsets whose marker has expired or was evicted.
+     */
+    public void prune() {
+        for (Map.Entry<String, NavigableSet<Integer>> entry : offsets.entrySet()) {
+            String filterKey = entry.getKey();
+            entry.getValue().removeIf(offset -> markerCache.get(toKey(filterKey, offset)) == null);
+            if (entry.getValue().isEmpty()) {
+                offsets.remove(filterKey, entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Returns the number of indexed offsets of the filter key
+     *
+     * @param filterKey the listAccounts filter key
+     * @return the size
+     */
+    public int size(String filterKey) {
+        NavigableSet<Integer> filterOffsets = offsets.get(filterKey);
+        return filterOffsets == null ? 0 : filterOffsets.size();
+    }
+
+    private NavigableSet<Integer> offsetsOf(String filterKey) {
+        NavigableSet<Integer> filterOffsets = offsets.get(filterKey);
+        if (filterOffsets != null) {
+            return filterOffsets;
+        }
+        filterOffsets = new ConcurrentSkipListSet<>();
+        NavigableSet<Integer> existing = offsets.putIfAbsent(filterKey, filterOffsets);
+        if (existing != null) {
+            return existing;
+        }
+        // first use of this filter key since the start, e.g. after a restart
+        loadFromStore(filterKey, filterOffsets);
+        return filterOffsets;
+    }
+
+    private void loadFromStore(String filterKey, NavigableSet<Integer> filterOffsets) {
+        if (store == null) {
+            return;
+        }
+        try {
+            for (Map.Entry<Integer, String> entry : store.load(filterKey).entrySet()) {
+                markerCache.put(toKey(filterKey, entry.getKey()), entry.getValue());
+                filterOffsets.add(entry.getKey());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to load the listAccounts markers: {}", e.getMessage());
+        }
+    }
+
+    private static String toKey(String filterKey, int offset) {
+        return filterKey + KEY_SEPARATOR + offset;
+    }
+}
@@ -0,0 +1,33 @@
+/**
+ * Copyright 2021 Scality, Inc.
+ * SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.vaultadmin.impl.cache;
+
+import java.util.Map;
+
+/**
+ * Optional persistent backing of the {@link AccountsMarkerIndex}, so that the listAccounts markers
+ * survive a restart and are shared by the OSIS instances.
+ */
+public interface AccountsMarkerStore {
+
+    /**
+     * Load the markers of a filter key.
+     *
+     * @param filterKey the listAccounts filter key
+     * @return the markers by offset, empty if none
+     */
+    Map<Integer, String> load(String filterKey);
+
+    /**
+     * Save the marker of an offset.
+     *
+     * @param filterKey the listAccounts filter key
+     * @param offset the offset
+     * @param marker the marker
+     * @param ttlInMS the time to live of the markers of this filter key
+     */
+    void save(String filterKey, int offset, String marker, long ttlInMS);
+}
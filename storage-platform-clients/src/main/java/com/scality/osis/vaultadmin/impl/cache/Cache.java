@@ -5,10 +5,65 @@
 
 package com.scality.osis.vaultadmin.impl.cache;
 
+import java.util.function.Function;
+
 public interface Cache<K,V> {
     V put(K key, V value);
+
+    /**
+     * Adds an entry which expires after its own ttl instead of the cache default.
+     *
+     * @param key the key
+     * @param value the value
+     * @param ttlInMS the ttl of the entry in ms, 0 means no expiry
+     * @return the value
+     */
+    V put(K key, V value, long ttlInMS);
+
     V remove(K key);
     V get(K key);
+
+    /**
+     * Returns the value of the key, or loads and caches it when it is missing.
+     * A null loaded value is returned but not cached.
+     *
+     * @param key the key
+     * @param loader computes the value of a missing key
+     * @return the value
+     */
+    V get(K key, Function<? super K, ? extends V> loader);
+
+    /**
+     * Records the load of a missing key which the caller caches itself, e.g. with its own ttl.
+     *
+     * @param loadTimeInNanos the time spent loading the value
+     * @param success false if the load failed or loaded no value
+     */
+    void recordLoad(long loadTimeInNanos, boolean success);
+
     void clear();
     long size();
+
+    /**
+     * Returns a snapshot of the hits, misses, loads and evictions of the cache.
+     *
+     * @return the cache stats
+     */
+    CacheStats stats();
+
+    int getMaxCapacity();
+
+    /**
+     * Resizes the cache, the least recently used entries are evicted when it shrinks.
+     *
+     * @param maxCapacity the new max capacity
+     */
+    void setMaxCapacity(int maxCapacity);
+
+    /**
+     * Removes all the expired entries, called periodically by the {@link CacheExpiryService}.
+     *
+     * @return the number of removed entries
+     */
+    int purgeExpired();
 }
@@ -10,11 +10,36 @@ public final class CacheConstants {
     public static final String ENV_LIST_ACCOUNT_DISABLED = "osis.scality.vault.cache.listAccounts.disabled";
     public static final String ENV_LIST_ACCOUNT_MAX_CAPACITY = "osis.scality.vault.cache.listAccounts.maxCapacity";
     public static final String ENV_LIST_ACCOUNT_CACHE_TTL = "osis.scality.vault.cache.listAccounts.ttlInMS";
+    public static final String ENV_LIST_ACCOUNT_PREFETCH = "osis.scality.vault.cache.listAccounts.prefetch";
+    public static final String ENV_LIST_ACCOUNT_REDIS_ENABLED = "osis.scality.vault.cache.listAccounts.redis.enabled";
     public static final String ENV_ASSUME_ROLE_MAX_CAPACITY = "osis.scality.vault.cache.assumeRole.maxCapacity";
     public static final String ENV_ASSUME_ROLE_CACHE_TTL = "osis.scality.vault.cache.assumeRole.ttlInMS";
+    public static final String ENV_ASSUME_ROLE_EXPIRY_SKEW = "osis.scality.vault.cache.assumeRole.expirySkewInMS";
+    public static final String ENV_ASSUME_ROLE_REFRESH_AHEAD = "osis.scality.vault.cache.assumeRole.refreshAheadInMS";
+    public static final String ENV_ASSUME_ROLE_REFRESH_INTERVAL = "osis.scality.vault.cache.assumeRole.refreshIntervalInMS";
+    public static final String ENV_ASSUME_ROLE_REFRESH_IDLE = "osis.scality.vault.cache.assumeRole.refreshIdleInMS";
+    public static final String ENV_ASSUME_ROLE_REFRESH_CONCURRENCY = "osis.scality.vault.cache.assumeRole.refreshConcurrency";
     public static final String ENV_ACCOUNT_ID_DISABLED = "osis.scality.vault.cache.accountID.disabled";
     public static final String ENV_ACCOUNT_ID_MAX_CAPACITY = "osis.scality.vault.cache.accountID.maxCapacity";
     public static final String ENV_ACCOUNT_ID_CACHE_TTL = "osis.scality.vault.cache.accountID.ttlInMS";
+    public static final String ENV_ACCOUNT_DATA_DISABLED = "osis.scality.vault.cache.accountData.disabled";
+    public static final String ENV_ACCOUNT_DATA_MAX_CAPACITY = "osis.scality.vault.cache.accountData.maxCapacity";
+    public static final String ENV_ACCOUNT_DATA_CACHE_TTL = "osis.scality.vault.cache.accountData.ttlInMS";
+    public static final String ENV_CANONICAL_USER_DISABLED = "osis.scality.vault.cache.canonicalUser.disabled";
+    public static final String ENV_CANONICAL_USER_MAX_CAPACITY = "osis.scality.vault.cache.canonicalUser.maxCapacity";
+    public static final String ENV_CANONICAL_USER_CACHE_TTL = "osis.scality.vault.cache.canonicalUser.ttlInMS";
+    public static final String ENV_BUCKET_LIST_DISABLED = "osis.scality.vault.cache.bucketList.disabled";
+    public static final String ENV_BUCKET_LIST_MAX_CAPACITY = "osis.scality.vault.cache.bucketList.maxCapacity";
+    public static final String ENV_BUCKET_LIST_CACHE_TTL = "osis.scality.vault.cache.bucketList.ttlInMS";
+    public static final String ENV_ACCESS_KEY_OWNER_DISABLED = "osis.scality.vault.cache.accessKeyOwner.disabled";
+    public static final String ENV_ACCESS_KEY_OWNER_MAX_CAPACITY = "osis.scality.vault.cache.accessKeyOwner.maxCapacity";
+    public static final String ENV_ACCESS_KEY_OWNER_CACHE_TTL = "osis.scality.vault.cache.accessKeyOwner.ttlInMS";
+    public static final String ENV_CLIENTS_MAX_CAPACITY = "osis.scality.vault.cache.clients.maxCapacity";
+    public static final String ENV_CLIENTS_CACHE_TTL = "osis.scality.vault.cache.clients.ttlInMS";
+    public static final String ENV_CLIENTS_RETIRE_GRACE = "osis.scality.vault.cache.clients.retireGraceInMS";
+    public static final String ENV_CACHE_IMPLEMENTATION = "osis.scality.vault.cache.implementation";
+    public static final String ENV_CACHE_SWEEP_INTERVAL = "osis.scality.vault.cache.sweepIntervalInMS";
+    public static final String ENV_CACHE_REDIS_ENABLED = "osis.scality.vault.cache.redis.enabled";
 
 
 
@@ -22,11 +47,31 @@ public final class CacheConstants {
     public static final int DEFAULT_CACHE_MAX_CAPACITY = 1000;
     public static final long DEFAULT_CACHE_TTL_IN_MS = 30000;
     public static final int DEFAULT_SCHEDULED_THREAD_POOL_SIZE = 1;
+    public static final int DEFAULT_CACHE_CONCURRENCY_LEVEL = 64;
+    public static final int MIN_SEGMENT_CAPACITY = 16;
+    public static final long DEFAULT_CACHE_SWEEP_INTERVAL_IN_MS = 5000;
+    public static final int DEFAULT_CLIENTS_MAX_CAPACITY = 256;
+    public static final long DEFAULT_CLIENTS_TTL_IN_MS = 600000;
+    public static final long DEFAULT_CLIENTS_RETIRE_GRACE_IN_MS = 60000;
+    public static final long DEFAULT_ASSUME_ROLE_EXPIRY_SKEW_IN_MS = 30000;
+    public static final long DEFAULT_ASSUME_ROLE_REFRESH_AHEAD_IN_MS = 120000;
+    public static final long DEFAULT_ASSUME_ROLE_REFRESH_INTERVAL_IN_MS = 15000;
+    public static final long DEFAULT_ASSUME_ROLE_REFRESH_IDLE_IN_MS = 900000;
+    public static final int DEFAULT_ASSUME_ROLE_REFRESH_CONCURRENCY = 4;
+    public static final long DEFAULT_BUCKET_LIST_CACHE_TTL_IN_MS = 5000;
 
     //Constants
     public static final String NAME_LIST_ACCOUNTS_CACHE = "listAccounts";
     public static final String NAME_ASSUME_ROLE_CACHE = "assumeRole";
     public static final String NAME_ACCOUNT_ID_CACHE = "accountIDs";
+    public static final String NAME_ACCOUNT_DATA_CACHE = "accountData";
+    public static final String NAME_CANONICAL_USER_CACHE = "canonicalUsers";
+    public static final String NAME_BUCKET_LIST_CACHE = "bucketLists";
+    public static final String NAME_ACCESS_KEY_OWNER_CACHE = "accessKeyOwners";
+
+    // Cache implementations selectable with `osis.scality.vault.cache.implementation`
+    public static final String CACHE_IMPL_STRIPED = "striped";
+    public static final String CACHE_IMPL_LEGACY = "legacy";
 
     private CacheConstants(){}
 
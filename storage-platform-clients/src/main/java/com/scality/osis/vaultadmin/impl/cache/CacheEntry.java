@@ -0,0 +1,34 @@
+/**
+ * Copyright 2021 Scality, Inc.
+ * SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.vaultadmin.impl.cache;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A cached value stored along with its expiration time in {@link System#nanoTime()} units, 0 means no expiry.
+ */
+final class CacheEntry<V> {
+    final V value;
+    final long expireAt;
+
+    CacheEntry(V value, long expireAt) {
+        this.value = value;
+        this.expireAt = expireAt;
+    }
+
+    static <V> CacheEntry<V> of(V value, long ttl, long now) {
+        return new CacheEntry<>(value, ttl > 0 ? now + TimeUnit.MILLISECONDS.toNanos(ttl) : 0L);
+    }
+
+    boolean isExpired(long now) {
+        return expireAt != 0L && now - expireAt >= 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+}
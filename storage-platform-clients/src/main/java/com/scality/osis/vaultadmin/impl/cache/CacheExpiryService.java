@@ -0,0 +1,106 @@
+/**
+ * Copyright 2021 Scality, Inc.
+ * SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.vaultadmin.impl.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.scality.osis.vaultadmin.impl.cache.CacheConstants.DEFAULT_SCHEDULED_THREAD_POOL_SIZE;
+
+/**
+ * Shared expiry service for all the caches created by the {@link CacheFactory}.
+ * <p>
+ * Entries carry their own expiration time and are dropped lazily when read. A single sweeper thread
+ * periodically purges the expired entries which are never read again, so no timer task is allocated per put.
+ */
+public class CacheExpiryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheExpiryService.class);
+
+    private final List<Cache<?, ?>> caches = new CopyOnWriteArrayList<>();
+
+    private final ScheduledExecutorService sweeper;
+
+    /**
+     * Instantiates a new Cache expiry service.
+     *
+     * @param sweepIntervalInMS the interval between two sweeps in ms
+     */
+    public CacheExpiryService(long sweepIntervalInMS) {
+        if (sweepIntervalInMS <= 0L) {
+            throw new IllegalArgumentException("Illegal sweep interval: " + sweepIntervalInMS);
+        }
+        sweeper = Executors.newScheduledThreadPool(DEFAULT_SCHEDULED_THREAD_POOL_SIZE, runnable -> {
+            Thread thread = new Thread(runnable, "vault-cache-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepIntervalInMS, sweepIntervalInMS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Register a cache to be swept.
+     *
+     * @param cache the cache
+     * @return the cache
+     */
+    public <C extends Cache<?, ?>> C register(C cache) {
+        caches.add(cache);
+        return cache;
+    }
+
+    /**
+     * Purge the expired entries of all the registered caches.
+     *
+     * @return the number of removed entries
+     */
+    public int sweep() {
+        int purged = 0;
+        for (Cache<?, ?> cache : caches) {
+            try {
+                purged += cache.purgeExpired();
+            } catch (RuntimeException e) {
+                // never let one cache kill the sweeper thread
+                logger.error("Cache sweep failed. Error details: ", e);
+            }
+        }
+        if (purged > 0) {
+            logger.debug("Cache sweep removed {} expired entries", purged);
+        }
+        return purged;
+    }
+
+    /**
+     * Run a cache maintenance task (e.g. refresh-ahead) periodically on the sweeper thread.
+     *
+     * @param task the task
+     * @param intervalInMS the interval between two runs in ms
+     * @return the scheduled future of the task
+     */
+    public ScheduledFuture<?> scheduleMaintenance(Runnable task, long intervalInMS) {
+        return sweeper.scheduleWithFixedDelay(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.error("Cache maintenance task failed. Error details: ", e);
+            }
+        }, intervalInMS, intervalInMS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop the sweeper thread.
+     */
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+}
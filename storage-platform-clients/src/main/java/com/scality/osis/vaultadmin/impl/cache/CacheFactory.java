@@ -6,11 +6,17 @@
 package com.scality.osis.vaultadmin.impl.cache;
 
 import com.amazonaws.services.securitytoken.model.Credentials;
+import com.scality.osis.s3.BucketListSnapshot;
+import com.scality.osis.security.utils.CipherFactory;
 import com.scality.osis.vaultadmin.utils.VaultAdminEnv;
+import com.scality.vaultclient.dto.AccountData;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static com.scality.osis.vaultadmin.impl.cache.CacheConstants.*;
 
@@ -23,12 +29,28 @@ public class CacheFactory {
     @Autowired
     private VaultAdminEnv env;
 
-    private Cache<Integer, String> listAccountsMarkerCache;
+    @Autowired(required = false)
+    private SharedCacheStore sharedCacheStore;
+
+    @Autowired(required = false)
+    private CipherFactory cipherFactory;
+
+    private Cache<String, String> listAccountsMarkerCache;
 
     private Cache<String, Credentials> assumeRoleCache;
 
     private Cache<String, String> accountIdCache;
 
+    private Cache<String, AccountData> accountDataCache;
+
+    private Cache<String, String> canonicalUserCache;
+
+    private Cache<String, BucketListSnapshot> bucketListCache;
+
+    private Cache<String, AccessKeyOwner> accessKeyOwnerCache;
+
+    private CacheExpiryService expiryService;
+
     private CacheFactory(){
 
     }
@@ -39,10 +61,27 @@ public class CacheFactory {
      * @param env the env
      */
     public CacheFactory(VaultAdminEnv env){
+        this(env, null, null);
+    }
+
+    /**
+     * Instantiates a new Cache factory with a shared second level.
+     *
+     * @param env the env
+     * @param sharedCacheStore the shared cache store, may be null
+     * @param cipherFactory the cipher factory encrypting the shared credentials, may be null
+     */
+    public CacheFactory(VaultAdminEnv env, SharedCacheStore sharedCacheStore, CipherFactory cipherFactory){
         this.env =env;
+        this.sharedCacheStore = sharedCacheStore;
+        this.cipherFactory = cipherFactory;
         initListAccountsMarkerCache();
         initAssumeRoleCache();
         initAccountIdCache();
+        initAccountDataCache();
+        initCanonicalUserCache();
+        initBucketListCache();
+        initAccessKeyOwnerCache();
     }
 
     @PostConstruct
@@ -54,7 +93,8 @@ public class CacheFactory {
 
             long expirationTime = env.getListAccountsCacheExpiration() !=null
                     ? env.getListAccountsCacheExpiration() : DEFAULT_CACHE_TTL_IN_MS;
-            listAccountsMarkerCache = new CacheImpl<>(maxCapacity, expirationTime);
+            listAccountsMarkerCache = newCache(NAME_LIST_ACCOUNTS_CACHE, maxCapacity, expirationTime,
+                    CacheValueCodec.identity());
         }
     }
 
@@ -65,7 +105,10 @@ public class CacheFactory {
 
         long expirationTime = env.getAssumeRoleCacheExpiration() !=null
                 ? env.getAssumeRoleCacheExpiration() : DEFAULT_CACHE_TTL_IN_MS;
-        assumeRoleCache = new CacheImpl<>(maxCapacity, expirationTime);
+        // the credentials are only shared encrypted
+        assumeRoleCache = newCache(NAME_ASSUME_ROLE_CACHE, maxCapacity, expirationTime, cipherFactory != null
+                ? new EncryptedCacheValueCodec<>(new JsonCacheValueCodec<>(Credentials.class), cipherFactory)
+                : null);
     }
 
     @PostConstruct
@@ -77,7 +120,106 @@ public class CacheFactory {
 
             long expirationTime = env.getAccountIDCacheExpiration() !=null
                     ? env.getAccountIDCacheExpiration() : DEFAULT_CACHE_TTL_IN_MS;
-            accountIdCache = new CacheImpl<>(maxCapacity, expirationTime);
+            accountIdCache = newCache(NAME_ACCOUNT_ID_CACHE, maxCapacity, expirationTime,
+                    CacheValueCodec.identity());
+        }
+    }
+
+    @PostConstruct
+    private void initAccountDataCache() {
+        // if accountData cache not disabled
+        if(!env.isAccountDataCacheDisabled()) {
+            int maxCapacity = env.getAccountDataCacheMaxCapacity() !=null
+                    ? env.getAccountDataCacheMaxCapacity() : DEFAULT_CACHE_MAX_CAPACITY;
+
+            long expirationTime = env.getAccountDataCacheExpiration() !=null
+                    ? env.getAccountDataCacheExpiration() : DEFAULT_CACHE_TTL_IN_MS;
+            accountDataCache = newCache(NAME_ACCOUNT_DATA_CACHE, maxCapacity, expirationTime,
+                    new JsonCacheValueCodec<>(AccountData.class));
+        }
+    }
+
+    @PostConstruct
+    private void initCanonicalUserCache() {
+        // if canonicalUser cache not disabled
+        if(!env.isCanonicalUserCacheDisabled()) {
+            int maxCapacity = env.getCanonicalUserCacheMaxCapacity() !=null
+                    ? env.getCanonicalUserCacheMaxCapacity() : DEFAULT_CACHE_MAX_CAPACITY;
+
+            long expirationTime = env.getCanonicalUserCacheExpiration() !=null
+                    ? env.getCanonicalUserCacheExpiration() : DEFAULT_CACHE_TTL_IN_MS;
+            canonicalUserCache = newCache(NAME_CANONICAL_USER_CACHE, maxCapacity, expirationTime,
+                    CacheValueCodec.identity());
+        }
+    }
+
+    @PostConstruct
+    private void initBucketListCache() {
+        // if bucketList cache not disabled
+        if(!env.isBucketListCacheDisabled()) {
+            int maxCapacity = env.getBucketListCacheMaxCapacity() !=null
+                    ? env.getBucketListCacheMaxCapacity() : DEFAULT_CACHE_MAX_CAPACITY;
+
+            long expirationTime = env.getBucketListCacheExpiration() !=null
+                    ? env.getBucketListCacheExpiration() : DEFAULT_BUCKET_LIST_CACHE_TTL_IN_MS;
+            // the snapshots are short lived, they are kept local
+            bucketListCache = newCache(NAME_BUCKET_LIST_CACHE, maxCapacity, expirationTime, null);
+        }
+    }
+
+    @PostConstruct
+    private void initAccessKeyOwnerCache() {
+        // if accessKeyOwner cache not disabled
+        if(!env.isAccessKeyOwnerCacheDisabled()) {
+            int maxCapacity = env.getAccessKeyOwnerCacheMaxCapacity() !=null
+                    ? env.getAccessKeyOwnerCacheMaxCapacity() : DEFAULT_CACHE_MAX_CAPACITY;
+
+            long expirationTime = env.getAccessKeyOwnerCacheExpiration() !=null
+                    ? env.getAccessKeyOwnerCacheExpiration() : DEFAULT_CACHE_TTL_IN_MS;
+            accessKeyOwnerCache = newCache(NAME_ACCESS_KEY_OWNER_CACHE, maxCapacity, expirationTime,
+                    new JsonCacheValueCodec<>(AccessKeyOwner.class));
+        }
+    }
+
+    /**
+     * Creates a cache with the implementation selected by `osis.scality.vault.cache.implementation`.
+     * The striped O(1) LRU cache is used by default, `legacy` selects the queue based {@link CacheImpl}.
+     * When `osis.scality.vault.cache.redis.enabled` is set, the cache is the first level of a {@link TieredCache}.
+     *
+     * @param name the cache name
+     * @param maxCapacity the max capacity
+     * @param expirationTime the ttl of each entry in ms
+     * @param codec the codec of the shared values, null to keep the cache local
+     * @return the cache object
+     */
+    private <V> Cache<String, V> newCache(String name, int maxCapacity, long expirationTime, CacheValueCodec<V> codec) {
+        Cache<String, V> cache = CACHE_IMPL_LEGACY.equalsIgnoreCase(env.getCacheImplementation())
+                ? new CacheImpl<>(maxCapacity, expirationTime)
+                : new StripedCacheImpl<>(maxCapacity, expirationTime);
+        if (sharedCacheStore != null && codec != null && env.isSharedCacheEnabled()) {
+            cache = new TieredCache<>(name, cache, sharedCacheStore, codec, expirationTime);
+        }
+        return getExpiryService().register(cache);
+    }
+
+    /**
+     * Get the expiry service shared by all the caches, it is created with the first cache.
+     *
+     * @return the cache expiry service
+     */
+    public synchronized CacheExpiryService getExpiryService() {
+        if (expiryService == null) {
+            long sweepInterval = env.getCacheSweepInterval() != null
+                    ? env.getCacheSweepInterval() : DEFAULT_CACHE_SWEEP_INTERVAL_IN_MS;
+            expiryService = new CacheExpiryService(sweepInterval);
+        }
+        return expiryService;
+    }
+
+    @PreDestroy
+    private synchronized void shutdown() {
+        if (expiryService != null) {
+            expiryService.shutdown();
         }
     }
 
@@ -92,10 +234,32 @@ public class CacheFactory {
             case NAME_LIST_ACCOUNTS_CACHE : return listAccountsMarkerCache;
             case NAME_ASSUME_ROLE_CACHE : return assumeRoleCache;
             case NAME_ACCOUNT_ID_CACHE : return accountIdCache;
+            case NAME_ACCOUNT_DATA_CACHE : return accountDataCache;
+            case NAME_CANONICAL_USER_CACHE : return canonicalUserCache;
+            case NAME_BUCKET_LIST_CACHE : return bucketListCache;
+            case NAME_ACCESS_KEY_OWNER_CACHE : return accessKeyOwnerCache;
         }
         return null;
     }
 
+    /**
+     * Get all the enabled caches by name, a disabled cache is not listed.
+     *
+     * @return the caches by cache name
+     */
+    public Map<String, Cache<?, ?>> getCaches() {
+        Map<String, Cache<?, ?>> caches = new LinkedHashMap<>();
+        for (String cacheName : new String[]{NAME_LIST_ACCOUNTS_CACHE, NAME_ASSUME_ROLE_CACHE,
+                NAME_ACCOUNT_ID_CACHE, NAME_ACCOUNT_DATA_CACHE, NAME_CANONICAL_USER_CACHE, NAME_BUCKET_LIST_CACHE,
+                NAME_ACCESS_KEY_OWNER_CACHE}) {
+            Cache<?, ?> cache = getCache(cacheName);
+            if (cache != null) {
+                caches.put(cacheName, cache);
+            }
+        }
+        return caches;
+    }
+
     public VaultAdminEnv getEnvironmentVariables(){
         return env;
     }
@@ -5,36 +5,38 @@
 
 package com.scality.osis.vaultadmin.impl.cache;
 
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 
 import static com.scality.osis.vaultadmin.impl.cache.CacheConstants.*;
 
 /** CacheImpl is a thread-safe LRU cache implementation with expiration time for each entry
  * <p>
- * Using ConcurrentHashMap + ConcurrentLinkedQueue + ReadWriteLock + ScheduledExecutorService to implement thread-safe LRU caching
+ * Using ConcurrentHashMap + ConcurrentLinkedQueue + ReadWriteLock to implement thread-safe LRU caching.
+ * Each entry stores its expiration time, expired entries are dropped on read and by {@link #purgeExpired()}.
  */
 public class CacheImpl<K, V> implements Cache<K,V> {
 
     /**
      * Maximum capacity of the cache
      */
-    private final int maxCapacity;
+    private volatile int maxCapacity;
     /**
      * ttl for each entrant of the cache
      */
     private long ttl;
-    private final Map<K, V> internalCache;
+    private final Map<K, CacheEntry<V>> internalCache;
     private final Queue<K> trackingQueue;
 
+    private final StatsCounter statsCounter = new StatsCounter();
+
     /**
      * Read-write lock
      */
@@ -42,8 +44,6 @@ public class CacheImpl<K, V> implements Cache<K,V> {
     private final Lock writeLock = readWriteLock.writeLock();
     private final Lock readLock = readWriteLock.readLock();
 
-    private final ScheduledExecutorService scheduledExecutorService;
-
     public CacheImpl(int maxCapacity){
         this(maxCapacity, DEFAULT_CACHE_TTL_IN_MS);
     }
@@ -57,13 +57,12 @@ public class CacheImpl<K, V> implements Cache<K,V> {
         this.ttl = ttl;
         internalCache = new ConcurrentHashMap<>(maxCapacity);
         trackingQueue = new ConcurrentLinkedQueue<>();
-        scheduledExecutorService = Executors.newScheduledThreadPool(DEFAULT_SCHEDULED_THREAD_POOL_SIZE);
     }
 
     /**
      * @param key Key
      * @return Value corresponding to the Key K in the map is returned or null
-     *         is returned if the key is not present in the map
+     *         is returned if the key is not present in the map or expired
      */
     @Override
     public V get(K key) {
@@ -71,19 +70,46 @@ public class CacheImpl<K, V> implements Cache<K,V> {
         readLock.lock();
         try {
             //whether the key exists in the current cache
-            V value = internalCache.get(key);
-            if (value != null) {
-                // If it exists, move the key to the end of the queue
-                if (trackingQueue.remove(key)) {
-                    trackingQueue.add(key);
+            CacheEntry<V> entry = internalCache.get(key);
+            if (entry == null) {
+                statsCounter.recordMiss();
+                return null;
+            }
+            if (entry.isExpired(System.nanoTime())) {
+                // writers hold the write lock, so the entry cannot have been replaced meanwhile
+                if (internalCache.remove(key, entry)) {
+                    statsCounter.recordExpiredEvictions(1);
                 }
+                trackingQueue.remove(key);
+                statsCounter.recordMiss();
+                return null;
             }
-            return value;
+            // If it exists, move the key to the end of the queue
+            if (trackingQueue.remove(key)) {
+                trackingQueue.add(key);
+            }
+            statsCounter.recordHit();
+            return entry.value;
         } finally {
             readLock.unlock();
         }
     }
 
+    @Override
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        return value != null ? value : statsCounter.load(key, loader, this);
+    }
+
+    @Override
+    public void recordLoad(long loadTimeInNanos, boolean success) {
+        if (success) {
+            statsCounter.recordLoadSuccess(loadTimeInNanos);
+        } else {
+            statsCounter.recordLoadFailure(loadTimeInNanos);
+        }
+    }
+
     /**
      * @param key Key
      * @param value Value
@@ -91,7 +117,20 @@ public class CacheImpl<K, V> implements Cache<K,V> {
      */
     @Override
     public V put(K key, V value) {
-//        return put(key, value, DEFAULT_EXPIRY_TIME_IN_MS);
+        return put(key, value, ttl);
+    }
+
+    /**
+     * @param key Key
+     * @param value Value
+     * @param ttlInMS ttl of this entry, 0 means no expiry
+     * Entry with key k and value v is added to the Cache with its own ttl.
+     */
+    @Override
+    public V put(K key, V value, long ttlInMS) {
+        if (ttlInMS < 0L) {
+            throw new IllegalArgumentException("Illegal ttl: " + ttlInMS);
+        }
         // add write lock
         writeLock.lock();
         try {
@@ -100,20 +139,12 @@ public class CacheImpl<K, V> implements Cache<K,V> {
                 trackingQueue.remove(key);
             }
             //2. If the cache capacity is exceeded, remove the element at the head of the queue and cache
-            if (trackingQueue.size() == maxCapacity) {
-                K oldestKey = trackingQueue.poll();
-                if (oldestKey != null) {
-                    internalCache.remove(oldestKey);
-                }
-            }
+            evictEldest(maxCapacity - 1);
 
             //3.key does not exist in the current cache. Add the key to the end of the queue and cache the key and its corresponding elements
-            internalCache.put(key, value);
+            // a re-put replaces the entry and its expiration time
+            internalCache.put(key, CacheEntry.of(value, ttlInMS, System.nanoTime()));
             trackingQueue.add(key);
-
-            if (ttl > 0) {
-                removeAfterExpireTime(key, ttl);
-            }
         } finally {
             writeLock.unlock();
         }
@@ -134,7 +165,8 @@ public class CacheImpl<K, V> implements Cache<K,V> {
             if (internalCache.containsKey(key)) {
                 // There is a corresponding Key in the removal queue and Map
                 trackingQueue.remove(key);
-                return internalCache.remove(key);
+                CacheEntry<V> entry = internalCache.remove(key);
+                return entry.isExpired(System.nanoTime()) ? null : entry.value;
             }
             //Return Null if it does not exist in the current cache
             return null;
@@ -163,12 +195,66 @@ public class CacheImpl<K, V> implements Cache<K,V> {
         return internalCache.size();
     }
 
-    private void removeAfterExpireTime(K key, long expireTime) {
-        scheduledExecutorService.schedule(() -> {
-            //Clear the key-value pair after expiration
-            internalCache.remove(key);
-            trackingQueue.remove(key);
-        }, expireTime, TimeUnit.MILLISECONDS);
+    @Override
+    public CacheStats stats() {
+        return statsCounter.snapshot(size(), maxCapacity);
+    }
+
+    @Override
+    public int getMaxCapacity() {
+        return maxCapacity;
+    }
+
+    @Override
+    public void setMaxCapacity(int maxCapacity) {
+        if (maxCapacity < 0) {
+            throw new IllegalArgumentException("Illegal max capacity: " + maxCapacity);
+        }
+        writeLock.lock();
+        try {
+            this.maxCapacity = maxCapacity;
+            evictEldest(maxCapacity);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // called with the write lock held
+    private void evictEldest(int targetSize) {
+        while (trackingQueue.size() > Math.max(targetSize, 0)) {
+            K oldestKey = trackingQueue.poll();
+            if (oldestKey == null) {
+                return;
+            }
+            CacheEntry<V> entry = internalCache.remove(oldestKey);
+            if (entry != null && entry.isExpired(System.nanoTime())) {
+                statsCounter.recordExpiredEvictions(1);
+            } else if (entry != null) {
+                statsCounter.recordCapacityEviction();
+            }
+        }
+    }
+
+    @Override
+    public int purgeExpired() {
+        writeLock.lock();
+        try {
+            long now = System.nanoTime();
+            int purged = 0;
+            Iterator<Map.Entry<K, CacheEntry<V>>> iterator = internalCache.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<K, CacheEntry<V>> entry = iterator.next();
+                if (entry.getValue().isExpired(now)) {
+                    iterator.remove();
+                    trackingQueue.remove(entry.getKey());
+                    purged++;
+                }
+            }
+            statsCounter.recordExpiredEvictions(purged);
+            return purged;
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     @Override
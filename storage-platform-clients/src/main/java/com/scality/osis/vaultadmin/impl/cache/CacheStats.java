@@ -0,0 +1,115 @@
+/**
+ * Copyright 2021 Scality, Inc.
+ * SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.vaultadmin.impl.cache;
+
+/**
+ * Immutable snapshot of the statistics of a {@link Cache}.
+ */
+public final class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long loadSuccessCount;
+    private final long loadFailureCount;
+    private final long totalLoadTimeInNanos;
+    private final long capacityEvictionCount;
+    private final long expiredEvictionCount;
+    private final long size;
+    private final int maxCapacity;
+
+    public CacheStats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount,
+                      long totalLoadTimeInNanos, long capacityEvictionCount, long expiredEvictionCount,
+                      long size, int maxCapacity) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadSuccessCount = loadSuccessCount;
+        this.loadFailureCount = loadFailureCount;
+        this.totalLoadTimeInNanos = totalLoadTimeInNanos;
+        this.capacityEvictionCount = capacityEvictionCount;
+        this.expiredEvictionCount = expiredEvictionCount;
+        this.size = size;
+        this.maxCapacity = maxCapacity;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Returns the ratio of the lookups which found a value
+     *
+     * @return the hit rate, 1.0 when there was no lookup
+     */
+    public double getHitRate() {
+        long requestCount = getRequestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    public long getLoadSuccessCount() {
+        return loadSuccessCount;
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailureCount;
+    }
+
+    public long getLoadCount() {
+        return loadSuccessCount + loadFailureCount;
+    }
+
+    public long getTotalLoadTimeInNanos() {
+        return totalLoadTimeInNanos;
+    }
+
+    /**
+     * Returns the average time spent by a loader
+     *
+     * @return the average load time in ns, 0 when there was no load
+     */
+    public double getAverageLoadPenaltyInNanos() {
+        long loadCount = getLoadCount();
+        return loadCount == 0 ? 0.0 : (double) totalLoadTimeInNanos / loadCount;
+    }
+
+    public long getCapacityEvictionCount() {
+        return capacityEvictionCount;
+    }
+
+    public long getExpiredEvictionCount() {
+        return expiredEvictionCount;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public int getMaxCapacity() {
+        return maxCapacity;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", loadSuccessCount=" + loadSuccessCount +
+                ", loadFailureCount=" + loadFailureCount +
+                ", totalLoadTimeInNanos=" + totalLoadTimeInNanos +
+                ", capacityEvictionCount=" + capacityEvictionCount +
+                ", expiredEvictionCount=" + expiredEvictionCount +
+                ", size=" + size +
+                ", maxCapacity=" + maxCapacity +
+                '}';
+    }
+}
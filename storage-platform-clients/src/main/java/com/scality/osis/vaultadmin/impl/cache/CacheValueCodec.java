@@ -0,0 +1,53 @@
+/**
+ * Copyright 2021 Scality, Inc.
+ * SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.vaultadmin.impl.cache;
+
+/**
+ * Converts the values of a {@link TieredCache} to and from the strings kept in the {@link SharedCacheStore}.
+ *
+ * @param <V> the value type
+ */
+public interface CacheValueCodec<V> {
+
+    /**
+     * Encode a value.
+     *
+     * @param key the key of the entry, it may be bound to the encoded value
+     * @param value the value
+     * @return the encoded value
+     * @throws Exception if the value cannot be encoded
+     */
+    String encode(String key, V value) throws Exception;
+
+    /**
+     * Decode a value (see {@link #encode(String, Object)}).
+     *
+     * @param key the key of the entry
+     * @param encodedValue the encoded value
+     * @return the value
+     * @throws Exception if the value cannot be decoded
+     */
+    V decode(String key, String encodedValue) throws Exception;
+
+    /**
+     * Returns the codec of the string values, which are stored as is.
+     *
+     * @return the codec
+     */
+    static CacheValueCodec<String> identity() {
+        return new CacheValueCodec<String>() {
+            @Override
+            public String encode(String key, String value) {
+                return value;
+            }
+
+            @Override
+            public String decode(String key, String encodedValue) {
+                return encodedValue;
+            }
+        };
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright 2021 Scality, Inc.
+ * SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.vaultadmin.impl.cache;
+
+import com.scality.osis.security.crypto.model.AES256GCMInformation;
+import com.scality.osis.security.crypto.model.SecretKeyRepoData;
+import com.scality.osis.security.utils.CipherFactory;
+
+import java.util.Base64;
+
+/**
+ * Encrypts the values of another codec with the latest key of the {@link CipherFactory}, like the secret keys
+ * stored in Redis. The key of the entry is used as associated data, so a value cannot be replayed under another key.
+ * <p>
+ * Encoded value: `keyID:base64(nonce):base64(encryptedBytes)`.
+ *
+ * @param <V> the value type
+ */
+public class EncryptedCacheValueCodec<V> implements CacheValueCodec<V> {
+
+    private static final String SEPARATOR = ":";
+
+    private final CacheValueCodec<V> delegate;
+
+    private final CipherFactory cipherFactory;
+
+    public EncryptedCacheValueCodec(CacheValueCodec<V> delegate, CipherFactory cipherFactory) {
+        this.delegate = delegate;
+        this.cipherFactory = cipherFactory;
+    }
+
+    @Override
+    public String encode(String key, V value) throws Exception {
+        SecretKeyRepoData encryptedData = cipherFactory.getCipher().encrypt(delegate.encode(key, value),
+                cipherFactory.getLatestSecretKey(),
+                key);
+        byte[] nonce = ((AES256GCMInformation) encryptedData.getCipherInfo()).getNonce();
+        return cipherFactory.getLatestCipherID() + SEPARATOR
+                + Base64.getEncoder().encodeToString(nonce) + SEPARATOR
+                + Base64.getEncoder().encodeToString(encryptedData.getEncryptedBytes());
+    }
+
+    @Override
+    public V decode(String key, String encodedValue) throws Exception {
+        String[] parts = encodedValue.split(SEPARATOR, 3);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed encrypted cache value");
+        }
+        String keyID = parts[0];
+        SecretKeyRepoData encryptedData = SecretKeyRepoData.builder()
+                .keyID(keyID)
+                .cipherInfo(AES256GCMInformation.builder()
+                        .nonce(Base64.getDecoder().decode(parts[1]))
+                        .build())
+                .encryptedBytes(Base64.getDecoder().decode(parts[2]))
+                .build();
+        String plaintext = cipherFactory.getCipherByID(keyID)
+                .decrypt(encryptedData, cipherFactory.getSecretKeyByID(keyID), key);
+        return delegate.decode(key, plaintext);
+    }
+}
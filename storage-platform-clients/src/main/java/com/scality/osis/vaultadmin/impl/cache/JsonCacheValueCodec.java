@@ -0,0 +1,44 @@
+/**
+ * Copyright 2021 Scality, Inc.
+ * SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.vaultadmin.impl.cache;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSerializer;
+
+import java.util.Date;
+
+/**
+ * JSON codec of the {@link TieredCache} values. Dates are written as epoch milliseconds so that
+ * they keep their precision whatever the locale of the instances.
+ *
+ * @param <V> the value type
+ */
+public class JsonCacheValueCodec<V> implements CacheValueCodec<V> {
+
+    private static final Gson GSON = new GsonBuilder()
+            .registerTypeAdapter(Date.class, (JsonSerializer<Date>) (date, type, context) -> new JsonPrimitive(date.getTime()))
+            .registerTypeAdapter(Date.class, (JsonDeserializer<Date>) (json, type, context) -> new Date(json.getAsLong()))
+            .create();
+
+    private final Class<V> valueType;
+
+    public JsonCacheValueCodec(Class<V> valueType) {
+        this.valueType = valueType;
+    }
+
+    @Override
+    public String encode(String key, V value) {
+        return GSON.toJson(value);
+    }
+
+    @Override
+    public V decode(String key, String encodedValue) {
+        return GSON.fromJson(encodedValue, valueType);
+    }
+}
@@ -0,0 +1,273 @@
+/**
+ * Copyright 2021 Scality, Inc.
+ * SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.vaultadmin.impl.cache;
+
+import com.amazonaws.services.securitytoken.model.Credentials;
+import com.scality.osis.vaultadmin.utils.VaultAdminEnv;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static com.scality.osis.vaultadmin.impl.cache.CacheConstants.*;
+
+/**
+ * Registry of the AWS SDK clients (IAM, S3) keyed by (client type, access key, session token, region, endpoint).
+ * <p>
+ * A client is reused while its temporary credentials are valid, clients with static credentials are kept
+ * until they are idle for the configured ttl. Evicted clients are retired and shut down after a grace period,
+ * so a request still holding the client can complete before its connection pool is closed.
+ */
+@Component
+public class SdkClientRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(SdkClientRegistry.class);
+
+    @Autowired
+    private CacheFactory cacheFactory;
+
+    private int maxCapacity;
+
+    private long idleTtl;
+
+    private long retireGrace;
+
+    private final Map<ClientKey, RegisteredClient<?>> clients = new ConcurrentHashMap<>();
+
+    private final Queue<RetiredClient> retiredClients = new ConcurrentLinkedQueue<>();
+
+    public SdkClientRegistry() {
+        this(DEFAULT_CLIENTS_MAX_CAPACITY, DEFAULT_CLIENTS_TTL_IN_MS, DEFAULT_CLIENTS_RETIRE_GRACE_IN_MS);
+    }
+
+    /**
+     * Instantiates a new Sdk client registry.
+     *
+     * @param maxCapacity the max number of clients
+     * @param idleTtl the ttl in ms of the clients whose credentials do not expire
+     * @param retireGrace the delay in ms before an evicted client is shut down
+     */
+    public SdkClientRegistry(int maxCapacity, long idleTtl, long retireGrace) {
+        if (maxCapacity <= 0 || idleTtl < 0L || retireGrace < 0L) {
+            throw new IllegalArgumentException("Illegal max capacity: " + maxCapacity);
+        }
+        this.maxCapacity = maxCapacity;
+        this.idleTtl = idleTtl;
+        this.retireGrace = retireGrace;
+    }
+
+    @PostConstruct
+    private void init() {
+        if (cacheFactory == null) {
+            return;
+        }
+        VaultAdminEnv env = cacheFactory.getEnvironmentVariables();
+        if (env != null) {
+            maxCapacity = env.getClientsCacheMaxCapacity() != null ? env.getClientsCacheMaxCapacity() : maxCapacity;
+            idleTtl = env.getClientsCacheExpiration() != null ? env.getClientsCacheExpiration() : idleTtl;
+            retireGrace = env.getClientsRetireGrace() != null ? env.getClientsRetireGrace() : retireGrace;
+        }
+        CacheExpiryService expiryService = cacheFactory.getExpiryService();
+        if (expiryService != null) {
+            long sweepInterval = env != null && env.getCacheSweepInterval() != null
+                    ? env.getCacheSweepInterval() : DEFAULT_CACHE_SWEEP_INTERVAL_IN_MS;
+            expiryService.scheduleMaintenance(this::sweep, sweepInterval);
+        }
+    }
+
+    /**
+     * Returns the client registered for the credentials, region and endpoint or builds and registers a new one.
+     *
+     * @param type the client type, e.g. AmazonS3.class
+     * @param credentials the credentials of the client
+     * @param region the region
+     * @param endpoint the endpoint
+     * @param builder builds the client
+     * @param shutdown shuts the client down
+     * @param <C> the client type
+     * @return the client
+     */
+    @SuppressWarnings("unchecked")
+    public <C> C getClient(Class<C> type, Credentials credentials, String region, String endpoint,
+                           Supplier<C> builder, Consumer<C> shutdown) {
+        ClientKey key = new ClientKey(type, credentials.getAccessKeyId(), credentials.getSessionToken(), region, endpoint);
+        long now = System.currentTimeMillis();
+
+        RegisteredClient<C> registeredClient = (RegisteredClient<C>) clients.get(key);
+        if (registeredClient != null && registeredClient.isExpired(now, idleTtl)) {
+            evict(key, registeredClient, now);
+            registeredClient = null;
+        }
+        if (registeredClient == null) {
+            long expiration = credentials.getExpiration() != null ? credentials.getExpiration().getTime() : 0L;
+            registeredClient = (RegisteredClient<C>) clients.computeIfAbsent(key,
+                    k -> new RegisteredClient<>(builder.get(), shutdown, expiration, now));
+            if (clients.size() > maxCapacity) {
+                evictLeastRecentlyUsed(now);
+            }
+        }
+        registeredClient.lastAccess = now;
+        return registeredClient.client;
+    }
+
+    /**
+     * Evict the expired clients and shut down the retired clients whose grace period is over.
+     */
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<ClientKey, RegisteredClient<?>> entry : clients.entrySet()) {
+            if (entry.getValue().isExpired(now, idleTtl)) {
+                evict(entry.getKey(), entry.getValue(), now);
+            }
+        }
+
+        Iterator<RetiredClient> iterator = retiredClients.iterator();
+        while (iterator.hasNext()) {
+            RetiredClient retiredClient = iterator.next();
+            if (now - retiredClient.retiredAt >= retireGrace) {
+                iterator.remove();
+                retiredClient.client.shutdown();
+            }
+        }
+    }
+
+    private void evictLeastRecentlyUsed(long now) {
+        // only runs when the registry is full, the scan is bounded by maxCapacity
+        while (clients.size() > maxCapacity) {
+            Map.Entry<ClientKey, RegisteredClient<?>> eldest = null;
+            for (Map.Entry<ClientKey, RegisteredClient<?>> entry : clients.entrySet()) {
+                if (eldest == null || entry.getValue().lastAccess < eldest.getValue().lastAccess) {
+                    eldest = entry;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            evict(eldest.getKey(), eldest.getValue(), now);
+        }
+    }
+
+    private void evict(ClientKey key, RegisteredClient<?> registeredClient, long now) {
+        if (clients.remove(key, registeredClient)) {
+            retiredClients.add(new RetiredClient(registeredClient, now));
+        }
+    }
+
+    /**
+     * Returns the number of registered clients
+     *
+     * @return the size
+     */
+    public int size() {
+        return clients.size();
+    }
+
+    /**
+     * Returns the number of evicted clients waiting to be shut down
+     *
+     * @return the retired clients count
+     */
+    public int retired() {
+        return retiredClients.size();
+    }
+
+    /**
+     * Shut down all the clients.
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (RegisteredClient<?> registeredClient : clients.values()) {
+            registeredClient.shutdown();
+        }
+        clients.clear();
+        RetiredClient retiredClient;
+        while ((retiredClient = retiredClients.poll()) != null) {
+            retiredClient.client.shutdown();
+        }
+    }
+
+    private static final class ClientKey {
+        private final Class<?> type;
+        private final String accessKey;
+        private final String sessionToken;
+        private final String region;
+        private final String endpoint;
+
+        ClientKey(Class<?> type, String accessKey, String sessionToken, String region, String endpoint) {
+            this.type = type;
+            this.accessKey = accessKey;
+            this.sessionToken = sessionToken;
+            this.region = region;
+            this.endpoint = endpoint;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ClientKey)) {
+                return false;
+            }
+            ClientKey that = (ClientKey) o;
+            return type.equals(that.type) && Objects.equals(accessKey, that.accessKey)
+                    && Objects.equals(sessionToken, that.sessionToken) && Objects.equals(region, that.region)
+                    && Objects.equals(endpoint, that.endpoint);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, accessKey, sessionToken, region, endpoint);
+        }
+    }
+
+    private static final class RegisteredClient<C> {
+        private final C client;
+        private final Consumer<C> shutdown;
+        // credentials expiration in ms since epoch, 0 for static credentials
+        private final long expiration;
+        private volatile long lastAccess;
+
+        RegisteredClient(C client, Consumer<C> shutdown, long expiration, long now) {
+            this.client = client;
+            this.shutdown = shutdown;
+            this.expiration = expiration;
+            this.lastAccess = now;
+        }
+
+        boolean isExpired(long now, long idleTtl) {
+            return expiration != 0L ? now >= expiration : (idleTtl > 0 && now - lastAccess >= idleTtl);
+        }
+
+        void shutdown() {
+            try {
+                shutdown.accept(client);
+            } catch (RuntimeException e) {
+                logger.warn("SDK client shutdown failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static final class RetiredClient {
+        private final RegisteredClient<?> client;
+        private final long retiredAt;
+
+        RetiredClient(RegisteredClient<?> client, long retiredAt) {
+            this.client = client;
+            this.retiredAt = retiredAt;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * Copyright 2021 Scality, Inc.
+ * SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.vaultadmin.impl.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Optional second level of the Vault caches shared by the OSIS instances, see {@link TieredCache}.
+ * Removals are broadcast to the other instances so that they drop their local copy.
+ */
+public interface SharedCacheStore {
+
+    /**
+     * Get an entry.
+     *
+     * @param cacheName the cache name
+     * @param key the key
+     * @return the encoded value, null if absent or expired
+     */
+    String get(String cacheName, String key);
+
+    /**
+     * Put an entry.
+     *
+     * @param cacheName the cache name
+     * @param key the key
+     * @param value the encoded value
+     * @param ttlInMS the time to live of the entry, 0 means no expiry
+     */
+    void put(String cacheName, String key, String value, long ttlInMS);
+
+    /**
+     * Remove an entry and notify the other instances.
+     *
+     * @param cacheName the cache name
+     * @param key the key
+     */
+    void remove(String cacheName, String key);
+
+    /**
+     * Remove all the entries of a cache and notify the other instances.
+     *
+     * @param cacheName the cache name
+     */
+    void clear(String cacheName);
+
+    /**
+     * Listen to the invalidations of a cache, including the ones of this instance.
+     *
+     * @param cacheName the cache name
+     * @param listener called with the removed key, or null when the whole cache was cleared
+     */
+    void subscribe(String cacheName, Consumer<String> listener);
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright 2021 Scality, Inc.
+ * SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.vaultadmin.impl.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Thread-safe counters behind {@link CacheStats}, shared by the cache implementations.
+ * LongAdders keep the recording cheap on the hot read path.
+ */
+public class StatsCounter {
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAdder capacityEvictionCount = new LongAdder();
+    private final LongAdder expiredEvictionCount = new LongAdder();
+
+    public void recordHit() {
+        hitCount.increment();
+    }
+
+    public void recordMiss() {
+        missCount.increment();
+    }
+
+    public void recordCapacityEviction() {
+        capacityEvictionCount.increment();
+    }
+
+    public void recordExpiredEvictions(int count) {
+        expiredEvictionCount.add(count);
+    }
+
+    public void recordLoadSuccess(long loadTimeInNanos) {
+        loadSuccessCount.increment();
+        totalLoadTime.add(loadTimeInNanos);
+    }
+
+    public void recordLoadFailure(long loadTimeInNanos) {
+        loadFailureCount.increment();
+        totalLoadTime.add(loadTimeInNanos);
+    }
+
+    /**
+     * Run the loader of a missing key, record its outcome and latency and cache the loaded value.
+     * A null value is not cached and counts as a failed load.
+     *
+     * @param key the key
+     * @param loader the loader
+     * @param cache the cache to put the loaded value into
+     * @return the loaded value, may be null
+     */
+    public <K, V> V load(K key, Function<? super K, ? extends V> loader, Cache<K, V> cache) {
+        long start = System.nanoTime();
+        V value;
+        try {
+            value = loader.apply(key);
+        } catch (RuntimeException | Error e) {
+            recordLoadFailure(System.nanoTime() - start);
+            throw e;
+        }
+        if (value == null) {
+            recordLoadFailure(System.nanoTime() - start);
+            return null;
+        }
+        recordLoadSuccess(System.nanoTime() - start);
+        cache.put(key, value);
+        return value;
+    }
+
+    /**
+     * Returns a snapshot of the counters
+     *
+     * @param size the current size of the cache
+     * @param maxCapacity the current max capacity of the cache
+     * @return the cache stats
+     */
+    public CacheStats snapshot(long size, int maxCapacity) {
+        return new CacheStats(hitCount.sum(), missCount.sum(), loadSuccessCount.sum(), loadFailureCount.sum(),
+                totalLoadTime.sum(), capacityEvictionCount.sum(), expiredEvictionCount.sum(), size, maxCapacity);
+    }
+}
@@ -0,0 +1,336 @@
+/**
+ * Copyright 2021 Scality, Inc.
+ * SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.vaultadmin.impl.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import static com.scality.osis.vaultadmin.impl.cache.CacheConstants.*;
+
+/** StripedCacheImpl is a thread-safe LRU cache implementation with expiration time for each entry
+ * <p>
+ * The key space is split into a power-of-two number of segments. Each segment is an access-ordered
+ * LinkedHashMap guarded by its own lock, so get/put/evict are O(1) and concurrent readers only contend
+ * when they hit the same segment. LRU order is maintained per segment, which approximates a global LRU
+ * when keys are evenly spread. The number of segments is fixed, a resize changes the capacity of each segment.
+ */
+public class StripedCacheImpl<K, V> implements Cache<K,V> {
+
+    /**
+     * Maximum capacity of the cache
+     */
+    private volatile int maxCapacity;
+    /**
+     * ttl for each entrant of the cache
+     */
+    private final long ttl;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+
+    private final StatsCounter statsCounter = new StatsCounter();
+
+    public StripedCacheImpl(int maxCapacity){
+        this(maxCapacity, DEFAULT_CACHE_TTL_IN_MS);
+    }
+
+    public StripedCacheImpl(int maxCapacity, long ttl){
+        this(maxCapacity, ttl, DEFAULT_CACHE_CONCURRENCY_LEVEL);
+    }
+
+    @SuppressWarnings("unchecked")
+    public StripedCacheImpl(int maxCapacity, long ttl, int concurrencyLevel){
+        if (maxCapacity < 0) {
+            throw new IllegalArgumentException("Illegal max capacity: " + maxCapacity);
+        }
+        if (ttl < 0L) {
+            throw new IllegalArgumentException("Illegal ttl: " + ttl);
+        }
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Illegal concurrency level: " + concurrencyLevel);
+        }
+
+        this.maxCapacity = maxCapacity;
+        this.ttl = ttl;
+
+        // Never create segments smaller than MIN_SEGMENT_CAPACITY, small caches are a single segment
+        int segmentCount = 1;
+        while (segmentCount < concurrencyLevel
+                && (long) (segmentCount << 1) * MIN_SEGMENT_CAPACITY <= maxCapacity) {
+            segmentCount <<= 1;
+        }
+
+        segments = new Segment[segmentCount];
+        segmentMask = segmentCount - 1;
+        for (int index = 0; index < segmentCount; index++) {
+            segments[index] = new Segment<>(segmentCapacity(maxCapacity, index), statsCounter);
+        }
+    }
+
+    private int segmentCapacity(int capacity, int index) {
+        // Spread the remainder over the first segments so that the total is exactly the capacity
+        return capacity / segments.length + (index < capacity % segments.length ? 1 : 0);
+    }
+
+    /**
+     * @param key Key
+     * @return Value corresponding to the Key K in the map is returned or null
+     *         is returned if the key is not present in the map or expired
+     */
+    @Override
+    public V get(K key) {
+        V value = segmentFor(key).get(key, System.nanoTime());
+        if (value != null) {
+            statsCounter.recordHit();
+        } else {
+            statsCounter.recordMiss();
+        }
+        return value;
+    }
+
+    @Override
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        return value != null ? value : statsCounter.load(key, loader, this);
+    }
+
+    @Override
+    public void recordLoad(long loadTimeInNanos, boolean success) {
+        if (success) {
+            statsCounter.recordLoadSuccess(loadTimeInNanos);
+        } else {
+            statsCounter.recordLoadFailure(loadTimeInNanos);
+        }
+    }
+
+    /**
+     * @param key Key
+     * @param value Value
+     * Entry with key k and value v is added to the Cache.
+     */
+    @Override
+    public V put(K key, V value) {
+        return put(key, value, ttl);
+    }
+
+    /**
+     * @param key Key
+     * @param value Value
+     * @param ttlInMS ttl of this entry, 0 means no expiry
+     * Entry with key k and value v is added to the Cache with its own ttl.
+     */
+    @Override
+    public V put(K key, V value, long ttlInMS) {
+        if (ttlInMS < 0L) {
+            throw new IllegalArgumentException("Illegal ttl: " + ttlInMS);
+        }
+        segmentFor(key).put(key, CacheEntry.of(value, ttlInMS, System.nanoTime()));
+        return value;
+    }
+
+    /**
+     * @param key Key
+     * @return Value corresponding to the key is returned if present in the map
+     *         else null is returned. Entry with key k is removed from the
+     *         cache.
+     */
+    @Override
+    public V remove(K key) {
+        return segmentFor(key).remove(key, System.nanoTime());
+    }
+
+    /**
+     * Clears the cache.
+     */
+    @Override
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    @Override
+    public long size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    @Override
+    public int purgeExpired() {
+        long now = System.nanoTime();
+        int purged = 0;
+        for (Segment<K, V> segment : segments) {
+            purged += segment.purgeExpired(now);
+        }
+        statsCounter.recordExpiredEvictions(purged);
+        return purged;
+    }
+
+    @Override
+    public CacheStats stats() {
+        return statsCounter.snapshot(size(), maxCapacity);
+    }
+
+    @Override
+    public int getMaxCapacity() {
+        return maxCapacity;
+    }
+
+    @Override
+    public void setMaxCapacity(int maxCapacity) {
+        if (maxCapacity < 0) {
+            throw new IllegalArgumentException("Illegal max capacity: " + maxCapacity);
+        }
+        this.maxCapacity = maxCapacity;
+        for (int index = 0; index < segments.length; index++) {
+            segments[index].setCapacity(segmentCapacity(maxCapacity, index));
+        }
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & segmentMask];
+    }
+
+    @Override
+    public String toString() {
+        return "StripedCacheImpl{" +
+                "segments=" + segments.length +
+                ", size=" + size() +
+                '}';
+    }
+
+    /**
+     * One lock-protected access-ordered LRU partition of the cache.
+     */
+    private static final class Segment<K, V> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<K, CacheEntry<V>> map;
+        private final StatsCounter statsCounter;
+        private int capacity;
+
+        Segment(int capacity, StatsCounter statsCounter) {
+            this.capacity = capacity;
+            this.statsCounter = statsCounter;
+            this.map = new LinkedHashMap<K, CacheEntry<V>>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                    if (size() <= Segment.this.capacity) {
+                        return false;
+                    }
+                    recordEviction(eldest.getValue());
+                    return true;
+                }
+            };
+        }
+
+        // called with the lock held
+        private void recordEviction(CacheEntry<V> entry) {
+            if (entry.isExpired(System.nanoTime())) {
+                statsCounter.recordExpiredEvictions(1);
+            } else {
+                statsCounter.recordCapacityEviction();
+            }
+        }
+
+        void setCapacity(int newCapacity) {
+            lock.lock();
+            try {
+                capacity = newCapacity;
+                // the iteration order is the LRU order, the eldest entries come first
+                Iterator<CacheEntry<V>> iterator = map.values().iterator();
+                while (map.size() > capacity && iterator.hasNext()) {
+                    recordEviction(iterator.next());
+                    iterator.remove();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        V get(K key, long now) {
+            lock.lock();
+            try {
+                // access-ordered map: a hit moves the entry to the tail in O(1)
+                CacheEntry<V> entry = map.get(key);
+                if (entry == null) {
+                    return null;
+                }
+                if (entry.isExpired(now)) {
+                    map.remove(key);
+                    statsCounter.recordExpiredEvictions(1);
+                    return null;
+                }
+                return entry.value;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void put(K key, CacheEntry<V> entry) {
+            lock.lock();
+            try {
+                map.put(key, entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        V remove(K key, long now) {
+            lock.lock();
+            try {
+                CacheEntry<V> entry = map.remove(key);
+                return (entry == null || entry.isExpired(now)) ? null : entry.value;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                map.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int purgeExpired(long now) {
+            lock.lock();
+            try {
+                int purged = 0;
+                // iterating does not change the access order
+                Iterator<CacheEntry<V>> iterator = map.values().iterator();
+                while (iterator.hasNext()) {
+                    if (iterator.next().isExpired(now)) {
+                        iterator.remove();
+                        purged++;
+                    }
+                }
+                return purged;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return map.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
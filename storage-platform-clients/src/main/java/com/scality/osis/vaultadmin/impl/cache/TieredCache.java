@@ -0,0 +1,214 @@
+/**
+ * Copyright 2021 Scality, Inc.
+ * SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.vaultadmin.impl.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Function;
+
+/**
+ * Two level cache: the local cache (L1) backed by a {@link SharedCacheStore} (L2) shared by the OSIS instances.
+ * <p>
+ * A local miss is looked up in the shared store before going to Vault, and the values put locally are written
+ * through to the shared store. Removals are broadcast so that the other instances drop their local copy.
+ * The shared store is best effort: its failures are logged and the cache falls back to the local level.
+ * <p>
+ * The shared entries carry their wall clock expiration (`expiresAtMillis:encodedValue`), so a value read from the
+ * shared store does not outlive the ttl it was put with. Only the values loaded from Vault count as loads.
+ *
+ * @param <V> the value type
+ */
+public class TieredCache<V> implements Cache<String, V> {
+    private static final Logger logger = LoggerFactory.getLogger(TieredCache.class);
+
+    private static final char EXPIRY_SEPARATOR = ':';
+
+    private final String name;
+
+    private final Cache<String, V> local;
+
+    private final SharedCacheStore store;
+
+    private final CacheValueCodec<V> codec;
+
+    private final long ttl;
+
+    /**
+     * Instantiates a new Tiered cache.
+     *
+     * @param name the cache name, it namespaces the shared entries
+     * @param local the local cache
+     * @param store the shared store
+     * @param codec the codec of the shared values
+     * @param ttl the default ttl in ms of the local cache
+     */
+    public TieredCache(String name, Cache<String, V> local, SharedCacheStore store, CacheValueCodec<V> codec, long ttl) {
+        this.name = name;
+        this.local = local;
+        this.store = store;
+        this.codec = codec;
+        this.ttl = ttl;
+        store.subscribe(name, this::onInvalidation);
+    }
+
+    @Override
+    public V get(String key) {
+        V value = local.get(key);
+        if (value != null) {
+            return value;
+        }
+        SharedEntry<V> sharedEntry = getShared(key);
+        if (sharedEntry == null) {
+            return null;
+        }
+        local.put(key, sharedEntry.value, sharedEntry.remainingTtl);
+        return sharedEntry.value;
+    }
+
+    @Override
+    public V get(String key, Function<? super String, ? extends V> loader) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        // the local miss is already recorded, so the load is recorded rather than delegated to the local cache
+        long start = System.nanoTime();
+        V loadedValue = null;
+        try {
+            loadedValue = loader.apply(key);
+        } finally {
+            local.recordLoad(System.nanoTime() - start, loadedValue != null);
+        }
+        if (loadedValue != null) {
+            put(key, loadedValue);
+        }
+        return loadedValue;
+    }
+
+    @Override
+    public void recordLoad(long loadTimeInNanos, boolean success) {
+        local.recordLoad(loadTimeInNanos, success);
+    }
+
+    @Override
+    public V put(String key, V value) {
+        return put(key, value, ttl);
+    }
+
+    @Override
+    public V put(String key, V value, long ttlInMS) {
+        local.put(key, value, ttlInMS);
+        putShared(key, value, ttlInMS);
+        return value;
+    }
+
+    @Override
+    public V remove(String key) {
+        V value = local.remove(key);
+        try {
+            store.remove(name, key);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to remove an entry of the shared {} cache: {}", name, e.getMessage());
+        }
+        return value;
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        try {
+            store.clear(name);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to clear the shared {} cache: {}", name, e.getMessage());
+        }
+    }
+
+    @Override
+    public long size() {
+        return local.size();
+    }
+
+    @Override
+    public CacheStats stats() {
+        return local.stats();
+    }
+
+    @Override
+    public int getMaxCapacity() {
+        return local.getMaxCapacity();
+    }
+
+    @Override
+    public void setMaxCapacity(int maxCapacity) {
+        local.setMaxCapacity(maxCapacity);
+    }
+
+    @Override
+    public int purgeExpired() {
+        return local.purgeExpired();
+    }
+
+    private SharedEntry<V> getShared(String key) {
+        String sharedValue;
+        try {
+            sharedValue = store.get(name, key);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to read the shared {} cache: {}", name, e.getMessage());
+            return null;
+        }
+        if (sharedValue == null) {
+            return null;
+        }
+        try {
+            int separator = sharedValue.indexOf(EXPIRY_SEPARATOR);
+            long expiresAt = Long.parseLong(sharedValue.substring(0, separator));
+            long remainingTtl = ttl;
+            if (expiresAt > 0) {
+                long remaining = expiresAt - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return null;
+                }
+                remainingTtl = ttl > 0 ? Math.min(ttl, remaining) : remaining;
+            }
+            return new SharedEntry<>(codec.decode(key, sharedValue.substring(separator + 1)), remainingTtl);
+        } catch (Exception e) {
+            logger.warn("Failed to decode an entry of the shared {} cache: {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putShared(String key, V value, long ttlInMS) {
+        try {
+            long expiresAt = ttlInMS > 0 ? System.currentTimeMillis() + ttlInMS : 0L;
+            store.put(name, key, expiresAt + String.valueOf(EXPIRY_SEPARATOR) + codec.encode(key, value), ttlInMS);
+        } catch (Exception e) {
+            logger.warn("Failed to write to the shared {} cache: {}", name, e.getMessage());
+        }
+    }
+
+    private void onInvalidation(String key) {
+        if (key == null) {
+            local.clear();
+        } else {
+            local.remove(key);
+        }
+    }
+
+    public Cache<String, V> getLocal() {
+        return local;
+    }
+
+    private static final class SharedEntry<V> {
+        private final V value;
+        private final long remainingTtl;
+
+        private SharedEntry(V value, long remainingTtl) {
+            this.value = value;
+            this.remainingTtl = remainingTtl;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright 2021 Scality, Inc.
+ * SPDX-License-Identifier: Apache License 2.0
+ */
+
+package com.scality.osis.vaultadmin.impl.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the {@link CacheStats} of the Vault caches as Micrometer meters, tagged with the cache name.
+ */
+@Component
+public class VaultCacheMetrics implements MeterBinder {
+
+    private static final String TAG_CACHE = "cache";
+
+    @Autowired
+    private CacheFactory cacheFactory;
+
+    private VaultCacheMetrics() {
+
+    }
+
+    /**
+     * Instantiates a new Vault cache metrics.
+     *
+     * @param cacheFactory the cache factory
+     */
+    public VaultCacheMetrics(CacheFactory cacheFactory) {
+        this.cacheFactory = cacheFactory;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Map.Entry<String, Cache<?, ?>> entry : cacheFactory.getCaches().entrySet()) {
+            bindTo(registry, entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static void bindTo(MeterRegistry registry, String cacheName, Cache<?, ?> cache) {
+        FunctionCounter.builder("osis.vault.cache.gets", cache, c -> c.stats().getHitCount())
+                .tags(TAG_CACHE, cacheName, "result", "hit")
+                .description("Cache lookups which found a value")
+                .register(registry);
+        FunctionCounter.builder("osis.vault.cache.gets", cache, c -> c.stats().getMissCount())
+                .tags(TAG_CACHE, cacheName, "result", "miss")
+                .description("Cache lookups which found no value")
+                .register(registry);
+        FunctionCounter.builder("osis.vault.cache.loads", cache, c -> c.stats().getLoadSuccessCount())
+                .tags(TAG_CACHE, cacheName, "result", "success")
+                .description("Values loaded on a cache miss")
+                .register(registry);
+        FunctionCounter.builder("osis.vault.cache.loads", cache, c -> c.stats().getLoadFailureCount())
+                .tags(TAG_CACHE, cacheName, "result", "failure")
+                .description("Loads which failed or returned no value")
+                .register(registry);
+        FunctionTimer.builder("osis.vault.cache.load.duration", cache,
+                        c -> c.stats().getLoadCount(),
+                        c -> c.stats().getTotalLoadTimeInNanos(), TimeUnit.NANOSECONDS)
+                .tags(TAG_CACHE, cacheName)
+                .description("Time spent loading the missing values")
+                .register(registry);
+        FunctionCounter.builder("osis.vault.cache.evictions", cache, c -> c.stats().getCapacityEvictionCount())
+                .tags(TAG_CACHE, cacheName, "cause", "capacity")
+                .description("Entries evicted to stay within the max capacity")
+                .register(registry);
+        FunctionCounter.builder("osis.vault.cache.evictions", cache, c -> c.stats().getExpiredEvictionCount())
+                .tags(TAG_CACHE, cacheName, "cause", "expired")
+                .description("Expired entries removed from the cache")
+                .register(registry);
+        Gauge.builder("osis.vault.cache.size", cache, Cache::size)
+                .tags(TAG_CACHE, cacheName)
+                .description("Number of entries in the cache")
+                .register(registry);
+        Gauge.builder("osis.vault.cache.max.capacity", cache, Cache::getMaxCapacity)
+                .tags(TAG_CACHE, cacheName)
+                .description("Max number of entries of the cache")
+                .register(registry);
+    }
+}
@@ -55,6 +55,16 @@ public class VaultAdminEnv {
                 ? Long.parseLong(env.getProperty(CacheConstants.ENV_LIST_ACCOUNT_CACHE_TTL)) : null;
     }
 
+    /**
+     * Is the background prefetch of the listAccounts markers enabled, true when not set.
+     *
+     * @return the boolean
+     */
+    public boolean isListAccountsPrefetchEnabled(){
+        return !StringUtils.hasLength(env.getProperty(CacheConstants.ENV_LIST_ACCOUNT_PREFETCH))
+                || Boolean.parseBoolean(env.getProperty(CacheConstants.ENV_LIST_ACCOUNT_PREFETCH));
+    }
+
     /**
      * Get list accounts max capacity integer.
      *
@@ -104,4 +114,228 @@ public class VaultAdminEnv {
                 ? Long.parseLong(env.getProperty(CacheConstants.ENV_ACCOUNT_ID_CACHE_TTL)) : null;
     }
 
+    /**
+     * Get the cache implementation used for the vault caches.
+     *
+     * @return the cache implementation name
+     */
+    public String getCacheImplementation(){
+        return env.getProperty(CacheConstants.ENV_CACHE_IMPLEMENTATION);
+    }
+
+    /**
+     * Get the interval between two sweeps of the expired cache entries.
+     *
+     * @return the sweep interval in ms
+     */
+    public Long getCacheSweepInterval(){
+        return StringUtils.hasLength(env.getProperty(CacheConstants.ENV_CACHE_SWEEP_INTERVAL))
+                ? Long.parseLong(env.getProperty(CacheConstants.ENV_CACHE_SWEEP_INTERVAL)) : null;
+    }
+
+    /**
+     * Check if the accountIDs, listAccounts, accountData and assumeRole caches are shared through Redis.
+     *
+     * @return the boolean
+     */
+    public boolean isSharedCacheEnabled(){
+        return Boolean.parseBoolean(env.getProperty(CacheConstants.ENV_CACHE_REDIS_ENABLED));
+    }
+
+    /**
+     * Get the safety margin removed from the assumeRole credentials expiration.
+     *
+     * @return the time in ms
+     */
+    public Long getAssumeRoleExpirySkew(){
+        return StringUtils.hasLength(env.getProperty(CacheConstants.ENV_ASSUME_ROLE_EXPIRY_SKEW))
+                ? Long.parseLong(env.getProperty(CacheConstants.ENV_ASSUME_ROLE_EXPIRY_SKEW)) : null;
+    }
+
+    /**
+     * Get how long before their expiration the assumeRole credentials are refreshed.
+     *
+     * @return the time in ms
+     */
+    public Long getAssumeRoleRefreshAhead(){
+        return StringUtils.hasLength(env.getProperty(CacheConstants.ENV_ASSUME_ROLE_REFRESH_AHEAD))
+                ? Long.parseLong(env.getProperty(CacheConstants.ENV_ASSUME_ROLE_REFRESH_AHEAD)) : null;
+    }
+
+    /**
+     * Get the interval between two assumeRole refresh-ahead runs, 0 disables the refresher.
+     *
+     * @return the time in ms
+     */
+    public Long getAssumeRoleRefreshInterval(){
+        return StringUtils.hasLength(env.getProperty(CacheConstants.ENV_ASSUME_ROLE_REFRESH_INTERVAL))
+                ? Long.parseLong(env.getProperty(CacheConstants.ENV_ASSUME_ROLE_REFRESH_INTERVAL)) : null;
+    }
+
+    /**
+     * Get how long an unused role keeps being refreshed.
+     *
+     * @return the time in ms
+     */
+    public Long getAssumeRoleRefreshIdleTime(){
+        return StringUtils.hasLength(env.getProperty(CacheConstants.ENV_ASSUME_ROLE_REFRESH_IDLE))
+                ? Long.parseLong(env.getProperty(CacheConstants.ENV_ASSUME_ROLE_REFRESH_IDLE)) : null;
+    }
+
+    /**
+     * Get the max number of roles re-assumed at a time by the refresh-ahead.
+     *
+     * @return the integer
+     */
+    public Integer getAssumeRoleRefreshConcurrency(){
+        return StringUtils.hasLength(env.getProperty(CacheConstants.ENV_ASSUME_ROLE_REFRESH_CONCURRENCY))
+                ? Integer.parseInt(env.getProperty(CacheConstants.ENV_ASSUME_ROLE_REFRESH_CONCURRENCY)) : null;
+    }
+
+    /**
+     * Get the max number of cached SDK clients.
+     *
+     * @return the integer
+     */
+    public Integer getClientsCacheMaxCapacity(){
+        return StringUtils.hasLength(env.getProperty(CacheConstants.ENV_CLIENTS_MAX_CAPACITY))
+                ? Integer.parseInt(env.getProperty(CacheConstants.ENV_CLIENTS_MAX_CAPACITY)) : null;
+    }
+
+    /**
+     * Get the idle expiration time of the SDK clients with static credentials.
+     *
+     * @return the time in ms
+     */
+    public Long getClientsCacheExpiration(){
+        return StringUtils.hasLength(env.getProperty(CacheConstants.ENV_CLIENTS_CACHE_TTL))
+                ? Long.parseLong(env.getProperty(CacheConstants.ENV_CLIENTS_CACHE_TTL)) : null;
+    }
+
+    /**
+     * Get the delay before an evicted SDK client is shut down.
+     *
+     * @return the time in ms
+     */
+    public Long getClientsRetireGrace(){
+        return StringUtils.hasLength(env.getProperty(CacheConstants.ENV_CLIENTS_RETIRE_GRACE))
+                ? Long.parseLong(env.getProperty(CacheConstants.ENV_CLIENTS_RETIRE_GRACE)) : null;
+    }
+
+    /**
+     * Is accountData cache disabled boolean.
+     *
+     * @return the boolean
+     */
+    public boolean isAccountDataCacheDisabled(){
+        return Boolean.parseBoolean(env.getProperty(CacheConstants.ENV_ACCOUNT_DATA_DISABLED));
+    }
+
+    /**
+     * Get accountData max capacity integer.
+     *
+     * @return the integer
+     */
+    public Integer getAccountDataCacheMaxCapacity(){
+        return StringUtils.hasLength(env.getProperty(CacheConstants.ENV_ACCOUNT_DATA_MAX_CAPACITY))
+                ? Integer.parseInt(env.getProperty(CacheConstants.ENV_ACCOUNT_DATA_MAX_CAPACITY)) : null;
+    }
+
+    /**
+     * Get accountData cache expiration time.
+     *
+     * @return the time in ms
+     */
+    public Long getAccountDataCacheExpiration(){
+        return StringUtils.hasLength(env.getProperty(CacheConstants.ENV_ACCOUNT_DATA_CACHE_TTL))
+                ? Long.parseLong(env.getProperty(CacheConstants.ENV_ACCOUNT_DATA_CACHE_TTL)) : null;
+    }
+
+    /**
+     * Is canonicalUser cache disabled boolean.
+     *
+     * @return the boolean
+     */
+    public boolean isCanonicalUserCacheDisabled(){
+        return Boolean.parseBoolean(env.getProperty(CacheConstants.ENV_CANONICAL_USER_DISABLED));
+    }
+
+    /**
+     * Get canonicalUser max capacity integer.
+     *
+     * @return the integer
+     */
+    public Integer getCanonicalUserCacheMaxCapacity(){
+        return StringUtils.hasLength(env.getProperty(CacheConstants.ENV_CANONICAL_USER_MAX_CAPACITY))
+                ? Integer.parseInt(env.getProperty(CacheConstants.ENV_CANONICAL_USER_MAX_CAPACITY)) : null;
+    }
+
+    /**
+     * Get canonicalUser cache expiration time.
+     *
+     * @return the time in ms
+     */
+    public Long getCanonicalUserCacheExpiration(){
+        return StringUtils.hasLength(env.getProperty(CacheConstants.ENV_CANONICAL_USER_CACHE_TTL))
+                ? Long.parseLong(env.getProperty(CacheConstants.ENV_CANONICAL_USER_CACHE_TTL)) : null;
+    }
+
+    /**
+     * Is bucketList cache disabled boolean.
+     *
+     * @return the boolean
+     */
+    public boolean isBucketListCacheDisabled(){
+        return Boolean.parseBoolean(env.getProperty(CacheConstants.ENV_BUCKET_LIST_DISABLED));
+    }
+
+    /**
+     * Get bucketList max capacity integer.
+     *
+     * @return the integer
+     */
+    public Integer getBucketListCacheMaxCapacity(){
+        return StringUtils.hasLength(env.getProperty(CacheConstants.ENV_BUCKET_LIST_MAX_CAPACITY))
+                ? Integer.parseInt(env.getProperty(CacheConstants.ENV_BUCKET_LIST_MAX_CAPACITY)) : null;
+    }
+
+    /**
+     * Get bucketList cache expiration time.
+     *
+     * @return the time in ms
+     */
+    public Long getBucketListCacheExpiration(){
+        return StringUtils.hasLength(env.getProperty(CacheConstants.ENV_BUCKET_LIST_CACHE_TTL))
+                ? Long.parseLong(env.getProperty(CacheConstants.ENV_BUCKET_LIST_CACHE_TTL)) : null;
+    }
+
+    /**
+     * Is accessKeyOwner cache disabled boolean.
+     *
+     * @return the boolean
+     */
+    public boolean isAccessKeyOwnerCacheDisabled(){
+        return Boolean.parseBoolean(env.getProperty(CacheConstants.ENV_ACCESS_KEY_OWNER_DISABLED));
+    }
+
+    /**
+     * Get accessKeyOwner max capacity integer.
+     *
+     * @return the integer
+     */
+    public Integer getAccessKeyOwnerCacheMaxCapacity(){
+        return StringUtils.hasLength(env.getProperty(CacheConstants.ENV_ACCESS_KEY_OWNER_MAX_CAPACITY))
+                ? Integer.parseInt(env.getProperty(CacheConstants.ENV_ACCESS_KEY_OWNER_MAX_CAPACITY)) : null;
+    }
+
+    /**
+     * Get accessKeyOwner cache expiration time.
+     *
+     * @return the time in ms
+     */
+    public Long getAccessKeyOwnerCacheExpiration(){
+        return StringUtils.hasLength(env.getProperty(CacheConstants.ENV_ACCESS_KEY_OWNER_CACHE_TTL))
+                ? Long.parseLong(env.getProperty(CacheConstants.ENV_ACCESS_KEY_OWNER_CACHE_TTL)) : null;
+    }
+
 }
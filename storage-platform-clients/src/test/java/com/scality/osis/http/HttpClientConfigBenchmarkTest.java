@@ -0,0 +1,130 @@
+package com.scality.osis.http;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Opt-in latency comparison of the SDK default and the tuned client configuration, run with `./gradlew benchmark`.
+ * 64 threads share one S3 client and call a local endpoint answering after 5ms.
+ */
+@Tag("benchmark")
+class HttpClientConfigBenchmarkTest {
+
+    private static final int THREADS = 64;
+    private static final int REQUESTS_PER_THREAD = 200;
+    private static final int SERVER_LATENCY_IN_MS = 5;
+    private static final String LIST_BUCKETS_RESPONSE = "<ListAllMyBucketsResult>"
+            + "<Owner><ID>owner</ID><DisplayName>owner</DisplayName></Owner><Buckets></Buckets>"
+            + "</ListAllMyBucketsResult>";
+
+    private HttpServer server;
+
+    private ExecutorService serverExecutor;
+
+    @BeforeEach
+    public void startServer() throws Exception {
+        serverExecutor = Executors.newFixedThreadPool(THREADS * 2);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), THREADS * 2);
+        server.setExecutor(serverExecutor);
+        server.createContext("/", exchange -> {
+            try {
+                Thread.sleep(SERVER_LATENCY_IN_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            final byte[] body = LIST_BUCKETS_RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/xml");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void compareP99Latency() throws Exception {
+        final long[] defaultLatencies = run(new ClientConfiguration());
+        final long[] tunedLatencies = run(new HttpClientConfigFactory(new MockEnvironment())
+                .getConfig(HttpClientConstants.BACKEND_S3));
+
+        System.out.printf("threads=%d default p50=%.2fms p99=%.2fms tuned p50=%.2fms p99=%.2fms%n", THREADS,
+                percentile(defaultLatencies, 50), percentile(defaultLatencies, 99),
+                percentile(tunedLatencies, 50), percentile(tunedLatencies, 99));
+        assertTrue(tunedLatencies.length > 0);
+    }
+
+    private long[] run(final ClientConfiguration clientConfiguration) throws Exception {
+        final AmazonS3 client = AmazonS3ClientBuilder.standard()
+                .withClientConfiguration(clientConfiguration)
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("accesskey", "secretkey")))
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(
+                        "http://127.0.0.1:" + server.getAddress().getPort(), "us-east-1"))
+                .withPathStyleAccessEnabled(true)
+                .build();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<long[]>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                final long[] latencies = new long[REQUESTS_PER_THREAD];
+                for (int index = 0; index < REQUESTS_PER_THREAD; index++) {
+                    final long begin = System.nanoTime();
+                    client.listBuckets();
+                    latencies[index] = System.nanoTime() - begin;
+                }
+                return latencies;
+            }));
+        }
+        start.countDown();
+
+        final long[] latencies = new long[THREADS * REQUESTS_PER_THREAD];
+        int offset = 0;
+        for (final Future<long[]> future : futures) {
+            final long[] threadLatencies = future.get(5, TimeUnit.MINUTES);
+            System.arraycopy(threadLatencies, 0, latencies, offset, threadLatencies.length);
+            offset += threadLatencies.length;
+        }
+        executor.shutdown();
+        client.shutdown();
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static double percentile(final long[] sortedLatencies, final int percentile) {
+        final int index = Math.min(sortedLatencies.length - 1, sortedLatencies.length * percentile / 100);
+        return sortedLatencies[index] / 1_000_000.0;
+    }
+}
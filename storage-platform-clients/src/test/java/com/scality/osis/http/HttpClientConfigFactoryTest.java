@@ -0,0 +1,68 @@
+package com.scality.osis.http;
+
+import com.amazonaws.ClientConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static com.scality.osis.http.HttpClientConstants.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HttpClientConfigFactoryTest {
+
+    private MockEnvironment env;
+
+    private HttpClientConfigFactory factoryUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        env = new MockEnvironment();
+        factoryUnderTest = new HttpClientConfigFactory(env);
+    }
+
+    @Test
+    void testDefaults() {
+        // Run the test
+        final ClientConfiguration result = factoryUnderTest.getConfig(BACKEND_VAULT);
+
+        // Verify the results
+        assertEquals(DEFAULT_MAX_CONNECTIONS, result.getMaxConnections());
+        assertEquals(DEFAULT_CONNECTION_TTL_IN_MS, result.getConnectionTTL());
+        assertTrue(result.useTcpKeepAlive());
+        assertEquals(DEFAULT_VALIDATE_AFTER_INACTIVITY_IN_MS, result.getValidateAfterInactivityMillis());
+        assertEquals(DEFAULT_SOCKET_TIMEOUT_IN_MS, result.getSocketTimeout());
+        assertEquals(DEFAULT_MAX_ERROR_RETRY, result.getMaxErrorRetry());
+    }
+
+    @Test
+    void testBackendOverridesGlobalSetting() {
+        // Setup
+        env.setProperty("osis.scality.http.maxConnections", "64");
+        env.setProperty("osis.scality.http.s3.maxConnections", "256");
+        env.setProperty("osis.scality.http.s3.maxErrorRetry", "1");
+
+        // Run the test
+        final ClientConfiguration s3Config = factoryUnderTest.getConfig(BACKEND_S3);
+        final ClientConfiguration iamConfig = factoryUnderTest.getConfig(BACKEND_IAM);
+
+        // Verify the results
+        assertEquals(256, s3Config.getMaxConnections());
+        assertEquals(1, s3Config.getRetryPolicy().getMaxErrorRetry());
+        assertEquals(64, iamConfig.getMaxConnections());
+        assertEquals(DEFAULT_MAX_ERROR_RETRY, iamConfig.getMaxErrorRetry());
+    }
+
+    @Test
+    void testEachClientGetsItsOwnCopy() {
+        // Run the test
+        final ClientConfiguration config1 = factoryUnderTest.getConfig(BACKEND_UTAPI);
+        final ClientConfiguration config2 = factoryUnderTest.getConfig(BACKEND_UTAPI);
+        config1.setMaxConnections(1);
+
+        // Verify the results
+        assertNotSame(config1, config2);
+        assertEquals(DEFAULT_MAX_CONNECTIONS, config2.getMaxConnections());
+    }
+}
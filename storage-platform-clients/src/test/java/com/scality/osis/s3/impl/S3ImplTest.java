@@ -2,14 +2,17 @@ package com.scality.osis.s3.impl;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.securitytoken.model.Credentials;
+import com.scality.osis.vaultadmin.impl.cache.SdkClientRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.util.StringUtils;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
 import java.util.Properties;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class S3ImplTest {
@@ -62,4 +65,18 @@ class S3ImplTest {
         final AmazonS3 s3Client = s3Impl.getS3Client(credentials, TEST_REGION);
         assertNotNull(s3Client);
     }
+
+    @Test
+    void testGetS3ClientReusedWithRegistry() {
+        final SdkClientRegistry clientRegistry = new SdkClientRegistry();
+        ReflectionTestUtils.setField(s3Impl, "clientRegistry", clientRegistry);
+        final Credentials credentials = new Credentials();
+        credentials.setAccessKeyId(TEST_ACCESS_KEY);
+        credentials.setSecretAccessKey(TEST_SECRET_KEY);
+        credentials.setSessionToken(TEST_SESSION_TOKEN);
+
+        final AmazonS3 s3Client = s3Impl.getS3Client(credentials, TEST_REGION);
+        assertSame(s3Client, s3Impl.getS3Client(credentials, TEST_REGION));
+        clientRegistry.shutdown();
+    }
 }
@@ -8,9 +8,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import javax.crypto.AEADBadTagException;
+import javax.crypto.SecretKey;
 import java.lang.reflect.Type;
 import java.security.InvalidKeyException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static com.scality.osis.security.utils.ScalitySecurityTestUtils.*;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -39,6 +44,47 @@ class AES256GCMTest {
         assertEquals(TEST_SECRET_KEY, decrypted);
     }
 
+    @Test
+    void testEncryptDecryptWithSecretKey() throws Exception {
+        // Setup
+        final SecretKey key = aes256GCMUnderTest.toSecretKey(TEST_CIPHER_SECRET_KEY);
+
+        // Run the test
+        final SecretKeyRepoData encryptedRepoData = aes256GCMUnderTest.encrypt(TEST_SECRET_KEY, key, TEST_ACCESS_KEY);
+
+        // Verify the results: the string key and the secret key are interchangeable
+        assertEquals(TEST_SECRET_KEY, aes256GCMUnderTest.decrypt(encryptedRepoData, TEST_CIPHER_SECRET_KEY, TEST_ACCESS_KEY));
+    }
+
+    @Test
+    void testConcurrentEncryptDecrypt() throws Exception {
+        // Setup
+        final SecretKey key = aes256GCMUnderTest.toSecretKey(TEST_CIPHER_SECRET_KEY);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final List<Future<Boolean>> futures = new ArrayList<>();
+
+        // Run the test: the threads share the cipher object, each one uses its own JCE cipher
+        for (int thread = 0; thread < 8; thread++) {
+            final String associatedData = TEST_ACCESS_KEY + thread;
+            futures.add(executor.submit(() -> {
+                for (int index = 0; index < 200; index++) {
+                    final String plaintext = TEST_SECRET_KEY + index;
+                    final SecretKeyRepoData encrypted = aes256GCMUnderTest.encrypt(plaintext, key, associatedData);
+                    if (!plaintext.equals(aes256GCMUnderTest.decrypt(encrypted, key, associatedData))) {
+                        return false;
+                    }
+                }
+                return true;
+            }));
+        }
+
+        // Verify the results
+        for (Future<Boolean> future : futures) {
+            assertEquals(Boolean.TRUE, future.get());
+        }
+        executor.shutdown();
+    }
+
     @Test
     void testEncryptThrowsException() {
         // Setup
@@ -0,0 +1,134 @@
+package com.scality.osis.security.crypto;
+
+import com.scality.osis.security.crypto.model.AES256GCMInformation;
+import com.scality.osis.security.crypto.model.SecretKeyRepoData;
+import com.scality.osis.security.utils.CipherFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.scality.osis.security.utils.SecurityConstants.DEFAULT_AES_GCM_NONCE_LENGTH;
+import static com.scality.osis.security.utils.SecurityConstants.DEFAULT_AES_GCM_TAG_LENGTH;
+import static com.scality.osis.security.utils.SecurityConstants.NAME_AES_256_GCM_CIPHER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+/**
+ * Opt-in encrypt/decrypt throughput comparison of the per call key and cipher lookups and of the key ring,
+ * run with `./gradlew benchmark`. Each operation stores then reads a secret key like the credentials flows do,
+ * with 10 configured cipher keys.
+ */
+@Tag("benchmark")
+class CipherThroughputBenchmarkTest {
+
+    private static final int KEYS = 10;
+    private static final long DURATION_IN_MS = 2000L;
+    private static final String SECRET = "fZiHFq1Sln0O9myRL5RCmhfVweQfzDG6H/jrqCk=";
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 8, 32})
+    void compareThroughput(final int threads) throws Exception {
+        final List<CryptoEnv.CipherKey> keys = new ArrayList<>();
+        for (int index = 1; index <= KEYS; index++) {
+            keys.add(new CryptoEnv.CipherKey(String.valueOf(index), NAME_AES_256_GCM_CIPHER,
+                    String.format("%032d", index)));
+        }
+        final CryptoEnv cryptoEnv = Mockito.mock(CryptoEnv.class);
+        when(cryptoEnv.getKeys()).thenReturn(keys);
+        final CipherFactory cipherFactory = new CipherFactory();
+        ReflectionTestUtils.setField(cipherFactory, "cryptoEnv", cryptoEnv);
+
+        final long legacyOps = run(threads, repoKey -> legacyRoundTrip(keys, repoKey));
+        final long keyRingOps = run(threads, repoKey -> keyRingRoundTrip(cipherFactory, repoKey));
+
+        System.out.printf("threads=%d legacy=%d ops/s keyRing=%d ops/s%n",
+                threads, legacyOps * 1000 / DURATION_IN_MS, keyRingOps * 1000 / DURATION_IN_MS);
+    }
+
+    private String keyRingRoundTrip(final CipherFactory cipherFactory, final String repoKey) throws Exception {
+        final SecretKeyRepoData data = cipherFactory.getCipher()
+                .encrypt(SECRET, cipherFactory.getLatestSecretKey(), repoKey);
+        data.setKeyID(cipherFactory.getLatestCipherID());
+        data.getCipherInfo().setCipherName(cipherFactory.getLatestCipherName());
+        return cipherFactory.getCipherByID(data.getKeyID())
+                .decrypt(data, cipherFactory.getSecretKeyByID(data.getKeyID()), repoKey);
+    }
+
+    // the lookups done before the key ring: a key list scan per getter, a cipher and a key spec per call
+    private String legacyRoundTrip(final List<CryptoEnv.CipherKey> keys, final String repoKey) throws Exception {
+        final String secretKeyStr = latest(keys).getSecretKey();
+        final byte[] nonce = new byte[DEFAULT_AES_GCM_NONCE_LENGTH];
+        secureRandom.nextBytes(nonce);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(secretKeyStr.getBytes(StandardCharsets.UTF_8), "AES"),
+                new GCMParameterSpec(DEFAULT_AES_GCM_TAG_LENGTH, nonce));
+        cipher.updateAAD(repoKey.getBytes(StandardCharsets.UTF_8));
+        final byte[] encrypted = cipher.doFinal(SECRET.getBytes(StandardCharsets.UTF_8));
+        final SecretKeyRepoData data = new SecretKeyRepoData(latest(keys).getId(),
+                AES256GCMInformation.builder().nonce(nonce).build(), encrypted);
+        data.getCipherInfo().setCipherName(latest(keys).getCipher());
+
+        final String keyID = data.getKeyID();
+        final CryptoEnv.CipherKey key = keys.stream().filter(k -> keyID.equals(k.getId())).findAny().get();
+        cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        final SecretKey secretKey = new SecretKeySpec(key.getSecretKey().getBytes(StandardCharsets.UTF_8), "AES");
+        cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(DEFAULT_AES_GCM_TAG_LENGTH,
+                ((AES256GCMInformation) data.getCipherInfo()).getNonce()));
+        cipher.updateAAD(repoKey.getBytes(StandardCharsets.UTF_8));
+        return new String(cipher.doFinal(data.getEncryptedBytes()), StandardCharsets.UTF_8);
+    }
+
+    private static CryptoEnv.CipherKey latest(final List<CryptoEnv.CipherKey> keys) {
+        return keys.stream().max(Comparator.comparing(cipherKey -> Integer.parseInt(cipherKey.getId()))).get();
+    }
+
+    private long run(final int threads, final RoundTrip roundTrip) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Long>> futures = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            final String repoKey = "user__AK" + thread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_IN_MS);
+                long ops = 0;
+                while (System.nanoTime() < deadline) {
+                    assertEquals(SECRET, roundTrip.run(repoKey));
+                    ops++;
+                }
+                return ops;
+            }));
+        }
+        start.countDown();
+        long totalOps = 0;
+        for (Future<Long> future : futures) {
+            totalOps += future.get();
+        }
+        executor.shutdown();
+        return totalOps;
+    }
+
+    @FunctionalInterface
+    private interface RoundTrip {
+        String run(String repoKey) throws Exception;
+    }
+}
@@ -6,14 +6,18 @@ import com.scality.osis.security.crypto.CryptoEnv;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import javax.crypto.SecretKey;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import static com.scality.osis.security.utils.SecurityConstants.NAME_AES_256_GCM_CIPHER;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
 class CipherFactoryTest {
@@ -119,4 +123,52 @@ class CipherFactoryTest {
         // Verify the results
         assertThat(result).isInstanceOf(AES256GCM.class);
     }
+
+    @Test
+    void testGetSecretKeyByID() {
+        // Run the test
+        final SecretKey result = cipherFactoryUnderTest.getSecretKeyByID(ScalitySecurityTestUtils.TEST_CIPHER_ID);
+
+        // Verify the results
+        assertThat(result.getAlgorithm()).isEqualTo("AES");
+        assertThat(result).isSameAs(cipherFactoryUnderTest.getLatestSecretKey());
+    }
+
+    @Test
+    void testLatestCipherKeyHasHighestNumericID() {
+        // Setup
+        final List<CryptoEnv.CipherKey> keys = new ArrayList<>();
+        keys.add(new CryptoEnv.CipherKey("9", NAME_AES_256_GCM_CIPHER, "key9"));
+        keys.add(new CryptoEnv.CipherKey("10", NAME_AES_256_GCM_CIPHER, "key10"));
+        keys.add(new CryptoEnv.CipherKey("2", NAME_AES_256_GCM_CIPHER, "key2"));
+        when(cryptoEnvMock.getKeys()).thenReturn(keys);
+
+        // Run the test
+        final String latestID = cipherFactoryUnderTest.getLatestCipherID();
+
+        // Verify the results
+        assertThat(latestID).isEqualTo("10");
+        assertThat(cipherFactoryUnderTest.getLatestSecretCipherKey()).isEqualTo("key10");
+        assertThat(cipherFactoryUnderTest.getSecretCipherKeyByID("2")).isEqualTo("key2");
+    }
+
+    @Test
+    void testKeyRingIsBuiltOnce() {
+        // Run the test
+        cipherFactoryUnderTest.getLatestCipherID();
+        cipherFactoryUnderTest.getSecretKeyByID(ScalitySecurityTestUtils.TEST_CIPHER_ID);
+        cipherFactoryUnderTest.getCipherByID(ScalitySecurityTestUtils.TEST_CIPHER_ID);
+
+        // Verify the results
+        Mockito.verify(cryptoEnvMock, Mockito.times(1)).getKeys();
+        assertThat(cipherFactoryUnderTest.getCipher())
+                .isSameAs(cipherFactoryUnderTest.getCipherByName(NAME_AES_256_GCM_CIPHER));
+    }
+
+    @Test
+    void testGetCipherByUnknownID() {
+        // Run the test
+        assertThrows(NoSuchElementException.class, () -> cipherFactoryUnderTest.getCipherByID("unknown"));
+        assertThrows(NoSuchElementException.class, () -> cipherFactoryUnderTest.getSecretKeyByID("unknown"));
+    }
 }
@@ -0,0 +1,107 @@
+package com.scality.osis.vaultadmin.impl;
+
+import com.scality.osis.vaultadmin.impl.cache.StripedCacheImpl;
+import com.scality.vaultclient.dto.AccountData;
+import com.scality.vaultclient.dto.GetAccountRequestDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.scality.osis.vaultadmin.impl.cache.CacheConstants.DEFAULT_CACHE_MAX_CAPACITY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class AccountDataCacheTest {
+
+    private static final String TEST_ACCOUNT_ID = "001583654825";
+    private static final String TEST_CANONICAL_ID = "31e38bcfda3ab1887587669ee25a348cc89e6e2e87dc38088289b1b3c5329b30";
+
+    private AccountDataCache cacheUnderTest;
+
+    private AccountData accountData;
+
+    @BeforeEach
+    public void setUp() {
+        cacheUnderTest = new AccountDataCache(new StripedCacheImpl<>(DEFAULT_CACHE_MAX_CAPACITY));
+        accountData = new AccountData();
+        accountData.setId(TEST_ACCOUNT_ID);
+        accountData.setCanonicalId(TEST_CANONICAL_ID);
+        accountData.setName("tenant.name");
+    }
+
+    @Test
+    void testGetByIdAndCanonicalId() {
+        // Setup
+        cacheUnderTest.put(accountData, cacheUnderTest.generation());
+
+        // Run the test
+        final AccountData byId = cacheUnderTest.get(GetAccountRequestDTO.builder().accountId(TEST_ACCOUNT_ID).build());
+        final AccountData byCanonicalId = cacheUnderTest.get(GetAccountRequestDTO.builder()
+                .canonicalId(TEST_CANONICAL_ID).build());
+
+        // Verify the results
+        assertSame(accountData, byId);
+        assertSame(accountData, byCanonicalId);
+        assertEquals(2L, cacheUnderTest.getHits());
+        assertEquals(0L, cacheUnderTest.getMisses());
+    }
+
+    @Test
+    void testGetByNameIsNotCached() {
+        // Setup
+        cacheUnderTest.put(accountData, cacheUnderTest.generation());
+
+        // Run the test
+        final AccountData result = cacheUnderTest.get(GetAccountRequestDTO.builder()
+                .accountId(TEST_ACCOUNT_ID).accountName("tenant.name").build());
+
+        // Verify the results
+        assertNull(result);
+        assertEquals(0L, cacheUnderTest.getHits());
+        assertEquals(0L, cacheUnderTest.getMisses());
+    }
+
+    @Test
+    void testInvalidate() {
+        // Setup
+        cacheUnderTest.put(accountData, cacheUnderTest.generation());
+
+        // Run the test
+        cacheUnderTest.invalidate(accountData);
+
+        // Verify the results
+        assertNull(cacheUnderTest.get(GetAccountRequestDTO.builder().accountId(TEST_ACCOUNT_ID).build()));
+        assertNull(cacheUnderTest.get(GetAccountRequestDTO.builder().canonicalId(TEST_CANONICAL_ID).build()));
+        assertEquals(2L, cacheUnderTest.getMisses());
+        assertEquals(0.0, cacheUnderTest.getHitRatio());
+    }
+
+    @Test
+    void testLoadStartedBeforeInvalidateIsNotCached() {
+        // Setup: a getAccount reads the generation then an update invalidates the account
+        final long generation = cacheUnderTest.generation();
+        cacheUnderTest.invalidate(null);
+
+        // Run the test
+        cacheUnderTest.put(accountData, generation);
+
+        // Verify the results
+        assertNull(cacheUnderTest.get(GetAccountRequestDTO.builder().accountId(TEST_ACCOUNT_ID).build()));
+    }
+
+    @Test
+    void testHitRatio() {
+        // Setup
+        final GetAccountRequestDTO request = GetAccountRequestDTO.builder().accountId(TEST_ACCOUNT_ID).build();
+        cacheUnderTest.get(request);
+        cacheUnderTest.put(accountData, cacheUnderTest.generation());
+
+        // Run the test
+        for (int index = 0; index < 3; index++) {
+            cacheUnderTest.get(request);
+        }
+
+        // Verify the results
+        assertEquals(0.75, cacheUnderTest.getHitRatio());
+    }
+}
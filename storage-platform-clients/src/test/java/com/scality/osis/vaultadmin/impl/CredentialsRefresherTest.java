@@ -0,0 +1,213 @@
+package com.scality.osis.vaultadmin.impl;
+
+import com.amazonaws.services.securitytoken.model.AssumeRoleRequest;
+import com.amazonaws.services.securitytoken.model.Credentials;
+import com.scality.osis.vaultadmin.impl.cache.StripedCacheImpl;
+import com.scality.osis.vaultadmin.utils.VaultAdminEnv;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static com.scality.osis.vaultadmin.impl.cache.CacheConstants.DEFAULT_CACHE_MAX_CAPACITY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+class CredentialsRefresherTest {
+
+    private static final String TEST_ROLE_ARN = "arn:aws:iam::123456789012:role/osis";
+    private static final long ONE_HOUR_IN_MS = 3600000L;
+
+    private StripedCacheImpl<String, Credentials> cache;
+
+    private VaultAdminEnv envMock;
+
+    private AtomicInteger assumeRoleCalls;
+
+    private long expirationOffset;
+
+    private RuntimeException assumeRoleFailure;
+
+    private CountDownLatch assumeRoleGate;
+
+    private final Function<AssumeRoleRequest, Credentials> assumeRole = request -> {
+        assumeRoleCalls.incrementAndGet();
+        if (assumeRoleFailure != null) {
+            throw assumeRoleFailure;
+        }
+        if (assumeRoleGate != null) {
+            try {
+                assumeRoleGate.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        final Credentials credentials = new Credentials();
+        credentials.setAccessKeyId("AK" + assumeRoleCalls.get());
+        credentials.setExpiration(new Date(System.currentTimeMillis() + expirationOffset));
+        return credentials;
+    };
+
+    @BeforeEach
+    public void setUp() {
+        cache = new StripedCacheImpl<>(DEFAULT_CACHE_MAX_CAPACITY);
+        envMock = Mockito.mock(VaultAdminEnv.class);
+        assumeRoleCalls = new AtomicInteger();
+        expirationOffset = ONE_HOUR_IN_MS;
+        assumeRoleFailure = null;
+        assumeRoleGate = null;
+    }
+
+    private static AssumeRoleRequest assumeRoleRequest() {
+        return new AssumeRoleRequest().withRoleArn(TEST_ROLE_ARN).withRoleSessionName("session");
+    }
+
+    @Test
+    void testGetCredentialsCachedUntilExpiration() {
+        // Setup
+        final CredentialsRefresher refresher = new CredentialsRefresher(assumeRole, cache, envMock);
+
+        // Run the test
+        final Credentials first = refresher.getCredentials(assumeRoleRequest());
+        final Credentials second = refresher.getCredentials(assumeRoleRequest());
+
+        // Verify the results
+        assertSame(first, second);
+        assertEquals(1, assumeRoleCalls.get());
+        assertEquals(1, refresher.getHits());
+        assertEquals(1, refresher.getMisses());
+    }
+
+    @Test
+    void testGetCredentialsNotCachedWithinSkew() {
+        // Setup: the credentials expire before the default 30s skew
+        expirationOffset = 1000L;
+        final CredentialsRefresher refresher = new CredentialsRefresher(assumeRole, cache, envMock);
+
+        // Run the test
+        refresher.getCredentials(assumeRoleRequest());
+        refresher.getCredentials(assumeRoleRequest());
+
+        // Verify the results
+        assertEquals(2, assumeRoleCalls.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testRefreshAheadOfExpiration() {
+        // Setup: every credential is within the refresh-ahead window
+        when(envMock.getAssumeRoleRefreshAhead()).thenReturn(2 * ONE_HOUR_IN_MS);
+        final CredentialsRefresher refresher = new CredentialsRefresher(assumeRole, cache, envMock, Runnable::run);
+        refresher.getCredentials(assumeRoleRequest());
+
+        // Run the test
+        refresher.refresh();
+
+        // Verify the results: the foreground request gets the refreshed credentials without calling STS
+        assertEquals(2, assumeRoleCalls.get());
+        assertEquals(1, refresher.getRefreshes());
+        assertEquals("AK2", refresher.getCredentials(assumeRoleRequest()).getAccessKeyId());
+        assertEquals(2, assumeRoleCalls.get());
+    }
+
+    @Test
+    void testRefreshNotDueYet() {
+        // Setup
+        final CredentialsRefresher refresher = new CredentialsRefresher(assumeRole, cache, envMock, Runnable::run);
+        refresher.getCredentials(assumeRoleRequest());
+
+        // Run the test
+        refresher.refresh();
+
+        // Verify the results
+        assertEquals(1, assumeRoleCalls.get());
+        assertEquals(0, refresher.getRefreshes());
+    }
+
+    @Test
+    void testRefreshFailureKeepsCachedCredentials() {
+        // Setup
+        when(envMock.getAssumeRoleRefreshAhead()).thenReturn(2 * ONE_HOUR_IN_MS);
+        final CredentialsRefresher refresher = new CredentialsRefresher(assumeRole, cache, envMock, Runnable::run);
+        refresher.getCredentials(assumeRoleRequest());
+        assumeRoleFailure = new VaultServiceException(HttpStatus.SERVICE_UNAVAILABLE, "down");
+
+        // Run the test
+        refresher.refresh();
+
+        // Verify the results
+        assertEquals(1, refresher.getRefreshFailures());
+        assertEquals("AK1", refresher.getCredentials(assumeRoleRequest()).getAccessKeyId());
+    }
+
+    @Test
+    void testIdleRoleIsNotRefreshed() throws InterruptedException {
+        // Setup
+        when(envMock.getAssumeRoleRefreshAhead()).thenReturn(2 * ONE_HOUR_IN_MS);
+        when(envMock.getAssumeRoleRefreshIdleTime()).thenReturn(1L);
+        final CredentialsRefresher refresher = new CredentialsRefresher(assumeRole, cache, envMock, Runnable::run);
+        refresher.getCredentials(assumeRoleRequest());
+        Thread.sleep(10);
+
+        // Run the test
+        refresher.refresh();
+
+        // Verify the results
+        assertEquals(1, assumeRoleCalls.get());
+        assertEquals(0, refresher.getRefreshes());
+    }
+
+    @Test
+    void testRefreshDoesNotWaitForSts() throws InterruptedException {
+        // Setup: STS answers the refresh only once released
+        when(envMock.getAssumeRoleRefreshAhead()).thenReturn(2 * ONE_HOUR_IN_MS);
+        final CredentialsRefresher refresher = new CredentialsRefresher(assumeRole, cache, envMock);
+        refresher.getCredentials(assumeRoleRequest());
+        assumeRoleGate = new CountDownLatch(1);
+
+        try {
+            // Run the test: the second run skips the role whose refresh is in progress
+            final long start = System.nanoTime();
+            refresher.refresh();
+            refresher.refresh();
+            final long elapsedInMS = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assumeRoleGate.countDown();
+            while (refresher.getRefreshes() == 0) {
+                Thread.sleep(5L);
+            }
+
+            // Verify the results
+            assertTrue(elapsedInMS < 5000L, "refresh took " + elapsedInMS + "ms");
+            assertEquals(2, assumeRoleCalls.get());
+            assertEquals("AK2", refresher.getCredentials(assumeRoleRequest()).getAccessKeyId());
+        } finally {
+            assumeRoleGate.countDown();
+            refresher.shutdown();
+        }
+    }
+
+    @Test
+    void testBindTo() {
+        // Setup
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final CredentialsRefresher refresher = new CredentialsRefresher(assumeRole, cache, null);
+        refresher.bindTo(registry);
+
+        // Run the test
+        refresher.getCredentials(assumeRoleRequest());
+        refresher.getCredentials(assumeRoleRequest());
+
+        // Verify the results
+        assertEquals(1.0, registry.get("osis.vault.assumerole.cache").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("osis.vault.assumerole.cache").tag("result", "miss").functionCounter().count());
+    }
+}
@@ -0,0 +1,126 @@
+package com.scality.osis.vaultadmin.impl;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<String, String> singleFlightUnderTest = new SingleFlight<>();
+
+    @Test
+    void testConcurrentCallersShareOneCall() throws Exception {
+        // Setup
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        final List<Future<String>> results = new ArrayList<>();
+
+        // Run the test
+        for (int caller = 0; caller < CALLERS; caller++) {
+            results.add(executor.submit(() -> singleFlightUnderTest.execute("role", () -> {
+                loads.incrementAndGet();
+                awaitQuietly(release);
+                return "credentials";
+            })));
+        }
+        // let all the callers join the in-flight call before it completes
+        while (singleFlightUnderTest.getCoalescedCalls() < CALLERS - 1) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        // Verify the results
+        for (final Future<String> result : results) {
+            assertEquals("credentials", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, singleFlightUnderTest.inFlight());
+        executor.shutdown();
+    }
+
+    @Test
+    void testFailureIsPropagatedToAllWaiters() throws Exception {
+        // Setup
+        final VaultServiceException failure = new VaultServiceException(HttpStatus.SERVICE_UNAVAILABLE, "down");
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        final List<Future<String>> results = new ArrayList<>();
+
+        // Run the test
+        for (int caller = 0; caller < CALLERS; caller++) {
+            results.add(executor.submit(() -> singleFlightUnderTest.execute("role", () -> {
+                awaitQuietly(release);
+                throw failure;
+            })));
+        }
+        while (singleFlightUnderTest.getCoalescedCalls() < CALLERS - 1) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        // Verify the results
+        for (final Future<String> result : results) {
+            final Exception exception = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(failure, exception.getCause());
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    void testFailureIsNotCached() {
+        // Setup
+        final AtomicInteger loads = new AtomicInteger();
+
+        // Run the test
+        assertThrows(VaultServiceException.class, () -> singleFlightUnderTest.execute("role", () -> {
+            loads.incrementAndGet();
+            throw new VaultServiceException(HttpStatus.SERVICE_UNAVAILABLE, "down");
+        }));
+        final String result = singleFlightUnderTest.execute("role", () -> {
+            loads.incrementAndGet();
+            return "credentials";
+        });
+
+        // Verify the results
+        assertEquals("credentials", result);
+        assertEquals(2, loads.get());
+        assertEquals(0, singleFlightUnderTest.inFlight());
+    }
+
+    @Test
+    void testSequentialCallsAreNotCoalesced() {
+        // Setup
+        final AtomicInteger loads = new AtomicInteger();
+
+        // Run the test
+        singleFlightUnderTest.execute("role", () -> "v" + loads.incrementAndGet());
+        final String result = singleFlightUnderTest.execute("role", () -> "v" + loads.incrementAndGet());
+
+        // Verify the results
+        assertEquals("v2", result);
+        assertEquals(0, singleFlightUnderTest.getCoalescedCalls());
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
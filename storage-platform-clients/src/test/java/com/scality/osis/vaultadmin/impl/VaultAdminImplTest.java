@@ -20,11 +20,15 @@ import static com.scality.osis.vaultadmin.impl.VaultAdminImpl.CD_TENANT_ID_PREFI
 import static com.scality.osis.vaultadmin.impl.cache.CacheConstants.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SuppressWarnings("ConstantConditions")
 class VaultAdminImplTest extends BaseTest {
     public static final String CACHE_FACTORY = "cacheFactory";
+    private static final String MARKER_INDEX_KEY = "filterKeyStartsWith=" + CD_TENANT_ID_PREFIX;
+    private static final String UNFILTERED_MARKER_INDEX_KEY = "";
 
     @Test
     void createAccount() {
@@ -218,6 +222,17 @@ class VaultAdminImplTest extends BaseTest {
                 "VaultAdminImpl constructor should throw IllegalArgumentException for null endpoint");
     }
 
+    @Test
+    void testVaultAdminImplWithoutHttpClientConfigFactory() {
+        final VaultAdminImpl vaultAdmin = new VaultAdminImpl(TEST_ACCESS_KEY, TEST_SECRET_KEY, vaultAdminEndpoint,
+                s3InterfaceEndpoint, false, "", "", null);
+
+        final Credentials credentials = new Credentials();
+        credentials.setAccessKeyId(TEST_ACCESS_KEY);
+        credentials.setSecretAccessKey(TEST_SECRET_KEY);
+        assertNotNull(vaultAdmin.getIAMClient(credentials, TEST_REGION));
+    }
+
     @Test
     void testGetListAccountsMarkerCacheEmpty() {
 
@@ -235,14 +250,13 @@ class VaultAdminImplTest extends BaseTest {
     void testGetListAccountsMarkerWithExistingCache1() {
 
         final CacheFactory cacheFactoryMock = Mockito.mock(CacheFactory.class);
-        final CacheImpl<Integer, String> cache = new CacheImpl<>(DEFAULT_CACHE_MAX_CAPACITY);
-        cache.put(1000,"M1000");
-        cache.put(2000,"M2000");
-        cache.put(4000,"M4000");
-        when(cacheFactoryMock.getCache(NAME_LIST_ACCOUNTS_CACHE)).thenReturn(cache);
+        when(cacheFactoryMock.getCache(NAME_LIST_ACCOUNTS_CACHE)).thenReturn(new CacheImpl<>(DEFAULT_CACHE_MAX_CAPACITY));
 
         ReflectionTestUtils.setField(vaultAdminImpl, CACHE_FACTORY, cacheFactoryMock);
         vaultAdminImpl.initCaches();
+        vaultAdminImpl.getAccountsMarkerIndex().put(MARKER_INDEX_KEY, 1000, "M1000");
+        vaultAdminImpl.getAccountsMarkerIndex().put(MARKER_INDEX_KEY, 2000, "M2000");
+        vaultAdminImpl.getAccountsMarkerIndex().put(MARKER_INDEX_KEY, 4000, "M4000");
 
         final String marker = vaultAdminImpl.getAccountsMarker(3000, CD_TENANT_ID_PREFIX);
         assertEquals("M3000", marker);
@@ -252,13 +266,12 @@ class VaultAdminImplTest extends BaseTest {
     void testGetListAccountsMarkerWithExistingCache2() {
 
         final CacheFactory cacheFactoryMock = Mockito.mock(CacheFactory.class);
-        final CacheImpl<Integer, String> cache = new CacheImpl<>(DEFAULT_CACHE_MAX_CAPACITY);
-        cache.put(1000,"M1000");
-        cache.put(4000,"M4000");
-        when(cacheFactoryMock.getCache(NAME_LIST_ACCOUNTS_CACHE)).thenReturn(cache);
+        when(cacheFactoryMock.getCache(NAME_LIST_ACCOUNTS_CACHE)).thenReturn(new CacheImpl<>(DEFAULT_CACHE_MAX_CAPACITY));
 
         ReflectionTestUtils.setField(vaultAdminImpl, CACHE_FACTORY, cacheFactoryMock);
         vaultAdminImpl.initCaches();
+        vaultAdminImpl.getAccountsMarkerIndex().put(MARKER_INDEX_KEY, 1000, "M1000");
+        vaultAdminImpl.getAccountsMarkerIndex().put(MARKER_INDEX_KEY, 4000, "M4000");
 
         final String marker = vaultAdminImpl.getAccountsMarker(500, CD_TENANT_ID_PREFIX);
         assertEquals("M500", marker);
@@ -286,13 +299,12 @@ class VaultAdminImplTest extends BaseTest {
     void testListAccountsOffsetWithCache1() {
 
         final CacheFactory cacheFactoryMock = Mockito.mock(CacheFactory.class);
-        final CacheImpl<Integer, String> cache = new CacheImpl<>(DEFAULT_CACHE_MAX_CAPACITY);
-        cache.put(1000,"M1000");
-        cache.put(2000,"M2000");
-        when(cacheFactoryMock.getCache(NAME_LIST_ACCOUNTS_CACHE)).thenReturn(cache);
+        when(cacheFactoryMock.getCache(NAME_LIST_ACCOUNTS_CACHE)).thenReturn(new CacheImpl<>(DEFAULT_CACHE_MAX_CAPACITY));
 
         ReflectionTestUtils.setField(vaultAdminImpl, CACHE_FACTORY, cacheFactoryMock);
         vaultAdminImpl.initCaches();
+        vaultAdminImpl.getAccountsMarkerIndex().put(UNFILTERED_MARKER_INDEX_KEY, 1000, "M1000");
+        vaultAdminImpl.getAccountsMarkerIndex().put(UNFILTERED_MARKER_INDEX_KEY, 2000, "M2000");
 
         final ListAccountsRequestDTO   listAccountsRequestDTO = ListAccountsRequestDTO.builder()
                 .maxItems(1000)
@@ -308,13 +320,12 @@ class VaultAdminImplTest extends BaseTest {
     void testListAccountsOffsetWithCache2() {
 
         final CacheFactory cacheFactoryMock = Mockito.mock(CacheFactory.class);
-        final CacheImpl<Integer, String> cache = new CacheImpl<>(DEFAULT_CACHE_MAX_CAPACITY);
-        cache.put(1000,"M1000");
-        cache.put(4000,"M4000");
-        when(cacheFactoryMock.getCache(NAME_LIST_ACCOUNTS_CACHE)).thenReturn(cache);
+        when(cacheFactoryMock.getCache(NAME_LIST_ACCOUNTS_CACHE)).thenReturn(new CacheImpl<>(DEFAULT_CACHE_MAX_CAPACITY));
 
         ReflectionTestUtils.setField(vaultAdminImpl, CACHE_FACTORY, cacheFactoryMock);
         vaultAdminImpl.initCaches();
+        vaultAdminImpl.getAccountsMarkerIndex().put(UNFILTERED_MARKER_INDEX_KEY, 1000, "M1000");
+        vaultAdminImpl.getAccountsMarkerIndex().put(UNFILTERED_MARKER_INDEX_KEY, 4000, "M4000");
 
         final ListAccountsRequestDTO   listAccountsRequestDTO = ListAccountsRequestDTO.builder()
                 .maxItems(1000)
@@ -345,6 +356,25 @@ class VaultAdminImplTest extends BaseTest {
         assertEquals(TEST_SESSION_TOKEN, response.getSessionToken());
     }
 
+    @Test
+    void testGetTempAccountCredentialsMissRecordsLoad() {
+
+        final CacheFactory cacheFactoryMock = Mockito.mock(CacheFactory.class);
+        final CacheImpl<String, Credentials> cache = new CacheImpl<>(DEFAULT_CACHE_MAX_CAPACITY);
+        when(cacheFactoryMock.getCache(NAME_ASSUME_ROLE_CACHE)).thenReturn(cache);
+
+        ReflectionTestUtils.setField(vaultAdminImpl, CACHE_FACTORY, cacheFactoryMock);
+        vaultAdminImpl.initCaches();
+
+        final AssumeRoleRequest assumeRoleRequest = new AssumeRoleRequest()
+                                                        .withRoleArn(TEST_ROLE_ARN)
+                                                        .withRoleSessionName(TEST_SESSION_NAME);
+
+        vaultAdminImpl.getTempAccountCredentials(assumeRoleRequest);
+
+        assertEquals(1L, cache.stats().getLoadSuccessCount());
+    }
+
     @Test
     void testGetTempAccountCredentialsWithCache() {
 
@@ -470,6 +500,28 @@ class VaultAdminImplTest extends BaseTest {
         assertTrue(response.startsWith(DEFAULT_TEST_ACCOUNT_ID));
     }
 
+    @Test
+    void testGetAccountIDMissRecordsLoad() {
+
+        final CacheFactory cacheFactoryMock = Mockito.mock(CacheFactory.class);
+        final CacheImpl<String, String> cache = new CacheImpl<>(DEFAULT_CACHE_MAX_CAPACITY);
+        when(cacheFactoryMock.getCache(NAME_ACCOUNT_ID_CACHE)).thenReturn(cache);
+
+        ReflectionTestUtils.setField(vaultAdminImpl, CACHE_FACTORY, cacheFactoryMock);
+        vaultAdminImpl.initCaches();
+
+        final ListAccountsRequestDTO   listAccountsRequestDTO = ListAccountsRequestDTO.builder()
+                .maxItems(1000)
+                .filterKey(CD_TENANT_ID_PREFIX + UUID.randomUUID())
+                .build();
+
+        vaultAdminImpl.getAccountID(listAccountsRequestDTO);
+        vaultAdminImpl.getAccountID(listAccountsRequestDTO);
+
+        assertEquals(1L, cache.stats().getLoadSuccessCount());
+        assertEquals(1L, cache.stats().getHitCount());
+    }
+
     @Test
     void testGetAccountIDWithCache() {
 
@@ -543,4 +595,86 @@ class VaultAdminImplTest extends BaseTest {
         assertNotNull(response.getAccount().getData().getCanonicalId());
         assertNotNull(response.getAccount().getData().getCustomAttributes());
     }
+
+    private void initGetAccountMocks() {
+        when(accountServicesClient.getAccount(any(GetAccountRequestDTO.class)))
+                .thenAnswer((Answer<Response<AccountData>>) invocation -> {
+                    final AccountData data = new AccountData();
+                    data.setId(DEFAULT_TEST_ACCOUNT_ID);
+                    data.setCanonicalId("31e38bcfda3ab1887587669ee25a348cc89e6e2e87dc38088289b1b3c5329b30");
+                    data.setName("tenant.name");
+
+                    final HttpResponse httpResponse = new HttpResponse(null, null);
+                    httpResponse.setStatusCode(200);
+                    httpResponse.setStatusText("OK");
+                    return new Response<>(data, httpResponse);
+                });
+    }
+
+    @Test
+    void testGetAccountWithCache() {
+        initGetAccountMocks();
+        final CacheFactory cacheFactoryMock = Mockito.mock(CacheFactory.class);
+        when(cacheFactoryMock.getCache(NAME_ACCOUNT_DATA_CACHE)).thenReturn(new CacheImpl<>(DEFAULT_CACHE_MAX_CAPACITY));
+
+        ReflectionTestUtils.setField(vaultAdminImpl, CACHE_FACTORY, cacheFactoryMock);
+        vaultAdminImpl.initCaches();
+
+        final GetAccountRequestDTO getAccountRequestDTO = GetAccountRequestDTO.builder()
+                .accountId(DEFAULT_TEST_ACCOUNT_ID)
+                .build();
+
+        final AccountData response1 = vaultAdminImpl.getAccount(getAccountRequestDTO);
+        final AccountData response2 = vaultAdminImpl.getAccount(getAccountRequestDTO);
+
+        assertSame(response1, response2);
+        verify(accountServicesClient, times(1)).getAccount(any(GetAccountRequestDTO.class));
+        assertEquals(1L, vaultAdminImpl.getAccountDataCache().getHits());
+        assertEquals(1L, vaultAdminImpl.getAccountDataCache().getMisses());
+    }
+
+    @Test
+    void testGetAccountMissRecordsLoad() {
+        initGetAccountMocks();
+        final CacheFactory cacheFactoryMock = Mockito.mock(CacheFactory.class);
+        final CacheImpl<String, AccountData> cache = new CacheImpl<>(DEFAULT_CACHE_MAX_CAPACITY);
+        when(cacheFactoryMock.getCache(NAME_ACCOUNT_DATA_CACHE)).thenReturn(cache);
+
+        ReflectionTestUtils.setField(vaultAdminImpl, CACHE_FACTORY, cacheFactoryMock);
+        vaultAdminImpl.initCaches();
+
+        final GetAccountRequestDTO getAccountRequestDTO = GetAccountRequestDTO.builder()
+                .accountId(DEFAULT_TEST_ACCOUNT_ID)
+                .build();
+
+        vaultAdminImpl.getAccount(getAccountRequestDTO);
+        vaultAdminImpl.getAccount(getAccountRequestDTO);
+
+        assertEquals(1L, cache.stats().getLoadSuccessCount());
+        assertEquals(0L, cache.stats().getLoadFailureCount());
+        assertEquals(1L, cache.stats().getHitCount());
+    }
+
+    @Test
+    void testGetAccountCacheInvalidatedByUpdateAccountAttributes() {
+        initGetAccountMocks();
+        final CacheFactory cacheFactoryMock = Mockito.mock(CacheFactory.class);
+        when(cacheFactoryMock.getCache(NAME_ACCOUNT_DATA_CACHE)).thenReturn(new CacheImpl<>(DEFAULT_CACHE_MAX_CAPACITY));
+
+        ReflectionTestUtils.setField(vaultAdminImpl, CACHE_FACTORY, cacheFactoryMock);
+        vaultAdminImpl.initCaches();
+
+        final GetAccountRequestDTO getAccountRequestDTO = GetAccountRequestDTO.builder()
+                .accountId(DEFAULT_TEST_ACCOUNT_ID)
+                .build();
+        vaultAdminImpl.getAccount(getAccountRequestDTO);
+
+        vaultAdminImpl.updateAccountAttributes(UpdateAccountAttributesRequestDTO.builder()
+                .name("tenant.name")
+                .customAttributes(new HashMap<>())
+                .build());
+        vaultAdminImpl.getAccount(getAccountRequestDTO);
+
+        verify(accountServicesClient, times(2)).getAccount(any(GetAccountRequestDTO.class));
+    }
 }
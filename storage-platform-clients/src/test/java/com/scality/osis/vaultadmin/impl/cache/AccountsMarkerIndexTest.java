@@ -0,0 +1,125 @@
+package com.scality.osis.vaultadmin.impl.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccountsMarkerIndexTest {
+
+    private static final String FILTER_KEY = "filterKeyStartsWith=cd_tenant_id==";
+
+    private StripedCacheImpl<String, String> markerCache;
+
+    private AccountsMarkerIndex indexUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        markerCache = new StripedCacheImpl<>(CacheConstants.DEFAULT_CACHE_MAX_CAPACITY, 30000L);
+        indexUnderTest = new AccountsMarkerIndex(markerCache, null, 30000L);
+    }
+
+    @Test
+    void testFloorEntry() {
+        // Setup
+        indexUnderTest.put(FILTER_KEY, 1000, "M1000");
+        indexUnderTest.put(FILTER_KEY, 2000, "M2000");
+        indexUnderTest.put(FILTER_KEY, 4000, "M4000");
+
+        // Run the test
+        final Map.Entry<Integer, String> result = indexUnderTest.floorEntry(FILTER_KEY, 3500);
+
+        // Verify the results
+        assertEquals(2000, result.getKey());
+        assertEquals("M2000", result.getValue());
+        assertEquals("M4000", indexUnderTest.get(FILTER_KEY, 4000));
+        assertNull(indexUnderTest.get(FILTER_KEY, 3500));
+        assertNull(indexUnderTest.floorEntry(FILTER_KEY, 999));
+    }
+
+    @Test
+    void testFilterKeysAreIndependent() {
+        // Setup
+        indexUnderTest.put(FILTER_KEY, 1000, "M1000");
+
+        // Run the test
+        final Map.Entry<Integer, String> result = indexUnderTest.floorEntry("", 1500);
+
+        // Verify the results
+        assertNull(result);
+    }
+
+    @Test
+    void testEvictedMarkerIsSkipped() {
+        // Setup
+        indexUnderTest.put(FILTER_KEY, 1000, "M1000");
+        indexUnderTest.put(FILTER_KEY, 2000, "M2000");
+        markerCache.remove(FILTER_KEY + "|2000");
+
+        // Run the test
+        final Map.Entry<Integer, String> result = indexUnderTest.floorEntry(FILTER_KEY, 2500);
+
+        // Verify the results
+        assertEquals(1000, result.getKey());
+        assertEquals(2, indexUnderTest.size(FILTER_KEY));
+    }
+
+    @Test
+    void testPrune() {
+        // Setup
+        indexUnderTest.put(FILTER_KEY, 1000, "M1000");
+        markerCache.clear();
+
+        // Run the test
+        indexUnderTest.prune();
+
+        // Verify the results
+        assertEquals(0, indexUnderTest.size(FILTER_KEY));
+    }
+
+    @Test
+    void testLoadedFromStore() {
+        // Setup: markers persisted by a previous run
+        final AccountsMarkerStore storeMock = Mockito.mock(AccountsMarkerStore.class);
+        final Map<Integer, String> markers = new HashMap<>();
+        markers.put(1000, "M1000");
+        markers.put(2000, "M2000");
+        when(storeMock.load(FILTER_KEY)).thenReturn(markers);
+        final AccountsMarkerIndex persistentIndex = new AccountsMarkerIndex(markerCache, storeMock, 30000L);
+
+        // Run the test
+        final Map.Entry<Integer, String> result = persistentIndex.floorEntry(FILTER_KEY, 2500);
+
+        // Verify the results
+        assertEquals(2000, result.getKey());
+        assertEquals("M2000", result.getValue());
+    }
+
+    @Test
+    void testPutSavesToStore() {
+        // Setup
+        final AccountsMarkerStore storeMock = Mockito.mock(AccountsMarkerStore.class);
+        when(storeMock.load(any())).thenReturn(new HashMap<>());
+        doThrow(new IllegalStateException("redis down")).when(storeMock).save(anyString(), anyInt(), anyString(), anyLong());
+        final AccountsMarkerIndex persistentIndex = new AccountsMarkerIndex(markerCache, storeMock, 30000L);
+
+        // Run the test: a store failure does not fail the put
+        persistentIndex.put(FILTER_KEY, 1000, "M1000");
+
+        // Verify the results
+        verify(storeMock).save(FILTER_KEY, 1000, "M1000", 30000L);
+        assertEquals("M1000", persistentIndex.get(FILTER_KEY, 1000));
+    }
+}
@@ -0,0 +1,77 @@
+package com.scality.osis.vaultadmin.impl.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CacheExpiryServiceTest {
+
+    private CacheExpiryService expiryServiceUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        expiryServiceUnderTest = new CacheExpiryService(50L);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        expiryServiceUnderTest.shutdown();
+    }
+
+    @Test
+    void testSweep() {
+        // Setup
+        final Cache<String, String> cache1 = mock(Cache.class);
+        final Cache<String, String> cache2 = mock(Cache.class);
+        when(cache1.purgeExpired()).thenReturn(2);
+        when(cache2.purgeExpired()).thenReturn(3);
+        expiryServiceUnderTest.register(cache1);
+        expiryServiceUnderTest.register(cache2);
+
+        // Run the test
+        final int result = expiryServiceUnderTest.sweep();
+
+        // Verify the results
+        assertEquals(5, result);
+    }
+
+    @Test
+    void testSweepIgnoresFailingCache() {
+        // Setup
+        final Cache<String, String> failingCache = mock(Cache.class);
+        final Cache<String, String> cache = mock(Cache.class);
+        when(failingCache.purgeExpired()).thenThrow(new IllegalStateException("failure"));
+        when(cache.purgeExpired()).thenReturn(1);
+        expiryServiceUnderTest.register(failingCache);
+        expiryServiceUnderTest.register(cache);
+
+        // Run the test
+        final int result = expiryServiceUnderTest.sweep();
+
+        // Verify the results
+        assertEquals(1, result);
+    }
+
+    @Test
+    void testScheduledSweepRemovesUnreadEntries() throws InterruptedException {
+        // Setup
+        final Cache<String, String> cache = expiryServiceUnderTest.register(new StripedCacheImpl<>(10, 50L));
+        cache.put("Key1", "Value1");
+
+        // Run the test: the entry is never read again
+        Thread.sleep(300);
+
+        // Verify the results
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testIllegalSweepInterval() {
+        assertThrows(IllegalArgumentException.class, () -> new CacheExpiryService(0L));
+    }
+}
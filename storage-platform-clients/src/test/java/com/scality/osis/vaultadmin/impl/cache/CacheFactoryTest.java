@@ -6,11 +6,17 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
+import java.util.Map;
+
 import static com.scality.osis.vaultadmin.impl.cache.CacheConstants.DEFAULT_CACHE_MAX_CAPACITY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.when;
 import static com.scality.osis.vaultadmin.impl.cache.CacheConstants.NAME_LIST_ACCOUNTS_CACHE;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static com.scality.osis.vaultadmin.impl.cache.CacheConstants.CACHE_IMPL_LEGACY;
 
 class CacheFactoryTest {
 
@@ -55,4 +61,66 @@ class CacheFactoryTest {
         // Verify the results
         assertNull(result);
     }
+
+    @Test
+    void testGetCacheDefaultsToStriped() {
+        // Run the test
+        final Cache result = cacheFactoryUnderTest.getCache(NAME_LIST_ACCOUNTS_CACHE);
+
+        // Verify the results
+        assertTrue(result instanceof StripedCacheImpl);
+    }
+
+    @Test
+    void testGetCacheLegacyImplementation() {
+        // Setup
+        when(envMock.getCacheImplementation()).thenReturn(CACHE_IMPL_LEGACY);
+
+        // Run the test
+        final Cache result = new CacheFactory(envMock).getCache(NAME_LIST_ACCOUNTS_CACHE);
+
+        // Verify the results
+        assertTrue(result instanceof CacheImpl);
+    }
+    @Test
+    void testGetCachesSkipsDisabledCaches() {
+        // Setup
+        when(envMock.isAccountIDCacheDisabled()).thenReturn(true);
+
+        // Run the test
+        final Map<String, Cache<?, ?>> result = new CacheFactory(envMock).getCaches();
+
+        // Verify the results
+        assertEquals(6, result.size());
+        assertTrue(result.containsKey(NAME_LIST_ACCOUNTS_CACHE));
+        assertFalse(result.containsKey(CacheConstants.NAME_ACCOUNT_ID_CACHE));
+    }
+    @Test
+    void testGetCacheSharedThroughStore() {
+        // Setup
+        final SharedCacheStore storeMock = Mockito.mock(SharedCacheStore.class);
+        when(envMock.isSharedCacheEnabled()).thenReturn(true);
+
+        // Run the test
+        final CacheFactory factory = new CacheFactory(envMock, storeMock, null);
+
+        // Verify the results: without a cipher factory the credentials are not shared, the bucket lists never are
+        assertTrue(factory.getCache(NAME_LIST_ACCOUNTS_CACHE) instanceof TieredCache);
+        assertTrue(factory.getCache(CacheConstants.NAME_ACCOUNT_DATA_CACHE) instanceof TieredCache);
+        assertTrue(factory.getCache(CacheConstants.NAME_ACCESS_KEY_OWNER_CACHE) instanceof TieredCache);
+        assertTrue(factory.getCache(CacheConstants.NAME_ASSUME_ROLE_CACHE) instanceof StripedCacheImpl);
+        assertTrue(factory.getCache(CacheConstants.NAME_BUCKET_LIST_CACHE) instanceof StripedCacheImpl);
+    }
+
+    @Test
+    void testGetCacheNotSharedWhenDisabled() {
+        // Setup
+        final SharedCacheStore storeMock = Mockito.mock(SharedCacheStore.class);
+
+        // Run the test
+        final Cache result = new CacheFactory(envMock, storeMock, null).getCache(NAME_LIST_ACCOUNTS_CACHE);
+
+        // Verify the results
+        assertTrue(result instanceof StripedCacheImpl);
+    }
 }
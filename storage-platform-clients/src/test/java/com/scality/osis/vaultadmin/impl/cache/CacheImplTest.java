@@ -183,4 +183,98 @@ class CacheImplTest {
         // Verify the results
         assertEquals(maxCapacity, cacheImplUnderTest2.size());
     }
+
+    @Test
+    void testRePutResetsExpiry() throws InterruptedException {
+        // Setup
+        final String key = "Key4";
+        final CacheImpl<String, String> cacheImplUnderTest3 = new CacheImpl<>(1, 300);
+        cacheImplUnderTest3.put(key, "Value4");
+        Thread.sleep(200);
+
+        // Run the test
+        cacheImplUnderTest3.put(key, "Value5");
+        Thread.sleep(200);
+
+        // Verify the results: the first expiry must not remove the fresh value
+        assertEquals("Value5", cacheImplUnderTest3.get(key));
+    }
+
+    @Test
+    void testPurgeExpired() throws InterruptedException {
+        // Setup
+        final CacheImpl<String, String> cacheImplUnderTest4 = new CacheImpl<>(10, 100);
+        cacheImplUnderTest4.put("Key5", "Value5");
+        cacheImplUnderTest4.put("Key6", "Value6");
+        Thread.sleep(150);
+
+        // Run the test
+        final int result = cacheImplUnderTest4.purgeExpired();
+
+        // Verify the results
+        assertEquals(2, result);
+        assertEquals(0, cacheImplUnderTest4.size());
+    }
+    @Test
+    void testStats() {
+        // Setup
+        final CacheImpl<String, String> cacheImplUnderTest5 = new CacheImpl<>(2, 30000L);
+        cacheImplUnderTest5.put("Key7", "Value7");
+
+        // Run the test
+        cacheImplUnderTest5.get("Key7");
+        cacheImplUnderTest5.get("Key8");
+        final String loaded = cacheImplUnderTest5.get("Key9", key -> "Loaded");
+        final String missing = cacheImplUnderTest5.get("Key10", key -> null);
+        cacheImplUnderTest5.put("Key11", "Value11");
+
+        // Verify the results
+        final CacheStats stats = cacheImplUnderTest5.stats();
+        assertEquals("Loaded", loaded);
+        assertNull(missing);
+        assertEquals(1, stats.getHitCount());
+        assertEquals(3, stats.getMissCount());
+        assertEquals(1, stats.getLoadSuccessCount());
+        assertEquals(1, stats.getLoadFailureCount());
+        assertEquals(1, stats.getCapacityEvictionCount());
+        assertEquals(2, stats.getSize());
+        assertEquals(2, stats.getMaxCapacity());
+    }
+
+    @Test
+    void testExpiredEvictionStats() throws InterruptedException {
+        // Setup
+        final CacheImpl<String, String> cacheImplUnderTest6 = new CacheImpl<>(10, 100);
+        cacheImplUnderTest6.put("Key12", "Value12");
+        cacheImplUnderTest6.put("Key13", "Value13");
+        Thread.sleep(150);
+
+        // Run the test
+        cacheImplUnderTest6.get("Key12");
+        cacheImplUnderTest6.purgeExpired();
+
+        // Verify the results
+        assertEquals(2, cacheImplUnderTest6.stats().getExpiredEvictionCount());
+        assertEquals(0, cacheImplUnderTest6.stats().getCapacityEvictionCount());
+    }
+
+    @Test
+    void testSetMaxCapacity() {
+        // Setup
+        final CacheImpl<String, String> cacheImplUnderTest7 = new CacheImpl<>(10, 30000L);
+        for (int index = 0; index < 10; index++) {
+            cacheImplUnderTest7.put("Key" + index, "Value");
+        }
+
+        // Run the test
+        cacheImplUnderTest7.setMaxCapacity(4);
+
+        // Verify the results: the least recently used entries are evicted
+        assertEquals(4, cacheImplUnderTest7.size());
+        assertEquals(4, cacheImplUnderTest7.getMaxCapacity());
+        assertNull(cacheImplUnderTest7.get("Key5"));
+        assertEquals("Value", cacheImplUnderTest7.get("Key6"));
+        assertEquals(6, cacheImplUnderTest7.stats().getCapacityEvictionCount());
+        assertThrows(IllegalArgumentException.class, () -> cacheImplUnderTest7.setMaxCapacity(-1));
+    }
 }
@@ -0,0 +1,75 @@
+package com.scality.osis.vaultadmin.impl.cache;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Opt-in throughput comparison of the legacy and striped cache engines, run with `./gradlew benchmark`.
+ * 64 readers hit a pre-filled cache with a 90/10 get/put mix for a fixed duration.
+ */
+@Tag("benchmark")
+class CacheThroughputBenchmarkTest {
+
+    private static final int READERS = 64;
+    private static final long DURATION_IN_MS = 2000L;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 10_000, 100_000})
+    void compareThroughput(final int entries) throws Exception {
+        final long legacyOps = run(new CacheImpl<>(entries, 600_000L), entries);
+        final long stripedOps = run(new StripedCacheImpl<>(entries, 600_000L), entries);
+
+        System.out.printf("entries=%d readers=%d legacy=%d ops/s striped=%d ops/s%n",
+                entries, READERS, legacyOps * 1000 / DURATION_IN_MS, stripedOps * 1000 / DURATION_IN_MS);
+        assertTrue(stripedOps > 0);
+    }
+
+    private long run(final Cache<Integer, Integer> cache, final int entries) throws Exception {
+        for (int index = 0; index < entries; index++) {
+            cache.put(index, index);
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(READERS);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Long>> futures = new ArrayList<>();
+        for (int reader = 0; reader < READERS; reader++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                final ThreadLocalRandom random = ThreadLocalRandom.current();
+                final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_IN_MS);
+                long ops = 0;
+                while (System.nanoTime() < deadline) {
+                    final int key = random.nextInt(entries);
+                    if (random.nextInt(10) == 0) {
+                        cache.put(key, key);
+                    } else {
+                        cache.get(key);
+                    }
+                    ops++;
+                }
+                return ops;
+            }));
+        }
+        start.countDown();
+
+        long total = 0;
+        for (final Future<Long> future : futures) {
+            total += future.get();
+        }
+        executor.shutdownNow();
+        cache.clear();
+        return total;
+    }
+}
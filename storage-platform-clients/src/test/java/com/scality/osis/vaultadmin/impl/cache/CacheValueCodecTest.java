@@ -0,0 +1,82 @@
+package com.scality.osis.vaultadmin.impl.cache;
+
+import com.amazonaws.services.securitytoken.model.Credentials;
+import com.scality.osis.security.crypto.CryptoEnv;
+import com.scality.osis.security.utils.CipherFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static com.scality.osis.security.utils.SecurityConstants.NAME_AES_256_GCM_CIPHER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+class CacheValueCodecTest {
+
+    private static final String TEST_CIPHER_SECRET_KEY = "dGhpc2lzYXJlYWxseWxvbmdhbmRzZXk=";
+
+    private CipherFactory cipherFactory;
+
+    private Credentials credentials;
+
+    @BeforeEach
+    public void setUp() {
+        final CryptoEnv.CipherKey cipherKey = new CryptoEnv.CipherKey();
+        cipherKey.setId("1");
+        cipherKey.setCipher(NAME_AES_256_GCM_CIPHER);
+        cipherKey.setSecretKey(TEST_CIPHER_SECRET_KEY);
+        final List<CryptoEnv.CipherKey> keys = new ArrayList<>();
+        keys.add(cipherKey);
+        final CryptoEnv cryptoEnvMock = Mockito.mock(CryptoEnv.class);
+        when(cryptoEnvMock.getKeys()).thenReturn(keys);
+        cipherFactory = new CipherFactory();
+        ReflectionTestUtils.setField(cipherFactory, "cryptoEnv", cryptoEnvMock);
+
+        credentials = new Credentials("ak", "sk", "token", new Date(1700000000123L));
+    }
+
+    @Test
+    void testJsonCodec() throws Exception {
+        // Setup
+        final JsonCacheValueCodec<Credentials> codec = new JsonCacheValueCodec<>(Credentials.class);
+
+        // Run the test
+        final Credentials result = codec.decode("roleArn", codec.encode("roleArn", credentials));
+
+        // Verify the results: the expiration keeps its milliseconds
+        assertEquals(credentials, result);
+    }
+
+    @Test
+    void testEncryptedCodec() throws Exception {
+        // Setup
+        final EncryptedCacheValueCodec<Credentials> codec =
+                new EncryptedCacheValueCodec<>(new JsonCacheValueCodec<>(Credentials.class), cipherFactory);
+
+        // Run the test
+        final String encoded = codec.encode("roleArn", credentials);
+        final Credentials result = codec.decode("roleArn", encoded);
+
+        // Verify the results
+        assertFalse(encoded.contains("secretAccessKey"));
+        assertEquals(credentials, result);
+    }
+
+    @Test
+    void testEncryptedCodecIsBoundToTheKey() throws Exception {
+        // Setup
+        final EncryptedCacheValueCodec<Credentials> codec =
+                new EncryptedCacheValueCodec<>(new JsonCacheValueCodec<>(Credentials.class), cipherFactory);
+        final String encoded = codec.encode("roleArn", credentials);
+
+        // Run the test
+        assertThrows(Exception.class, () -> codec.decode("anotherRoleArn", encoded));
+    }
+}
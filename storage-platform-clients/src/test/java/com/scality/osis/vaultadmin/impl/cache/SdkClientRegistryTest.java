@@ -0,0 +1,117 @@
+package com.scality.osis.vaultadmin.impl.cache;
+
+import com.amazonaws.services.securitytoken.model.Credentials;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SdkClientRegistryTest {
+
+    private static final String TEST_REGION = "us-east-1";
+    private static final String TEST_ENDPOINT = "http://localhost:8600";
+
+    private SdkClientRegistry registryUnderTest;
+
+    private AtomicInteger builds;
+
+    @BeforeEach
+    public void setUp() {
+        registryUnderTest = new SdkClientRegistry(2, 60000L, 0L);
+        builds = new AtomicInteger();
+    }
+
+    private static Credentials credentials(final String accessKey, final String sessionToken, final Date expiration) {
+        final Credentials credentials = new Credentials();
+        credentials.setAccessKeyId(accessKey);
+        credentials.setSecretAccessKey("secret_key");
+        credentials.setSessionToken(sessionToken);
+        credentials.setExpiration(expiration);
+        return credentials;
+    }
+
+    private AtomicBoolean getClient(final Credentials credentials) {
+        return registryUnderTest.getClient(AtomicBoolean.class, credentials, TEST_REGION, TEST_ENDPOINT,
+                () -> {
+                    builds.incrementAndGet();
+                    return new AtomicBoolean();
+                },
+                client -> client.set(true));
+    }
+
+    @Test
+    void testClientIsReusedForSameCredentials() {
+        // Setup
+        final Date expiration = new Date(System.currentTimeMillis() + 3600000L);
+
+        // Run the test
+        final AtomicBoolean client1 = getClient(credentials("AK1", "token1", expiration));
+        final AtomicBoolean client2 = getClient(credentials("AK1", "token1", expiration));
+
+        // Verify the results
+        assertSame(client1, client2);
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    void testNewSessionTokenBuildsNewClient() {
+        // Setup
+        final Date expiration = new Date(System.currentTimeMillis() + 3600000L);
+
+        // Run the test
+        final AtomicBoolean client1 = getClient(credentials("AK1", "token1", expiration));
+        final AtomicBoolean client2 = getClient(credentials("AK1", "token2", expiration));
+
+        // Verify the results
+        assertNotSame(client1, client2);
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    void testExpiredClientIsShutDown() {
+        // Setup: credentials already expired
+        final Credentials credentials = credentials("AK1", "token1", new Date(System.currentTimeMillis() - 1000L));
+        final AtomicBoolean client1 = getClient(credentials);
+
+        // Run the test
+        final AtomicBoolean client2 = getClient(credentials);
+        registryUnderTest.sweep();
+
+        // Verify the results
+        assertNotSame(client1, client2);
+        assertTrue(client1.get());
+    }
+
+    @Test
+    void testCapacityEvictionIsShutDownAfterGrace() {
+        // Setup
+        registryUnderTest = new SdkClientRegistry(1, 60000L, 3600000L);
+        final AtomicBoolean client1 = getClient(credentials("AK1", null, null));
+
+        // Run the test
+        getClient(credentials("AK2", null, null));
+        registryUnderTest.sweep();
+
+        // Verify the results: the evicted client may still be in use by a request
+        assertEquals(1, registryUnderTest.size());
+        assertEquals(1, registryUnderTest.retired());
+        assertFalse(client1.get());
+
+        registryUnderTest.shutdown();
+        assertTrue(client1.get());
+    }
+
+    @Test
+    void testIllegalMaxCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SdkClientRegistry(0, 60000L, 0L));
+    }
+}
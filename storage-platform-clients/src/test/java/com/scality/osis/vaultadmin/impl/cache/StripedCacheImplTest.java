@@ -0,0 +1,273 @@
+package com.scality.osis.vaultadmin.impl.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StripedCacheImplTest {
+
+    private StripedCacheImpl<String, String> cacheUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        cacheUnderTest = new StripedCacheImpl<>(CacheConstants.DEFAULT_CACHE_MAX_CAPACITY, 30000L);
+    }
+
+    @Test
+    void testPutAndGet() {
+        // Run the test
+        final String result = cacheUnderTest.put("Key1", "Value");
+
+        // Verify the results
+        assertEquals("Value", result);
+        assertEquals("Value", cacheUnderTest.get("Key1"));
+    }
+
+    @Test
+    void testGetMissingKey() {
+        assertNull(cacheUnderTest.get("KeyNull"));
+    }
+
+    @Test
+    void testPutWithQuickExpiry() throws InterruptedException {
+        // Setup
+        final StripedCacheImpl<String, String> quickCache = new StripedCacheImpl<>(1, 200);
+
+        // Run the test
+        quickCache.put("Key3", "Value3");
+
+        // Verify the results
+        Thread.sleep(205);
+        assertNull(quickCache.get("Key3"));
+    }
+
+    @Test
+    void testRePutResetsExpiry() throws InterruptedException {
+        // Setup
+        final StripedCacheImpl<String, String> quickCache = new StripedCacheImpl<>(1, 300);
+        quickCache.put("Key4", "Value4");
+        Thread.sleep(200);
+
+        // Run the test
+        quickCache.put("Key4", "Value5");
+        Thread.sleep(200);
+
+        // Verify the results
+        assertEquals("Value5", quickCache.get("Key4"));
+    }
+
+    @Test
+    void testPutWithEntryTtl() throws InterruptedException {
+        // Run the test: the entry ttl overrides the 30s cache default
+        cacheUnderTest.put("Key5", "Value5", 100L);
+        cacheUnderTest.put("Key6", "Value6");
+        Thread.sleep(150);
+
+        // Verify the results
+        assertNull(cacheUnderTest.get("Key5"));
+        assertEquals("Value6", cacheUnderTest.get("Key6"));
+    }
+
+    @Test
+    void testPurgeExpired() throws InterruptedException {
+        // Setup
+        final StripedCacheImpl<String, String> quickCache = new StripedCacheImpl<>(100, 100);
+        for (int index = 0; index < 50; index++) {
+            quickCache.put("Key" + index, "Value");
+        }
+        Thread.sleep(150);
+
+        // Run the test
+        final int result = quickCache.purgeExpired();
+
+        // Verify the results
+        assertEquals(50, result);
+        assertEquals(0, quickCache.size());
+    }
+
+    @Test
+    void testRemove() {
+        // Setup
+        cacheUnderTest.put("Key1", "Value");
+
+        // Run the test
+        final String result = cacheUnderTest.remove("Key1");
+
+        // Verify the results
+        assertEquals("Value", result);
+        assertNull(cacheUnderTest.get("Key1"));
+        assertNull(cacheUnderTest.remove("Key1"));
+    }
+
+    @Test
+    void testClear() {
+        // Setup
+        cacheUnderTest.put("Key1", "Value");
+        cacheUnderTest.put("Key2", "Value");
+
+        // Run the test
+        cacheUnderTest.clear();
+
+        // Verify the results
+        assertEquals(0, cacheUnderTest.size());
+    }
+
+    @Test
+    void testPutMaxKeys() {
+        // Setup
+        final int maxCapacity = 1000;
+        final StripedCacheImpl<String, String> boundedCache = new StripedCacheImpl<>(maxCapacity);
+
+        // Run the test
+        for (int index = 0; index < maxCapacity * 3; index++) {
+            boundedCache.put("Key" + index, "Value");
+        }
+
+        // Verify the results
+        assertTrue(boundedCache.size() <= maxCapacity);
+    }
+
+    @Test
+    void testLeastRecentlyUsedIsEvicted() {
+        // Setup: small caches use a single segment, so LRU order is exact
+        final StripedCacheImpl<String, String> lruCache = new StripedCacheImpl<>(2);
+        lruCache.put("Key1", "Value1");
+        lruCache.put("Key2", "Value2");
+
+        // Run the test: touching Key1 makes Key2 the eldest entry
+        lruCache.get("Key1");
+        lruCache.put("Key3", "Value3");
+
+        // Verify the results
+        assertEquals("Value1", lruCache.get("Key1"));
+        assertNull(lruCache.get("Key2"));
+        assertEquals("Value3", lruCache.get("Key3"));
+    }
+
+    @Test
+    void testConcurrentReadersAndWriters() throws Exception {
+        // Setup
+        final int threads = 16;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+
+        // Run the test
+        for (int thread = 0; thread < threads; thread++) {
+            final int offset = thread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int index = 0; index < 10_000; index++) {
+                    final String key = "Key" + ((index + offset) % 2000);
+                    cacheUnderTest.put(key, key);
+                    final String value = cacheUnderTest.get(key);
+                    if (value != null && !value.equals(key)) {
+                        throw new IllegalStateException("Unexpected value for " + key);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (final Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Verify the results
+        assertTrue(cacheUnderTest.size() <= CacheConstants.DEFAULT_CACHE_MAX_CAPACITY);
+    }
+
+    @Test
+    void testIllegalMaxCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new StripedCacheImpl<>(-3));
+    }
+
+    @Test
+    void testIllegalExpirationTime() {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new StripedCacheImpl<>(1, -100L));
+        assertEquals("Illegal ttl: -100", exception.getMessage());
+    }
+
+    @Test
+    void testIllegalConcurrencyLevel() {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new StripedCacheImpl<>(1, 100L, 0));
+        assertEquals("Illegal concurrency level: 0", exception.getMessage());
+    }
+    @Test
+    void testStats() {
+        // Setup
+        final StripedCacheImpl<String, String> smallCache = new StripedCacheImpl<>(1, 30000L);
+        cacheUnderTest.put("Key1", "Value1");
+        smallCache.put("Key1", "Value1");
+
+        // Run the test
+        cacheUnderTest.get("Key1");
+        cacheUnderTest.get("Key2");
+        final String loaded = cacheUnderTest.get("Key3", key -> "Loaded");
+        final String cached = cacheUnderTest.get("Key3", key -> "Reloaded");
+        smallCache.put("Key2", "Value2");
+
+        // Verify the results
+        final CacheStats stats = cacheUnderTest.stats();
+        assertEquals("Loaded", loaded);
+        assertEquals("Loaded", cached);
+        assertEquals(2, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(1, stats.getLoadSuccessCount());
+        assertEquals(2, stats.getSize());
+        assertEquals(1, smallCache.stats().getCapacityEvictionCount());
+        assertEquals(0, smallCache.stats().getExpiredEvictionCount());
+    }
+
+    @Test
+    void testExpiredEvictionStats() throws InterruptedException {
+        // Setup
+        final StripedCacheImpl<String, String> smallCache = new StripedCacheImpl<>(1, 100);
+        smallCache.put("Key1", "Value1");
+        cacheUnderTest.put("Key2", "Value2", 100);
+        cacheUnderTest.put("Key3", "Value3", 100);
+        Thread.sleep(150);
+
+        // Run the test: the replaced eldest entry has expired
+        smallCache.put("Key4", "Value4");
+        cacheUnderTest.get("Key2");
+        cacheUnderTest.purgeExpired();
+
+        // Verify the results
+        assertEquals(1, smallCache.stats().getExpiredEvictionCount());
+        assertEquals(0, smallCache.stats().getCapacityEvictionCount());
+        assertEquals(2, cacheUnderTest.stats().getExpiredEvictionCount());
+    }
+
+    @Test
+    void testSetMaxCapacity() {
+        // Setup
+        for (int index = 0; index < 2000; index++) {
+            cacheUnderTest.put("Key" + index, "Value");
+        }
+
+        // Run the test
+        cacheUnderTest.setMaxCapacity(100);
+
+        // Verify the results
+        assertTrue(cacheUnderTest.size() <= 100);
+        assertEquals(100, cacheUnderTest.getMaxCapacity());
+        assertEquals(2000 - cacheUnderTest.size(), cacheUnderTest.stats().getCapacityEvictionCount());
+        assertThrows(IllegalArgumentException.class, () -> cacheUnderTest.setMaxCapacity(-1));
+    }
+}
@@ -0,0 +1,176 @@
+package com.scality.osis.vaultadmin.impl.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+class TieredCacheTest {
+
+    private static final String CACHE_NAME = "accountIDs";
+
+    private InMemorySharedCacheStore store;
+
+    private TieredCache<String> instance1;
+
+    private TieredCache<String> instance2;
+
+    @BeforeEach
+    public void setUp() {
+        store = new InMemorySharedCacheStore();
+        instance1 = newTieredCache(store);
+        instance2 = newTieredCache(store);
+    }
+
+    private static TieredCache<String> newTieredCache(SharedCacheStore sharedCacheStore) {
+        return new TieredCache<>(CACHE_NAME, new StripedCacheImpl<>(CacheConstants.DEFAULT_CACHE_MAX_CAPACITY, 30000L),
+                sharedCacheStore, CacheValueCodec.identity(), 30000L);
+    }
+
+    @Test
+    void testGetFromSharedStore() {
+        // Setup
+        instance1.put("tenant", "accountId");
+
+        // Run the test
+        final String result = instance2.get("tenant");
+
+        // Verify the results: the value is now held locally
+        assertEquals("accountId", result);
+        assertEquals("accountId", instance2.getLocal().get("tenant"));
+    }
+
+    @Test
+    void testLoadingGetSharesTheLoadedValue() {
+        // Run the test
+        final String loaded = instance1.get("tenant", key -> "accountId");
+        final String result = instance2.get("tenant", key -> "unexpected");
+
+        // Verify the results
+        assertEquals("accountId", loaded);
+        assertEquals("accountId", result);
+        assertEquals(1, instance1.stats().getLoadSuccessCount());
+        assertEquals(0, instance2.stats().getLoadSuccessCount());
+    }
+
+    @Test
+    void testLoadingGetKeepsTheSharedTtl() throws InterruptedException {
+        // Setup: entry written by an instance, expiring soon
+        store.put(CACHE_NAME, "tenant", (System.currentTimeMillis() + 100L) + ":accountId", 30000L);
+
+        // Run the test
+        final String result = instance1.get("tenant", key -> "unexpected");
+        Thread.sleep(200L);
+
+        // Verify the results: the local copy expires with the shared entry
+        assertEquals("accountId", result);
+        assertNull(instance1.getLocal().get("tenant"));
+    }
+
+    @Test
+    void testRemoveInvalidatesOtherInstances() {
+        // Setup
+        instance1.put("tenant", "accountId");
+        instance2.get("tenant");
+
+        // Run the test
+        instance1.remove("tenant");
+
+        // Verify the results
+        assertNull(instance2.getLocal().get("tenant"));
+        assertNull(instance2.get("tenant"));
+    }
+
+    @Test
+    void testClearInvalidatesOtherInstances() {
+        // Setup
+        instance1.put("tenant1", "accountId1");
+        instance1.put("tenant2", "accountId2");
+        instance2.get("tenant1");
+
+        // Run the test
+        instance1.clear();
+
+        // Verify the results
+        assertEquals(0, instance2.size());
+        assertTrue(store.values.isEmpty());
+    }
+
+    @Test
+    void testExpiredSharedEntryIsIgnored() {
+        // Setup: entry written by an instance with an expiration in the past
+        store.put(CACHE_NAME, "tenant", (System.currentTimeMillis() - 1) + ":accountId", 30000L);
+
+        // Run the test
+        final String result = instance1.get("tenant");
+
+        // Verify the results
+        assertNull(result);
+    }
+
+    @Test
+    void testSharedStoreFailureFallsBackToLocal() {
+        // Setup
+        final SharedCacheStore failingStore = Mockito.mock(SharedCacheStore.class);
+        when(failingStore.get(anyString(), anyString())).thenThrow(new IllegalStateException("redis down"));
+        doThrow(new IllegalStateException("redis down")).when(failingStore).put(anyString(), anyString(), anyString(), anyLong());
+        final TieredCache<String> cacheUnderTest = newTieredCache(failingStore);
+
+        // Run the test
+        cacheUnderTest.put("tenant", "accountId");
+
+        // Verify the results
+        assertEquals("accountId", cacheUnderTest.get("tenant"));
+        assertNull(cacheUnderTest.get("unknown"));
+        Mockito.verify(failingStore).subscribe(any(), any());
+    }
+
+    /**
+     * Shared store of the tests, the invalidations are delivered synchronously.
+     */
+    private static final class InMemorySharedCacheStore implements SharedCacheStore {
+        private final Map<String, String> values = new ConcurrentHashMap<>();
+        private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String get(String cacheName, String key) {
+            return values.get(cacheName + ":" + key);
+        }
+
+        @Override
+        public void put(String cacheName, String key, String value, long ttlInMS) {
+            values.put(cacheName + ":" + key, value);
+        }
+
+        @Override
+        public void remove(String cacheName, String key) {
+            values.remove(cacheName + ":" + key);
+            listeners.forEach(listener -> listener.accept(key));
+        }
+
+        @Override
+        public void clear(String cacheName) {
+            values.keySet().removeIf(key -> key.startsWith(cacheName + ":"));
+            listeners.forEach(listener -> listener.accept(null));
+        }
+
+        @Override
+        public void subscribe(String cacheName, Consumer<String> listener) {
+            listeners.add(listener);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.scality.osis.vaultadmin.impl.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+class VaultCacheMetricsTest {
+
+    private StripedCacheImpl<String, String> cache;
+
+    private VaultCacheMetrics metricsUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new StripedCacheImpl<>(1, 30000L);
+        final Map<String, Cache<?, ?>> caches = new LinkedHashMap<>();
+        caches.put(CacheConstants.NAME_ACCOUNT_ID_CACHE, cache);
+        final CacheFactory cacheFactoryMock = Mockito.mock(CacheFactory.class);
+        when(cacheFactoryMock.getCaches()).thenReturn(caches);
+        metricsUnderTest = new VaultCacheMetrics(cacheFactoryMock);
+    }
+
+    @Test
+    void testBindTo() {
+        // Setup
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        metricsUnderTest.bindTo(registry);
+        cache.put("Key1", "Value1");
+        cache.put("Key2", "Value2");
+
+        // Run the test
+        cache.get("Key2");
+        cache.get("Key1");
+        cache.get("Key3", key -> "Value3");
+
+        // Verify the results
+        assertEquals(1.0, registry.get("osis.vault.cache.gets")
+                .tags("cache", CacheConstants.NAME_ACCOUNT_ID_CACHE, "result", "hit").functionCounter().count());
+        assertEquals(2.0, registry.get("osis.vault.cache.gets")
+                .tags("cache", CacheConstants.NAME_ACCOUNT_ID_CACHE, "result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get("osis.vault.cache.loads")
+                .tags("cache", CacheConstants.NAME_ACCOUNT_ID_CACHE, "result", "success").functionCounter().count());
+        assertEquals(1, registry.get("osis.vault.cache.load.duration")
+                .tags("cache", CacheConstants.NAME_ACCOUNT_ID_CACHE).functionTimer().count());
+        assertEquals(2.0, registry.get("osis.vault.cache.evictions")
+                .tags("cache", CacheConstants.NAME_ACCOUNT_ID_CACHE, "cause", "capacity").functionCounter().count());
+        assertEquals(1.0, registry.get("osis.vault.cache.size")
+                .tags("cache", CacheConstants.NAME_ACCOUNT_ID_CACHE).gauge().value());
+        assertEquals(1.0, registry.get("osis.vault.cache.max.capacity")
+                .tags("cache", CacheConstants.NAME_ACCOUNT_ID_CACHE).gauge().value());
+    }
+
+    @Test
+    void testResizeIsPublished() {
+        // Setup
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        metricsUnderTest.bindTo(registry);
+
+        // Run the test
+        cache.setMaxCapacity(50);
+
+        // Verify the results
+        assertEquals(50.0, registry.get("osis.vault.cache.max.capacity").gauge().value());
+    }
+}